@@ -9,6 +9,7 @@ import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.envers.repository.support.EnversRevisionRepositoryFactoryBean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * main application class for the Employee Service. This class is responsible for
@@ -22,7 +23,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
  * configured to use {@code EnversRevisionRepositoryFactoryBean} for integration with
  * Hibernate Envers, facilitating auditing of the JPA entities as well as enabling Jpa
  * Auditing via annotation, log the referenced {@link AuditorAware} and
- * {@link DateTimeProvider} instance information of the beans used.
+ * {@link DateTimeProvider} instance information of the beans used. Scheduling is enabled
+ * for housekeeping tasks like the maintenance of the history partitions.
  * </p>
  *
  * <p>
@@ -35,6 +37,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
  */
 @EnableJpaRepositories(repositoryFactoryBeanClass = EnversRevisionRepositoryFactoryBean.class)
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider", dateTimeProviderRef = "dateTimeProvider")
+@EnableScheduling
 @SpringBootApplication
 public class EmployeeServiceApplication {
 
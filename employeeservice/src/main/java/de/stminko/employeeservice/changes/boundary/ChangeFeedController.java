@@ -0,0 +1,134 @@
+package de.stminko.employeeservice.changes.boundary;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import de.stminko.employeeservice.changes.boundary.dto.ChangeFeedResponse;
+import de.stminko.employeeservice.changes.boundary.dto.ChangeResponse;
+import de.stminko.employeeservice.changes.control.ChangeFeed;
+import de.stminko.employeeservice.changes.control.ChangeFeedService;
+import de.stminko.employeeservice.department.boundary.DepartmentController;
+import de.stminko.employeeservice.department.entity.Department;
+import de.stminko.employeeservice.employee.boundary.EmployeeController;
+import de.stminko.employeeservice.employee.entity.Employee;
+import de.stminko.employeeservice.runtime.rest.bondary.ApiVersions;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionMetadata;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * REST controller of the change feed of employees and departments.
+ *
+ * <p>
+ * Downstream systems mirroring the directory poll this feed with the resume token of
+ * their last call instead of paging through all employees, so a synchronization costs in
+ * the number of changes rather than in the size of the directory.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+@Slf4j
+@RestController
+@Tag(name = "Changes", description = "The change feed API")
+@RequestMapping(ChangeFeedController.BASE_URI)
+@ApiResponse(responseCode = "500", description = "An unexpected server error occurred")
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ChangeFeedController {
+
+	/**
+	 * The base URI of the change feed.
+	 *
+	 * @see ApiVersions for information on API versioning strategy
+	 */
+	public static final String BASE_URI = ApiVersions.V1 + "/changes";
+
+	/**
+	 * Name of the request parameter carrying the resume token.
+	 */
+	public static final String SINCE_REVISION_PARAMETER = "sinceRevision";
+
+	private final ChangeFeedService changeFeedService;
+
+	/**
+	 * Retrieves the changes of employees and departments following the given revision.
+	 * <p>
+	 * Changes are returned in revision order as upserts carrying the new state of the
+	 * entity or as tombstones for deleted entities. Within a revision departments come
+	 * before employees. A batch never ends within a revision, its {@code next} field is
+	 * the resume token for the following call and is also returned as {@code Link} header
+	 * with relation type {@code next} if more changes are available.
+	 * </p>
+	 * @param sinceRevision the resume token of the previous call, {@code 0} to read the
+	 * feed from the start
+	 * @param pageable a {@link Pageable} object specifying the maximum batch size
+	 * @return a {@link ChangeFeedResponse} holding the changes
+	 */
+	@Operation(summary = "Find the changes since a revision",
+			description = "Returns the upserts and tombstones of employees and departments following the given revision number")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved the changes",
+			content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+					schema = @Schema(implementation = ChangeFeedResponse.class)))
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<ChangeFeedResponse> findChanges(@Parameter(
+			description = "Revision number the changes follow, the next value of the previous call",
+			example = "4711") @RequestParam(name = SINCE_REVISION_PARAMETER, defaultValue = "0") long sinceRevision,
+			@PageableDefault(100) Pageable pageable) {
+		log.info("findChanges( sinceRevision= [{}] )", sinceRevision);
+		ChangeFeed changeFeed = this.changeFeedService.findChanges(sinceRevision, pageable.getPageSize());
+		List<ChangeResponse> changes = changeFeed.revisions()
+			.stream()
+			.map(ChangeFeedController::createChangeResponse)
+			.toList();
+		HttpHeaders headers = new HttpHeaders();
+		if (changeFeed.hasNext()) {
+			headers.add(HttpHeaders.LINK,
+					"<%s>; rel=\"next\"".formatted(ServletUriComponentsBuilder.fromCurrentRequest()
+						.replaceQueryParam(SINCE_REVISION_PARAMETER, changeFeed.next())
+						.toUriString()));
+		}
+		return ResponseEntity.ok()
+			.headers(headers)
+			.body(new ChangeFeedResponse(changes.size(), changeFeed.hasNext(), changeFeed.next(), changes));
+	}
+
+	private static ChangeResponse createChangeResponse(Revision<Long, ?> revision) {
+		boolean deleted = revision.getMetadata().getRevisionType() == RevisionMetadata.RevisionType.DELETE;
+		ChangeResponse.ChangeResponseBuilder change = ChangeResponse.builder()
+			.revisionNumber(revision.getRequiredRevisionNumber())
+			.revisionInstant(revision.getRequiredRevisionInstant())
+			.operation(deleted ? ChangeResponse.Operation.DELETE : ChangeResponse.Operation.UPSERT);
+		if (revision.getEntity() instanceof Employee employee) {
+			return change.entityType(ChangeResponse.EntityType.EMPLOYEE)
+				.entityId(String.valueOf(employee.getId()))
+				.entity(deleted ? null : EmployeeController.createEmployeeResponse(employee))
+				.build();
+		}
+		Department department = (Department) revision.getEntity();
+		return change.entityType(ChangeResponse.EntityType.DEPARTMENT)
+			.entityId(String.valueOf(department.getId()))
+			.entity(deleted ? null : DepartmentController.createDepartmentResponse(department))
+			.build();
+	}
+
+}
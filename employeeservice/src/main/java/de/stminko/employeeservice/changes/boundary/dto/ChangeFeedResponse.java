@@ -0,0 +1,26 @@
+package de.stminko.employeeservice.changes.boundary.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * a batch of the change feed as returned to the client.
+ *
+ * @param size the number of changes of this batch
+ * @param hasNext whether there are more changes behind this batch
+ * @param next the resume token, i.e. the revision number to pass as {@code sinceRevision}
+ * to continue with the following changes
+ * @param content the changes in revision order
+ * @author Stéphan Minko
+ */
+@JsonView(DataView.GET.class)
+public record ChangeFeedResponse(@Schema(description = "Number of changes of this batch", example = "100") int size,
+		@Schema(description = "Whether there are more changes behind this batch") boolean hasNext,
+		@Schema(description = "Revision number to pass as sinceRevision to resume the feed",
+				example = "4711") long next,
+		List<ChangeResponse> content) {
+
+}
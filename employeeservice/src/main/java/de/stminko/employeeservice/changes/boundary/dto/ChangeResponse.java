@@ -0,0 +1,67 @@
+package de.stminko.employeeservice.changes.boundary.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * a single change of the change feed, either the new state of an employee or department
+ * or a tombstone for a deleted one.
+ *
+ * @param revisionNumber the number of the revision the change belongs to
+ * @param revisionInstant the time the revision was committed
+ * @param entityType the type of the changed entity
+ * @param entityId the ID of the changed entity
+ * @param operation whether the entity has been created or updated or deleted
+ * @param entity the state of the entity after the change, {@code null} for tombstones
+ * @author Stéphan Minko
+ */
+@Builder
+@JsonView(DataView.GET.class)
+public record ChangeResponse(
+		@Schema(description = "Number of the revision the change belongs to", example = "4711") Long revisionNumber,
+		@Schema(description = "Time the revision was committed") Instant revisionInstant,
+		@Schema(description = "Type of the changed entity", example = "EMPLOYEE") EntityType entityType,
+		@Schema(description = "ID of the changed entity", example = "42") String entityId,
+		@Schema(description = "Whether the entity has been upserted or deleted",
+				example = "UPSERT") Operation operation,
+		@Schema(description = "State of the entity after the change, absent for tombstones") Object entity) {
+
+	/**
+	 * Types of entities contained in the change feed.
+	 */
+	public enum EntityType {
+
+		/**
+		 * A department, the entity is a department response.
+		 */
+		DEPARTMENT,
+
+		/**
+		 * An employee, the entity is an employee response.
+		 */
+		EMPLOYEE
+
+	}
+
+	/**
+	 * Operations a consumer has to apply to its copy.
+	 */
+	public enum Operation {
+
+		/**
+		 * The entity has been created or updated.
+		 */
+		UPSERT,
+
+		/**
+		 * The entity has been deleted.
+		 */
+		DELETE
+
+	}
+
+}
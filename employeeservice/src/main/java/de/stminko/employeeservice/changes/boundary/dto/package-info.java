@@ -0,0 +1,11 @@
+/**
+ * this package contains the data transfer objects (DTOs) for the change feed boundary.
+ *
+ * <p>
+ * These classes are used to transfer data between the layers (especially between boundary
+ * and control). They are independent of the business logic and the database models.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+package de.stminko.employeeservice.changes.boundary.dto;
@@ -0,0 +1,25 @@
+package de.stminko.employeeservice.changes.control;
+
+import java.util.List;
+
+import org.springframework.data.history.Revision;
+
+/**
+ * a batch of the change feed, holding the revisions of employees and departments
+ * following a revision number in revision order.
+ *
+ * <p>
+ * A batch always contains complete revisions and ends at a settled revision, i.e. no
+ * revision up to {@code next} can still be committed later. So {@code next} can be used
+ * as resume token without skipping any change, even while other transactions are still
+ * writing revisions.
+ * </p>
+ *
+ * @param revisions the revisions of employees and departments in revision order
+ * @param hasNext whether there are more settled changes behind this batch
+ * @param next the revision number to resume the feed after
+ * @author Stéphan Minko
+ */
+public record ChangeFeed(List<Revision<Long, ?>> revisions, boolean hasNext, long next) {
+
+}
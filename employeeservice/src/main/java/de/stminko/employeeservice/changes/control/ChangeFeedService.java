@@ -0,0 +1,108 @@
+package de.stminko.employeeservice.changes.control;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import de.stminko.employeeservice.department.entity.Department;
+import de.stminko.employeeservice.employee.entity.Employee;
+import de.stminko.employeeservice.runtime.persistence.boundary.AbstractEntity;
+import de.stminko.employeeservice.runtime.persistence.boundary.RevisionFinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionMetadata;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * service class reading the change feed of employees and departments.
+ *
+ * <p>
+ * The changes are read from the history tables by revision number, so a consumer
+ * synchronizing a copy of the directory only reads what changed since its last
+ * synchronization instead of paging through all employees. Within a revision departments
+ * come before employees, so a consumer applying the changes in order never sees an
+ * employee before its department.
+ * </p>
+ *
+ * <p>
+ * A batch never reaches beyond the highest settled revision, see
+ * {@link RevisionFinder#findSettledRevision(long)}. A revision still written by another
+ * transaction is thus neither skipped nor overtaken, a consumer simply receives it with
+ * one of its next calls.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+	private static final Comparator<Revision<Long, ?>> CHANGE_ORDER = Comparator
+		.comparing((Revision<Long, ?> revision) -> revision.getRequiredRevisionNumber())
+		.thenComparing((Revision<Long, ?> revision) -> revision.getEntity() instanceof Employee)
+		.thenComparing((Revision<Long, ?> revision) -> idOf(revision.getEntity()));
+
+	private final RevisionFinder revisionFinder;
+
+	/**
+	 * Finds the changes of employees and departments following the given revision.
+	 * <p>
+	 * At most {@code limit} changes are returned, unless a single revision holds more
+	 * changes, which is then returned as a whole. Only settled revisions are returned.
+	 * </p>
+	 * @param sinceRevision the revision number the changes follow
+	 * @param limit the maximum number of changes
+	 * @return the {@link ChangeFeed} batch
+	 */
+	public ChangeFeed findChanges(long sinceRevision, int limit) {
+		log.info("findChanges( sinceRevision= [{}], limit= [{}] )", sinceRevision, limit);
+		long settledRevision = this.revisionFinder.findSettledRevision(sinceRevision);
+		if (settledRevision <= sinceRevision) {
+			return new ChangeFeed(List.of(), false, sinceRevision);
+		}
+		List<Revision<Long, ?>> changes = findChanges(sinceRevision, settledRevision, limit + 1);
+		if (changes.size() <= limit) {
+			return new ChangeFeed(changes, false, settledRevision);
+		}
+		long splitRevision = changes.get(limit).getRequiredRevisionNumber();
+		List<Revision<Long, ?>> completeRevisions = changes.subList(0, limit)
+			.stream()
+			.filter((Revision<Long, ?> revision) -> revision.getRequiredRevisionNumber() < splitRevision)
+			.toList();
+		if (completeRevisions.isEmpty()) {
+			completeRevisions = findChanges(splitRevision - 1, splitRevision, Integer.MAX_VALUE);
+		}
+		return new ChangeFeed(completeRevisions, true, lastRevisionNumber(completeRevisions, sinceRevision));
+	}
+
+	private List<Revision<Long, ?>> findChanges(long afterRevision, Long throughRevision, int limit) {
+		List<Revision<Long, ?>> changes = new ArrayList<>();
+		changes.addAll(this.revisionFinder.findRevisionsAfter(Department.class, afterRevision, throughRevision, limit));
+		this.revisionFinder.findRevisionsAfter(Employee.class, afterRevision, throughRevision, limit)
+			.forEach((Revision<Long, Employee> revision) -> {
+				if (revision.getMetadata().getRevisionType() != RevisionMetadata.RevisionType.DELETE) {
+					Employee employee = revision.getEntity();
+					Hibernate.initialize(employee.getDepartment());
+					employee.setDepartment(Hibernate.unproxy(employee.getDepartment(), Department.class));
+				}
+				changes.add(revision);
+			});
+		changes.sort(CHANGE_ORDER);
+		return (changes.size() > limit) ? changes.subList(0, limit) : changes;
+	}
+
+	private static long lastRevisionNumber(List<Revision<Long, ?>> changes, long sinceRevision) {
+		return changes.isEmpty() ? sinceRevision : changes.get(changes.size() - 1).getRequiredRevisionNumber();
+	}
+
+	private static String idOf(Object entity) {
+		return String.valueOf(((AbstractEntity<?>) entity).getId());
+	}
+
+}
@@ -0,0 +1,12 @@
+/**
+ * contains the business logic classes of the change feed in the Employee Service
+ * application.
+ *
+ * <p>
+ * This package reads the changes of employees and departments from their history in
+ * revision order, so downstream systems can synchronize incrementally
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+package de.stminko.employeeservice.changes.control;
@@ -1,6 +1,8 @@
 package de.stminko.employeeservice.department.boundary;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import de.stminko.employeeservice.department.boundary.dto.DepartmentRequest;
@@ -11,8 +13,12 @@ import de.stminko.employeeservice.employee.boundary.EmployeeController;
 import de.stminko.employeeservice.employee.boundary.dto.EmployeeResponse;
 import de.stminko.employeeservice.employee.entity.Employee;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.NotFoundException;
+import de.stminko.employeeservice.runtime.persistence.boundary.RevisionScroll;
 import de.stminko.employeeservice.runtime.rest.bondary.ApiVersions;
 import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import de.stminko.employeeservice.runtime.rest.bondary.KeysetCursorCodec;
+import de.stminko.employeeservice.runtime.rest.bondary.RevisionDiff;
+import de.stminko.employeeservice.runtime.rest.bondary.RevisionWindow;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,14 +27,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AccessLevel;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.history.Revision;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -40,6 +52,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -84,6 +97,8 @@ public class DepartmentController {
 
 	private final DepartmentService departmentService;
 
+	private final KeysetCursorCodec keysetCursorCodec;
+
 	/**
 	 * Creates a new department based on the provided request and returns it.
 	 * @param departmentRequest the request object containing the details for the new
@@ -198,15 +213,49 @@ public class DepartmentController {
 	public Page<DepartmentResponse> findAllDepartments(@PageableDefault(50) Pageable pageable) {
 		log.info("findAllDepartments()");
 		Page<Department> departmentPage = this.departmentService.findAll(pageable);
-		List<DepartmentResponse> departmentResponses = departmentPage.getContent()
-			.stream()
+		return departmentPage.map((Department department) -> DepartmentResponse.builder()
+			.departmentId(department.getId())
+			.departmentName(department.getDepartmentName())
+			.build());
+	}
+
+	/**
+	 * Retrieves a window of departments using keyset (seek) pagination.
+	 * <p>
+	 * This endpoint is selected as soon as the {@code after} parameter is present. An
+	 * empty cursor returns the first window, every response carries the cursor of the
+	 * next window in its {@code next} field and in a {@code Link} header with relation
+	 * type {@code next}.
+	 * </p>
+	 * @param after the opaque cursor returned with the previous window, empty for the
+	 * first window
+	 * @param pageable a {@link Pageable} object providing the window size and the sort
+	 * order.
+	 * @return a {@link Window} of {@link DepartmentResponse} objects
+	 */
+	@Operation(summary = "Scroll through all departments",
+			description = "Returns a window of departments following the given cursor")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved the window of departments",
+					content = @Content(mediaType = "application/json")),
+			@ApiResponse(responseCode = "400",
+					description = "The cursor is invalid for the requested sort order or the sort order references a nullable property") })
+	@JsonView(DataView.GET.class)
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, params = KeysetCursorCodec.AFTER_PARAMETER)
+	public ResponseEntity<Window<DepartmentResponse>> scrollAllDepartments(
+			@Parameter(description = "Cursor of the previous window, empty for the first window",
+					required = true) @RequestParam(KeysetCursorCodec.AFTER_PARAMETER) String after,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("scrollAllDepartments( after= [{}] )", after);
+		ScrollPosition scrollPosition = this.keysetCursorCodec.decode(after, pageable.getSort(), Department.class);
+		Window<DepartmentResponse> departmentWindow = this.departmentService.findAll(scrollPosition, pageable)
 			.map((Department department) -> DepartmentResponse.builder()
 				.departmentId(department.getId())
 				.departmentName(department.getDepartmentName())
-				.build())
-			.toList();
-
-		return new PageImpl<>(departmentResponses, departmentPage.getPageable(), departmentPage.getTotalElements());
+				.build());
+		return ResponseEntity.ok()
+			.headers(this.keysetCursorCodec.createNextLinkHeaders(departmentWindow))
+			.body(departmentWindow);
 	}
 
 	/**
@@ -217,13 +266,15 @@ public class DepartmentController {
 	 * point in time. Each revision includes metadata such as the revision type (insert,
 	 * update, delete) and the timestamp of the revision.
 	 * @param departmentId the ID of the department for which to retrieve the revisions.
+	 * @param changed the properties of which at least one must have been changed by a
+	 * revision, all revisions are returned if absent.
 	 * @param pageable a {@link Pageable} object specifying the pagination information
 	 * (page number, page size).
 	 * @return a {@link Page} of {@link Revision} objects containing
 	 * {@link DepartmentResponse} and revision metadata.
 	 */
 	@Operation(summary = "Find all revisions for a department",
-			description = "Returns a page of revisions for the specified department ID")
+			description = "Returns a page of revisions for the specified department ID, optionally only those changing one of the given properties")
 	@ApiResponse(responseCode = "200", description = "Successfully retrieved the revisions",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageImpl.class)))
 	@GetMapping(value = "/{departmentId}/revisions", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -231,26 +282,149 @@ public class DepartmentController {
 	public Page<Revision<Long, DepartmentResponse>> findAllRevisions(
 			@Parameter(description = "Unique identifier of the department",
 					required = true) @PathVariable Long departmentId,
+			@Parameter(description = "Properties of which at least one must have changed",
+					example = "departmentName") @RequestParam(required = false) Set<String> changed,
 			@PageableDefault(50) Pageable pageable) {
-		log.info("findAllRevisions( departmentId= [{}] )", departmentId);
-		Page<Revision<Long, Department>> departmentRevisions = this.departmentService.findRevisions(departmentId,
-				pageable);
+		log.info("findAllRevisions( departmentId= [{}], changed= [{}] )", departmentId, changed);
+		Page<Revision<Long, Department>> departmentRevisions = ((changed == null) || changed.isEmpty())
+				? this.departmentService.findRevisions(departmentId, pageable)
+				: this.departmentService.findRevisions(departmentId, changed, pageable);
 		List<Revision<Long, DepartmentResponse>> responseRevisions = departmentRevisions.getContent()
 			.stream()
-			.map((Revision<Long, Department> revision) -> {
-				Department department = revision.getEntity();
-				DepartmentResponse departmentResponse = DepartmentResponse.builder()
-					.departmentId(department.getId())
-					.departmentName(department.getDepartmentName())
-					.build();
-				return Revision.of(revision.getMetadata(), departmentResponse);
-			})
+			.map(this::createDepartmentResponseRevision)
 			.toList();
 
 		return new PageImpl<>(responseRevisions, departmentRevisions.getPageable(),
 				departmentRevisions.getTotalElements());
 	}
 
+	/**
+	 * Scrolls forward through the revisions of a department, oldest first.
+	 * <p>
+	 * Seeks by revision number instead of skipping and counting, so every window costs
+	 * the same no matter how long the history of the department is. The revision number
+	 * to continue with is returned as {@code next} and as {@code Link} header.
+	 * </p>
+	 * @param departmentId the ID of the department for which to retrieve the revisions.
+	 * @param afterRevision the revision number the window starts after, the window starts
+	 * with the first revision if empty.
+	 * @param beforeRevision the revision number the scroll stops before, if any.
+	 * @param changed the properties of which at least one must have been changed by a
+	 * revision, all revisions are returned if absent.
+	 * @param pageable a {@link Pageable} object specifying the window size.
+	 * @return a {@link RevisionWindow} of {@link DepartmentResponse} revisions.
+	 */
+	@Operation(summary = "Scroll forward through the revisions of a department",
+			description = "Returns the revisions of the specified department ID following the given revision number")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved the revisions",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = RevisionWindow.class)))
+	@GetMapping(value = "/{departmentId}/revisions", params = RevisionWindow.AFTER_REVISION_PARAMETER,
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<RevisionWindow<DepartmentResponse>> scrollRevisionsForward(
+			@Parameter(description = "Unique identifier of the department",
+					required = true) @PathVariable Long departmentId,
+			@Parameter(description = "Revision number to start after, empty to start with the first revision",
+					example = "4711") @RequestParam(name = RevisionWindow.AFTER_REVISION_PARAMETER,
+							required = false) Long afterRevision,
+			@Parameter(description = "Revision number to stop before") @RequestParam(
+					name = RevisionWindow.BEFORE_REVISION_PARAMETER, required = false) Long beforeRevision,
+			@Parameter(description = "Properties of which at least one must have changed") @RequestParam(
+					required = false) Set<String> changed,
+			@PageableDefault(50) Pageable pageable) {
+		log.info(
+				"scrollRevisionsForward( departmentId= [{}], afterRevision= [{}], beforeRevision= [{}], changed= [{}] )",
+				departmentId, afterRevision, beforeRevision, changed);
+		Window<Revision<Long, Department>> revisions = this.departmentService.findRevisions(departmentId,
+				(changed != null) ? changed : Set.of(),
+				RevisionScroll.forward(afterRevision, beforeRevision, pageable.getPageSize()));
+		RevisionWindow<DepartmentResponse> revisionWindow = RevisionWindow.of(revisions,
+				this::createDepartmentResponseRevision);
+		return ResponseEntity.ok()
+			.headers(revisionWindow.createNextLinkHeaders(RevisionWindow.AFTER_REVISION_PARAMETER))
+			.body(revisionWindow);
+	}
+
+	/**
+	 * Scrolls backward through the revisions of a department, newest first.
+	 * @param departmentId the ID of the department for which to retrieve the revisions.
+	 * @param beforeRevision the revision number the window starts before, the window
+	 * starts with the latest revision if empty.
+	 * @param changed the properties of which at least one must have been changed by a
+	 * revision, all revisions are returned if absent.
+	 * @param pageable a {@link Pageable} object specifying the window size.
+	 * @return a {@link RevisionWindow} of {@link DepartmentResponse} revisions.
+	 * @see #scrollRevisionsForward
+	 */
+	@Operation(summary = "Scroll backward through the revisions of a department",
+			description = "Returns the revisions of the specified department ID preceding the given revision number, newest first")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved the revisions",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = RevisionWindow.class)))
+	@GetMapping(value = "/{departmentId}/revisions",
+			params = { RevisionWindow.BEFORE_REVISION_PARAMETER, "!" + RevisionWindow.AFTER_REVISION_PARAMETER },
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<RevisionWindow<DepartmentResponse>> scrollRevisionsBackward(
+			@Parameter(description = "Unique identifier of the department",
+					required = true) @PathVariable Long departmentId,
+			@Parameter(description = "Revision number to start before, empty to start with the latest revision",
+					example = "4711") @RequestParam(name = RevisionWindow.BEFORE_REVISION_PARAMETER,
+							required = false) Long beforeRevision,
+			@Parameter(description = "Properties of which at least one must have changed") @RequestParam(
+					required = false) Set<String> changed,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("scrollRevisionsBackward( departmentId= [{}], beforeRevision= [{}], changed= [{}] )", departmentId,
+				beforeRevision, changed);
+		Window<Revision<Long, Department>> revisions = this.departmentService.findRevisions(departmentId,
+				(changed != null) ? changed : Set.of(),
+				RevisionScroll.backward(beforeRevision, pageable.getPageSize()));
+		RevisionWindow<DepartmentResponse> revisionWindow = RevisionWindow.of(revisions,
+				this::createDepartmentResponseRevision);
+		return ResponseEntity.ok()
+			.headers(revisionWindow.createNextLinkHeaders(RevisionWindow.BEFORE_REVISION_PARAMETER))
+			.body(revisionWindow);
+	}
+
+	/**
+	 * Computes the field-level changes of a department between two revisions.
+	 * <p>
+	 * Instead of downloading both revisions, clients receive the net changes from the
+	 * state at {@code from} to the state at {@code to} and the changes of every single
+	 * revision in between. The revisions of the range are read and diffed in chunks on
+	 * the server, only the changed fields are returned.
+	 * </p>
+	 * @param departmentId the ID of the department for which to compute the changes.
+	 * @param from the revision number the changes start from.
+	 * @param to the revision number the changes end with, the latest revision if absent.
+	 * @return the {@link RevisionDiff} between both revisions.
+	 * @throws NotFoundException if the range does not contain any revision of the
+	 * department
+	 */
+	@Operation(summary = "Find the changes between two revisions of a department",
+			description = "Returns the field-level changes of the specified department ID between two revisions")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully computed the changes",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+							schema = @Schema(implementation = RevisionDiff.class))),
+			@ApiResponse(responseCode = "400", description = "Revision range ends before it starts"),
+			@ApiResponse(responseCode = "404", description = "No revision found in the range") })
+	@GetMapping(value = "/{departmentId}/revisions/diff", produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public RevisionDiff diffRevisions(
+			@Parameter(description = "Unique identifier of the department",
+					required = true) @PathVariable Long departmentId,
+			@Parameter(description = "Revision number the changes start from", required = true,
+					example = "4711") @RequestParam long from,
+			@Parameter(description = "Revision number the changes end with, the latest revision if absent",
+					example = "4713") @RequestParam(required = false) Long to) {
+		log.info("diffRevisions( departmentId= [{}], from= [{}], to= [{}] )", departmentId, from, to);
+		RevisionDiff.Accumulator<DepartmentResponse> accumulator = RevisionDiff.accumulator(from);
+		this.departmentService.forEachRevision(departmentId, from, to,
+				(Revision<Long, Department> revision) -> accumulator
+					.accept(createDepartmentResponseRevision(revision)));
+		return accumulator.toDiff();
+	}
+
 	/**
 	 * Find the latest {@link Revision} for a department identified by its departmentId.
 	 * @param departmentId the departmentId of the department to retrieve the latest
@@ -308,8 +482,146 @@ public class DepartmentController {
 					required = true) @PathVariable("departmentId") Long departmentId,
 			@PageableDefault(50) Pageable pageable) {
 		log.info("findEmployeesByDepartment( departmentId= [{}] )", departmentId);
-		Page<Employee> employeePage = this.departmentService.findAllEmployeesById(departmentId, pageable);
-		return EmployeeController.createEmployeeResponsePage(employeePage);
+		return this.departmentService.findAllEmployeeResponsesById(departmentId, pageable);
+	}
+
+	/**
+	 * Retrieves the employees that belonged to a specific department at the given
+	 * revision.
+	 * <p>
+	 * The employees are reconstructed from the history with a single query per page and
+	 * ordered by their ID, the department does not have to exist anymore.
+	 * </p>
+	 * @param departmentId the unique identifier of the department for which to retrieve
+	 * employees.
+	 * @param asOfRevision the revision number to reconstruct the employees at
+	 * @param pageable a {@link Pageable} object specifying the pagination information
+	 * (page number, page size).
+	 * @return a {@link Page} of {@link EmployeeResponse} objects as of the revision
+	 */
+	@Operation(summary = "Find employees by department ID as of a revision",
+			description = "Returns a paginated list of employees belonging to the specified department ID at the given revision")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved the list of employees",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageImpl.class)))
+	@GetMapping(value = "/{departmentId}/employees", produces = MediaType.APPLICATION_JSON_VALUE,
+			params = { EmployeeController.AS_OF_REVISION_PARAMETER, "!" + EmployeeController.AS_OF_PARAMETER,
+					"!" + KeysetCursorCodec.AFTER_PARAMETER })
+	@JsonView(DataView.GET.class)
+	@ResponseStatus(HttpStatus.OK)
+	public Page<EmployeeResponse> findAllEmployeesByIdAtRevision(
+			@Parameter(description = "Unique identifier of the department",
+					required = true) @PathVariable("departmentId") Long departmentId,
+			@Parameter(description = "Revision number to reconstruct the employees at",
+					example = "4711") @RequestParam(EmployeeController.AS_OF_REVISION_PARAMETER) long asOfRevision,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("findAllEmployeesByIdAtRevision( departmentId= [{}], asOfRevision= [{}] )", departmentId,
+				asOfRevision);
+		return EmployeeController.createEmployeeResponsePage(
+				this.departmentService.findAllEmployeesByIdAtRevision(departmentId, asOfRevision, pageable));
+	}
+
+	/**
+	 * Retrieves the employees that belonged to a specific department at the given point
+	 * in time.
+	 * @param departmentId the unique identifier of the department for which to retrieve
+	 * employees.
+	 * @param asOf the point in time to reconstruct the employees at, ISO formatted
+	 * @param pageable a {@link Pageable} object specifying the pagination information
+	 * (page number, page size).
+	 * @return a {@link Page} of {@link EmployeeResponse} objects as of the point in time
+	 * @see #findAllEmployeesByIdAtRevision(Long, long, Pageable)
+	 */
+	@Operation(summary = "Find employees by department ID as of a point in time",
+			description = "Returns a paginated list of employees belonging to the specified department ID at the given point in time")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved the list of employees",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageImpl.class)))
+	@GetMapping(value = "/{departmentId}/employees", produces = MediaType.APPLICATION_JSON_VALUE,
+			params = { EmployeeController.AS_OF_PARAMETER, "!" + EmployeeController.AS_OF_REVISION_PARAMETER,
+					"!" + KeysetCursorCodec.AFTER_PARAMETER })
+	@JsonView(DataView.GET.class)
+	@ResponseStatus(HttpStatus.OK)
+	public Page<EmployeeResponse> findAllEmployeesByIdAsOf(
+			@Parameter(description = "Unique identifier of the department",
+					required = true) @PathVariable("departmentId") Long departmentId,
+			@Parameter(description = "Point in time to reconstruct the employees at",
+					example = "2024-01-01T00:00:00Z") @RequestParam(EmployeeController.AS_OF_PARAMETER) @DateTimeFormat(
+							iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime asOf,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("findAllEmployeesByIdAsOf( departmentId= [{}], asOf= [{}] )", departmentId, asOf);
+		return EmployeeController
+			.createEmployeeResponsePage(this.departmentService.findAllEmployeesByIdAsOf(departmentId, asOf, pageable));
+	}
+
+	/**
+	 * Retrieves a slice of employees for a specific department without total counts.
+	 * <p>
+	 * This endpoint is selected by {@code withTotal=false} and only reports whether a
+	 * next page exists instead of counting all employees of the department.
+	 * </p>
+	 * @param departmentId the unique identifier of the department for which to retrieve
+	 * employees.
+	 * @param pageable a {@link Pageable} object specifying the pagination information
+	 * (page number, page size).
+	 * @return a {@link Slice} of {@link EmployeeResponse} objects
+	 * @throws NotFoundException if no department is found with the provided ID.
+	 */
+	@Operation(summary = "Find employees by department ID without totals",
+			description = "Returns a slice of employees belonging to the specified department ID without counting them")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved the slice of employees",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = SliceImpl.class))),
+			@ApiResponse(responseCode = "404", description = "Department not found with the provided ID") })
+	@GetMapping(value = "/{departmentId}/employees", produces = MediaType.APPLICATION_JSON_VALUE,
+			params = { "withTotal=false", "!" + KeysetCursorCodec.AFTER_PARAMETER })
+	@JsonView(DataView.GET.class)
+	@ResponseStatus(HttpStatus.OK)
+	public Slice<EmployeeResponse> findAllEmployeesWithoutTotalById(
+			@Parameter(description = "Unique identifier of the department",
+					required = true) @PathVariable("departmentId") Long departmentId,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("findAllEmployeesWithoutTotalById( departmentId= [{}] )", departmentId);
+		Slice<Employee> employeeSlice = this.departmentService.findEmployeeSliceById(departmentId, pageable);
+		return EmployeeController.createEmployeeResponseSlice(employeeSlice);
+	}
+
+	/**
+	 * Retrieves a window of employees for a specific department using keyset (seek)
+	 * pagination.
+	 * @param departmentId the unique identifier of the department for which to retrieve
+	 * employees.
+	 * @param after the opaque cursor returned with the previous window, empty for the
+	 * first window
+	 * @param pageable a {@link Pageable} object providing the window size and the sort
+	 * order.
+	 * @return a {@link Window} of {@link EmployeeResponse} objects
+	 * @throws NotFoundException if no department is found with the provided ID.
+	 * @see #scrollAllDepartments(String, Pageable)
+	 */
+	@Operation(summary = "Scroll through the employees of a department",
+			description = "Returns a window of employees belonging to the specified department ID")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved the window of employees",
+					content = @Content(mediaType = "application/json")),
+			@ApiResponse(responseCode = "400",
+					description = "The cursor is invalid for the requested sort order or the sort order references a nullable property"),
+			@ApiResponse(responseCode = "404", description = "Department not found with the provided ID") })
+	@GetMapping(value = "/{departmentId}/employees", produces = MediaType.APPLICATION_JSON_VALUE,
+			params = KeysetCursorCodec.AFTER_PARAMETER)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<Window<EmployeeResponse>> scrollAllEmployeesById(
+			@Parameter(description = "Unique identifier of the department",
+					required = true) @PathVariable("departmentId") Long departmentId,
+			@Parameter(description = "Cursor of the previous window, empty for the first window",
+					required = true) @RequestParam(KeysetCursorCodec.AFTER_PARAMETER) String after,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("scrollAllEmployeesById( departmentId= [{}], after= [{}] )", departmentId, after);
+		ScrollPosition scrollPosition = this.keysetCursorCodec.decode(after, pageable.getSort(), Employee.class);
+		Window<EmployeeResponse> employeeWindow = EmployeeController.createEmployeeResponseWindow(
+				this.departmentService.findAllEmployeesById(departmentId, scrollPosition, pageable));
+		return ResponseEntity.ok()
+			.headers(this.keysetCursorCodec.createNextLinkHeaders(employeeWindow))
+			.body(employeeWindow);
 	}
 
 	/**
@@ -335,4 +647,21 @@ public class DepartmentController {
 		this.departmentService.deleteById(departmentId);
 	}
 
+	/**
+	 * Creates a DepartmentResponse from a Department.
+	 * @param department the Department to be converted
+	 * @return the DepartmentResponse
+	 */
+	public static DepartmentResponse createDepartmentResponse(@NonNull Department department) {
+		return DepartmentResponse.builder()
+			.departmentId(department.getId())
+			.departmentName(department.getDepartmentName())
+			.build();
+	}
+
+	private Revision<Long, DepartmentResponse> createDepartmentResponseRevision(
+			Revision<Long, Department> departmentRevision) {
+		return Revision.of(departmentRevision.getMetadata(), createDepartmentResponse(departmentRevision.getEntity()));
+	}
+
 }
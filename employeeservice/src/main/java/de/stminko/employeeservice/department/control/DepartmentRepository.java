@@ -1,27 +1,50 @@
 package de.stminko.employeeservice.department.control;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import de.stminko.employeeservice.department.entity.Department;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import lombok.NonNull;
+import org.hibernate.jpa.HibernateHints;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.history.RevisionRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface DepartmentRepository
-		extends JpaRepository<Department, Long>, RevisionRepository<Department, Long, Long> {
+public interface DepartmentRepository extends JpaRepository<Department, Long>, JpaSpecificationExecutor<Department>,
+		RevisionRepository<Department, Long, Long> {
 
+	/**
+	 * Name of the second-level cache region holding the results of the department name
+	 * lookup.
+	 */
+	String BY_NAME_CACHE_REGION = "department-by-name";
+
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_NAME_CACHE_REGION) })
 	Optional<Department> findByDepartmentName(@NonNull String departmentName);
 
-	boolean existsByDepartmentName(@NonNull String departmentName);
+	List<Department> findAllByDepartmentNameIn(@NonNull Collection<String> departmentNames);
 
-	@Query("SELECT d FROM Department d LEFT JOIN FETCH d.employees WHERE d.id = :id")
-	Optional<Department> findDepartmentWithEmployees(@Param("id") @NonNull Long id);
+	@Transactional
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT d FROM Department d WHERE d.id = :id")
+	Optional<Department> findByIdForUpdate(@Param("id") @NonNull Long id);
 
 	boolean existsById(@Param("id") @NonNull Long id);
 
+	Slice<Department> findSliceBy(@NonNull Pageable pageable);
+
 }
@@ -1,17 +1,26 @@
 package de.stminko.employeeservice.department.control;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Objects;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import de.stminko.employeeservice.department.boundary.dto.DepartmentRequest;
 import de.stminko.employeeservice.department.entity.Department;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeResponse;
 import de.stminko.employeeservice.employee.control.EmployeeService;
 import de.stminko.employeeservice.employee.entity.Employee;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.BadRequestException;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.DepartmentNotEmptyException;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.NotFoundException;
 import de.stminko.employeeservice.runtime.persistence.boundary.BeanTool;
+import de.stminko.employeeservice.runtime.persistence.boundary.PageTotalEstimator;
+import de.stminko.employeeservice.runtime.persistence.boundary.RevisionFinder;
+import de.stminko.employeeservice.runtime.persistence.boundary.RevisionScroll;
 import de.stminko.employeeservice.runtime.rest.bondary.DataView;
 import de.stminko.employeeservice.runtime.validation.constraints.boundary.MessageSourceHelper;
 import jakarta.validation.ConstraintViolation;
@@ -20,11 +29,15 @@ import jakarta.validation.Validator;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.history.Revision;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,6 +61,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class DepartmentService {
 
+	/**
+	 * Properties of a department the revisions can be filtered by.
+	 */
+	public static final Set<String> CHANGE_TRACKED_PROPERTIES = Set.of("departmentName");
+
+	private static final String TABLE_NAME = "data.department";
+
 	private final DepartmentRepository repository;
 
 	private final EmployeeService employeeService;
@@ -56,6 +76,10 @@ public class DepartmentService {
 
 	private final MessageSourceHelper messageSourceHelper;
 
+	private final PageTotalEstimator pageTotalEstimator;
+
+	private final RevisionFinder revisionFinder;
+
 	/**
 	 * Retrieves an department by their unique identifier.
 	 * <p>
@@ -65,7 +89,7 @@ public class DepartmentService {
 	 * @param departmentId the unique identifier of the employee
 	 * @return the found {@link Department}
 	 */
-	@Transactional(propagation = Propagation.SUPPORTS)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Department findById(@NonNull Long departmentId) {
 		log.info("findById( departmentId= [{}] )", departmentId);
 		return this.repository.findById(departmentId)
@@ -89,12 +113,28 @@ public class DepartmentService {
 	 * @throws NotFoundException if no department with the given name is found.
 	 * @see #findDepartmentOrThrow
 	 */
-	@Transactional(propagation = Propagation.SUPPORTS)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Department findByDepartmentName(@NonNull String departmentName) {
 		log.info("findByDepartmentName( departmentName=[{}] )", departmentName);
 		return findDepartmentOrThrow(departmentName, NotFoundException.class);
 	}
 
+	/**
+	 * Retrieves the departments with the given names in a single query.
+	 * @param departmentNames the names of the departments
+	 * @return the found departments by their name, names without department are missing
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Map<String, Department> findAllByDepartmentNames(@NonNull Collection<String> departmentNames) {
+		log.info("findAllByDepartmentNames( departmentNames= [{}] )", departmentNames);
+		if (departmentNames.isEmpty()) {
+			return Map.of();
+		}
+		return this.repository.findAllByDepartmentNameIn(departmentNames)
+			.stream()
+			.collect(Collectors.toMap(Department::getDepartmentName, Function.identity()));
+	}
+
 	/**
 	 * Retrieves a department by its name or throws a specified exception if not found.
 	 * <p>
@@ -113,7 +153,7 @@ public class DepartmentService {
 	 * department is not found.
 	 * @see #findDepartmentOrThrow
 	 */
-	@Transactional(propagation = Propagation.SUPPORTS)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Department findByDepartmentNameOrElseThrow(@NonNull String departmentName,
 			@NonNull Class<? extends RuntimeException> exceptionClass) {
 		log.info("findByDepartmentNameOrElseThrow( departmentName= [{}], exceptionClass= [{}] )", departmentName,
@@ -130,12 +170,34 @@ public class DepartmentService {
 	 * @param pageable a {@link Pageable} object to specify the pagination and sorting
 	 * information.
 	 * @return a {@link Page} of {@link Department} objects containing the paginated
-	 * department data.
+	 * department data, its total is estimated on large tables.
+	 * @see PageTotalEstimator
 	 */
-	@Transactional(propagation = Propagation.SUPPORTS)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Page<Department> findAll(@NonNull Pageable pageable) {
 		log.info("findAll()");
-		return this.repository.findAll(pageable);
+		return this.pageTotalEstimator.findPage(TABLE_NAME, pageable, this.repository::findAll,
+				this.repository::findSliceBy);
+	}
+
+	/**
+	 * Retrieves all departments using keyset pagination.
+	 * <p>
+	 * The window is read starting right behind the given {@link ScrollPosition} instead
+	 * of skipping rows by offset, which keeps the cost per window constant.
+	 * </p>
+	 * @param scrollPosition the position to continue after
+	 * @param pageable a {@link Pageable} object providing the window size and the sort
+	 * order
+	 * @return a {@link Window} of {@link Department} objects
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Window<Department> findAll(@NonNull ScrollPosition scrollPosition, @NonNull Pageable pageable) {
+		log.info("findAll( scrollPosition= [{}] )", scrollPosition);
+		return this.repository.findBy(Specification.where(null),
+				(FluentQuery.FetchableFluentQuery<Department> query) -> query.sortBy(pageable.getSort())
+					.limit(pageable.getPageSize())
+					.scroll(scrollPosition));
 	}
 
 	/**
@@ -145,11 +207,80 @@ public class DepartmentService {
 	 * @param pageable the pagination information for the result (must not be null)
 	 * @return a Page object containing the revisions of the department
 	 */
+	@Transactional(readOnly = true)
 	public Page<Revision<Long, Department>> findRevisions(@NonNull Long departmentId, @NonNull Pageable pageable) {
 		log.info("findRevisions( departmentId= [{}] )", departmentId);
 		return this.repository.findRevisions(departmentId, pageable);
 	}
 
+	/**
+	 * Finds the revisions of a department changing at least one of the given properties.
+	 * @param departmentId the departmentId of the department to find revisions for (must
+	 * not be null)
+	 * @param changedProperties the properties of which at least one must have changed,
+	 * see {@link #CHANGE_TRACKED_PROPERTIES}
+	 * @param pageable the pagination information for the result (must not be null)
+	 * @return a Page object containing the matching revisions of the department
+	 * @throws BadRequestException if a property is not change tracked
+	 */
+	@Transactional(readOnly = true)
+	public Page<Revision<Long, Department>> findRevisions(@NonNull Long departmentId,
+			@NonNull Set<String> changedProperties, @NonNull Pageable pageable) {
+		log.info("findRevisions( departmentId= [{}], changedProperties= [{}] )", departmentId, changedProperties);
+		validateChangeTracked(changedProperties);
+		return this.revisionFinder.findRevisionsChanging(Department.class, departmentId, changedProperties, pageable);
+	}
+
+	/**
+	 * Scrolls through the revisions of a department by revision number, without counting
+	 * or skipping any revision.
+	 * @param departmentId the departmentId of the department to find revisions for (must
+	 * not be null)
+	 * @param changedProperties the properties of which at least one must have changed,
+	 * see {@link #CHANGE_TRACKED_PROPERTIES}, all revisions are returned if empty
+	 * @param scroll the revision number bounds, direction and size of the window (must
+	 * not be null)
+	 * @return a Window object containing the matching revisions of the department
+	 * @throws BadRequestException if a property is not change tracked
+	 */
+	@Transactional(readOnly = true)
+	public Window<Revision<Long, Department>> findRevisions(@NonNull Long departmentId,
+			@NonNull Set<String> changedProperties, @NonNull RevisionScroll scroll) {
+		log.info("findRevisions( departmentId= [{}], changedProperties= [{}], scroll= [{}] )", departmentId,
+				changedProperties, scroll);
+		validateChangeTracked(changedProperties);
+		return this.revisionFinder.findRevisions(Department.class, departmentId, changedProperties, scroll);
+	}
+
+	/**
+	 * Passes the revisions of a department within a range to the given action in
+	 * ascending order, starting with the state at the start of the range.
+	 * @param departmentId the ID of the department.
+	 * @param fromRevision the revision number the range starts with.
+	 * @param toRevision the revision number the range ends with, {@code null} for the
+	 * latest revision.
+	 * @param action the action the revisions are passed to.
+	 * @throws BadRequestException if the range ends before it starts
+	 * @throws NotFoundException if the range does not contain any revision of the
+	 * department
+	 */
+	@Transactional(readOnly = true)
+	public void forEachRevision(@NonNull Long departmentId, long fromRevision, Long toRevision,
+			@NonNull Consumer<Revision<Long, Department>> action) {
+		log.info("forEachRevision( departmentId= [{}], fromRevision= [{}], toRevision= [{}] )", departmentId,
+				fromRevision, toRevision);
+		if ((toRevision != null) && (toRevision < fromRevision)) {
+			throw new BadRequestException(
+					this.messageSourceHelper.getMessage("errors.revision.range.invalid", fromRevision, toRevision));
+		}
+		long count = this.revisionFinder.forEachRevision(Department.class, departmentId, fromRevision, toRevision,
+				action);
+		if (count == 0) {
+			throw new NotFoundException(this.messageSourceHelper.getMessage("errors.department.revisions.not-found",
+					departmentId.toString()));
+		}
+	}
+
 	/**
 	 * Find the latest revision information for the given department departmentId.
 	 * @param departmentId the departmentId of the entity the revision history should be
@@ -159,6 +290,7 @@ public class DepartmentService {
 	 * @throws NotFoundException if no revision information could be found (the department
 	 * for given Id does not exist)
 	 */
+	@Transactional(readOnly = true)
 	public Revision<Long, Department> findLastChangeRevision(@NonNull Long departmentId) {
 		log.info("findLastChangeRevision( departmentId= [{}] )", departmentId);
 		return this.repository.findLastChangeRevision(departmentId)
@@ -170,9 +302,10 @@ public class DepartmentService {
 	 * Creates a new department with the provided department request.
 	 * <p>
 	 * This method first validates the department request. If validation fails, it throws
-	 * a {@link ConstraintViolationException}. It then checks if a department with the
-	 * given name already exists. If it does, a {@link BadRequestException} is thrown.
-	 * Otherwise, a new department is created and saved in the repository.
+	 * a {@link ConstraintViolationException}. Otherwise, a new department is created and
+	 * flushed right away, so that a violation of the unique department name surfaces
+	 * here. The {@code GlobalExceptionHandler} answers such a violation with a
+	 * {@link BadRequestException}.
 	 * </p>
 	 * @param departmentRequest the request object containing the department details.
 	 * @return the created {@link Department} object.
@@ -184,15 +317,9 @@ public class DepartmentService {
 		log.info("create( departmentRequest= [{}] )", departmentRequest);
 		validateRequest(departmentRequest, DataView.POST.class);
 
-		String departmentName = departmentRequest.departmentName();
-		if (this.repository.existsByDepartmentName(departmentName)) {
-			throw new BadRequestException(
-					this.messageSourceHelper.getMessage("errors.department.name.already-exists", departmentName));
-		}
-
 		Department department = new Department();
-		department.setDepartmentName(departmentName);
-		return this.repository.save(department);
+		department.setDepartmentName(departmentRequest.departmentName());
+		return this.repository.saveAndFlush(department);
 	}
 
 	/**
@@ -230,13 +357,16 @@ public class DepartmentService {
 	/**
 	 * deletes a department by its unique identifier.
 	 * <p>
-	 * Retrieves the department with the provided ID from the repository. If the
-	 * department does not exist, a {@link NotFoundException} is thrown.
+	 * Retrieves and locks the department with the provided ID from the repository. If the
+	 * department does not exist, a {@link NotFoundException} is thrown. The lock
+	 * conflicts with the key share lock PostgreSQL takes when an employee references the
+	 * department, so no employee can be added concurrently until the deletion commits.
 	 * </p>
 	 * <p>
-	 * Checks if the department has any employees associated with it. If there are any
-	 * employees, a {@link DepartmentNotEmptyException} is thrown, indicating that the
-	 * department cannot be deleted until all employees are removed.
+	 * Checks with an indexed {@code EXISTS} query if the department has any employees
+	 * associated with it, without loading them. If there are any employees, a
+	 * {@link DepartmentNotEmptyException} is thrown, indicating that the department
+	 * cannot be deleted until all employees are removed.
 	 * </p>
 	 * <p>
 	 * Finally, deletes the department from the repository.
@@ -248,15 +378,14 @@ public class DepartmentService {
 	 */
 	public void deleteById(@NonNull Long departmentId) {
 		log.info("deleteById( departmentId= [{}] )", departmentId);
-		Department department = this.repository.findDepartmentWithEmployees(departmentId)
+		Department department = this.repository.findByIdForUpdate(departmentId)
 			.orElseThrow(() -> new NotFoundException(
 					this.messageSourceHelper.getMessage("errors.department.id.not-found", departmentId.toString())));
-		Set<Employee> employees = department.getEmployees();
-		if (CollectionUtils.isNotEmpty(employees)) {
+		if (this.employeeService.existsByDepartmentId(departmentId)) {
 			throw new DepartmentNotEmptyException(this.messageSourceHelper
 				.getMessage("errors.department.not-deletable-on-employee", departmentId.toString()));
 		}
-		this.repository.deleteById(departmentId);
+		this.repository.delete(department);
 	}
 
 	/**
@@ -275,6 +404,93 @@ public class DepartmentService {
 		return this.employeeService.findAllEmployeesByDepartmentId(departmentId, pageable);
 	}
 
+	/**
+	 * retrieves all employees that belonged to a department at the given revision. The
+	 * department does not have to exist anymore.
+	 * @param departmentId the unique identifier of the department
+	 * @param revision the revision number to reconstruct the employees at
+	 * @param pageable a {@link Pageable} object to specify pagination information.
+	 * @return a page of the employees of the department at the revision
+	 * @see EmployeeService#findAllByDepartmentIdAtRevision(Long, long, Pageable)
+	 */
+	@Transactional(readOnly = true)
+	public Page<Employee> findAllEmployeesByIdAtRevision(@NonNull Long departmentId, long revision,
+			@NonNull Pageable pageable) {
+		log.info("findAllEmployeesByIdAtRevision( departmentId= [{}], revision= [{}] )", departmentId, revision);
+		return this.employeeService.findAllByDepartmentIdAtRevision(departmentId, revision, pageable);
+	}
+
+	/**
+	 * retrieves all employees that belonged to a department at the given point in time.
+	 * The department does not have to exist anymore.
+	 * @param departmentId the unique identifier of the department
+	 * @param asOf the point in time
+	 * @param pageable a {@link Pageable} object to specify pagination information.
+	 * @return a page of the employees of the department at that time
+	 * @see EmployeeService#findAllByDepartmentIdAsOf(Long, ZonedDateTime, Pageable)
+	 */
+	@Transactional(readOnly = true)
+	public Page<Employee> findAllEmployeesByIdAsOf(@NonNull Long departmentId, @NonNull ZonedDateTime asOf,
+			@NonNull Pageable pageable) {
+		log.info("findAllEmployeesByIdAsOf( departmentId= [{}], asOf= [{}] )", departmentId, asOf);
+		return this.employeeService.findAllByDepartmentIdAsOf(departmentId, asOf, pageable);
+	}
+
+	/**
+	 * retrieves all employees associated with a department as read-only projections.
+	 * @param departmentId the unique identifier of the department
+	 * @param pageable a {@link Pageable} object to specify pagination information.
+	 * @return a page of projected employees associated with the department
+	 * @throws NotFoundException if the department with the provided ID does not exist
+	 * @see EmployeeService#findAllResponsesByDepartmentId(Long, Pageable)
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Page<EmployeeResponse> findAllEmployeeResponsesById(@NonNull Long departmentId, @NonNull Pageable pageable) {
+		log.info("findAllEmployeeResponsesById( departmentId= [{}] )", departmentId);
+		if (!this.repository.existsById(departmentId)) {
+			throw new NotFoundException(
+					this.messageSourceHelper.getMessage("errors.department.id.not-found", departmentId.toString()));
+		}
+		return this.employeeService.findAllResponsesByDepartmentId(departmentId, pageable);
+	}
+
+	/**
+	 * retrieves all employees associated with a department using keyset pagination.
+	 * @param departmentId the unique identifier of the department
+	 * @param scrollPosition the position to continue after
+	 * @param pageable a {@link Pageable} object providing the window size and the sort
+	 * order
+	 * @return a window of employees associated with the department
+	 * @throws NotFoundException if the department with the provided ID does not exist
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Window<Employee> findAllEmployeesById(@NonNull Long departmentId, @NonNull ScrollPosition scrollPosition,
+			@NonNull Pageable pageable) {
+		log.info("findAllEmployeesById( departmentId= [{}], scrollPosition= [{}] )", departmentId, scrollPosition);
+		if (!this.repository.existsById(departmentId)) {
+			throw new NotFoundException(
+					this.messageSourceHelper.getMessage("errors.department.id.not-found", departmentId.toString()));
+		}
+		return this.employeeService.findAllEmployeesByDepartmentId(departmentId, scrollPosition, pageable);
+	}
+
+	/**
+	 * retrieves all employees associated with a department without counting them.
+	 * @param departmentId the unique identifier of the department
+	 * @param pageable a {@link Pageable} object to specify pagination information.
+	 * @return a slice of employees associated with the department
+	 * @throws NotFoundException if the department with the provided ID does not exist
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Slice<Employee> findEmployeeSliceById(@NonNull Long departmentId, @NonNull Pageable pageable) {
+		log.info("findEmployeeSliceById( departmentId= [{}] )", departmentId);
+		if (!this.repository.existsById(departmentId)) {
+			throw new NotFoundException(
+					this.messageSourceHelper.getMessage("errors.department.id.not-found", departmentId.toString()));
+		}
+		return this.employeeService.findSliceByDepartmentId(departmentId, pageable);
+	}
+
 	private Department update(Long departmentId, DepartmentRequest departmentRequest,
 			Class<? extends DataView> validationGroup) {
 		validateRequest(departmentRequest, validationGroup);
@@ -282,15 +498,8 @@ public class DepartmentService {
 			.orElseThrow(() -> new NotFoundException(
 					this.messageSourceHelper.getMessage("errors.department.id.not-found", departmentId.toString())));
 
-		String departmentName = departmentRequest.departmentName();
-		this.repository.findByDepartmentName(departmentName).ifPresent((Department department) -> {
-			if (!Objects.equals(departmentId, department.getId())) {
-				throw new BadRequestException(
-						this.messageSourceHelper.getMessage("errors.department.name.already-exists", departmentName));
-			}
-		});
 		BeanTool.copyNonNullProperties(departmentRequest, departmentToUpdate);
-		return this.repository.save(departmentToUpdate);
+		return this.repository.saveAndFlush(departmentToUpdate);
 	}
 
 	private void validateRequest(DepartmentRequest departmentRequest, Class<? extends DataView> validationGroup) {
@@ -318,4 +527,15 @@ public class DepartmentService {
 		}
 	}
 
+	private void validateChangeTracked(Set<String> changedProperties) {
+		changedProperties.stream()
+			.filter((String property) -> !CHANGE_TRACKED_PROPERTIES.contains(property))
+			.findFirst()
+			.ifPresent((String property) -> {
+				throw new BadRequestException(
+						this.messageSourceHelper.getMessage("errors.revision.changed-property.invalid", property,
+								String.join(", ", CHANGE_TRACKED_PROPERTIES.stream().sorted().toList())));
+			});
+	}
+
 }
@@ -7,6 +7,7 @@ import java.util.Set;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import de.stminko.employeeservice.employee.entity.Employee;
 import de.stminko.employeeservice.runtime.persistence.boundary.AbstractEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +20,8 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.envers.AuditOverride;
 import org.hibernate.envers.AuditOverrides;
 import org.hibernate.envers.Audited;
@@ -35,14 +38,15 @@ import org.hibernate.envers.Audited;
  * <p>
  * The class uses annotations to configure ORM (Object-Relational Mapping) via JPA
  * (Jakarta Persistence API), and it's audited using Hibernate Envers for maintaining
- * historical data.
+ * historical data. Every revision flags the properties it modified. Departments are kept
+ * in the second-level cache region {@value #CACHE_REGION}.
  * </p>
  *
  * @author Stéphan Minko
  * @see AbstractEntity
  * @see Employee
  */
-@Audited
+@Audited(withModifiedFlag = true)
 @AuditOverrides({ @AuditOverride(forClass = AbstractEntity.class, isAudited = false, name = "createdAt"),
 		@AuditOverride(forClass = AbstractEntity.class, isAudited = false, name = "createdBy") })
 @Getter
@@ -50,10 +54,17 @@ import org.hibernate.envers.Audited;
 @ToString(callSuper = true)
 @Entity
 @Table(name = "DEPARTMENT", schema = "data")
-@SequenceGenerator(name = "department_sequence", allocationSize = 1, sequenceName = "department_sequence",
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Department.CACHE_REGION)
+@SequenceGenerator(name = "department_sequence", allocationSize = 50, sequenceName = "department_sequence",
 		schema = "data")
 public class Department extends AbstractEntity<Long> {
 
+	/**
+	 * Name of the second-level cache region holding the departments.
+	 */
+	public static final String CACHE_REGION = "department";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_sequence")
 	private Long id;
@@ -1,16 +1,36 @@
 package de.stminko.employeeservice.employee.boundary;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import de.stminko.employeeservice.department.boundary.dto.DepartmentResponse;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeBatchItemResponse;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeBatchResponse;
 import de.stminko.employeeservice.employee.boundary.dto.EmployeeRequest;
 import de.stminko.employeeservice.employee.boundary.dto.EmployeeResponse;
+import de.stminko.employeeservice.employee.control.EmployeeBatchItem;
+import de.stminko.employeeservice.employee.control.EmployeeExportService;
 import de.stminko.employeeservice.employee.control.EmployeeService;
+import de.stminko.employeeservice.employee.control.ExportFormat;
 import de.stminko.employeeservice.employee.entity.Employee;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.NotFoundException;
+import de.stminko.employeeservice.runtime.persistence.boundary.RevisionScroll;
 import de.stminko.employeeservice.runtime.rest.bondary.ApiVersions;
 import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import de.stminko.employeeservice.runtime.rest.bondary.EntityTagCodec;
+import de.stminko.employeeservice.runtime.rest.bondary.KeysetCursorCodec;
+import de.stminko.employeeservice.runtime.rest.bondary.RevisionDiff;
+import de.stminko.employeeservice.runtime.rest.bondary.RevisionWindow;
+import de.stminko.employeeservice.runtime.rest.bondary.SliceSerializer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,20 +38,30 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.history.Revision;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -39,7 +69,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -82,34 +114,97 @@ public class EmployeeController {
 	 */
 	public static final String BASE_URI = ApiVersions.V1 + "/employees";
 
+	/**
+	 * Name of the request parameter selecting the point in time a listing is
+	 * reconstructed at.
+	 */
+	public static final String AS_OF_PARAMETER = "asOf";
+
+	/**
+	 * Name of the request parameter selecting the revision a listing is reconstructed at.
+	 */
+	public static final String AS_OF_REVISION_PARAMETER = "asOfRevision";
+
+	/**
+	 * Name of the request parameter selecting the number of readers an export uses in
+	 * parallel.
+	 */
+	public static final String PARALLELISM_PARAMETER = "parallelism";
+
+	private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+	private static final byte[] EXPORT_ABORTED_RECORD = "{\"error\":\"The export failed, the employees are incomplete\"}\n"
+		.getBytes(StandardCharsets.UTF_8);
+
 	private final EmployeeService employeeService;
 
+	private final KeysetCursorCodec keysetCursorCodec;
+
+	private final EntityTagCodec entityTagCodec;
+
+	private final EmployeeExportService employeeExportService;
+
 	/**
 	 * Creates a page of EmployeeResponse objects from a page of Employee objects.
 	 * @param employeePage the page of Employee objects to be converted
 	 * @return a page of EmployeeResponse objects
 	 */
 	public static Page<EmployeeResponse> createEmployeeResponsePage(@NonNull Page<Employee> employeePage) {
-		List<EmployeeResponse> employeeResponses = employeePage.getContent()
-			.stream()
-			.map(EmployeeController::createEmployeeResponse)
-			.toList();
-		return new PageImpl<>(employeeResponses, employeePage.getPageable(), employeePage.getTotalElements());
+		return employeePage.map(EmployeeController::createEmployeeResponse);
 	}
 
-	private static EmployeeResponse createEmployeeResponse(Employee employee) {
+	/**
+	 * Creates a slice of EmployeeResponse objects from a slice of Employee objects.
+	 * @param employeeSlice the slice of Employee objects to be converted
+	 * @return a slice of EmployeeResponse objects
+	 */
+	public static Slice<EmployeeResponse> createEmployeeResponseSlice(@NonNull Slice<Employee> employeeSlice) {
+		return employeeSlice.map(EmployeeController::createEmployeeResponse);
+	}
+
+	/**
+	 * Creates a window of EmployeeResponse objects from a window of Employee objects.
+	 * @param employeeWindow the window of Employee objects to be converted
+	 * @return a window of EmployeeResponse objects keeping the scroll positions of the
+	 * source window
+	 */
+	public static Window<EmployeeResponse> createEmployeeResponseWindow(@NonNull Window<Employee> employeeWindow) {
+		return employeeWindow.map(EmployeeController::createEmployeeResponse);
+	}
+
+	/**
+	 * Creates an EmployeeResponse from an Employee, whose department has to be
+	 * initialized.
+	 * @param employee the Employee to be converted
+	 * @return the EmployeeResponse
+	 */
+	public static EmployeeResponse createEmployeeResponse(@NonNull Employee employee) {
 		Employee.FullName fullName = employee.getFullName();
 		assert employee.getId() != null;
 		return EmployeeResponse.builder()
-			.employeeId(employee.getId())
+			.employeeId(employee.getId().toString())
 			.emailAddress(employee.getEmailAddress())
 			.firstName((fullName != null) ? fullName.getFirstName() : null)
 			.lastName((fullName != null) ? fullName.getLastName() : null)
 			.birthday(employee.getBirthday())
 			.departmentName(employee.getDepartment().getDepartmentName())
+			.version(employee.getVersion())
 			.build();
 	}
 
+	/**
+	 * Creates the response of a single request of a batch creation.
+	 * @param item the outcome of the request
+	 * @return the EmployeeBatchItemResponse
+	 */
+	public static EmployeeBatchItemResponse createEmployeeBatchItemResponse(@NonNull EmployeeBatchItem item) {
+		return item.isCreated()
+				? new EmployeeBatchItemResponse(item.index(), EmployeeBatchItemResponse.Status.CREATED,
+						createEmployeeResponse(item.employee()), item.errors())
+				: new EmployeeBatchItemResponse(item.index(), EmployeeBatchItemResponse.Status.REJECTED, null,
+						item.errors());
+	}
+
 	/**
 	 * Creates a new employee based on the provided request and returns the created
 	 * employee's details.
@@ -143,8 +238,48 @@ public class EmployeeController {
 		return ResponseEntity.status(HttpStatus.CREATED).headers(headers).body(employeeResponse);
 	}
 
+	/**
+	 * Creates the employees of a batch of requests and returns the outcome of every
+	 * request. Invalid requests are rejected without affecting the others.
+	 * @param employeeRequests the requests containing the new employees' details
+	 * @return a {@link ResponseEntity} with status 201 if all employees were created, or
+	 * 207 if any request was rejected, containing the {@link EmployeeBatchResponse}
+	 */
+	@Operation(summary = "Create a batch of employees",
+			description = "Creates the employees of all valid requests in one transaction and returns the outcome of every request")
+	@ApiResponses({
+			@ApiResponse(responseCode = "201", description = "all employees successfully created",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = EmployeeBatchResponse.class))),
+			@ApiResponse(responseCode = "207", description = "some requests were rejected, the others created",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = EmployeeBatchResponse.class))),
+			@ApiResponse(responseCode = "400", description = "if the batch is empty or too large") })
+	@PostMapping(path = "/batch", produces = MediaType.APPLICATION_JSON_VALUE,
+			consumes = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<EmployeeBatchResponse> createEmployees(
+			@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Employee request data",
+					required = true) @RequestBody List<EmployeeRequest> employeeRequests) {
+		log.info("createEmployees( employeeRequests= [{}] )", employeeRequests.size());
+		List<EmployeeBatchItemResponse> items = this.employeeService.createAll(employeeRequests)
+			.stream()
+			.map(EmployeeController::createEmployeeBatchItemResponse)
+			.toList();
+		int created = (int) items.stream()
+			.filter((EmployeeBatchItemResponse item) -> item.status() == EmployeeBatchItemResponse.Status.CREATED)
+			.count();
+		int rejected = items.size() - created;
+		return ResponseEntity.status((rejected == 0) ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+			.body(new EmployeeBatchResponse(created, rejected, items));
+	}
+
 	/**
 	 * Finds and returns a single employee by their ID.
+	 * <p>
+	 * The {@code ETag} header carries the version of the employee, which can be sent back
+	 * as {@code If-Match} header to update the employee conditionally.
+	 * </p>
 	 * @param employeeId the unique identifier of the employee.
 	 * @return the {@link EmployeeResponse} containing the employee's details.
 	 */
@@ -156,12 +291,45 @@ public class EmployeeController {
 			@ApiResponse(responseCode = "404", description = "Employee not found with the provided ID") })
 	@GetMapping(value = "/{employeeId}", produces = MediaType.APPLICATION_JSON_VALUE)
 	@JsonView(DataView.GET.class)
-	@ResponseStatus(HttpStatus.OK)
-	public EmployeeResponse findEmployee(@Parameter(description = "Unique identifier of the employee",
-			required = true) @PathVariable("employeeId") String employeeId) {
+	public ResponseEntity<EmployeeResponse> findEmployee(@Parameter(description = "Unique identifier of the employee",
+			required = true) @PathVariable("employeeId") UUID employeeId) {
 		log.info("findEmployee( departmentId=[{}] )", employeeId);
-		Employee employee = this.employeeService.findById(employeeId);
-		return createEmployeeResponse(employee);
+		EmployeeResponse employeeResponse = this.employeeService.findResponseById(employeeId);
+		ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+		if (employeeResponse.version() != null) {
+			responseBuilder.eTag(this.entityTagCodec.encode(employeeResponse.version()));
+		}
+		return responseBuilder.body(employeeResponse);
+	}
+
+	/**
+	 * Finds and returns a single employee by their email address, ignoring its case.
+	 * <p>
+	 * Like {@link #findEmployee(UUID)}, the {@code ETag} header carries the version of
+	 * the employee.
+	 * </p>
+	 * @param emailAddress the email address of the employee.
+	 * @return the {@link EmployeeResponse} containing the employee's details.
+	 */
+	@Operation(summary = "Find an employee by email address",
+			description = "Returns a single employee by their email address, ignoring its case")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully found and returned the employee details",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = EmployeeResponse.class))),
+			@ApiResponse(responseCode = "404", description = "Employee not found with the provided email address") })
+	@GetMapping(value = "/by-email/{emailAddress}", produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<EmployeeResponse> findEmployeeByEmailAddress(
+			@Parameter(description = "Email address of the employee",
+					required = true) @PathVariable("emailAddress") String emailAddress) {
+		log.info("findEmployeeByEmailAddress( emailAddress=[{}] )", emailAddress);
+		EmployeeResponse employeeResponse = this.employeeService.findResponseByEmailAddress(emailAddress);
+		ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+		if (employeeResponse.version() != null) {
+			responseBuilder.eTag(this.entityTagCodec.encode(employeeResponse.version()));
+		}
+		return responseBuilder.body(employeeResponse);
 	}
 
 	/**
@@ -187,7 +355,224 @@ public class EmployeeController {
 	@ResponseStatus(HttpStatus.OK)
 	public Page<EmployeeResponse> findAllEmployees(@PageableDefault(50) Pageable pageable) {
 		log.info("findAllEmployees()");
-		return createEmployeeResponsePage(this.employeeService.findAll(pageable));
+		return this.employeeService.findAllResponses(pageable);
+	}
+
+	/**
+	 * Retrieves all employees as they were at the given revision.
+	 *
+	 * <p>
+	 * The directory is reconstructed from the history with a single query per page,
+	 * employees are ordered by their ID. Employees deleted until the revision are not
+	 * contained.
+	 * </p>
+	 * @param asOfRevision the revision number to reconstruct the employees at
+	 * @param pageable an object that encapsulates pagination information.
+	 * @return a {@link Page} of {@link EmployeeResponse} as of the revision
+	 */
+	@Operation(summary = "Get all employees as of a revision",
+			description = "Retrieves a paginated list of all employees as they were at the given revision.")
+	@ApiResponse(responseCode = "200", description = "Successful retrieval of employee list",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageImpl.class)))
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE,
+			params = { AS_OF_REVISION_PARAMETER, "!" + AS_OF_PARAMETER, "!" + KeysetCursorCodec.AFTER_PARAMETER })
+	@JsonView(DataView.GET.class)
+	@ResponseStatus(HttpStatus.OK)
+	public Page<EmployeeResponse> findAllEmployeesAtRevision(
+			@Parameter(description = "Revision number to reconstruct the employees at",
+					example = "4711") @RequestParam(AS_OF_REVISION_PARAMETER) long asOfRevision,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("findAllEmployeesAtRevision( asOfRevision= [{}] )", asOfRevision);
+		return createEmployeeResponsePage(this.employeeService.findAllAtRevision(asOfRevision, pageable));
+	}
+
+	/**
+	 * Retrieves all employees as they were at the given point in time.
+	 * @param asOf the point in time to reconstruct the employees at, ISO formatted
+	 * @param pageable an object that encapsulates pagination information.
+	 * @return a {@link Page} of {@link EmployeeResponse} as of the point in time
+	 * @see #findAllEmployeesAtRevision(long, Pageable)
+	 */
+	@Operation(summary = "Get all employees as of a point in time",
+			description = "Retrieves a paginated list of all employees as they were at the given point in time.")
+	@ApiResponse(responseCode = "200", description = "Successful retrieval of employee list",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageImpl.class)))
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE,
+			params = { AS_OF_PARAMETER, "!" + AS_OF_REVISION_PARAMETER, "!" + KeysetCursorCodec.AFTER_PARAMETER })
+	@JsonView(DataView.GET.class)
+	@ResponseStatus(HttpStatus.OK)
+	public Page<EmployeeResponse> findAllEmployeesAsOf(
+			@Parameter(description = "Point in time to reconstruct the employees at",
+					example = "2024-01-01T00:00:00Z") @RequestParam(AS_OF_PARAMETER) @DateTimeFormat(
+							iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime asOf,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("findAllEmployeesAsOf( asOf= [{}] )", asOf);
+		return createEmployeeResponsePage(this.employeeService.findAllAsOf(asOf, pageable));
+	}
+
+	/**
+	 * Retrieves a slice of all employees without total counts.
+	 *
+	 * <p>
+	 * This endpoint is selected by {@code withTotal=false}. It skips the
+	 * {@code SELECT COUNT(*)} of {@link #findAllEmployees(Pageable)} and only reports
+	 * whether a next page exists, which is all infinite-scroll clients need.
+	 * </p>
+	 * @param pageable an object that encapsulates pagination information.
+	 * @return a {@link Slice} of {@link EmployeeResponse}
+	 * @see SliceSerializer
+	 */
+	@Operation(summary = "Get all employees without totals",
+			description = "Retrieves a slice of all employees without counting them.")
+	@ApiResponse(responseCode = "200", description = "Successful retrieval of employee slice",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = SliceImpl.class)))
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE,
+			params = { "withTotal=false", "!" + KeysetCursorCodec.AFTER_PARAMETER })
+	@JsonView(DataView.GET.class)
+	@ResponseStatus(HttpStatus.OK)
+	public Slice<EmployeeResponse> findAllEmployeesWithoutTotal(@PageableDefault(50) Pageable pageable) {
+		log.info("findAllEmployeesWithoutTotal()");
+		return createEmployeeResponseSlice(this.employeeService.findSlice(pageable));
+	}
+
+	/**
+	 * Retrieves a window of employees using keyset (seek) pagination.
+	 *
+	 * <p>
+	 * This endpoint is selected as soon as the {@code after} parameter is present. An
+	 * empty cursor returns the first window, every response carries the cursor of the
+	 * next window in its {@code next} field and in a {@code Link} header with relation
+	 * type {@code next}. Page numbers are ignored, the size and sort order are taken from
+	 * the pageable and have to stay the same while scrolling.
+	 * </p>
+	 * @param after the opaque cursor returned with the previous window, empty for the
+	 * first window
+	 * @param pageable an object providing the window size and the sort order
+	 * @return a {@link Window} of {@link EmployeeResponse}
+	 */
+	@Operation(summary = "Scroll through all employees",
+			description = "Retrieves a window of employees following the given cursor.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successful retrieval of the employee window",
+					content = @Content(mediaType = "application/json")),
+			@ApiResponse(responseCode = "400",
+					description = "The cursor is invalid for the requested sort order or the sort order references a nullable property") })
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, params = KeysetCursorCodec.AFTER_PARAMETER)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<Window<EmployeeResponse>> scrollAllEmployees(
+			@Parameter(description = "Cursor of the previous window, empty for the first window",
+					required = true) @RequestParam(KeysetCursorCodec.AFTER_PARAMETER) String after,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("scrollAllEmployees( after= [{}] )", after);
+		ScrollPosition scrollPosition = this.keysetCursorCodec.decode(after, pageable.getSort(), Employee.class);
+		Window<EmployeeResponse> employeeWindow = createEmployeeResponseWindow(
+				this.employeeService.findAll(scrollPosition, pageable));
+		return ResponseEntity.ok()
+			.headers(this.keysetCursorCodec.createNextLinkHeaders(employeeWindow))
+			.body(employeeWindow);
+	}
+
+	/**
+	 * Streams all employees as NDJSON or CSV, chosen by the {@code Accept} header.
+	 *
+	 * <p>
+	 * Unlike paging through all employees, the export neither counts nor skips rows and
+	 * keeps no page in memory: the rows are written to the response while they are
+	 * fetched from a database cursor. The response is gzip compressed if the client
+	 * accepts it. The columns are named like the fields of an import, so an export can be
+	 * imported again.
+	 * </p>
+	 *
+	 * <p>
+	 * The endpoint is mapped without a {@code produces} condition, so that a request
+	 * accepting neither format is answered with {@code 406 Not Acceptable} here instead
+	 * of being matched by {@code /{employeeId}}. An export failing before the first rows
+	 * have been sent is answered with an error response as usual, one failing afterwards
+	 * can no longer change the status of the response. An NDJSON export then ends with a
+	 * line holding nothing but an {@code error} property, and in either format the
+	 * connection is aborted without completing the response, so that a client never takes
+	 * a truncated export for a complete one.
+	 * </p>
+	 * @param parallelism the number of readers used in parallel, {@code 1} for a
+	 * sequential export that is a consistent snapshot
+	 * @param accept the media types the client accepts
+	 * @param acceptEncoding the content codings the client accepts
+	 * @param response the response to write the employees to
+	 * @throws IOException if the response cannot be written
+	 * @throws HttpMediaTypeNotAcceptableException if the client accepts neither NDJSON
+	 * nor CSV
+	 * @see EmployeeExportService
+	 */
+	@Operation(summary = "Export all employees",
+			description = "Streams all employees as NDJSON or CSV, optionally with several readers in parallel")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "The employees are streamed",
+					content = { @Content(mediaType = ExportFormat.NDJSON_VALUE),
+							@Content(mediaType = ExportFormat.CSV_VALUE) }),
+			@ApiResponse(responseCode = "406", description = "Neither NDJSON nor CSV is accepted") })
+	@GetMapping("/export")
+	public void exportEmployees(
+			@Parameter(description = "Number of readers used in parallel",
+					example = "4") @RequestParam(name = PARALLELISM_PARAMETER, defaultValue = "1") int parallelism,
+			@RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+			HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+		log.info("exportEmployees( parallelism= [{}], accept= [{}] )", parallelism, accept);
+		List<MediaType> acceptedMediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+		MimeTypeUtils.sortBySpecificity(acceptedMediaTypes);
+		ExportFormat format = acceptedMediaTypes.isEmpty() ? ExportFormat.NDJSON
+				: ExportFormat.negotiate(acceptedMediaTypes)
+					.orElseThrow(() -> new HttpMediaTypeNotAcceptableException(
+							List.of(MediaType.parseMediaType(ExportFormat.NDJSON_VALUE),
+									MediaType.parseMediaType(ExportFormat.CSV_VALUE))));
+		boolean gzip = StringUtils.containsIgnoreCase(acceptEncoding, "gzip");
+		response.setContentType(format.getMediaType());
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				ContentDisposition.attachment().filename("employees." + format.getFileExtension()).build().toString());
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		OutputStream output = gzip ? new GZIPOutputStream(response.getOutputStream(), EXPORT_BUFFER_SIZE)
+				: response.getOutputStream();
+		try {
+			this.employeeExportService.export(format, Math.max(1, parallelism), output);
+		}
+		catch (IOException | RuntimeException exception) {
+			if (response.isCommitted()) {
+				abortExport(format, output, exception);
+			}
+			else {
+				response.reset();
+			}
+			throw exception;
+		}
+		output.close();
+	}
+
+	/**
+	 * Marks an export as failed. The output is deliberately left open, closing it would
+	 * complete the response.
+	 * @param format the format of the export
+	 * @param output the stream the export was written to
+	 * @param failure the failure of the export, any failure writing the mark is added to
+	 * it as suppressed
+	 */
+	private static void abortExport(ExportFormat format, OutputStream output, Exception failure) {
+		log.warn("Aborting the export of the employees: [{}]", failure.getMessage());
+		try {
+			if (format == ExportFormat.NDJSON) {
+				output.write(EXPORT_ABORTED_RECORD);
+			}
+			if (output instanceof GZIPOutputStream gzipOutput) {
+				gzipOutput.finish();
+			}
+			output.flush();
+		}
+		catch (IOException exception) {
+			failure.addSuppressed(exception);
+		}
 	}
 
 	/**
@@ -198,23 +583,29 @@ public class EmployeeController {
 	 * point in time. Each revision includes metadata such as the revision type (insert,
 	 * update, delete) and the timestamp of the revision.
 	 * @param employeeId the ID of the employee for which to retrieve the revisions.
+	 * @param changed the properties of which at least one must have been changed by a
+	 * revision, all revisions are returned if absent.
 	 * @param pageable a {@link Pageable} object specifying the pagination information
 	 * (page number, page size).
 	 * @return a {@link Page} of {@link Revision} objects containing
 	 * {@link EmployeeResponse} and revision metadata.
 	 */
 	@Operation(summary = "Find all revisions for a employee",
-			description = "Returns a page of revisions for the specified employee ID")
+			description = "Returns a page of revisions for the specified employee ID, optionally only those changing one of the given properties")
 	@ApiResponse(responseCode = "200", description = "Successfully retrieved the revisions",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageImpl.class)))
 	@GetMapping(value = "/{employeeId}/revisions", produces = MediaType.APPLICATION_JSON_VALUE)
 	@JsonView(DataView.GET.class)
 	public Page<Revision<Long, EmployeeResponse>> findAllRevisions(
 			@Parameter(description = "Unique identifier of the employee",
-					required = true) @PathVariable String employeeId,
+					required = true) @PathVariable UUID employeeId,
+			@Parameter(description = "Properties of which at least one must have changed, e.g. emailAddress,department",
+					example = "emailAddress,department") @RequestParam(required = false) Set<String> changed,
 			@PageableDefault(50) Pageable pageable) {
-		log.info("findAllRevisions( employeeId= [{}] )", employeeId);
-		Page<Revision<Long, Employee>> employeeRevisionsPage = this.employeeService.findRevisions(employeeId, pageable);
+		log.info("findAllRevisions( employeeId= [{}], changed= [{}] )", employeeId, changed);
+		Page<Revision<Long, Employee>> employeeRevisionsPage = ((changed == null) || changed.isEmpty())
+				? this.employeeService.findRevisions(employeeId, pageable)
+				: this.employeeService.findRevisions(employeeId, changed, pageable);
 		List<Revision<Long, EmployeeResponse>> responseRevisions = employeeRevisionsPage.getContent()
 			.stream()
 			.map(this::createEmployeeResponseRevision)
@@ -224,6 +615,133 @@ public class EmployeeController {
 				employeeRevisionsPage.getTotalElements());
 	}
 
+	/**
+	 * Scrolls forward through the revisions of a employee, oldest first.
+	 * <p>
+	 * Seeks by revision number instead of skipping and counting, so every window costs
+	 * the same no matter how long the history of the employee is. The revision number to
+	 * continue with is returned as {@code next} and as {@code Link} header.
+	 * </p>
+	 * @param employeeId the ID of the employee for which to retrieve the revisions.
+	 * @param afterRevision the revision number the window starts after, the window starts
+	 * with the first revision if empty.
+	 * @param beforeRevision the revision number the scroll stops before, if any.
+	 * @param changed the properties of which at least one must have been changed by a
+	 * revision, all revisions are returned if absent.
+	 * @param pageable a {@link Pageable} object specifying the window size.
+	 * @return a {@link RevisionWindow} of {@link EmployeeResponse} revisions.
+	 */
+	@Operation(summary = "Scroll forward through the revisions of a employee",
+			description = "Returns the revisions of the specified employee ID following the given revision number")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved the revisions",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = RevisionWindow.class)))
+	@GetMapping(value = "/{employeeId}/revisions", params = RevisionWindow.AFTER_REVISION_PARAMETER,
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<RevisionWindow<EmployeeResponse>> scrollRevisionsForward(
+			@Parameter(description = "Unique identifier of the employee",
+					required = true) @PathVariable UUID employeeId,
+			@Parameter(description = "Revision number to start after, empty to start with the first revision",
+					example = "4711") @RequestParam(name = RevisionWindow.AFTER_REVISION_PARAMETER,
+							required = false) Long afterRevision,
+			@Parameter(description = "Revision number to stop before") @RequestParam(
+					name = RevisionWindow.BEFORE_REVISION_PARAMETER, required = false) Long beforeRevision,
+			@Parameter(
+					description = "Properties of which at least one must have changed, e.g. emailAddress,department") @RequestParam(
+							required = false) Set<String> changed,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("scrollRevisionsForward( employeeId= [{}], afterRevision= [{}], beforeRevision= [{}], changed= [{}] )",
+				employeeId, afterRevision, beforeRevision, changed);
+		Window<Revision<Long, Employee>> revisions = this.employeeService.findRevisions(employeeId,
+				(changed != null) ? changed : Set.of(),
+				RevisionScroll.forward(afterRevision, beforeRevision, pageable.getPageSize()));
+		RevisionWindow<EmployeeResponse> revisionWindow = RevisionWindow.of(revisions,
+				this::createEmployeeResponseRevision);
+		return ResponseEntity.ok()
+			.headers(revisionWindow.createNextLinkHeaders(RevisionWindow.AFTER_REVISION_PARAMETER))
+			.body(revisionWindow);
+	}
+
+	/**
+	 * Scrolls backward through the revisions of a employee, newest first.
+	 * @param employeeId the ID of the employee for which to retrieve the revisions.
+	 * @param beforeRevision the revision number the window starts before, the window
+	 * starts with the latest revision if empty.
+	 * @param changed the properties of which at least one must have been changed by a
+	 * revision, all revisions are returned if absent.
+	 * @param pageable a {@link Pageable} object specifying the window size.
+	 * @return a {@link RevisionWindow} of {@link EmployeeResponse} revisions.
+	 * @see #scrollRevisionsForward
+	 */
+	@Operation(summary = "Scroll backward through the revisions of a employee",
+			description = "Returns the revisions of the specified employee ID preceding the given revision number, newest first")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved the revisions",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = RevisionWindow.class)))
+	@GetMapping(value = "/{employeeId}/revisions",
+			params = { RevisionWindow.BEFORE_REVISION_PARAMETER, "!" + RevisionWindow.AFTER_REVISION_PARAMETER },
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<RevisionWindow<EmployeeResponse>> scrollRevisionsBackward(
+			@Parameter(description = "Unique identifier of the employee",
+					required = true) @PathVariable UUID employeeId,
+			@Parameter(description = "Revision number to start before, empty to start with the latest revision",
+					example = "4711") @RequestParam(name = RevisionWindow.BEFORE_REVISION_PARAMETER,
+							required = false) Long beforeRevision,
+			@Parameter(
+					description = "Properties of which at least one must have changed, e.g. emailAddress,department") @RequestParam(
+							required = false) Set<String> changed,
+			@PageableDefault(50) Pageable pageable) {
+		log.info("scrollRevisionsBackward( employeeId= [{}], beforeRevision= [{}], changed= [{}] )", employeeId,
+				beforeRevision, changed);
+		Window<Revision<Long, Employee>> revisions = this.employeeService.findRevisions(employeeId,
+				(changed != null) ? changed : Set.of(),
+				RevisionScroll.backward(beforeRevision, pageable.getPageSize()));
+		RevisionWindow<EmployeeResponse> revisionWindow = RevisionWindow.of(revisions,
+				this::createEmployeeResponseRevision);
+		return ResponseEntity.ok()
+			.headers(revisionWindow.createNextLinkHeaders(RevisionWindow.BEFORE_REVISION_PARAMETER))
+			.body(revisionWindow);
+	}
+
+	/**
+	 * Computes the field-level changes of an employee between two revisions.
+	 * <p>
+	 * Instead of downloading both revisions, clients receive the net changes from the
+	 * state at {@code from} to the state at {@code to} and the changes of every single
+	 * revision in between. The revisions of the range are read and diffed in chunks on
+	 * the server, only the changed fields are returned.
+	 * </p>
+	 * @param employeeId the ID of the employee for which to compute the changes.
+	 * @param from the revision number the changes start from.
+	 * @param to the revision number the changes end with, the latest revision if absent.
+	 * @return the {@link RevisionDiff} between both revisions.
+	 * @throws NotFoundException if the range does not contain any revision of the
+	 * employee
+	 */
+	@Operation(summary = "Find the changes between two revisions of an employee",
+			description = "Returns the field-level changes of the specified employee ID between two revisions")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully computed the changes",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+							schema = @Schema(implementation = RevisionDiff.class))),
+			@ApiResponse(responseCode = "400", description = "Revision range ends before it starts"),
+			@ApiResponse(responseCode = "404", description = "No revision found in the range") })
+	@GetMapping(value = "/{employeeId}/revisions/diff", produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	public RevisionDiff diffRevisions(
+			@Parameter(description = "Unique identifier of the employee",
+					required = true) @PathVariable UUID employeeId,
+			@Parameter(description = "Revision number the changes start from", required = true,
+					example = "4711") @RequestParam long from,
+			@Parameter(description = "Revision number the changes end with, the latest revision if absent",
+					example = "4713") @RequestParam(required = false) Long to) {
+		log.info("diffRevisions( employeeId= [{}], from= [{}], to= [{}] )", employeeId, from, to);
+		RevisionDiff.Accumulator<EmployeeResponse> accumulator = RevisionDiff.accumulator(from);
+		this.employeeService.forEachRevision(employeeId, from, to,
+				(Revision<Long, Employee> revision) -> accumulator.accept(createEmployeeResponseRevision(revision)));
+		return accumulator.toDiff();
+	}
+
 	/**
 	 * Find the latest {@link Revision} for an employee identified by its departmentId.
 	 * @param employeeId the departmentId of the employee to retrieve the latest
@@ -240,7 +758,7 @@ public class EmployeeController {
 	@GetMapping(value = "/{employeeId}/revisions/latest", produces = MediaType.APPLICATION_JSON_VALUE)
 	@JsonView(DataView.GET.class)
 	public Revision<Long, EmployeeResponse> findLastChangeRevision(
-			@Parameter(description = "ID of the department") @PathVariable String employeeId) {
+			@Parameter(description = "ID of the department") @PathVariable UUID employeeId) {
 		log.info("findLastChangeRevision( employeeId= [{}])", employeeId);
 		Revision<Long, Employee> lastChangeRevision = this.employeeService.findLastChangeRevision(employeeId);
 		return createEmployeeResponseRevision(lastChangeRevision);
@@ -253,7 +771,12 @@ public class EmployeeController {
 	 * provided fields in the request will be updated. If the employee is not found, a 404
 	 * error is generated.
 	 * </p>
+	 * <p>
+	 * If an {@code If-Match} header is sent, the employee is updated without being read
+	 * first, as long as it still has the given version.
+	 * </p>
 	 * @param employeeId the unique identifier of the employee to be updated.
+	 * @param ifMatch the optional entity tag of the version the client has last seen
 	 * @param employeeRequest the request object containing the fields to be updated.
 	 */
 	@Operation(summary = "Partially update an employee", description = "Updates a subset of an employee's data")
@@ -262,17 +785,26 @@ public class EmployeeController {
 					description = "Employee data partially updated successfully, no content in the response"),
 			@ApiResponse(responseCode = "400",
 					description = "Bad request, possibly due to invalid data or missing fields in the request"),
-			@ApiResponse(responseCode = "404", description = "Employee not found with the provided ID") })
+			@ApiResponse(responseCode = "404", description = "Employee not found with the provided ID"),
+			@ApiResponse(responseCode = "412", description = "Employee has been changed since the given version") })
 	@PatchMapping(value = "/{employeeId}", consumes = MediaType.APPLICATION_JSON_VALUE)
 	@ResponseStatus(HttpStatus.NO_CONTENT)
 	public void doPartialUpdate(
 			@Parameter(description = "Unique identifier of the employee",
-					required = true) @PathVariable("employeeId") String employeeId,
+					required = true) @PathVariable("employeeId") UUID employeeId,
+			@Parameter(description = "Version the client has last seen") @RequestHeader(value = HttpHeaders.IF_MATCH,
+					required = false) String ifMatch,
 			@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Partial employee data for update",
 					required = true, content = @Content(schema = @Schema(
 							implementation = EmployeeRequest.class))) @RequestBody EmployeeRequest employeeRequest) {
 		log.info("doPartialUpdate( departmentId= [{}], request= [{}])", employeeId, employeeRequest);
-		this.employeeService.doPartialUpdate(employeeId, employeeRequest);
+		Optional<Long> expectedVersion = this.entityTagCodec.decodeIfMatch(ifMatch);
+		if (expectedVersion.isPresent()) {
+			this.employeeService.doPartialUpdate(employeeId, employeeRequest, expectedVersion.get());
+		}
+		else {
+			this.employeeService.doPartialUpdate(employeeId, employeeRequest);
+		}
 	}
 
 	/**
@@ -282,7 +814,12 @@ public class EmployeeController {
 	 * will be updated to the values provided in the request. If the employee is not
 	 * found, a 404 error is generated.
 	 * </p>
+	 * <p>
+	 * If an {@code If-Match} header is sent, the employee is updated without being read
+	 * first, as long as it still has the given version.
+	 * </p>
 	 * @param employeeId the unique identifier of the employee to be updated.
+	 * @param ifMatch the optional entity tag of the version the client has last seen
 	 * @param employeeRequest the request object containing the new details of the
 	 * employee.
 	 */
@@ -292,17 +829,26 @@ public class EmployeeController {
 					description = "Employee data fully updated successfully, no content in the response"),
 			@ApiResponse(responseCode = "400",
 					description = "Bad request, possibly due to invalid data or missing fields in the request"),
-			@ApiResponse(responseCode = "404", description = "Employee not found with the provided ID") })
+			@ApiResponse(responseCode = "404", description = "Employee not found with the provided ID"),
+			@ApiResponse(responseCode = "412", description = "Employee has been changed since the given version") })
 	@PutMapping(value = "/{employeeId}", consumes = MediaType.APPLICATION_JSON_VALUE)
 	@ResponseStatus(HttpStatus.NO_CONTENT)
 	public void doFullUpdate(
 			@Parameter(description = "Unique identifier of the employee",
-					required = true) @PathVariable("employeeId") String employeeId,
+					required = true) @PathVariable("employeeId") UUID employeeId,
+			@Parameter(description = "Version the client has last seen") @RequestHeader(value = HttpHeaders.IF_MATCH,
+					required = false) String ifMatch,
 			@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Full employee data for update",
 					required = true, content = @Content(schema = @Schema(
 							implementation = EmployeeRequest.class))) @RequestBody EmployeeRequest employeeRequest) {
 		log.info("doFullUpdate( departmentId= [{}], request= [{}])", employeeId, employeeRequest);
-		this.employeeService.doFullUpdate(employeeId, employeeRequest);
+		Optional<Long> expectedVersion = this.entityTagCodec.decodeIfMatch(ifMatch);
+		if (expectedVersion.isPresent()) {
+			this.employeeService.doFullUpdate(employeeId, employeeRequest, expectedVersion.get());
+		}
+		else {
+			this.employeeService.doFullUpdate(employeeId, employeeRequest);
+		}
 	}
 
 	/**
@@ -321,7 +867,7 @@ public class EmployeeController {
 	@DeleteMapping("/{employeeId}")
 	@ResponseStatus(HttpStatus.NO_CONTENT)
 	public void deleteEmployee(@Parameter(description = "Unique identifier of the employee",
-			required = true) @PathVariable("employeeId") String employeeId) {
+			required = true) @PathVariable("employeeId") UUID employeeId) {
 		log.info("deleteEmployee( departmentId= [{}] )", employeeId);
 		this.employeeService.deleteById(employeeId);
 	}
@@ -0,0 +1,44 @@
+package de.stminko.employeeservice.employee.boundary.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonView;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * the outcome of a single request of a batch creation as returned to the client.
+ *
+ * @param index the position of the request within the batch
+ * @param status whether the employee was created or the request rejected
+ * @param employee the created employee, missing if the request was rejected
+ * @param errors the reasons the request was rejected, empty if the employee was created
+ * @author Stéphan Minko
+ */
+@JsonView(DataView.GET.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeBatchItemResponse(
+		@Schema(description = "Position of the request within the batch", example = "0") int index,
+		@Schema(description = "Whether the employee was created or the request rejected") Status status,
+		EmployeeResponse employee,
+		@Schema(description = "Reasons the request was rejected, empty if the employee was created") List<String> errors) {
+
+	/**
+	 * outcome of a request of a batch.
+	 */
+	public enum Status {
+
+		/**
+		 * The employee was created.
+		 */
+		CREATED,
+
+		/**
+		 * The request was invalid and nothing was created for it.
+		 */
+		REJECTED
+
+	}
+
+}
@@ -0,0 +1,22 @@
+package de.stminko.employeeservice.employee.boundary.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * the outcome of a batch creation of employees as returned to the client.
+ *
+ * @param created the number of created employees
+ * @param rejected the number of rejected requests
+ * @param items the outcome of every request in the order of the requests
+ * @author Stéphan Minko
+ */
+@JsonView(DataView.GET.class)
+public record EmployeeBatchResponse(@Schema(description = "Number of created employees", example = "998") int created,
+		@Schema(description = "Number of rejected requests", example = "2") int rejected,
+		List<EmployeeBatchItemResponse> items) {
+
+}
@@ -33,12 +33,15 @@ import org.springframework.format.annotation.DateTimeFormat;
  * @param birthday The birthday of the employee, formatted according to
  * UsableDateFormat.Constants.DEFAULT_DATE_FORMAT.
  * @param departmentName The name of the department the employee belongs to.
+ * @param version The version of the employee, to be sent back as {@code If-Match} header
+ * on conditional updates.
  * @author Stéphan Minko
  */
 @Builder
 @JsonView(DataView.GET.class)
 public record EmployeeResponse(
-		@NonNull @Schema(description = "The unique identifier of the employee", example = "12345") String employeeId,
+		@NonNull @Schema(description = "The unique identifier of the employee",
+				example = "018f3a5c-6e2b-7c41-9a8e-2b7d4f1c9e03") String employeeId,
 		@Schema(description = "Employee's email address", example = "employee@example.com") String emailAddress,
 		@Schema(description = "Employee's first name", example = "John") String firstName,
 
@@ -48,19 +51,23 @@ public record EmployeeResponse(
 						pattern = UsableDateFormat.Constants.DEFAULT_DATE_FORMAT) @Schema(
 								description = "Employee's birthday", example = "1990-01-01") ZonedDateTime birthday,
 		@JsonView(DataView.GET.class) @Schema(description = "Name of the employee's department",
-				example = "Human Resources") String departmentName) {
+				example = "Human Resources") String departmentName,
+		@Schema(description = "Version of the employee, usable as If-Match header on updates",
+				example = "3") Long version) {
 
 	@JsonCreator
 	public EmployeeResponse(@JsonProperty(value = "employeeId", required = true) String employeeId,
 			@JsonProperty("emailAddress") String emailAddress, @JsonProperty("firstName") String firstName,
 			@JsonProperty("lastName") String lastName, @JsonProperty("birthday") ZonedDateTime birthday,
-			@JsonProperty(value = "departmentName", required = true) String departmentName) {
+			@JsonProperty(value = "departmentName", required = true) String departmentName,
+			@JsonProperty("version") Long version) {
 		this.employeeId = employeeId;
 		this.emailAddress = emailAddress;
 		this.firstName = firstName;
 		this.lastName = lastName;
 		this.birthday = birthday;
 		this.departmentName = departmentName;
+		this.version = version;
 	}
 
 }
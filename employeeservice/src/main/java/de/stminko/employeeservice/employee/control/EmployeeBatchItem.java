@@ -0,0 +1,25 @@
+package de.stminko.employeeservice.employee.control;
+
+import java.util.List;
+
+import de.stminko.employeeservice.employee.entity.Employee;
+
+/**
+ * the outcome of a single request of a batch creation.
+ *
+ * @param index the position of the request within the batch
+ * @param employee the created employee or {@code null} if the request was rejected
+ * @param errors the reasons the request was rejected, empty if it was created
+ * @author Stéphan Minko
+ */
+public record EmployeeBatchItem(int index, Employee employee, List<String> errors) {
+
+	/**
+	 * Tells whether the employee of the request was created.
+	 * @return true if the employee was created, false if the request was rejected
+	 */
+	public boolean isCreated() {
+		return this.employee != null;
+	}
+
+}
@@ -1,11 +1,14 @@
 package de.stminko.employeeservice.employee.control;
 
+import java.util.List;
+
 import de.stminko.employeeservice.employee.boundary.dto.EmployeeMessage;
 import de.stminko.employeeservice.employee.entity.Employee;
 import de.stminko.employeeservice.runtime.amqp.boundary.AmqpConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
@@ -45,6 +48,26 @@ public class EmployeeEventPublisher {
 				createdEmployeeMessage);
 	}
 
+	/**
+	 * Publishes an event for every employee created by a batch. All events are sent on
+	 * one channel instead of a channel per event. The events are the same as those of
+	 * {@link #employeeCreated(Employee)}.
+	 * @param createdEmployees the employees that were created
+	 */
+	public void employeesCreated(List<Employee> createdEmployees) {
+		log.info("employeesCreated( createdEmployees= [{}] )", createdEmployees.size());
+		this.template.invoke((RabbitOperations operations) -> {
+			createdEmployees.forEach((Employee createdEmployee) -> {
+				EmployeeMessage createdEmployeeMessage = new EmployeeMessage();
+				createdEmployeeMessage.setEventType(EmployeeMessage.EventType.EMPLOYEE_CREATED);
+				createdEmployeeMessage.setEmployee(createdEmployee);
+				operations.convertAndSend(this.amqpConfig.getExchangeName(), this.amqpConfig.getRoutingKey(),
+						createdEmployeeMessage);
+			});
+			return createdEmployees.size();
+		});
+	}
+
 	/**
 	 * Publishes an event indicating that an employee has been deleted.
 	 * @param deletedEmployee the employee that was deleted
@@ -0,0 +1,388 @@
+package de.stminko.employeeservice.employee.control;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import de.stminko.employeeservice.runtime.persistence.boundary.ReadYourWritesContext;
+import de.stminko.employeeservice.runtime.persistence.boundary.StreamingExportProperties;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * streams all employees to an {@link OutputStream} without paging.
+ *
+ * <p>
+ * The employees are read through a forward-only JDBC cursor fetching
+ * {@link StreamingExportProperties#getFetchSize()} rows per round trip within a read-only
+ * transaction, and each row is written as soon as it has been read. No entity is loaded
+ * into a persistence context, so the heap used stays the same however large the directory
+ * is. The rows come in no particular order.
+ * </p>
+ *
+ * <p>
+ * A parallel export splits the employees into ranges of ids holding about the same number
+ * of rows and reads every range with a reader of its own, up to
+ * {@link StreamingExportProperties#getMaxParallelism()}. The ranges are cut at the bounds
+ * of the histogram the planner statistics keep of the id column, so no rows are counted
+ * up front; without statistics, e.g. before the table has been analyzed, the export falls
+ * back to a single reader. The readers hand their rows over in chunks through a bounded
+ * queue, so a slow client throttles them instead of letting the chunks pile up. Every
+ * reader runs in a transaction of its own, so unlike a sequential export a parallel one
+ * is not a consistent snapshot.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see ExportFormat
+ */
+@Slf4j
+@Service
+public class EmployeeExportService implements DisposableBean {
+
+	static final int CHUNK_SIZE = 64 * 1024;
+
+	private static final String SELECT_EMPLOYEES = """
+			SELECT e.id, e.email_address, e.first_name, e.last_name,
+				to_char(e.birthday AT TIME ZONE 'UTC', 'YYYY-MM-DD') AS birthday, d.department_name
+			FROM data.employee e
+			JOIN data.department d ON d.id = e.department_id
+			WHERE TRUE%s
+			""";
+
+	private static final String SELECT_ID_BOUNDS = """
+			SELECT b.bound
+			FROM pg_stats s, unnest(CAST(CAST(s.histogram_bounds AS TEXT) AS UUID[])) WITH ORDINALITY AS b(bound, position)
+			WHERE s.schemaname = 'data' AND s.tablename = 'employee' AND s.attname = 'id'
+			ORDER BY b.position
+			""";
+
+	private static final byte[] END_OF_ROWS = new byte[0];
+
+	private static final byte[] NO_TERMINATOR = new byte[0];
+
+	private static final byte[] NEWLINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+	private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+	private static final CsvSchema CSV_SCHEMA = CSV_MAPPER.schemaFor(ExportedEmployee.class);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	private final StreamingExportProperties properties;
+
+	private final ExecutorService readers;
+
+	public EmployeeExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			ObjectMapper objectMapper, StreamingExportProperties properties) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		AtomicInteger readerNumber = new AtomicInteger();
+		this.readers = Executors.newCachedThreadPool((Runnable runnable) -> {
+			Thread thread = new Thread(runnable, "employee-export-" + readerNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Writes all employees to the given stream.
+	 * @param format the format to write the employees in
+	 * @param parallelism the number of readers to use, {@code 1} for a sequential export
+	 * @param output the stream to write to, it is neither flushed nor closed
+	 * @throws IOException if the stream cannot be written
+	 */
+	public void export(@NonNull ExportFormat format, int parallelism, @NonNull OutputStream output) throws IOException {
+		log.info("export( format= [{}], parallelism= [{}] )", format, parallelism);
+		RowWriter rowWriter = rowWriter(format);
+		if (format == ExportFormat.CSV) {
+			output.write(csvHeader());
+		}
+		List<UUID> idBounds = (parallelism > 1) ? findIdBounds() : List.of();
+		int readerCount = Math.min(Math.min(parallelism, this.properties.getMaxParallelism()), idBounds.size() - 1);
+		try {
+			if (readerCount > 1) {
+				exportInParallel(rangesOfReaders(idBounds, readerCount), rowWriter, output);
+			}
+			else {
+				read(IdRange.ALL, rowWriter, output);
+			}
+		}
+		catch (UncheckedIOException exception) {
+			throw exception.getCause();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		this.readers.shutdownNow();
+	}
+
+	private void exportInParallel(List<IdRange> ranges, RowWriter rowWriter, OutputStream output) throws IOException {
+		int readerCount = ranges.size();
+		BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(2 * readerCount);
+		List<Future<?>> futures = new ArrayList<>(readerCount);
+		OptionalLong requiredReplay = ReadYourWritesContext.getRequiredReplay();
+		for (IdRange range : ranges) {
+			futures.add(this.readers.submit(() -> {
+				requiredReplay.ifPresent(ReadYourWritesContext::requireReplayOf);
+				try (ChunkingOutputStream chunkOutput = new ChunkingOutputStream(chunks)) {
+					read(range, rowWriter, chunkOutput);
+				}
+				finally {
+					ReadYourWritesContext.clear();
+					chunks.put(END_OF_ROWS);
+				}
+				return null;
+			}));
+		}
+		try {
+			int finishedReaders = 0;
+			while (finishedReaders < readerCount) {
+				byte[] chunk = chunks.take();
+				if (chunk == END_OF_ROWS) {
+					finishedReaders++;
+					rethrowFailure(futures, false);
+				}
+				else {
+					output.write(chunk);
+				}
+			}
+			rethrowFailure(futures, true);
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("The export has been interrupted");
+		}
+		finally {
+			futures.forEach((Future<?> future) -> future.cancel(true));
+		}
+	}
+
+	private void read(IdRange range, RowWriter rowWriter, OutputStream output) {
+		this.transactionTemplate
+			.executeWithoutResult((TransactionStatus status) -> this.jdbcTemplate.query((Connection connection) -> {
+				PreparedStatement statement = connection.prepareStatement(SELECT_EMPLOYEES.formatted(range.predicate()),
+						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+				statement.setFetchSize(this.properties.getFetchSize());
+				range.bind(statement);
+				return statement;
+			}, (ResultSet resultSet) -> {
+				ExportedEmployee employee = new ExportedEmployee(resultSet.getString("id"),
+						resultSet.getString("email_address"), resultSet.getString("first_name"),
+						resultSet.getString("last_name"), resultSet.getString("birthday"),
+						resultSet.getString("department_name"));
+				try {
+					rowWriter.write(employee, output);
+				}
+				catch (IOException exception) {
+					throw new UncheckedIOException(exception);
+				}
+			}));
+	}
+
+	private List<UUID> findIdBounds() {
+		return this.jdbcTemplate.queryForList(SELECT_ID_BOUNDS, UUID.class);
+	}
+
+	private RowWriter rowWriter(ExportFormat format) {
+		return (format == ExportFormat.CSV) ? new RowWriter(CSV_MAPPER.writer(CSV_SCHEMA), NO_TERMINATOR)
+				: new RowWriter(this.objectMapper.writerFor(ExportedEmployee.class), NEWLINE);
+	}
+
+	/**
+	 * Cuts the ids into one range per reader at evenly spaced bounds of the histogram,
+	 * the first and the last range are left open to cover the ids outside of it.
+	 * @param idBounds the ascending bounds of the histogram of the id column
+	 * @param readerCount the number of readers, less than the number of bounds
+	 * @return the ascending, gapless ranges of ids
+	 */
+	static List<IdRange> rangesOfReaders(List<UUID> idBounds, int readerCount) {
+		List<UUID> cuts = IntStream.range(1, readerCount)
+			.mapToObj((int reader) -> idBounds.get((reader * (idBounds.size() - 1)) / readerCount))
+			.toList();
+		return IntStream.range(0, readerCount)
+			.mapToObj((int reader) -> new IdRange((reader > 0) ? cuts.get(reader - 1) : null,
+					(reader < (readerCount - 1)) ? cuts.get(reader) : null))
+			.toList();
+	}
+
+	/**
+	 * Renders the first line of a CSV export.
+	 * @return the names of the columns terminated by a newline
+	 */
+	static byte[] csvHeader() {
+		return StreamSupport.stream(CSV_SCHEMA.spliterator(), false)
+			.map(CsvSchema.Column::getName)
+			.collect(Collectors.joining(",", "", "\n"))
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void rethrowFailure(List<Future<?>> futures, boolean await) throws IOException {
+		for (Future<?> future : futures) {
+			if (!await && !future.isDone()) {
+				continue;
+			}
+			try {
+				future.get();
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("The export has been interrupted");
+			}
+			catch (ExecutionException exception) {
+				if (exception.getCause() instanceof IOException ioException) {
+					throw ioException;
+				}
+				if (exception.getCause() instanceof UncheckedIOException uncheckedIOException) {
+					throw uncheckedIOException.getCause();
+				}
+				throw new IllegalStateException("A reader of the export failed", exception.getCause());
+			}
+		}
+	}
+
+	/**
+	 * an exported employee, the columns are named like the fields of an import.
+	 *
+	 * @param employeeId the ID of the employee
+	 * @param emailAddress the email address
+	 * @param firstName the first name
+	 * @param lastName the last name
+	 * @param birthday the birthday formatted as {@code yyyy-MM-dd}
+	 * @param departmentName the name of the department
+	 */
+	@JsonPropertyOrder({ "employeeId", "emailAddress", "firstName", "lastName", "birthday", "departmentName" })
+	record ExportedEmployee(String employeeId, String emailAddress, String firstName, String lastName, String birthday,
+			String departmentName) {
+
+	}
+
+	/**
+	 * the ids a reader exports.
+	 *
+	 * @param from the lowest id, inclusive, or {@code null} if the range is open
+	 * downwards
+	 * @param to the highest id, exclusive, or {@code null} if the range is open upwards
+	 */
+	record IdRange(UUID from, UUID to) {
+
+		static final IdRange ALL = new IdRange(null, null);
+
+		String predicate() {
+			return ((this.from != null) ? " AND e.id >= ?" : "") + ((this.to != null) ? " AND e.id < ?" : "");
+		}
+
+		void bind(PreparedStatement statement) throws SQLException {
+			int index = 1;
+			if (this.from != null) {
+				statement.setObject(index++, this.from);
+			}
+			if (this.to != null) {
+				statement.setObject(index, this.to);
+			}
+		}
+
+	}
+
+	private record RowWriter(ObjectWriter writer, byte[] terminator) {
+
+		void write(ExportedEmployee employee, OutputStream output) throws IOException {
+			output.write(this.writer.writeValueAsBytes(employee));
+			output.write(this.terminator);
+		}
+
+	}
+
+	/**
+	 * collects the rows of a reader into chunks of about {@link #CHUNK_SIZE} bytes and
+	 * hands them over to the writing thread.
+	 */
+	private static final class ChunkingOutputStream extends OutputStream {
+
+		private final BlockingQueue<byte[]> chunks;
+
+		private final ByteArrayOutputStream chunk = new ByteArrayOutputStream(CHUNK_SIZE);
+
+		ChunkingOutputStream(BlockingQueue<byte[]> chunks) {
+			this.chunks = chunks;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.chunk.write(b);
+			handOverIfFull();
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			this.chunk.write(bytes, offset, length);
+			handOverIfFull();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.chunk.size() > 0) {
+				handOver();
+			}
+		}
+
+		private void handOverIfFull() throws IOException {
+			if (this.chunk.size() >= CHUNK_SIZE) {
+				handOver();
+			}
+		}
+
+		private void handOver() throws IOException {
+			try {
+				this.chunks.put(this.chunk.toByteArray());
+				this.chunk.reset();
+			}
+			catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("The export has been cancelled");
+			}
+		}
+
+	}
+
+}
@@ -1,23 +1,157 @@
 package de.stminko.employeeservice.employee.control;
 
-import java.util.List;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeResponse;
 import de.stminko.employeeservice.employee.entity.Employee;
 import lombok.NonNull;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.history.RevisionRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface EmployeeRepository
-		extends JpaRepository<Employee, String>, RevisionRepository<Employee, String, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, UUID>, JpaSpecificationExecutor<Employee>,
+		RevisionRepository<Employee, UUID, Long> {
 
-	List<Employee> findByEmailAddress(@NonNull String emailAddress);
+	/**
+	 * Constructor expression projecting an employee joined with its department into an
+	 * {@code EmployeeResponse} without hydrating any entity.
+	 */
+	String RESPONSE_PROJECTION = "SELECT new de.stminko.employeeservice.employee.boundary.dto.EmployeeResponse("
+			+ "CAST(e.id AS String), e.emailAddress, e.fullName.firstName, e.fullName.lastName, e.birthday, d.departmentName, e.version) "
+			+ "FROM Employee e JOIN e.department d";
 
+	/**
+	 * Updates an employee only if it still has the expected version and writes the
+	 * matching Envers revision, all within a single statement. Null values keep the
+	 * current column value. The revision number is taken from the column default, i.e.
+	 * the same sequence Hibernate draws revision numbers from. As required by the
+	 * validity audit strategy, the previously open history row is closed at the new
+	 * revision. The modified flags of the new row compare against the row as it was
+	 * before the update. If the given values equal the current ones, the row is returned
+	 * unchanged with its version and neither a revision nor a history row is written.
+	 */
+	String VERSIONED_UPDATE = """
+			WITH previous AS (
+				SELECT * FROM data.employee WHERE id = :id FOR UPDATE),
+			target AS (
+				SELECT id,
+					COALESCE(CAST(:emailAddress AS VARCHAR), email_address) AS email_address,
+					COALESCE(CAST(:firstName AS VARCHAR), first_name) AS first_name,
+					COALESCE(CAST(:lastName AS VARCHAR), last_name) AS last_name,
+					COALESCE(CAST(:birthday AS TIMESTAMP WITH TIME ZONE), birthday) AS birthday,
+					COALESCE(CAST(:departmentId AS BIGINT), department_id) AS department_id
+				FROM previous),
+			updated AS (
+				UPDATE data.employee e
+				SET email_address    = t.email_address,
+					first_name       = t.first_name,
+					last_name        = t.last_name,
+					birthday         = t.birthday,
+					department_id    = t.department_id,
+					last_modified_at = :lastModifiedAt,
+					last_modified_by = :lastModifiedBy,
+					version          = e.version + 1
+				FROM target t
+				WHERE e.id = t.id AND e.version = :version
+					AND (t.email_address, t.first_name, t.last_name, t.birthday, t.department_id)
+						IS DISTINCT FROM (e.email_address, e.first_name, e.last_name, e.birthday, e.department_id)
+				RETURNING e.*),
+			revision AS (
+				INSERT INTO history.audit_trail (timestamp)
+				SELECT :revisionTimestamp FROM updated
+				RETURNING id),
+			closed AS (
+				UPDATE history.employee_history h
+				SET revend       = r.id,
+					revend_tstmp = :revisionTimestamp
+				FROM revision r
+				WHERE h.id = :id AND h.revend IS NULL),
+			history AS (
+				INSERT INTO history.employee_history (id, rev, revtype, birthday, email_address, first_name,
+					last_name, department_id, last_modified_at, last_modified_by, birthday_mod, email_address_mod,
+					full_name_mod, department_mod, last_modified_at_mod, last_modified_by_mod)
+				SELECT u.id, r.id, 1, u.birthday, u.email_address, u.first_name,
+					u.last_name, u.department_id, u.last_modified_at, u.last_modified_by,
+					u.birthday IS DISTINCT FROM p.birthday,
+					u.email_address IS DISTINCT FROM p.email_address,
+					(u.first_name, u.last_name) IS DISTINCT FROM (p.first_name, p.last_name),
+					u.department_id IS DISTINCT FROM p.department_id,
+					u.last_modified_at IS DISTINCT FROM p.last_modified_at,
+					u.last_modified_by IS DISTINCT FROM p.last_modified_by
+				FROM updated u CROSS JOIN revision r CROSS JOIN previous p)
+			SELECT * FROM updated
+			UNION ALL
+			SELECT * FROM previous WHERE version = :version AND NOT EXISTS (SELECT 1 FROM updated)
+			""";
+
+	boolean existsByDepartmentId(@NonNull @Param("departmentId") Long departmentId);
+
+	@Override
+	@EntityGraph(attributePaths = "department")
+	Optional<Employee> findById(@NonNull UUID id);
+
+	@Override
+	@EntityGraph(attributePaths = "department")
+	Page<Employee> findAll(@NonNull Pageable pageable);
+
+	@EntityGraph(attributePaths = "department")
 	Page<Employee> findAllByDepartmentId(@NonNull @Param("departmentId") Long departmentId, @NonNull Pageable pageable);
 
+	@EntityGraph(attributePaths = "department")
+	Slice<Employee> findSliceBy(@NonNull Pageable pageable);
+
+	@EntityGraph(attributePaths = "department")
+	Slice<Employee> findSliceByDepartmentId(@NonNull @Param("departmentId") Long departmentId,
+			@NonNull Pageable pageable);
+
+	@Transactional
+	@Query(value = VERSIONED_UPDATE, nativeQuery = true)
+	Optional<Employee> updateIfVersionMatches(@NonNull @Param("id") UUID id, @NonNull @Param("version") Long version,
+			@Param("emailAddress") String emailAddress, @Param("firstName") String firstName,
+			@Param("lastName") String lastName, @Param("birthday") ZonedDateTime birthday,
+			@Param("departmentId") Long departmentId, @NonNull @Param("lastModifiedAt") ZonedDateTime lastModifiedAt,
+			@NonNull @Param("lastModifiedBy") String lastModifiedBy,
+			@NonNull @Param("revisionTimestamp") Long revisionTimestamp);
+
+	/**
+	 * Looks the given lower-cased email addresses up by the index enforcing their
+	 * case-insensitive uniqueness.
+	 * @param emailAddresses the lower-cased email addresses
+	 * @return the lower-cased email addresses already taken
+	 */
+	@Query(value = "SELECT LOWER(email_address) FROM data.employee WHERE LOWER(email_address) IN (:emailAddresses)",
+			nativeQuery = true)
+	Set<String> findTakenEmailAddresses(@NonNull @Param("emailAddresses") Collection<String> emailAddresses);
+
+	@Query(RESPONSE_PROJECTION + " WHERE e.id = :id")
+	Optional<EmployeeResponse> findResponseById(@NonNull @Param("id") UUID id);
+
+	@Query(RESPONSE_PROJECTION + " WHERE LOWER(e.emailAddress) = LOWER(:emailAddress)")
+	Optional<EmployeeResponse> findResponseByEmailAddress(@NonNull @Param("emailAddress") String emailAddress);
+
+	@Query(value = RESPONSE_PROJECTION, countQuery = "SELECT COUNT(e) FROM Employee e")
+	Page<EmployeeResponse> findAllResponses(@NonNull Pageable pageable);
+
+	@Query(RESPONSE_PROJECTION)
+	Slice<EmployeeResponse> findResponseSlice(@NonNull Pageable pageable);
+
+	@Query(value = RESPONSE_PROJECTION + " WHERE d.id = :departmentId",
+			countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId")
+	Page<EmployeeResponse> findAllResponsesByDepartmentId(@NonNull @Param("departmentId") Long departmentId,
+			@NonNull Pageable pageable);
+
 }
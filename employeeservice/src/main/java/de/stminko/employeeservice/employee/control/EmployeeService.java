@@ -1,17 +1,31 @@
 package de.stminko.employeeservice.employee.control;
 
 import java.time.ZonedDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import de.stminko.employeeservice.department.control.DepartmentService;
 import de.stminko.employeeservice.department.entity.Department;
 import de.stminko.employeeservice.employee.boundary.dto.EmployeeRequest;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeResponse;
 import de.stminko.employeeservice.employee.entity.Employee;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.BadRequestException;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.NotFoundException;
+import de.stminko.employeeservice.runtime.errorhandling.boundary.PreconditionFailedException;
+import de.stminko.employeeservice.runtime.persistence.boundary.BatchInsertProperties;
+import de.stminko.employeeservice.runtime.persistence.boundary.PageTotalEstimator;
+import de.stminko.employeeservice.runtime.persistence.boundary.RevisionFinder;
+import de.stminko.employeeservice.runtime.persistence.boundary.RevisionScroll;
+import de.stminko.employeeservice.runtime.persistence.boundary.SecondLevelCacheInvalidator;
 import de.stminko.employeeservice.runtime.rest.bondary.DataView;
 import de.stminko.employeeservice.runtime.validation.constraints.boundary.MessageSourceHelper;
 import jakarta.validation.ConstraintViolation;
@@ -21,11 +35,20 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Hibernate;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.history.Revision;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,6 +76,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class EmployeeService {
 
+	/**
+	 * Properties of an employee the revisions can be filtered by.
+	 */
+	public static final Set<String> CHANGE_TRACKED_PROPERTIES = Set.of("emailAddress", "fullName", "birthday",
+			"department");
+
+	private static final String TABLE_NAME = "data.employee";
+
+	private static final String DEPARTMENT_PROPERTY = "department";
+
 	private final EmployeeRepository repository;
 
 	private final DepartmentService departmentService;
@@ -63,21 +96,44 @@ public class EmployeeService {
 
 	private final MessageSourceHelper messageSourceHelper;
 
+	private final PageTotalEstimator pageTotalEstimator;
+
+	private final AuditorAware<String> auditorProvider;
+
+	private final DateTimeProvider dateTimeProvider;
+
+	private final RevisionFinder revisionFinder;
+
+	private final ObjectProvider<SecondLevelCacheInvalidator> cacheInvalidator;
+
+	private final BatchInsertProperties batchInsertProperties;
+
 	public EmployeeService(EmployeeRepository repository, @Lazy DepartmentService departmentService,
-			EmployeeEventPublisher messagePublisher, Validator validator, MessageSourceHelper messageSourceHelper) {
+			EmployeeEventPublisher messagePublisher, Validator validator, MessageSourceHelper messageSourceHelper,
+			PageTotalEstimator pageTotalEstimator, AuditorAware<String> auditorProvider,
+			DateTimeProvider dateTimeProvider, RevisionFinder revisionFinder,
+			ObjectProvider<SecondLevelCacheInvalidator> cacheInvalidator, BatchInsertProperties batchInsertProperties) {
 		this.repository = repository;
 		this.departmentService = departmentService;
 		this.messagePublisher = messagePublisher;
 		this.validator = validator;
 		this.messageSourceHelper = messageSourceHelper;
+		this.pageTotalEstimator = pageTotalEstimator;
+		this.auditorProvider = auditorProvider;
+		this.dateTimeProvider = dateTimeProvider;
+		this.revisionFinder = revisionFinder;
+		this.cacheInvalidator = cacheInvalidator;
+		this.batchInsertProperties = batchInsertProperties;
 	}
 
 	/**
 	 * Creates a new employee from the given request.
 	 * <p>
-	 * Validates the provided {@link EmployeeRequest}, checks for the uniqueness of the
-	 * email address, and persists the new employee record. After successful creation, an
-	 * event is published via {@link EmployeeEventPublisher}.
+	 * Validates the provided {@link EmployeeRequest} and persists the new employee
+	 * record. The uniqueness of the email address is left to the unique index of the
+	 * employee table, the insert is flushed right away so that a violation surfaces here
+	 * and not at commit. After successful creation, an event is published via
+	 * {@link EmployeeEventPublisher}.
 	 * </p>
 	 * @param createRequest the request object containing details for the new employee
 	 * @return the newly created {@link Employee}
@@ -86,31 +142,98 @@ public class EmployeeService {
 		log.info("create( createRequest= [{}] )", createRequest);
 		validateRequest(createRequest, DataView.POST.class);
 
-		String emailAddress = createRequest.emailAddress();
-		validateUniquenessOfEmail(emailAddress);
-
 		String departmentName = createRequest.departmentName();
 		Department department = this.departmentService.findByDepartmentNameOrElseThrow(departmentName,
 				BadRequestException.class);
-		Employee newEmployee = new Employee();
-		newEmployee.setEmailAddress(emailAddress);
+		Employee savedEmployee = this.repository.saveAndFlush(newEmployee(createRequest, department));
+		this.messagePublisher.employeeCreated(savedEmployee);
+		return savedEmployee;
 
-		String firstName = createRequest.firstName();
-		String lastName = createRequest.lastName();
-		if (!StringUtils.isBlank(firstName) || StringUtils.isBlank(lastName)) {
-			Employee.FullName fullName = new Employee.FullName();
-			fullName.setFirstName(StringUtils.trim(firstName));
+	}
 
-			fullName.setLastName(StringUtils.trim(lastName));
-			newEmployee.setFullName(fullName);
+	/**
+	 * Creates the employees of a batch of requests.
+	 * <p>
+	 * Every request is validated on its own, a request that is missing, invalid, refers
+	 * to an unknown department or an email address that is already taken, by an existing
+	 * employee or an earlier request of the batch, is rejected while the others are
+	 * created. The departments and the taken email addresses are each looked up by a
+	 * single query for the whole batch. All employees are inserted by batched statements
+	 * in this transaction, thus within one audit revision, and their events are published
+	 * together. Should an email address be taken concurrently in the meantime, the unique
+	 * constraint fails the whole batch.
+	 * </p>
+	 * @param createRequests the requests, at most
+	 * {@link BatchInsertProperties#getMaxItems()}
+	 * @return the outcome of every request in the order of the requests
+	 * @throws BadRequestException if the batch is empty or too large
+	 */
+	public List<EmployeeBatchItem> createAll(@NonNull List<EmployeeRequest> createRequests) {
+		log.info("createAll( createRequests= [{}] )", createRequests.size());
+		int maxItems = this.batchInsertProperties.getMaxItems();
+		if (createRequests.isEmpty() || (createRequests.size() > maxItems)) {
+			throw new BadRequestException(this.messageSourceHelper.getMessage("errors.employee.batch.size.invalid",
+					String.valueOf(createRequests.size()), String.valueOf(maxItems)));
 		}
 
-		newEmployee.setBirthday(createRequest.birthday());
-		newEmployee.setDepartment(department);
-		Employee savedEmployee = this.repository.save(newEmployee);
-		this.messagePublisher.employeeCreated(savedEmployee);
-		return savedEmployee;
+		List<ArrayList<String>> errors = createRequests.stream().map(this::validateBatchItem).toList();
+		List<EmployeeRequest> validRequests = IntStream.range(0, createRequests.size())
+			.filter((int index) -> errors.get(index).isEmpty())
+			.mapToObj(createRequests::get)
+			.toList();
+		Map<String, Department> departments = this.departmentService
+			.findAllByDepartmentNames(validRequests.stream().map(EmployeeRequest::departmentName).distinct().toList());
+		List<String> emailAddresses = validRequests.stream()
+			.map(EmployeeRequest::emailAddress)
+			.filter(Objects::nonNull)
+			.map(EmployeeService::normalizeEmailAddress)
+			.distinct()
+			.toList();
+		Set<String> takenEmailAddresses = new HashSet<>(
+				emailAddresses.isEmpty() ? Set.of() : this.repository.findTakenEmailAddresses(emailAddresses));
+
+		List<Employee> newEmployees = new ArrayList<>();
+		Employee[] employees = new Employee[createRequests.size()];
+		for (int index = 0; index < createRequests.size(); index++) {
+			if (!errors.get(index).isEmpty()) {
+				continue;
+			}
+			EmployeeRequest createRequest = createRequests.get(index);
+			Department department = departments.get(createRequest.departmentName());
+			String emailAddress = createRequest.emailAddress();
+			if (department == null) {
+				errors.get(index)
+					.add(this.messageSourceHelper.getMessage("errors.department.name.not-found",
+							createRequest.departmentName()));
+			}
+			else if ((emailAddress != null) && !takenEmailAddresses.add(normalizeEmailAddress(emailAddress))) {
+				errors.get(index)
+					.add(this.messageSourceHelper.getMessage("errors.employee.email.already-exists", emailAddress));
+			}
+			else {
+				employees[index] = newEmployee(createRequest, department);
+				newEmployees.add(employees[index]);
+			}
+		}
+
+		if (!newEmployees.isEmpty()) {
+			this.repository.saveAll(newEmployees);
+			this.repository.flush();
+			this.messagePublisher.employeesCreated(newEmployees);
+		}
+		return IntStream.range(0, createRequests.size())
+			.mapToObj((int index) -> new EmployeeBatchItem(index, employees[index], List.copyOf(errors.get(index))))
+			.toList();
+	}
 
+	private ArrayList<String> validateBatchItem(EmployeeRequest createRequest) {
+		if (createRequest == null) {
+			return new ArrayList<>(List.of(this.messageSourceHelper.getMessage("errors.employee.batch.item.missing")));
+		}
+		return this.validator.validate(createRequest, DataView.POST.class)
+			.stream()
+			.map(ConstraintViolation::getMessage)
+			.collect(Collectors.toCollection(ArrayList::new));
 	}
 
 	/**
@@ -122,23 +245,110 @@ public class EmployeeService {
 	 * @param employeeId the unique identifier of the employee
 	 * @return the found {@link Employee}
 	 */
-	@Transactional(propagation = Propagation.SUPPORTS)
-	public Employee findById(@NonNull String employeeId) {
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Employee findById(@NonNull UUID employeeId) {
 		log.info("findById( departmentId= [{}] )", employeeId);
 		return this.repository.findById(employeeId)
 			.orElseThrow(() -> new NotFoundException(
 					this.messageSourceHelper.getMessage("errors.employee.id.not-found", employeeId)));
 	}
 
+	/**
+	 * Finds an employee by ID and projects it directly into an {@link EmployeeResponse}.
+	 * <p>
+	 * The response is built from the result set of a single join with the department, no
+	 * entity is hydrated or attached to the persistence context.
+	 * </p>
+	 * @param employeeId the unique identifier of the employee
+	 * @return the projected employee
+	 * @throws NotFoundException if no employee is found with the given ID
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public EmployeeResponse findResponseById(@NonNull UUID employeeId) {
+		log.info("findResponseById( employeeId= [{}] )", employeeId);
+		return this.repository.findResponseById(employeeId)
+			.orElseThrow(() -> new NotFoundException(
+					this.messageSourceHelper.getMessage("errors.employee.id.not-found", employeeId)));
+	}
+
+	/**
+	 * Finds an employee by email address, ignoring its case, and projects it directly
+	 * into an {@link EmployeeResponse}.
+	 * <p>
+	 * The lookup is served by the case-insensitive unique index on the email address.
+	 * </p>
+	 * @param emailAddress the email address of the employee
+	 * @return the projected employee
+	 * @throws NotFoundException if no employee is found with the given email address
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public EmployeeResponse findResponseByEmailAddress(@NonNull String emailAddress) {
+		log.info("findResponseByEmailAddress( emailAddress= [{}] )", emailAddress);
+		return this.repository.findResponseByEmailAddress(StringUtils.trim(emailAddress))
+			.orElseThrow(() -> new NotFoundException(
+					this.messageSourceHelper.getMessage("errors.employee.email.not-found", emailAddress)));
+	}
+
+	/**
+	 * Finds all employees and projects them directly into {@link EmployeeResponse}s.
+	 * @param pageable the pageable object used for pagination
+	 * @return a page of projected employees, its total is estimated on large tables
+	 * @see #findResponseById(UUID)
+	 * @see PageTotalEstimator
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Page<EmployeeResponse> findAllResponses(@NonNull Pageable pageable) {
+		log.info("findAllResponses()");
+		return this.pageTotalEstimator.findPage(TABLE_NAME, pageable, this.repository::findAllResponses,
+				this.repository::findResponseSlice);
+	}
+
 	/**
 	 * Finds all employees.
+	 * <p>
+	 * On large tables the total is estimated from the planner statistics, see
+	 * {@link PageTotalEstimator}.
+	 * </p>
 	 * @param pageable the pageable object used for pagination
 	 * @return a page of employees
 	 */
-	@Transactional(propagation = Propagation.SUPPORTS)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Page<Employee> findAll(Pageable pageable) {
 		log.info("findAll()");
-		return this.repository.findAll(pageable);
+		return this.pageTotalEstimator.findPage(TABLE_NAME, pageable, this.repository::findAll,
+				this.repository::findSliceBy);
+	}
+
+	/**
+	 * Finds all employees using keyset pagination.
+	 * <p>
+	 * Instead of skipping {@code page * size} rows, the next window is read starting
+	 * right behind the given {@link ScrollPosition}, so every window costs the same
+	 * regardless of how deep the client has scrolled.
+	 * </p>
+	 * @param scrollPosition the position to continue after
+	 * @param pageable the pageable object providing the window size and the sort order
+	 * @return a window of employees
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Window<Employee> findAll(@NonNull ScrollPosition scrollPosition, @NonNull Pageable pageable) {
+		log.info("findAll( scrollPosition= [{}] )", scrollPosition);
+		return scroll(EmployeeSpecifications.fetchDepartment(), scrollPosition, pageable);
+	}
+
+	/**
+	 * Finds all employees without counting them.
+	 * <p>
+	 * Reads one row more than requested to tell whether a next slice exists, so no
+	 * additional {@code SELECT COUNT(*)} is issued.
+	 * </p>
+	 * @param pageable the pageable object used for pagination
+	 * @return a slice of employees
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Slice<Employee> findSlice(@NonNull Pageable pageable) {
+		log.info("findSlice()");
+		return this.repository.findSliceBy(pageable);
 	}
 
 	/**
@@ -152,11 +362,33 @@ public class EmployeeService {
 	 * @param updateRequest the request object containing new details for the employee
 	 * @return the updated {@link Employee}
 	 */
-	public Employee doFullUpdate(@NonNull String employeeId, @NonNull EmployeeRequest updateRequest) {
+	public Employee doFullUpdate(@NonNull UUID employeeId, @NonNull EmployeeRequest updateRequest) {
 		log.info("doFullUpdate ( [{}],[{}] ) ", employeeId, updateRequest);
 		return update(employeeId, updateRequest, DataView.PUT.class);
 	}
 
+	/**
+	 * Fully updates an existing employee's data if it still has the expected version.
+	 * <p>
+	 * Unlike {@link #doFullUpdate(UUID, EmployeeRequest)}, the employee is not read
+	 * beforehand. A single statement updates the row guarded by its version and writes
+	 * the revision history, an event is published afterwards.
+	 * </p>
+	 * @param employeeId the unique identifier of the employee
+	 * @param updateRequest the request object containing new details for the employee
+	 * @param expectedVersion the version the client has last seen
+	 * @return the updated {@link Employee}
+	 * @throws NotFoundException if no employee is found with the given ID
+	 * @throws PreconditionFailedException if the employee has been changed since the
+	 * expected version
+	 */
+	public Employee doFullUpdate(@NonNull UUID employeeId, @NonNull EmployeeRequest updateRequest,
+			@NonNull Long expectedVersion) {
+		log.info("doFullUpdate ( [{}],[{}],[{}] ) ", employeeId, updateRequest, expectedVersion);
+		validateRequest(updateRequest, DataView.PUT.class);
+		return updateIfVersionMatches(employeeId, updateRequest, expectedVersion);
+	}
+
 	/**
 	 * Partially updates an existing employee's data.
 	 * <p>
@@ -167,13 +399,30 @@ public class EmployeeService {
 	 * @param updateRequest the request object containing fields to update
 	 * @return the updated {@link Employee}
 	 */
-	public Employee doPartialUpdate(@NonNull String employeeId, @NonNull EmployeeRequest updateRequest) {
+	public Employee doPartialUpdate(@NonNull UUID employeeId, @NonNull EmployeeRequest updateRequest) {
 		log.info("doFullUpdate ( [{}],[{}] ) ", employeeId, updateRequest);
 		return update(employeeId, updateRequest, DataView.PATCH.class);
 	}
 
-	private Employee update(String employeeId, EmployeeRequest updateRequest,
-			Class<? extends DataView> validationGroup) {
+	/**
+	 * Partially updates an existing employee's data if it still has the expected version.
+	 * @param employeeId the unique identifier of the employee
+	 * @param updateRequest the request object containing fields to update
+	 * @param expectedVersion the version the client has last seen
+	 * @return the updated {@link Employee}
+	 * @throws NotFoundException if no employee is found with the given ID
+	 * @throws PreconditionFailedException if the employee has been changed since the
+	 * expected version
+	 * @see #doFullUpdate(UUID, EmployeeRequest, Long)
+	 */
+	public Employee doPartialUpdate(@NonNull UUID employeeId, @NonNull EmployeeRequest updateRequest,
+			@NonNull Long expectedVersion) {
+		log.info("doPartialUpdate ( [{}],[{}],[{}] ) ", employeeId, updateRequest, expectedVersion);
+		validateRequest(updateRequest, DataView.PATCH.class);
+		return updateIfVersionMatches(employeeId, updateRequest, expectedVersion);
+	}
+
+	private Employee update(UUID employeeId, EmployeeRequest updateRequest, Class<? extends DataView> validationGroup) {
 		validateRequest(updateRequest, validationGroup);
 		Employee employeeToUpdate = this.repository.findById(employeeId)
 			.orElseThrow(() -> new NotFoundException(
@@ -184,13 +433,41 @@ public class EmployeeService {
 		hasChanged = hasBirthDayChangedAfterUpdate(updateRequest, employeeToUpdate) || hasChanged;
 		hasChanged = hasDepartmentChangedAfterUpdate(updateRequest, employeeToUpdate) || hasChanged;
 		if (hasChanged) {
-			Employee updatedEmployee = this.repository.save(employeeToUpdate);
+			Employee updatedEmployee = this.repository.saveAndFlush(employeeToUpdate);
 			this.messagePublisher.employeeUpdated(updatedEmployee);
 			return updatedEmployee;
 		}
 		return employeeToUpdate;
 	}
 
+	private Employee updateIfVersionMatches(UUID employeeId, EmployeeRequest updateRequest, long expectedVersion) {
+		String newDepartmentName = StringUtils.trimToNull(updateRequest.departmentName());
+		Long departmentId = (newDepartmentName != null)
+				? this.departmentService.findByDepartmentNameOrElseThrow(newDepartmentName, BadRequestException.class)
+					.getId()
+				: null;
+		ZonedDateTime now = this.dateTimeProvider.getNow().map(ZonedDateTime::from).orElseGet(ZonedDateTime::now);
+		Employee updatedEmployee = this.repository
+			.updateIfVersionMatches(employeeId, expectedVersion, StringUtils.trimToNull(updateRequest.emailAddress()),
+					StringUtils.trimToNull(updateRequest.firstName()), StringUtils.trimToNull(updateRequest.lastName()),
+					updateRequest.birthday(), departmentId, now, this.auditorProvider.getCurrentAuditor().orElseThrow(),
+					now.toInstant().toEpochMilli())
+			.orElseThrow(() -> this.repository.existsById(employeeId)
+					? new PreconditionFailedException(this.messageSourceHelper
+						.getMessage("errors.employee.version.mismatch", employeeId, String.valueOf(expectedVersion)))
+					: new NotFoundException(
+							this.messageSourceHelper.getMessage("errors.employee.id.not-found", employeeId)));
+		if (updatedEmployee.getVersion() == expectedVersion) {
+			initializeDepartment(updatedEmployee);
+			return updatedEmployee;
+		}
+		this.cacheInvalidator.ifAvailable((SecondLevelCacheInvalidator invalidator) -> invalidator
+			.invalidateAfterCommit(Employee.class, employeeId));
+		initializeDepartment(updatedEmployee);
+		this.messagePublisher.employeeUpdated(updatedEmployee);
+		return updatedEmployee;
+	}
+
 	/**
 	 * Deletes an employee by their unique identifier.
 	 * <p>
@@ -202,7 +479,7 @@ public class EmployeeService {
 	 * </p>
 	 * @param employeeId the unique identifier of the employee to be deleted
 	 */
-	public void deleteById(@NonNull String employeeId) {
+	public void deleteById(@NonNull UUID employeeId) {
 		log.info("deleteById( departmentId= [{}] )", employeeId);
 		Employee employee = this.repository.findById(employeeId)
 			.orElseThrow(() -> new NotFoundException(
@@ -216,15 +493,227 @@ public class EmployeeService {
 		return this.repository.findAllByDepartmentId(departmentId, pageable);
 	}
 
+	/**
+	 * Checks whether any employee belongs to the given department without loading the
+	 * employees.
+	 * @param departmentId the ID of the department
+	 * @return true if the department has at least one employee
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public boolean existsByDepartmentId(@NonNull Long departmentId) {
+		log.info("existsByDepartmentId( departmentId= [{}] )", departmentId);
+		return this.repository.existsByDepartmentId(departmentId);
+	}
+
+	/**
+	 * Finds all employees of a department and projects them directly into
+	 * {@link EmployeeResponse}s.
+	 * @param departmentId the ID of the department
+	 * @param pageable the pageable object used for pagination
+	 * @return a page of projected employees of the department
+	 * @see #findResponseById(UUID)
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Page<EmployeeResponse> findAllResponsesByDepartmentId(@NonNull Long departmentId,
+			@NonNull Pageable pageable) {
+		log.info("findAllResponsesByDepartmentId( departmentId= [{}] )", departmentId);
+		return this.repository.findAllResponsesByDepartmentId(departmentId, pageable);
+	}
+
+	/**
+	 * Finds all employees of a department using keyset pagination.
+	 * @param departmentId the ID of the department
+	 * @param scrollPosition the position to continue after
+	 * @param pageable the pageable object providing the window size and the sort order
+	 * @return a window of employees of the department
+	 * @see #findAll(ScrollPosition, Pageable)
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Window<Employee> findAllEmployeesByDepartmentId(@NonNull Long departmentId,
+			@NonNull ScrollPosition scrollPosition, @NonNull Pageable pageable) {
+		log.info("findAllEmployeesByDepartmentId( departmentId= [{}], scrollPosition= [{}] )", departmentId,
+				scrollPosition);
+		return scroll(
+				EmployeeSpecifications.fetchDepartment().and(EmployeeSpecifications.belongsToDepartment(departmentId)),
+				scrollPosition, pageable);
+	}
+
+	/**
+	 * Finds all employees of a department without counting them.
+	 * @param departmentId the ID of the department
+	 * @param pageable the pageable object used for pagination
+	 * @return a slice of employees of the department
+	 * @see #findSlice(Pageable)
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Slice<Employee> findSliceByDepartmentId(@NonNull Long departmentId, @NonNull Pageable pageable) {
+		log.info("findSliceByDepartmentId( departmentId= [{}] )", departmentId);
+		return this.repository.findSliceByDepartmentId(departmentId, pageable);
+	}
+
+	/**
+	 * Finds all employees as they were at the given revision.
+	 * <p>
+	 * The directory is reconstructed from the history with one set-based query per page
+	 * instead of walking the revisions of every single employee.
+	 * </p>
+	 * @param revision the revision number to reconstruct the employees at
+	 * @param pageable the pageable object used for pagination, employees are ordered by
+	 * id
+	 * @return a page of the employees existing at the revision
+	 */
+	@Transactional(readOnly = true)
+	public Page<Employee> findAllAtRevision(long revision, @NonNull Pageable pageable) {
+		log.info("findAllAtRevision( revision= [{}] )", revision);
+		return initializeDepartments(
+				this.revisionFinder.findEntitiesAtRevision(Employee.class, revision, Map.of(), pageable));
+	}
+
+	/**
+	 * Finds all employees belonging to a department at the given revision.
+	 * @param departmentId the ID of the department
+	 * @param revision the revision number to reconstruct the employees at
+	 * @param pageable the pageable object used for pagination, employees are ordered by
+	 * id
+	 * @return a page of the employees of the department at the revision
+	 * @see #findAllAtRevision(long, Pageable)
+	 */
+	@Transactional(readOnly = true)
+	public Page<Employee> findAllByDepartmentIdAtRevision(@NonNull Long departmentId, long revision,
+			@NonNull Pageable pageable) {
+		log.info("findAllByDepartmentIdAtRevision( departmentId= [{}], revision= [{}] )", departmentId, revision);
+		return initializeDepartments(this.revisionFinder.findEntitiesAtRevision(Employee.class, revision,
+				Map.of(DEPARTMENT_PROPERTY, departmentId), pageable));
+	}
+
+	/**
+	 * Finds all employees as they were at the given point in time, i.e. at the latest
+	 * revision committed until then.
+	 * @param asOf the point in time
+	 * @param pageable the pageable object used for pagination, employees are ordered by
+	 * id
+	 * @return a page of the employees existing at that time, empty if nothing had been
+	 * recorded yet
+	 * @see #findAllAtRevision(long, Pageable)
+	 */
+	@Transactional(readOnly = true)
+	public Page<Employee> findAllAsOf(@NonNull ZonedDateTime asOf, @NonNull Pageable pageable) {
+		log.info("findAllAsOf( asOf= [{}] )", asOf);
+		return this.revisionFinder.findRevisionNumberAt(asOf.toInstant())
+			.map((Long revision) -> findAllAtRevision(revision, pageable))
+			.orElseGet(() -> Page.empty(pageable));
+	}
+
+	/**
+	 * Finds all employees belonging to a department at the given point in time.
+	 * @param departmentId the ID of the department
+	 * @param asOf the point in time
+	 * @param pageable the pageable object used for pagination, employees are ordered by
+	 * id
+	 * @return a page of the employees of the department at that time, empty if nothing
+	 * had been recorded yet
+	 * @see #findAllByDepartmentIdAtRevision(Long, long, Pageable)
+	 */
+	@Transactional(readOnly = true)
+	public Page<Employee> findAllByDepartmentIdAsOf(@NonNull Long departmentId, @NonNull ZonedDateTime asOf,
+			@NonNull Pageable pageable) {
+		log.info("findAllByDepartmentIdAsOf( departmentId= [{}], asOf= [{}] )", departmentId, asOf);
+		return this.revisionFinder.findRevisionNumberAt(asOf.toInstant())
+			.map((Long revision) -> findAllByDepartmentIdAtRevision(departmentId, revision, pageable))
+			.orElseGet(() -> Page.empty(pageable));
+	}
+
 	/**
 	 * Find revisions of an employee by ID.
 	 * @param id the ID of the employee.
 	 * @param pageable the pagination information.
 	 * @return a Page object containing the revisions of the employee.
 	 */
-	public Page<Revision<Long, Employee>> findRevisions(@NonNull String id, @NonNull Pageable pageable) {
+	@Transactional(readOnly = true)
+	public Page<Revision<Long, Employee>> findRevisions(@NonNull UUID id, @NonNull Pageable pageable) {
 		log.info("findRevisions( departmentId= [{}] )", id);
-		return this.repository.findRevisions(id, pageable);
+		Page<Revision<Long, Employee>> revisions = this.repository.findRevisions(id, pageable);
+		revisions.forEach((Revision<Long, Employee> revision) -> initializeDepartment(revision.getEntity()));
+		return revisions;
+	}
+
+	/**
+	 * Find the revisions of an employee changing at least one of the given properties.
+	 * <p>
+	 * The revisions are selected by the modified flags of the history, so only the
+	 * matching revisions are read.
+	 * </p>
+	 * @param id the ID of the employee.
+	 * @param changedProperties the properties of which at least one must have changed,
+	 * see {@link #CHANGE_TRACKED_PROPERTIES}.
+	 * @param pageable the pagination information.
+	 * @return a Page object containing the matching revisions of the employee.
+	 * @throws BadRequestException if a property is not change tracked
+	 */
+	@Transactional(readOnly = true)
+	public Page<Revision<Long, Employee>> findRevisions(@NonNull UUID id, @NonNull Set<String> changedProperties,
+			@NonNull Pageable pageable) {
+		log.info("findRevisions( employeeId= [{}], changedProperties= [{}] )", id, changedProperties);
+		validateChangeTracked(changedProperties);
+		Page<Revision<Long, Employee>> revisions = this.revisionFinder.findRevisionsChanging(Employee.class, id,
+				changedProperties, pageable);
+		revisions.forEach((Revision<Long, Employee> revision) -> initializeDepartment(revision.getEntity()));
+		return revisions;
+	}
+
+	/**
+	 * Scroll through the revisions of an employee by revision number.
+	 * <p>
+	 * Neither counts nor skips revisions, so every window costs the same no matter how
+	 * long the history of the employee is.
+	 * </p>
+	 * @param id the ID of the employee.
+	 * @param changedProperties the properties of which at least one must have changed,
+	 * see {@link #CHANGE_TRACKED_PROPERTIES}, all revisions are returned if empty.
+	 * @param scroll the revision number bounds, direction and size of the window.
+	 * @return a Window object containing the matching revisions of the employee.
+	 * @throws BadRequestException if a property is not change tracked
+	 */
+	@Transactional(readOnly = true)
+	public Window<Revision<Long, Employee>> findRevisions(@NonNull UUID id, @NonNull Set<String> changedProperties,
+			@NonNull RevisionScroll scroll) {
+		log.info("findRevisions( employeeId= [{}], changedProperties= [{}], scroll= [{}] )", id, changedProperties,
+				scroll);
+		validateChangeTracked(changedProperties);
+		Window<Revision<Long, Employee>> revisions = this.revisionFinder.findRevisions(Employee.class, id,
+				changedProperties, scroll);
+		revisions.forEach((Revision<Long, Employee> revision) -> initializeDepartment(revision.getEntity()));
+		return revisions;
+	}
+
+	/**
+	 * Passes the revisions of an employee within a range to the given action in ascending
+	 * order, starting with the state at the start of the range.
+	 * @param id the ID of the employee.
+	 * @param fromRevision the revision number the range starts with.
+	 * @param toRevision the revision number the range ends with, {@code null} for the
+	 * latest revision.
+	 * @param action the action the revisions are passed to.
+	 * @throws BadRequestException if the range ends before it starts
+	 * @throws NotFoundException if the range does not contain any revision of the
+	 * employee
+	 */
+	@Transactional(readOnly = true)
+	public void forEachRevision(@NonNull UUID id, long fromRevision, Long toRevision,
+			@NonNull Consumer<Revision<Long, Employee>> action) {
+		log.info("forEachRevision( id= [{}], fromRevision= [{}], toRevision= [{}] )", id, fromRevision, toRevision);
+		if ((toRevision != null) && (toRevision < fromRevision)) {
+			throw new BadRequestException(
+					this.messageSourceHelper.getMessage("errors.revision.range.invalid", fromRevision, toRevision));
+		}
+		long count = this.revisionFinder.forEachRevision(Employee.class, id, fromRevision, toRevision,
+				(Revision<Long, Employee> revision) -> {
+					initializeDepartment(revision.getEntity());
+					action.accept(revision);
+				});
+		if (count == 0) {
+			throw new NotFoundException(this.messageSourceHelper.getMessage("errors.employee.revisions.not-found", id));
+		}
 	}
 
 	/**
@@ -236,20 +725,61 @@ public class EmployeeService {
 	 * @throws NotFoundException if no revision information could be found (the employee
 	 * for given ID does not exist)
 	 */
-	public Revision<Long, Employee> findLastChangeRevision(@NonNull String employeeId) {
+	@Transactional(readOnly = true)
+	public Revision<Long, Employee> findLastChangeRevision(@NonNull UUID employeeId) {
 		log.info("findLastChangeRevision( departmentId= [{}] )", employeeId);
-		return this.repository.findLastChangeRevision(employeeId)
+		Revision<Long, Employee> revision = this.repository.findLastChangeRevision(employeeId)
 			.orElseThrow(() -> new NotFoundException(
 					this.messageSourceHelper.getMessage("errors.employee.last-revision.not-found", employeeId)));
+		initializeDepartment(revision.getEntity());
+		return revision;
 	}
 
-	private void validateUniquenessOfEmail(String emailAddress) {
-		List<Employee> employeesWithSameEmail = StringUtils.isBlank(emailAddress) ? Collections.emptyList()
-				: this.repository.findByEmailAddress(emailAddress);
-		if (!employeesWithSameEmail.isEmpty()) {
-			throw new BadRequestException(
-					this.messageSourceHelper.getMessage("errors.employee.email.already-exists", emailAddress));
+	/**
+	 * Initializes the lazy department Envers puts into historic employees, be it a proxy
+	 * or an uninitialized enhanced entity, and replaces it by the department itself, so
+	 * the revision can still be mapped once the transaction is closed.
+	 * @param employee the historic employee
+	 */
+	private static void initializeDepartment(Employee employee) {
+		Hibernate.initialize(employee.getDepartment());
+		employee.setDepartment(Hibernate.unproxy(employee.getDepartment(), Department.class));
+	}
+
+	private static Page<Employee> initializeDepartments(Page<Employee> employees) {
+		employees.forEach(EmployeeService::initializeDepartment);
+		return employees;
+	}
+
+	private Window<Employee> scroll(Specification<Employee> specification, ScrollPosition scrollPosition,
+			Pageable pageable) {
+		return this.repository.findBy(specification,
+				(FluentQuery.FetchableFluentQuery<Employee> query) -> query.sortBy(pageable.getSort())
+					.limit(pageable.getPageSize())
+					.scroll(scrollPosition));
+	}
+
+	private static Employee newEmployee(EmployeeRequest createRequest, Department department) {
+		Employee newEmployee = new Employee();
+		newEmployee.setEmailAddress(createRequest.emailAddress());
+
+		String firstName = createRequest.firstName();
+		String lastName = createRequest.lastName();
+		if (!StringUtils.isBlank(firstName) || StringUtils.isBlank(lastName)) {
+			Employee.FullName fullName = new Employee.FullName();
+			fullName.setFirstName(StringUtils.trim(firstName));
+
+			fullName.setLastName(StringUtils.trim(lastName));
+			newEmployee.setFullName(fullName);
 		}
+
+		newEmployee.setBirthday(createRequest.birthday());
+		newEmployee.setDepartment(department);
+		return newEmployee;
+	}
+
+	private static String normalizeEmailAddress(String emailAddress) {
+		return emailAddress.toLowerCase(Locale.ROOT);
 	}
 
 	private void validateRequest(EmployeeRequest employeeRequest, Class<? extends DataView> validationGroup) {
@@ -322,4 +852,15 @@ public class EmployeeService {
 		return hasUpdated;
 	}
 
+	private void validateChangeTracked(Set<String> changedProperties) {
+		changedProperties.stream()
+			.filter((String property) -> !CHANGE_TRACKED_PROPERTIES.contains(property))
+			.findFirst()
+			.ifPresent((String property) -> {
+				throw new BadRequestException(
+						this.messageSourceHelper.getMessage("errors.revision.changed-property.invalid", property,
+								String.join(", ", CHANGE_TRACKED_PROPERTIES.stream().sorted().toList())));
+			});
+	}
+
 }
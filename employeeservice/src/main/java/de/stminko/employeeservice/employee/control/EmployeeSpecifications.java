@@ -0,0 +1,47 @@
+package de.stminko.employeeservice.employee.control;
+
+import de.stminko.employeeservice.employee.entity.Employee;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * factory for the {@link Specification}s used to query {@link Employee}s through the
+ * {@link EmployeeRepository}.
+ *
+ * @author Stéphan Minko
+ */
+final class EmployeeSpecifications {
+
+	private EmployeeSpecifications() {
+		throw new AssertionError("This is not meant to be instantiated");
+	}
+
+	/**
+	 * Fetches the department of every employee within the same statement. Count queries
+	 * are left untouched since they do not select any entity.
+	 * @return the {@link Specification} fetch joining the department
+	 */
+	static Specification<Employee> fetchDepartment() {
+		return (Root<Employee> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) -> {
+			if (Employee.class.equals(query.getResultType())) {
+				root.fetch("department", JoinType.INNER);
+			}
+			return null;
+		};
+	}
+
+	/**
+	 * Restricts the employees to the ones of the given department.
+	 * @param departmentId the ID of the department
+	 * @return the {@link Specification} matching all employees of the department
+	 */
+	static Specification<Employee> belongsToDepartment(Long departmentId) {
+		return (Root<Employee> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) -> criteriaBuilder
+			.equal(root.get("department").get("id"), departmentId);
+	}
+
+}
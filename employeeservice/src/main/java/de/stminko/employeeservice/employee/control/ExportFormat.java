@@ -0,0 +1,60 @@
+package de.stminko.employeeservice.employee.control;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.MediaType;
+
+/**
+ * formats the employees can be exported in.
+ *
+ * @author Stéphan Minko
+ * @see EmployeeExportService
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+	/**
+	 * Newline delimited JSON, every line holds a JSON object. The format of clients
+	 * accepting any media type.
+	 */
+	NDJSON(ExportFormat.NDJSON_VALUE, "ndjson"),
+
+	/**
+	 * Comma separated values, the first line holds the names of the columns.
+	 */
+	CSV(ExportFormat.CSV_VALUE, "csv");
+
+	/**
+	 * Media type of {@link #NDJSON} exports.
+	 */
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+
+	/**
+	 * Media type of {@link #CSV} exports.
+	 */
+	public static final String CSV_VALUE = "text/csv";
+
+	private final String mediaType;
+
+	private final String fileExtension;
+
+	/**
+	 * Determines the format of an export by the media types the client accepts.
+	 * @param acceptedMediaTypes the accepted media types, most preferred first
+	 * @return the first format the client accepts, empty if it accepts none
+	 */
+	public static Optional<ExportFormat> negotiate(@NonNull List<MediaType> acceptedMediaTypes) {
+		return acceptedMediaTypes.stream()
+			.flatMap((MediaType accepted) -> Arrays.stream(values())
+				.filter((ExportFormat format) -> accepted.includes(MediaType.parseMediaType(format.getMediaType()))))
+			.findFirst();
+	}
+
+}
@@ -8,13 +8,16 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import de.stminko.employeeservice.department.entity.Department;
 import de.stminko.employeeservice.runtime.persistence.boundary.AbstractEntity;
+import de.stminko.employeeservice.runtime.persistence.boundary.TimeOrderedUuid;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -23,6 +26,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.envers.AuditOverride;
 import org.hibernate.envers.AuditOverrides;
 import org.hibernate.envers.Audited;
@@ -34,7 +39,13 @@ import org.hibernate.envers.Audited;
  * as email address, full name, birthday, and department association. It extends
  * {@link AbstractEntity} to leverage common entity functionalities like ID management.
  * The class is annotated with JPA annotations to map it to the 'EMPLOYEE' table in the
- * 'data' schema.
+ * 'data' schema. Its history flags the properties every revision modified. Employees are
+ * kept in the second-level cache region {@value #CACHE_REGION}.
+ * </p>
+ *
+ * <p>
+ * The department is compared by its id, so neither {@link #equals(Object)},
+ * {@link #hashCode()} nor {@link #toString()} initialize a lazy department.
  * </p>
  *
  * @author Stéphan Minko
@@ -42,7 +53,7 @@ import org.hibernate.envers.Audited;
  * @see Department for the associated department entity
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
-@Audited
+@Audited(withModifiedFlag = true)
 @AuditOverrides({ @AuditOverride(forClass = AbstractEntity.class, isAudited = false, name = "createdAt"),
 		@AuditOverride(forClass = AbstractEntity.class, isAudited = false, name = "createdBy") })
 @Getter
@@ -50,11 +61,17 @@ import org.hibernate.envers.Audited;
 @ToString(callSuper = true)
 @Entity
 @Table(name = "EMPLOYEE", schema = "data")
-public class Employee extends AbstractEntity<String> {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
+public class Employee extends AbstractEntity<UUID> {
+
+	/**
+	 * Name of the second-level cache region holding the employees.
+	 */
+	public static final String CACHE_REGION = "employee";
 
 	@Id
-	@Column(length = 36)
-	private String id;
+	private UUID id;
 
 	@Column(name = "EMAIL_ADDRESS", unique = true)
 	private String emailAddress;
@@ -67,14 +84,15 @@ public class Employee extends AbstractEntity<String> {
 	private ZonedDateTime birthday;
 
 	@JsonManagedReference
-	@ManyToOne(cascade = CascadeType.REFRESH)
+	@ToString.Exclude
+	@ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REFRESH)
 	@JoinColumn(name = "DEPARTMENT_ID", nullable = false)
 	private Department department;
 
 	@Override
 	protected void onPrePersist() {
 		if (isNew()) {
-			setId(UUID.randomUUID().toString());
+			setId(TimeOrderedUuid.next());
 		}
 	}
 
@@ -91,12 +109,20 @@ public class Employee extends AbstractEntity<String> {
 				&& Objects.equals(getEmailAddress(), employee.getEmailAddress())
 				&& Objects.equals(getFullName(), employee.getFullName())
 				&& Objects.equals(getBirthday(), employee.getBirthday())
-				&& Objects.equals(getDepartment(), employee.getDepartment());
+				&& Objects.equals(departmentId(), employee.departmentId());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(getId(), getEmailAddress(), getFullName(), getBirthday(), getDepartment());
+		return Objects.hash(getId(), getEmailAddress(), getFullName(), getBirthday(), departmentId());
+	}
+
+	/**
+	 * Reads the id of the department without initializing a lazy department.
+	 * @return the id of the department or {@code null} if there is none
+	 */
+	private Long departmentId() {
+		return (getDepartment() != null) ? getDepartment().getId() : null;
 	}
 
 	@Setter
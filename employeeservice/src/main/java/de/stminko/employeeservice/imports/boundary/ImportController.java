@@ -0,0 +1,163 @@
+package de.stminko.employeeservice.imports.boundary;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import de.stminko.employeeservice.imports.boundary.dto.ImportErrorResponse;
+import de.stminko.employeeservice.imports.boundary.dto.ImportResponse;
+import de.stminko.employeeservice.imports.control.EmployeeImport;
+import de.stminko.employeeservice.imports.control.ImportError;
+import de.stminko.employeeservice.imports.control.ImportFormat;
+import de.stminko.employeeservice.imports.control.ImportService;
+import de.stminko.employeeservice.runtime.rest.bondary.ApiVersions;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * REST controller of the jobs importing employees from files.
+ *
+ * <p>
+ * A file of any size is accepted right away and imported in the background, clients
+ * follow the {@code Location} of the job to watch its progress and page through the rows
+ * it rejected.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+@Slf4j
+@RestController
+@Tag(name = "Imports", description = "The employee import API")
+@RequestMapping(ImportController.BASE_URI)
+@ApiResponse(responseCode = "500", description = "An unexpected server error occurred")
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ImportController {
+
+	/**
+	 * The base URI of the import jobs.
+	 *
+	 * @see ApiVersions for information on API versioning strategy
+	 */
+	public static final String BASE_URI = ApiVersions.V1 + "/imports";
+
+	private final ImportService importService;
+
+	/**
+	 * Starts a job importing the employees of the uploaded file.
+	 * <p>
+	 * CSV files name their columns in the first line, NDJSON files hold an object per
+	 * line. The fields are {@code emailAddress}, {@code firstName}, {@code lastName},
+	 * {@code birthday} and {@code departmentName}. A row whose email address belongs to
+	 * an existing employee updates it, keeping the values the row leaves empty, any other
+	 * row creates an employee.
+	 * </p>
+	 * @param contentType the media type of the file, {@code text/csv} or
+	 * {@code application/x-ndjson}
+	 * @param content the file
+	 * @return a {@link ResponseEntity} with status 202 containing the pending job
+	 */
+	@Operation(summary = "Import employees from a file",
+			description = "Accepts a CSV or NDJSON file and imports its employees in the background")
+	@ApiResponses({
+			@ApiResponse(responseCode = "202", description = "The import job was started",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+							schema = @Schema(implementation = ImportResponse.class))),
+			@ApiResponse(responseCode = "415", description = "The file is neither CSV nor NDJSON") })
+	@PostMapping(produces = MediaType.APPLICATION_JSON_VALUE,
+			consumes = { ImportFormat.CSV_VALUE, ImportFormat.NDJSON_VALUE })
+	@JsonView(DataView.GET.class)
+	public ResponseEntity<ImportResponse> submitImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+			InputStream content) {
+		log.info("submitImport( contentType= [{}] )", contentType);
+		ImportFormat format = ImportFormat.of(contentType).orElseThrow();
+		EmployeeImport employeeImport = this.importService.submit(format, content);
+		return ResponseEntity.accepted()
+			.location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+				.path("/{importId}")
+				.buildAndExpand(employeeImport.id())
+				.toUri())
+			.body(createImportResponse(employeeImport));
+	}
+
+	/**
+	 * Retrieves the state and progress of an import job.
+	 * @param importId the ID of the job
+	 * @return the job
+	 */
+	@Operation(summary = "Find an import job", description = "Returns the state and progress of an import job")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved the import job",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+							schema = @Schema(implementation = ImportResponse.class))),
+			@ApiResponse(responseCode = "404", description = "The import job was not found") })
+	@GetMapping(value = "/{importId}", produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	@ResponseStatus(HttpStatus.OK)
+	public ImportResponse findImport(@Parameter(description = "Unique identifier of the import job",
+			required = true) @PathVariable("importId") UUID importId) {
+		log.info("findImport( importId= [{}] )", importId);
+		return createImportResponse(this.importService.findById(importId));
+	}
+
+	/**
+	 * Retrieves the rows an import job rejected, in the order of the file.
+	 * @param importId the ID of the job
+	 * @param pageable the page to retrieve
+	 * @return a {@link Page} of {@link ImportErrorResponse}
+	 */
+	@Operation(summary = "Find the rejected rows of an import job",
+			description = "Returns the rows an import job rejected together with the reasons")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved the rejected rows",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+							schema = @Schema(implementation = PageImpl.class))),
+			@ApiResponse(responseCode = "404", description = "The import job was not found") })
+	@GetMapping(value = "/{importId}/errors", produces = MediaType.APPLICATION_JSON_VALUE)
+	@JsonView(DataView.GET.class)
+	@ResponseStatus(HttpStatus.OK)
+	public Page<ImportErrorResponse> findImportErrors(@Parameter(description = "Unique identifier of the import job",
+			required = true) @PathVariable("importId") UUID importId, @PageableDefault(50) Pageable pageable) {
+		log.info("findImportErrors( importId= [{}] )", importId);
+		return this.importService.findErrors(importId, pageable)
+			.map((ImportError error) -> new ImportErrorResponse(error.lineNumber(), error.reason(),
+					error.emailAddress()));
+	}
+
+	private static ImportResponse createImportResponse(@NonNull EmployeeImport employeeImport) {
+		return new ImportResponse(employeeImport.id(), employeeImport.format(), employeeImport.status(),
+				employeeImport.stagedRows(), employeeImport.createdRows(), employeeImport.updatedRows(),
+				employeeImport.unchangedRows(), employeeImport.rejectedRows(),
+				employeeImport.rowsPerSecond(Instant.now()), employeeImport.revision(), employeeImport.failureReason(),
+				employeeImport.submittedAt(), employeeImport.submittedBy(), employeeImport.startedAt(),
+				employeeImport.finishedAt());
+	}
+
+}
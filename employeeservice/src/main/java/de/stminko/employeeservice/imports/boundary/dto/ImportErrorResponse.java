@@ -0,0 +1,23 @@
+package de.stminko.employeeservice.imports.boundary.dto;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * a row of an imported file that could not be imported.
+ *
+ * @param lineNumber the number of the line within the file
+ * @param reason the reason the row was rejected
+ * @param emailAddress the email address of the row
+ * @author Stéphan Minko
+ */
+@JsonView(DataView.GET.class)
+public record ImportErrorResponse(
+		@Schema(description = "Number of the line within the file, starting at 1", example = "42") long lineNumber,
+		@Schema(description = "Reason the row was rejected",
+				example = "The department with the name [Sales] could not be found!") String reason,
+		@Schema(description = "Email address of the row, absent if it could not be read",
+				example = "jane.doe@example.com") String emailAddress) {
+
+}
@@ -0,0 +1,54 @@
+package de.stminko.employeeservice.imports.boundary.dto;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import de.stminko.employeeservice.imports.control.ImportFormat;
+import de.stminko.employeeservice.imports.control.ImportStatus;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * the state and progress of an import job.
+ *
+ * @param id the ID of the job
+ * @param format the format of the imported file
+ * @param status the stage the job is in
+ * @param stagedRows the number of rows read from the file so far
+ * @param createdRows the number of employees created
+ * @param updatedRows the number of existing employees updated
+ * @param unchangedRows the number of rows matching an existing employee without changing
+ * it
+ * @param rejectedRows the number of rows that could not be imported
+ * @param rowsPerSecond the number of rows processed per second since the job started
+ * @param revision the audit revision of the imported changes
+ * @param failureReason the reason the job failed
+ * @param submittedAt the time the file was uploaded
+ * @param submittedBy the user who uploaded the file
+ * @param startedAt the time the job started
+ * @param finishedAt the time the job finished
+ * @author Stéphan Minko
+ */
+@JsonView(DataView.GET.class)
+public record ImportResponse(
+		@Schema(description = "ID of the import job", example = "018c1d2e-6f00-7a3b-9c1d-2e6f007a3b9c") UUID id,
+		@Schema(description = "Format of the imported file", example = "CSV") ImportFormat format,
+		@Schema(description = "Stage the job is in", example = "SUCCEEDED") ImportStatus status,
+		@Schema(description = "Number of rows read from the file so far", example = "100000") long stagedRows,
+		@Schema(description = "Number of employees created", example = "90000") long createdRows,
+		@Schema(description = "Number of existing employees updated", example = "9000") long updatedRows,
+		@Schema(description = "Number of rows matching an existing employee without changing it",
+				example = "900") long unchangedRows,
+		@Schema(description = "Number of rows that could not be imported", example = "100") long rejectedRows,
+		@Schema(description = "Number of rows processed per second since the job started",
+				example = "25000.0") double rowsPerSecond,
+		@Schema(description = "Audit revision of the imported changes, absent until merged or if nothing changed",
+				example = "4711") Long revision,
+		@Schema(description = "Reason the job failed, absent unless it failed") String failureReason,
+		@Schema(description = "Time the file was uploaded") ZonedDateTime submittedAt,
+		@Schema(description = "User who uploaded the file", example = "System") String submittedBy,
+		@Schema(description = "Time the job started, absent while pending") ZonedDateTime startedAt,
+		@Schema(description = "Time the job finished, absent while running") ZonedDateTime finishedAt) {
+
+}
@@ -0,0 +1,12 @@
+/**
+ * this package contains the data transfer objects (DTOs) for the employee import
+ * boundary.
+ *
+ * <p>
+ * These classes are used to transfer data between the layers (especially between boundary
+ * and control). They are independent of the business logic and the database models.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+package de.stminko.employeeservice.imports.boundary.dto;
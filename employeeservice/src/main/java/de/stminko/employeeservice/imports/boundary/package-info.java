@@ -0,0 +1,12 @@
+/**
+ * provides the boundary classes of the employee import in the Employee Service
+ * application.
+ *
+ * <p>
+ * Classes in this package primarily serve as interfaces between the system and the
+ * outside world (e.g. user interfaces, external systems)
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+package de.stminko.employeeservice.imports.boundary;
@@ -0,0 +1,56 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import lombok.NonNull;
+
+/**
+ * the state of an import job.
+ *
+ * @param id the id of the job
+ * @param format the format of the imported file
+ * @param status the stage the job is in
+ * @param stagedRows the number of rows read from the file so far
+ * @param createdRows the number of employees created
+ * @param updatedRows the number of existing employees updated
+ * @param rejectedRows the number of rows that could not be imported
+ * @param revision the audit revision of the imported changes, {@code null} until merged
+ * @param failureReason the reason the job failed, {@code null} unless it failed
+ * @param submittedAt the time the file was uploaded
+ * @param submittedBy the user who uploaded the file
+ * @param startedAt the time the job started, {@code null} while pending
+ * @param finishedAt the time the job finished, {@code null} while running
+ * @author Stéphan Minko
+ */
+public record EmployeeImport(UUID id, ImportFormat format, ImportStatus status, long stagedRows, long createdRows,
+		long updatedRows, long rejectedRows, Long revision, String failureReason, ZonedDateTime submittedAt,
+		String submittedBy, ZonedDateTime startedAt, ZonedDateTime finishedAt) {
+
+	/**
+	 * Determines the number of merged rows that matched an existing employee without
+	 * changing it.
+	 * @return the number of unchanged employees, {@code 0} until the job succeeded
+	 */
+	public long unchangedRows() {
+		return (this.status == ImportStatus.SUCCEEDED)
+				? this.stagedRows - this.createdRows - this.updatedRows - this.rejectedRows : 0L;
+	}
+
+	/**
+	 * Determines the number of rows the job processed per second since it started.
+	 * @param now the current time, used as long as the job is running
+	 * @return the rows per second, {@code 0} while the job is pending
+	 */
+	public double rowsPerSecond(@NonNull Instant now) {
+		if (this.startedAt == null) {
+			return 0.0;
+		}
+		Instant end = (this.finishedAt != null) ? this.finishedAt.toInstant() : now;
+		long millis = Math.max(1L, Duration.between(this.startedAt.toInstant(), end).toMillis());
+		return (this.stagedRows * 1_000.0) / millis;
+	}
+
+}
@@ -0,0 +1,167 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * keeps the state of the import jobs and their rejected rows.
+ *
+ * <p>
+ * Every change of a job is committed in a transaction of its own, so the progress of a
+ * running job is visible while the job's own transaction is still open, and the failure
+ * of a job is recorded although its transaction was rolled back.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class EmployeeImportRepository {
+
+	private static final RowMapper<EmployeeImport> IMPORT_ROW_MAPPER = (ResultSet resultSet,
+			int rowNum) -> new EmployeeImport(resultSet.getObject("id", UUID.class),
+					ImportFormat.valueOf(resultSet.getString("format")),
+					ImportStatus.valueOf(resultSet.getString("status")), resultSet.getLong("staged_rows"),
+					resultSet.getLong("created_rows"), resultSet.getLong("updated_rows"),
+					resultSet.getLong("rejected_rows"), resultSet.getObject("revision", Long.class),
+					resultSet.getString("failure_reason"), zonedDateTime(resultSet, "submitted_at"),
+					resultSet.getString("submitted_by"), zonedDateTime(resultSet, "started_at"),
+					zonedDateTime(resultSet, "finished_at"));
+
+	private static final RowMapper<ImportError> ERROR_ROW_MAPPER = (ResultSet resultSet, int rowNum) -> new ImportError(
+			resultSet.getLong("line_number"), resultSet.getString("reason"), resultSet.getString("email_address"));
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Records a new pending job.
+	 * @param id the id of the job
+	 * @param format the format of the file to import
+	 * @param submittedAt the time the file was uploaded
+	 * @param submittedBy the user who uploaded the file
+	 */
+	public void insert(@NonNull UUID id, @NonNull ImportFormat format, @NonNull ZonedDateTime submittedAt,
+			@NonNull String submittedBy) {
+		this.jdbcTemplate.update("""
+				INSERT INTO data.employee_import (id, format, status, submitted_at, submitted_by)
+				VALUES (?, ?, ?, ?, ?)
+				""", id, format.name(), ImportStatus.PENDING.name(), submittedAt.toOffsetDateTime(), submittedBy);
+	}
+
+	/**
+	 * Records that a job started staging the rows of its file.
+	 * @param id the id of the job
+	 * @param startedAt the time the job started
+	 */
+	public void markStaging(@NonNull UUID id, @NonNull ZonedDateTime startedAt) {
+		this.jdbcTemplate.update("UPDATE data.employee_import SET status = ?, started_at = ? WHERE id = ?",
+				ImportStatus.STAGING.name(), startedAt.toOffsetDateTime(), id);
+	}
+
+	/**
+	 * Records the number of rows a job has staged so far.
+	 * @param id the id of the job
+	 * @param stagedRows the number of staged rows
+	 */
+	public void updateStagedRows(@NonNull UUID id, long stagedRows) {
+		this.jdbcTemplate.update("UPDATE data.employee_import SET staged_rows = ? WHERE id = ?", stagedRows, id);
+	}
+
+	/**
+	 * Records that a job staged all rows of its file and started merging them.
+	 * @param id the id of the job
+	 * @param stagedRows the number of staged rows
+	 */
+	public void markMerging(@NonNull UUID id, long stagedRows) {
+		this.jdbcTemplate.update("UPDATE data.employee_import SET status = ?, staged_rows = ? WHERE id = ?",
+				ImportStatus.MERGING.name(), stagedRows, id);
+	}
+
+	/**
+	 * Records that a job succeeded.
+	 * @param id the id of the job
+	 * @param createdRows the number of created employees
+	 * @param updatedRows the number of updated employees
+	 * @param rejectedRows the number of rejected rows
+	 * @param revision the audit revision of the imported changes, {@code null} if nothing
+	 * was changed
+	 * @param finishedAt the time the job finished
+	 */
+	public void markSucceeded(@NonNull UUID id, long createdRows, long updatedRows, long rejectedRows, Long revision,
+			@NonNull ZonedDateTime finishedAt) {
+		this.jdbcTemplate.update("""
+				UPDATE data.employee_import
+				SET status = ?, created_rows = ?, updated_rows = ?, rejected_rows = ?, revision = ?, finished_at = ?
+				WHERE id = ?
+				""", ImportStatus.SUCCEEDED.name(), createdRows, updatedRows, rejectedRows, revision,
+				finishedAt.toOffsetDateTime(), id);
+	}
+
+	/**
+	 * Records that a job failed.
+	 * @param id the id of the job
+	 * @param failureReason the reason the job failed
+	 * @param finishedAt the time the job failed
+	 */
+	public void markFailed(@NonNull UUID id, String failureReason, @NonNull ZonedDateTime finishedAt) {
+		this.jdbcTemplate.update(
+				"UPDATE data.employee_import SET status = ?, failure_reason = ?, finished_at = ? " + "WHERE id = ?",
+				ImportStatus.FAILED.name(), failureReason, finishedAt.toOffsetDateTime(), id);
+	}
+
+	/**
+	 * Retrieves a job.
+	 * @param id the id of the job
+	 * @return the job or empty if there is none with the id
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Optional<EmployeeImport> findById(@NonNull UUID id) {
+		return this.jdbcTemplate.query("SELECT * FROM data.employee_import WHERE id = ?", IMPORT_ROW_MAPPER, id)
+			.stream()
+			.findFirst();
+	}
+
+	/**
+	 * Retrieves the rejected rows of a job in the order of the file.
+	 * @param id the id of the job
+	 * @param pageable the page to retrieve
+	 * @return the page of rejected rows
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Page<ImportError> findErrors(@NonNull UUID id, @NonNull Pageable pageable) {
+		List<ImportError> errors = this.jdbcTemplate.query("""
+				SELECT line_number, reason, email_address
+				FROM data.employee_import_error
+				WHERE import_id = ?
+				ORDER BY line_number
+				LIMIT ? OFFSET ?
+				""", ERROR_ROW_MAPPER, id, pageable.getPageSize(), pageable.getOffset());
+		Long total = this.jdbcTemplate
+			.queryForObject("SELECT COUNT(*) FROM data.employee_import_error WHERE import_id = ?", Long.class, id);
+		return new PageImpl<>(errors, pageable, (total != null) ? total : 0L);
+	}
+
+	private static ZonedDateTime zonedDateTime(ResultSet resultSet, String column) throws SQLException {
+		OffsetDateTime value = resultSet.getObject(column, OffsetDateTime.class);
+		return (value != null) ? value.toZonedDateTime() : null;
+	}
+
+}
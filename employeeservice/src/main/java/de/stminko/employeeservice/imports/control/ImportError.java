@@ -0,0 +1,13 @@
+package de.stminko.employeeservice.imports.control;
+
+/**
+ * a row of an imported file that could not be imported.
+ *
+ * @param lineNumber the number of the line within the file, starting at 1
+ * @param reason the reason the row was rejected
+ * @param emailAddress the email address of the row, if it could be read
+ * @author Stéphan Minko
+ */
+public record ImportError(long lineNumber, String reason, String emailAddress) {
+
+}
@@ -0,0 +1,57 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.MediaType;
+
+/**
+ * the file formats employees can be imported from. Both formats hold one employee per
+ * line with the properties {@code emailAddress}, {@code firstName}, {@code lastName},
+ * {@code birthday} and {@code departmentName}.
+ *
+ * @author Stéphan Minko
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImportFormat {
+
+	/**
+	 * Comma separated values, the first line holds the names of the columns.
+	 */
+	CSV(ImportFormat.CSV_VALUE),
+
+	/**
+	 * Newline delimited JSON, every line holds a JSON object.
+	 */
+	NDJSON(ImportFormat.NDJSON_VALUE);
+
+	/**
+	 * Media type of {@link #CSV} files.
+	 */
+	public static final String CSV_VALUE = "text/csv";
+
+	/**
+	 * Media type of {@link #NDJSON} files.
+	 */
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+
+	private final String mediaType;
+
+	/**
+	 * Determines the format of a file by its media type.
+	 * @param mediaType the media type of the file
+	 * @return the format or empty if files of the media type cannot be imported
+	 */
+	public static Optional<ImportFormat> of(@NonNull MediaType mediaType) {
+		return Arrays.stream(values())
+			.filter((ImportFormat format) -> MediaType.parseMediaType(format.getMediaType())
+				.equalsTypeAndSubtype(mediaType))
+			.findFirst();
+	}
+
+}
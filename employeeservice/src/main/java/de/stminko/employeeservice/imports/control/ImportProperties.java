@@ -0,0 +1,43 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.nio.file.Path;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot configuration properties for "imports" configuration property namespace.
+ *
+ * @author Stéphan Minko
+ * @see ImportService
+ */
+@Data
+@Configuration
+@ConfigurationProperties(ImportProperties.CONFIGURATION_NAMESPACE)
+public class ImportProperties {
+
+	/**
+	 * Configuration property namespace that this class is designed to handle.
+	 */
+	public static final String CONFIGURATION_NAMESPACE = "imports";
+
+	/**
+	 * Directory uploaded files are kept in until their job has finished. Defaults to
+	 * "import-spool".
+	 */
+	private Path spoolDirectory = Path.of("import-spool");
+
+	/**
+	 * Number of jobs running at the same time, further jobs wait as pending. Defaults to
+	 * 1.
+	 */
+	private int workers = 1;
+
+	/**
+	 * Number of staged rows after which a job records its progress. Defaults to 10000.
+	 */
+	private int progressInterval = 10_000;
+
+}
@@ -0,0 +1,84 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * parses the lines of an imported file one at a time, so a malformed line rejects only
+ * itself. Values are taken as they are, the validation happens once the rows are staged.
+ *
+ * @author Stéphan Minko
+ */
+final class ImportRowParser {
+
+	private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+	private final ObjectReader reader;
+
+	private ImportRowParser(ObjectReader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Creates a parser of newline delimited JSON.
+	 * @param objectMapper the {@link ObjectMapper} reading the lines
+	 * @return the parser
+	 */
+	static ImportRowParser ndjson(@NonNull ObjectMapper objectMapper) {
+		return new ImportRowParser(objectMapper.readerFor(ImportRow.class));
+	}
+
+	/**
+	 * Creates a parser of comma separated values whose columns are named by the given
+	 * header line. Columns unknown to the import are ignored.
+	 * @param header the first line of the file
+	 * @return the parser
+	 * @throws IOException if the header cannot be parsed
+	 */
+	static ImportRowParser csv(@NonNull String header) throws IOException {
+		String[] columns = CSV_MAPPER.readerFor(String[].class).readValue(header);
+		CsvSchema.Builder schema = CsvSchema.builder();
+		for (String column : columns) {
+			schema.addColumn(StringUtils.trim(column));
+		}
+		return new ImportRowParser(CSV_MAPPER.readerFor(ImportRow.class).with(schema.build()));
+	}
+
+	/**
+	 * Parses a line of the file.
+	 * @param line the line
+	 * @return the row the line holds, blank values are {@code null}
+	 * @throws IOException if the line is malformed
+	 */
+	ImportRow parse(@NonNull String line) throws IOException {
+		ImportRow row = this.reader.readValue(line);
+		if (row == null) {
+			throw new IOException("The line holds no row");
+		}
+		return new ImportRow(StringUtils.trimToNull(row.emailAddress()), StringUtils.trimToNull(row.firstName()),
+				StringUtils.trimToNull(row.lastName()), StringUtils.trimToNull(row.birthday()),
+				StringUtils.trimToNull(row.departmentName()));
+	}
+
+	/**
+	 * a row of an imported file.
+	 *
+	 * @param emailAddress the email address identifying the employee
+	 * @param firstName the first name
+	 * @param lastName the last name
+	 * @param birthday the birthday formatted as {@code yyyy-MM-dd}
+	 * @param departmentName the name of the department
+	 */
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	record ImportRow(String emailAddress, String firstName, String lastName, String birthday, String departmentName) {
+
+	}
+
+}
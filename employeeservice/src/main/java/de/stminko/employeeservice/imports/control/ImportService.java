@@ -0,0 +1,441 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeRequest;
+import de.stminko.employeeservice.employee.boundary.dto.UsableDateFormat;
+import de.stminko.employeeservice.employee.entity.Employee;
+import de.stminko.employeeservice.runtime.errorhandling.boundary.NotFoundException;
+import de.stminko.employeeservice.runtime.persistence.boundary.ReadYourWritesContext;
+import de.stminko.employeeservice.runtime.persistence.boundary.SecondLevelCacheInvalidator;
+import de.stminko.employeeservice.runtime.persistence.boundary.TimeOrderedUuid;
+import de.stminko.employeeservice.runtime.validation.constraints.boundary.MessageSourceHelper;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * imports employees from CSV or NDJSON files in background jobs.
+ *
+ * <p>
+ * An uploaded file is spooled to the {@link ImportProperties#getSpoolDirectory() spool
+ * directory} and imported by one of {@link ImportProperties#getWorkers()} workers, all
+ * within a single transaction. The file is read line by line and streamed by PostgreSQL
+ * {@code COPY} into a temporary staging table, a line that cannot be parsed is staged
+ * together with the reason, so memory stays flat however large the file is. The staged
+ * rows are then validated and merged set-wise: rows with an invalid email address, an
+ * unknown department or an invalid birthday, and every further row of an email address,
+ * are rejected into the error rows of the job. The remaining rows update the employee
+ * with the same email address, keeping the values a row leaves empty, or create a new
+ * one. All changes share one audit revision, written directly into the history tables
+ * like Envers would.
+ * </p>
+ *
+ * <p>
+ * Imported changes are neither published as events nor as cache invalidations per
+ * employee, downstream systems pick them up from the change feed and the cached employees
+ * are evicted as a whole. The birthday check requires PostgreSQL 16.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see ImportProperties
+ */
+@Slf4j
+@Service
+public class ImportService implements DisposableBean {
+
+	private static final String CREATE_STAGING_TABLE = """
+			CREATE TEMPORARY TABLE employee_import_row (
+				line_number     BIGINT NOT NULL,
+				id              UUID   NOT NULL,
+				email_address   TEXT,
+				first_name      TEXT,
+				last_name       TEXT,
+				birthday        TEXT,
+				department_name TEXT,
+				error           TEXT
+			) ON COMMIT DROP
+			""";
+
+	private static final String COPY_STATEMENT = """
+			COPY pg_temp.employee_import_row (line_number, id, email_address, first_name, last_name, birthday,
+				department_name, error) FROM STDIN WITH (FORMAT csv)
+			""";
+
+	/**
+	 * Moves the invalid rows from the staging table to the error rows of the job. The
+	 * reasons are passed as messages whose placeholder {@code {0}} is replaced by the
+	 * offending value.
+	 */
+	private static final String REJECT_STATEMENT = """
+			WITH validated AS (
+				SELECT r.line_number, r.email_address,
+					CASE
+						WHEN r.error IS NOT NULL THEN r.error
+						WHEN r.email_address IS NULL THEN ?
+						WHEN r.email_address !~ ? THEN replace(?, '{0}', r.email_address)
+						WHEN r.department_name IS NULL THEN ?
+						WHEN d.id IS NULL THEN replace(?, '{0}', r.department_name)
+						WHEN (r.birthday IS NOT NULL) AND ((r.birthday !~ '^\\d{4}-\\d{2}-\\d{2}$')
+							OR NOT pg_input_is_valid(r.birthday, 'date')) THEN replace(?, '{0}', r.birthday)
+					END AS reason
+				FROM pg_temp.employee_import_row r
+				LEFT JOIN data.department d ON d.department_name = r.department_name),
+			checked AS (
+				SELECT line_number,
+					COALESCE(reason, CASE
+						WHEN ROW_NUMBER() OVER (PARTITION BY reason IS NULL, LOWER(email_address)
+							ORDER BY line_number) > 1 THEN replace(?, '{0}', email_address)
+					END) AS reason
+				FROM validated),
+			rejected AS (
+				DELETE FROM pg_temp.employee_import_row r
+				USING checked c
+				WHERE c.line_number = r.line_number AND c.reason IS NOT NULL
+				RETURNING r.line_number, c.reason, r.email_address)
+			INSERT INTO data.employee_import_error (import_id, line_number, reason, email_address)
+			SELECT ?, line_number, reason, email_address FROM rejected
+			""";
+
+	private static final String INSERT_REVISION = "INSERT INTO history.audit_trail (timestamp) VALUES (?) RETURNING id";
+
+	/**
+	 * Updates the employees whose email address matches a staged row, as long as the row
+	 * changes them, and writes their history rows, closing the previous ones.
+	 */
+	private static final String UPDATE_STATEMENT = """
+			WITH matched AS (
+				SELECT e.id, r.first_name, r.last_name,
+					CAST(CAST(r.birthday AS DATE) AS TIMESTAMP) AT TIME ZONE 'UTC' AS birthday, d.id AS department_id
+				FROM pg_temp.employee_import_row r
+				JOIN data.employee e ON LOWER(e.email_address) = LOWER(r.email_address)
+				JOIN data.department d ON d.department_name = r.department_name),
+			previous AS (
+				SELECT e.* FROM data.employee e JOIN matched m ON e.id = m.id),
+			updated AS (
+				UPDATE data.employee e
+				SET first_name       = COALESCE(m.first_name, e.first_name),
+					last_name        = COALESCE(m.last_name, e.last_name),
+					birthday         = COALESCE(m.birthday, e.birthday),
+					department_id    = m.department_id,
+					last_modified_at = ?,
+					last_modified_by = ?,
+					version          = e.version + 1
+				FROM matched m
+				WHERE e.id = m.id
+					AND (COALESCE(m.first_name, e.first_name), COALESCE(m.last_name, e.last_name),
+						COALESCE(m.birthday, e.birthday), m.department_id)
+						IS DISTINCT FROM (e.first_name, e.last_name, e.birthday, e.department_id)
+				RETURNING e.*),
+			closed AS (
+				UPDATE history.employee_history h
+				SET revend       = ?,
+					revend_tstmp = ?
+				FROM updated u
+				WHERE h.id = u.id AND h.revend IS NULL),
+			history AS (
+				INSERT INTO history.employee_history (id, rev, revtype, birthday, email_address, first_name,
+					last_name, department_id, last_modified_at, last_modified_by, birthday_mod, email_address_mod,
+					full_name_mod, department_mod, last_modified_at_mod, last_modified_by_mod)
+				SELECT u.id, ?, 1, u.birthday, u.email_address, u.first_name,
+					u.last_name, u.department_id, u.last_modified_at, u.last_modified_by,
+					u.birthday IS DISTINCT FROM p.birthday,
+					FALSE,
+					(u.first_name, u.last_name) IS DISTINCT FROM (p.first_name, p.last_name),
+					u.department_id IS DISTINCT FROM p.department_id,
+					u.last_modified_at IS DISTINCT FROM p.last_modified_at,
+					u.last_modified_by IS DISTINCT FROM p.last_modified_by
+				FROM updated u JOIN previous p ON p.id = u.id)
+			SELECT COUNT(*) FROM updated
+			""";
+
+	/**
+	 * Creates the employees of the staged rows whose email address is not taken and
+	 * writes their history rows.
+	 */
+	private static final String INSERT_STATEMENT = """
+			WITH inserted AS (
+				INSERT INTO data.employee (id, created_at, created_by, last_modified_at, last_modified_by, version,
+					birthday, email_address, first_name, last_name, department_id)
+				SELECT r.id, ?, ?, ?, ?, 0,
+					CAST(CAST(r.birthday AS DATE) AS TIMESTAMP) AT TIME ZONE 'UTC', r.email_address, r.first_name,
+					r.last_name, d.id
+				FROM pg_temp.employee_import_row r
+				JOIN data.department d ON d.department_name = r.department_name
+				WHERE NOT EXISTS (
+					SELECT 1 FROM data.employee e WHERE LOWER(e.email_address) = LOWER(r.email_address))
+				RETURNING *),
+			history AS (
+				INSERT INTO history.employee_history (id, rev, revtype, birthday, email_address, first_name,
+					last_name, department_id, last_modified_at, last_modified_by, birthday_mod, email_address_mod,
+					full_name_mod, department_mod, last_modified_at_mod, last_modified_by_mod)
+				SELECT i.id, ?, 0, i.birthday, i.email_address, i.first_name,
+					i.last_name, i.department_id, i.last_modified_at, i.last_modified_by,
+					i.birthday IS NOT NULL, TRUE, (i.first_name IS NOT NULL) OR (i.last_name IS NOT NULL), TRUE, TRUE,
+					TRUE
+				FROM inserted i)
+			SELECT COUNT(*) FROM inserted
+			""";
+
+	private final EmployeeImportRepository repository;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	private final MessageSourceHelper messageSourceHelper;
+
+	private final AuditorAware<String> auditorProvider;
+
+	private final DateTimeProvider dateTimeProvider;
+
+	private final ObjectProvider<SecondLevelCacheInvalidator> cacheInvalidator;
+
+	private final ImportProperties properties;
+
+	private final ExecutorService workers;
+
+	public ImportService(EmployeeImportRepository repository, JdbcTemplate jdbcTemplate,
+			TransactionTemplate transactionTemplate, ObjectMapper objectMapper, MessageSourceHelper messageSourceHelper,
+			AuditorAware<String> auditorProvider, DateTimeProvider dateTimeProvider,
+			ObjectProvider<SecondLevelCacheInvalidator> cacheInvalidator, ImportProperties properties) {
+		this.repository = repository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.objectMapper = objectMapper;
+		this.messageSourceHelper = messageSourceHelper;
+		this.auditorProvider = auditorProvider;
+		this.dateTimeProvider = dateTimeProvider;
+		this.cacheInvalidator = cacheInvalidator;
+		this.properties = properties;
+		AtomicInteger workerNumber = new AtomicInteger();
+		this.workers = Executors.newFixedThreadPool(properties.getWorkers(), (Runnable runnable) -> {
+			Thread thread = new Thread(runnable, "employee-import-" + workerNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Spools an uploaded file and starts the job importing it as soon as a worker is
+	 * free.
+	 * @param format the format of the file
+	 * @param content the content of the file, read until its end
+	 * @return the pending job
+	 * @throws UncheckedIOException if the file cannot be spooled
+	 */
+	public EmployeeImport submit(@NonNull ImportFormat format, @NonNull InputStream content) {
+		UUID id = TimeOrderedUuid.next();
+		log.info("submit( id= [{}], format= [{}] )", id, format);
+		Path file = this.properties.getSpoolDirectory().resolve(id + "." + format.name().toLowerCase(Locale.ROOT));
+		try {
+			Files.createDirectories(this.properties.getSpoolDirectory());
+			Files.copy(content, file);
+		}
+		catch (IOException exception) {
+			deleteSpooledFile(file);
+			throw new UncheckedIOException("Cannot spool the import " + id, exception);
+		}
+		this.repository.insert(id, format, now(), this.auditorProvider.getCurrentAuditor().orElseThrow());
+		this.workers.execute(() -> ReadYourWritesContext.runIsolated(() -> run(id, format, file)));
+		return findById(id);
+	}
+
+	/**
+	 * Retrieves an import job.
+	 * @param id the id of the job
+	 * @return the job
+	 * @throws NotFoundException if there is no job with the id
+	 */
+	public EmployeeImport findById(@NonNull UUID id) {
+		return this.repository.findById(id)
+			.orElseThrow(
+					() -> new NotFoundException(this.messageSourceHelper.getMessage("errors.import.id.not-found", id)));
+	}
+
+	/**
+	 * Retrieves the rejected rows of an import job in the order of the file.
+	 * @param id the id of the job
+	 * @param pageable the page to retrieve
+	 * @return the page of rejected rows
+	 * @throws NotFoundException if there is no job with the id
+	 */
+	public Page<ImportError> findErrors(@NonNull UUID id, @NonNull Pageable pageable) {
+		findById(id);
+		return this.repository.findErrors(id, pageable);
+	}
+
+	@Override
+	public void destroy() {
+		this.workers.shutdownNow();
+	}
+
+	private void run(UUID id, ImportFormat format, Path file) {
+		log.info("run( id= [{}], format= [{}] )", id, format);
+		try {
+			this.repository.markStaging(id, now());
+			MergeResult result = this.transactionTemplate
+				.execute((TransactionStatus status) -> importFile(id, format, file));
+			assert result != null;
+			this.repository.markSucceeded(id, result.createdRows(), result.updatedRows(), result.rejectedRows(),
+					result.revision(), now());
+			log.info("Import [{}] staged [{}] rows: [{}] created, [{}] updated, [{}] rejected", id, result.stagedRows(),
+					result.createdRows(), result.updatedRows(), result.rejectedRows());
+		}
+		catch (RuntimeException exception) {
+			log.error("Import [{}] failed", id, exception);
+			this.repository.markFailed(id, exception.getMessage(), now());
+		}
+		finally {
+			deleteSpooledFile(file);
+		}
+	}
+
+	private MergeResult importFile(UUID id, ImportFormat format, Path file) {
+		this.jdbcTemplate.execute(CREATE_STAGING_TABLE);
+		Long stagedRows = this.jdbcTemplate.execute((Connection connection) -> stage(id, format, file, connection));
+		assert stagedRows != null;
+		this.jdbcTemplate.execute("ANALYZE pg_temp.employee_import_row");
+		this.repository.markMerging(id, stagedRows);
+
+		long rejectedRows = this.jdbcTemplate.update(REJECT_STATEMENT,
+				this.messageSourceHelper.getMessage("errors.employee.email.not-blank"), EmployeeRequest.EMAIL_REGEX,
+				this.messageSourceHelper.getMessage("errors.import.email.invalid", "{0}"),
+				this.messageSourceHelper.getMessage("errors.employee.department-name.not-blank"),
+				this.messageSourceHelper.getMessage("errors.department.name.not-found", "{0}"),
+				this.messageSourceHelper.getMessage("errors.date.not-parseable", "{0}",
+						UsableDateFormat.DEFAULT.getDateFormat()),
+				this.messageSourceHelper.getMessage("errors.employee.email.already-exists", "{0}"), id);
+		if (stagedRows == rejectedRows) {
+			return new MergeResult(stagedRows, 0L, 0L, rejectedRows, null);
+		}
+
+		ZonedDateTime now = now();
+		long revisionTimestamp = now.toInstant().toEpochMilli();
+		String auditor = this.auditorProvider.getCurrentAuditor().orElseThrow();
+		Long revision = this.jdbcTemplate.queryForObject(INSERT_REVISION, Long.class, revisionTimestamp);
+		Long updatedRows = this.jdbcTemplate.queryForObject(UPDATE_STATEMENT, Long.class, now.toOffsetDateTime(),
+				auditor, revision, revisionTimestamp, revision);
+		Long createdRows = this.jdbcTemplate.queryForObject(INSERT_STATEMENT, Long.class, now.toOffsetDateTime(),
+				auditor, now.toOffsetDateTime(), auditor, revision);
+		assert (updatedRows != null) && (createdRows != null);
+		if ((updatedRows + createdRows) == 0L) {
+			this.jdbcTemplate.update("DELETE FROM history.audit_trail WHERE id = ?", revision);
+			return new MergeResult(stagedRows, 0L, 0L, rejectedRows, null);
+		}
+		this.cacheInvalidator.ifAvailable(
+				(SecondLevelCacheInvalidator invalidator) -> invalidator.invalidateAllAfterCommit(Employee.class));
+		return new MergeResult(stagedRows, createdRows, updatedRows, rejectedRows, revision);
+	}
+
+	private long stage(UUID id, ImportFormat format, Path file, Connection connection) throws SQLException {
+		PGConnection pgConnection = connection.unwrap(PGConnection.class);
+		long stagedRows = 0L;
+		long lineNumber = 0L;
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+				Writer copy = new BufferedWriter(new OutputStreamWriter(
+						new PGCopyOutputStream(pgConnection, COPY_STATEMENT), StandardCharsets.UTF_8))) {
+			ImportRowParser parser = (format == ImportFormat.NDJSON) ? ImportRowParser.ndjson(this.objectMapper) : null;
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				lineNumber++;
+				if (StringUtils.isBlank(line)) {
+					continue;
+				}
+				if (parser == null) {
+					parser = ImportRowParser.csv(line);
+					continue;
+				}
+				copy.write(stagedRecord(lineNumber, parser, line));
+				stagedRows++;
+				if ((stagedRows % this.properties.getProgressInterval()) == 0) {
+					copy.flush();
+					this.repository.updateStagedRows(id, stagedRows);
+				}
+			}
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException("Cannot stage line " + lineNumber + " of the import " + id, exception);
+		}
+		return stagedRows;
+	}
+
+	private String stagedRecord(long lineNumber, ImportRowParser parser, String line) {
+		try {
+			ImportRowParser.ImportRow row = parser.parse(line);
+			return copyRecord(lineNumber, TimeOrderedUuid.next(), row.emailAddress(), row.firstName(), row.lastName(),
+					row.birthday(), row.departmentName(), null);
+		}
+		catch (IOException exception) {
+			String reason = (exception instanceof JsonProcessingException jsonException)
+					? jsonException.getOriginalMessage() : exception.getMessage();
+			return copyRecord(lineNumber, TimeOrderedUuid.next(), null, null, null, null, null,
+					this.messageSourceHelper.getMessage("errors.import.line.malformed", reason));
+		}
+	}
+
+	private ZonedDateTime now() {
+		return this.dateTimeProvider.getNow().map(ZonedDateTime::from).orElseGet(ZonedDateTime::now);
+	}
+
+	private static void deleteSpooledFile(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException exception) {
+			log.warn("Cannot delete the spooled import [{}]: {}", file, exception.getMessage());
+		}
+	}
+
+	/**
+	 * Formats a record of the staging table in the CSV format of {@code COPY}. Values are
+	 * quoted, so only missing values become {@code NULL}.
+	 * @param values the values of the record
+	 * @return the record terminated by a newline
+	 */
+	static String copyRecord(Object... values) {
+		return Stream.of(values)
+			.map((Object value) -> (value != null) ? "\"" + value.toString().replace("\"", "\"\"") + "\"" : "")
+			.collect(Collectors.joining(",", "", "\n"));
+	}
+
+	private record MergeResult(long stagedRows, long createdRows, long updatedRows, long rejectedRows, Long revision) {
+
+	}
+
+}
@@ -0,0 +1,43 @@
+package de.stminko.employeeservice.imports.control;
+
+/**
+ * the stages of an import job.
+ *
+ * @author Stéphan Minko
+ */
+public enum ImportStatus {
+
+	/**
+	 * The file is uploaded and the job waits for a free worker.
+	 */
+	PENDING,
+
+	/**
+	 * The rows of the file are being copied into the staging table.
+	 */
+	STAGING,
+
+	/**
+	 * The staged rows are being validated and merged into the employees.
+	 */
+	MERGING,
+
+	/**
+	 * The job is done, every row was either merged or rejected.
+	 */
+	SUCCEEDED,
+
+	/**
+	 * The job failed and nothing was imported.
+	 */
+	FAILED;
+
+	/**
+	 * Tells whether the job has come to an end.
+	 * @return true if the job succeeded or failed
+	 */
+	public boolean isFinished() {
+		return (this == SUCCEEDED) || (this == FAILED);
+	}
+
+}
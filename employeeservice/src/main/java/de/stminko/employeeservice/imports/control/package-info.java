@@ -0,0 +1,12 @@
+/**
+ * contains the business logic classes of the employee import in the Employee Service
+ * application.
+ *
+ * <p>
+ * This package loads whole files of employees in background jobs, staging their rows by
+ * PostgreSQL {@code COPY} and merging them set-wise into the employees
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+package de.stminko.employeeservice.imports.control;
@@ -4,12 +4,17 @@ import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import de.stminko.employeeservice.runtime.errorhandling.entity.ErrorInfo;
+import de.stminko.employeeservice.runtime.validation.constraints.boundary.MessageSourceHelper;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.logging.LogLevel;
 import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
@@ -65,8 +71,16 @@ public class GlobalExceptionHandler {
 
 	private static final String REQUESTED_CONTENT_TYPE_NOT_SUPPORTED_ERROR_MESSAGE = "None of the requested Content Types [%s] is supported. Falling back to Content-Type: [%s]";
 
+	/**
+	 * Extracts the conflicting value from the detail PostgreSQL reports for a unique
+	 * violation, e.g. {@code Key (department_name)=(Sales) already exists.}
+	 */
+	private static final Pattern DUPLICATE_KEY_DETAIL = Pattern.compile("Key \\(.*?\\)=\\((.*)\\) already exists");
+
 	private final RestErrorHandlingProperties configuration;
 
+	private final MessageSourceHelper messageSourceHelper;
+
 	private final Set<MediaType> supportedResponseMediaTypes = new HashSet<>();
 
 	/**
@@ -75,11 +89,14 @@ public class GlobalExceptionHandler {
 	 * @param messageConverters a {@link List} of registered {@link HttpMessageConverter}
 	 * beans from the spring context. Used to determine the supported Response Content
 	 * Mime Types.
+	 * @param messageSourceHelper the helper used to localize the messages of violated
+	 * unique constraints.
 	 */
 	@Autowired
 	protected GlobalExceptionHandler(RestErrorHandlingProperties configuration,
-			List<HttpMessageConverter<?>> messageConverters) {
+			List<HttpMessageConverter<?>> messageConverters, MessageSourceHelper messageSourceHelper) {
 		this.configuration = configuration;
+		this.messageSourceHelper = messageSourceHelper;
 		messageConverters.forEach((HttpMessageConverter<?> converter) -> this.supportedResponseMediaTypes
 			.addAll(converter.getSupportedMediaTypes()));
 		log.info("ExceptionHandler/ControllerAdvice: [{}], Response Body Type: [{}]", getClass().getName(),
@@ -88,6 +105,28 @@ public class GlobalExceptionHandler {
 				this.supportedResponseMediaTypes);
 	}
 
+	/**
+	 * Handler for any Exception not handled more specifically. Once the response has been
+	 * committed, e.g. by a streamed export failing midway, no error response can be sent
+	 * anymore. The Exception is then rethrown for the servlet container to abort the
+	 * connection, instead of completing the truncated response.
+	 * @param caught the Exception to handle
+	 * @param request the {@link HttpServletRequest} context
+	 * @param response the {@link HttpServletResponse} to answer
+	 * @return the {@link ResponseEntity} containing the error response body
+	 * @throws Exception the caught Exception if the response has been committed
+	 */
+	@ExceptionHandler(Exception.class)
+	public final ResponseEntity<ErrorInfo> handleUncaughtException(Exception caught, HttpServletRequest request,
+			HttpServletResponse response) throws Exception {
+		if (response.isCommitted()) {
+			log.warn("Response to [{}] already committed, aborting it: [{}]", request.getRequestURI(),
+					caught.getMessage());
+			throw caught;
+		}
+		return handleException(caught, request);
+	}
+
 	/**
 	 * Generic Exception handler method. Is called from any other Exception handler either
 	 * directly or indirectly.
@@ -95,7 +134,6 @@ public class GlobalExceptionHandler {
 	 * @param request the {@link HttpServletRequest} context
 	 * @return the {@link ResponseEntity} containing the R generic as its response body
 	 */
-	@ExceptionHandler(Exception.class)
 	public final ResponseEntity<ErrorInfo> handleException(Throwable caught, HttpServletRequest request) {
 		Throwable rootCause = Optional.ofNullable(NestedExceptionUtils.getRootCause(caught)).orElse(caught);
 		HttpStatus responseStatus = resolveHttpResponseStatus(caught, rootCause);
@@ -119,6 +157,34 @@ public class GlobalExceptionHandler {
 			.body(createErrorResponseBody(responseStatus, rootCause, request, constraintViolations));
 	}
 
+	/**
+	 * Handler for violated database constraints. A violation of a unique constraint that
+	 * is mapped in {@link RestErrorHandlingProperties#getUniqueConstraintMessages()} is
+	 * translated into a {@link BadRequestException} carrying the localized message. Any
+	 * other violation is handled by
+	 * {@link #handleException(Throwable, HttpServletRequest)} as is.
+	 * @param caught the {@link DataIntegrityViolationException} to handle
+	 * @param request the {@link HttpServletRequest} context
+	 * @return the {@link ResponseEntity} containing the error response body
+	 */
+	@ExceptionHandler(DataIntegrityViolationException.class)
+	public final ResponseEntity<ErrorInfo> handleDataIntegrityViolation(DataIntegrityViolationException caught,
+			HttpServletRequest request) {
+		Optional<String> messageKey = getViolatedConstraintName(caught)
+			.map((String constraintName) -> this.configuration.getUniqueConstraintMessages()
+				.get(constraintName.toLowerCase(Locale.ROOT)));
+		if (messageKey.isEmpty()) {
+			return handleException(caught, request);
+		}
+		log.debug("Translating violated unique constraint into message [{}]", messageKey.get(), caught);
+		Throwable rootCause = Optional.ofNullable(NestedExceptionUtils.getRootCause(caught)).orElse(caught);
+		Matcher detail = DUPLICATE_KEY_DETAIL.matcher(String.valueOf(rootCause.getMessage()));
+		String conflictingValue = detail.find() ? detail.group(1) : "";
+		return handleException(
+				new BadRequestException(this.messageSourceHelper.getMessage(messageKey.get(), conflictingValue)),
+				request);
+	}
+
 	/**
 	 * Create the response body Entity.
 	 * @param status the HTTP status for the response
@@ -195,6 +261,23 @@ public class GlobalExceptionHandler {
 		return httpStatus;
 	}
 
+	/**
+	 * Find the name of the violated constraint within the cause chain of the given
+	 * {@link Throwable}.
+	 * @param caught the {@link Throwable} to inspect
+	 * @return the constraint name reported by Hibernate, if any
+	 */
+	private Optional<String> getViolatedConstraintName(Throwable caught) {
+		Throwable cause = caught;
+		while (cause != null) {
+			if (cause instanceof org.hibernate.exception.ConstraintViolationException constraintViolation) {
+				return Optional.ofNullable(constraintViolation.getConstraintName());
+			}
+			cause = cause.getCause();
+		}
+		return Optional.empty();
+	}
+
 	/**
 	 * Log the handled Exception.
 	 * @param status the HttpStatus resolved for the exception
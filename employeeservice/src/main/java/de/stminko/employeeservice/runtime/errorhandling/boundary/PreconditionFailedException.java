@@ -0,0 +1,19 @@
+package de.stminko.employeeservice.runtime.errorhandling.boundary;
+
+/**
+ * exception thrown when a conditional request cannot be applied because the resource has
+ * been changed since the version the client has sent, e.g. within an {@code If-Match}
+ * header.
+ * <p>
+ * This exception is mapped to HTTP 412 Precondition Failed, telling the client to reload
+ * the resource before trying again.
+ *
+ * @author Stéphan Minko
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+	public PreconditionFailedException(String message) {
+		super(message);
+	}
+
+}
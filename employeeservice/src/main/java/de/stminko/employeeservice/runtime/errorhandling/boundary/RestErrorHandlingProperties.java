@@ -1,5 +1,6 @@
 package de.stminko.employeeservice.runtime.errorhandling.boundary;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import lombok.Data;
@@ -49,4 +50,11 @@ public class RestErrorHandlingProperties {
 	 */
 	private Map<Integer, LogLevel> httpStatusLogLevel;
 
+	/**
+	 * A map of database unique constraint names to the message key that describes their
+	 * violation. A violation of a mapped constraint is answered with HTTP 400 and the
+	 * localized message, the conflicting value being its only argument.
+	 */
+	private Map<String, String> uniqueConstraintMessages = new HashMap<>();
+
 }
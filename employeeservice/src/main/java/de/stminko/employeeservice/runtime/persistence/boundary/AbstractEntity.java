@@ -33,7 +33,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * @param <ID> the type of the identifier of the entity
  * @author Stéphan Minko
  */
-@Audited
+@Audited(withModifiedFlag = true)
 @Getter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
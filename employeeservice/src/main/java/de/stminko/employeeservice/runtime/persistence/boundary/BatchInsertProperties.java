@@ -0,0 +1,36 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot configuration properties for "persistence.batch-insert" configuration
+ * property namespace.
+ *
+ * <p>
+ * The JDBC batching itself is configured by {@code hibernate.jdbc.batch_size},
+ * {@code hibernate.order_inserts} and the {@code reWriteBatchedInserts} parameter of the
+ * datasource url.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+@Data
+@Configuration
+@ConfigurationProperties(BatchInsertProperties.CONFIGURATION_NAMESPACE)
+public class BatchInsertProperties {
+
+	/**
+	 * Configuration property namespace that this class is designed to handle.
+	 */
+	public static final String CONFIGURATION_NAMESPACE = "persistence.batch-insert";
+
+	/**
+	 * Maximum number of entities a single batch request may create. All of them are
+	 * inserted in one transaction and one audit revision. Defaults to 1000.
+	 */
+	private int maxItems = 1_000;
+
+}
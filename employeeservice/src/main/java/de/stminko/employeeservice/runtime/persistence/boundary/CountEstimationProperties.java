@@ -0,0 +1,37 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot configuration properties for "persistence.count-estimation" configuration
+ * property namespace.
+ *
+ * @author Stéphan Minko
+ * @see PageTotalEstimator
+ */
+@Data
+@Configuration
+@ConfigurationProperties(CountEstimationProperties.CONFIGURATION_NAMESPACE)
+public class CountEstimationProperties {
+
+	/**
+	 * Configuration property namespace that this class is designed to handle.
+	 */
+	public static final String CONFIGURATION_NAMESPACE = "persistence.count-estimation";
+
+	/**
+	 * Whether the totals of unfiltered listings may be estimated from the planner
+	 * statistics. Defaults to true.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Estimated row count below which the exact {@code SELECT COUNT(*)} is still issued.
+	 * Defaults to 10000.
+	 */
+	private long exactCountThreshold = 10_000L;
+
+}
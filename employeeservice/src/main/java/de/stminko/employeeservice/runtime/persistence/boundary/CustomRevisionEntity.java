@@ -1,5 +1,6 @@
 package de.stminko.employeeservice.runtime.persistence.boundary;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -8,8 +9,6 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.GenericGenerator;
-import org.hibernate.annotations.Parameter;
 import org.hibernate.envers.RevisionEntity;
 import org.hibernate.envers.RevisionNumber;
 import org.hibernate.envers.RevisionTimestamp;
@@ -25,8 +24,18 @@ import org.hibernate.envers.RevisionTimestamp;
  *
  * <p>
  * The class is marked as a JPA entity and is stored in the {@code audit_trail} table
- * within the {@code history} schema. It utilizes a generated identifier derived from a
- * sequence {@code audit_trail_sequence} in the same schema.
+ * within the {@code history} schema. Its identifier is generated by the column default,
+ * which draws the next value of the sequence {@code audit_trail_sequence} in the same
+ * schema one at a time, since revisions are ordered by their number. The default takes
+ * the transaction id of the writer before drawing the number, and a trigger records the
+ * transaction horizon of the revision right after, see {@link RevisionFinder}.
+ * </p>
+ *
+ * <p>
+ * The audit trail and the history tables are range partitioned by revision, see
+ * {@link HistoryPartitionMaintainer}. Revision lookups ordered by revision number with a
+ * limit, like the latest change of an entity, are answered from the newest partitions
+ * without touching older ones.
  * </p>
  *
  * <p>
@@ -43,18 +52,17 @@ import org.hibernate.envers.RevisionTimestamp;
 @Entity
 @Table(name = "audit_trail", schema = "history")
 @RevisionEntity
-@GenericGenerator(name = "audit_trail_sequence", type = org.hibernate.id.enhanced.SequenceStyleGenerator.class,
-		parameters = { @Parameter(name = "sequence_name", value = "history.audit_trail_sequence"),
-				@Parameter(name = "initial_value", value = "1"), @Parameter(name = "increment_size", value = "1"),
-				@Parameter(name = "schema", value = "history") })
 public class CustomRevisionEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_trail_sequence")
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@RevisionNumber
 	private Long id;
 
 	@RevisionTimestamp
 	private Long timestamp;
 
+	@Column(name = "xid_horizon", insertable = false, updatable = false)
+	private Long xidHorizon;
+
 }
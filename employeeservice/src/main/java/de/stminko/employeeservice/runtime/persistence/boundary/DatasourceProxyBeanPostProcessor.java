@@ -16,6 +16,7 @@ import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ReflectionUtils;
 
@@ -27,7 +28,9 @@ import org.springframework.util.ReflectionUtils;
  * This post-processor is conditionally activated based on the presence and value of the
  * property 'datasource-debug.enabled'. When enabled, it wraps any DataSource bean that is
  * not already a ProxyDataSource with a new proxy. This proxy provides enhanced debugging
- * and logging capabilities for the DataSource.
+ * and logging capabilities for the DataSource. Delegating data sources, like the lazy
+ * proxy in front of the read replica routing, are left alone since the data source they
+ * delegate to is wrapped already.
  * </p>
  *
  * <p>
@@ -63,7 +66,8 @@ public class DatasourceProxyBeanPostProcessor implements BeanPostProcessor {
 	 */
 	@Override
 	public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
-		if ((bean instanceof DataSource source) && !(bean instanceof ProxyDataSource)) {
+		if ((bean instanceof DataSource source) && !(bean instanceof ProxyDataSource)
+				&& !(bean instanceof DelegatingDataSource)) {
 			final ProxyFactory factory = new ProxyFactory(bean);
 			factory.setProxyTargetClass(true);
 			factory.addAdvice(new ProxyDataSourceInterceptor(source));
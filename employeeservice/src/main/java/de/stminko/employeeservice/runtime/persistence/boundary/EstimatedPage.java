@@ -0,0 +1,44 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * a {@link Page} whose total is taken from the planner statistics instead of an exact
+ * {@code SELECT COUNT(*)}.
+ *
+ * <p>
+ * Mapping the content keeps the page estimated, so the information survives the
+ * conversion into response objects.
+ * </p>
+ *
+ * @param <T> the type of the page content
+ * @author Stéphan Minko
+ * @see PageTotalEstimator
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a new EstimatedPage.
+	 * @param content the content of this page
+	 * @param pageable the paging information
+	 * @param estimatedTotal the estimated amount of items available
+	 */
+	public EstimatedPage(List<T> content, Pageable pageable, long estimatedTotal) {
+		super(content, pageable, estimatedTotal);
+	}
+
+	@Override
+	public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+		return new EstimatedPage<>(getConvertedContent(converter), getPageable(), getTotalElements());
+	}
+
+}
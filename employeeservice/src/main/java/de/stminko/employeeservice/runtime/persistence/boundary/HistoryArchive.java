@@ -0,0 +1,138 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * gzip compressed NDJSON archive of pruned history rows.
+ *
+ * <p>
+ * The rows of a table are written to monthly segments by the UTC month of their revision,
+ * e.g. {@code employee_history/employee_history-2024-01.ndjson.gz}. Each line holds a row
+ * as rendered by {@code row_to_json}, so it can be re-imported with
+ * {@code json_populate_record}. Every append adds a gzip member that is synced to disk
+ * before it returns, a segment is read as the concatenation of its members.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see HistoryPruner
+ */
+@RequiredArgsConstructor
+public class HistoryArchive {
+
+	static final String SEGMENT_SUFFIX = ".ndjson.gz";
+
+	@NonNull
+	private final Path directory;
+
+	/**
+	 * Appends rows of a table to the segments of their months.
+	 * @param table the name of the table without schema
+	 * @param rows the rows to append
+	 * @return the segments appended to
+	 * @throws UncheckedIOException if a segment cannot be written
+	 */
+	public List<Path> append(@NonNull String table, @NonNull Collection<ArchivedRow> rows) {
+		Map<YearMonth, List<ArchivedRow>> rowsByMonth = new TreeMap<>();
+		rows.forEach((ArchivedRow row) -> rowsByMonth
+			.computeIfAbsent(YearMonth.from(Instant.ofEpochMilli(row.timestamp()).atZone(ZoneOffset.UTC)),
+					(YearMonth month) -> new ArrayList<>())
+			.add(row));
+		List<Path> segments = new ArrayList<>();
+		rowsByMonth.forEach((YearMonth month, List<ArchivedRow> monthRows) -> {
+			Path segment = segmentOf(table, month);
+			write(segment, monthRows);
+			segments.add(segment);
+		});
+		return segments;
+	}
+
+	/**
+	 * Resolves the segment holding the rows of a table revised in a month.
+	 * @param table the name of the table without schema
+	 * @param month the month of the revisions
+	 * @return the path of the segment
+	 */
+	public Path segmentOf(@NonNull String table, @NonNull YearMonth month) {
+		return this.directory.resolve(table).resolve(table + "-" + month + SEGMENT_SUFFIX);
+	}
+
+	/**
+	 * Reads the rows of a segment in the order they were appended.
+	 * @param segment the path of the segment
+	 * @param consumer the consumer the JSON representation of every row is passed to
+	 * @return the number of rows read
+	 * @throws UncheckedIOException if the segment cannot be read
+	 */
+	public static long read(@NonNull Path segment, @NonNull Consumer<String> consumer) {
+		long count = 0L;
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(new GZIPInputStream(Files.newInputStream(segment)), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isBlank()) {
+					consumer.accept(line);
+					count++;
+				}
+			}
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException("Cannot read archive segment [%s]".formatted(segment), exception);
+		}
+		return count;
+	}
+
+	private static void write(Path segment, List<ArchivedRow> rows) {
+		try {
+			Files.createDirectories(segment.getParent());
+			try (FileOutputStream file = new FileOutputStream(segment.toFile(), true);
+					GZIPOutputStream gzip = new GZIPOutputStream(file);
+					Writer writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8)) {
+				for (ArchivedRow row : rows) {
+					writer.write(row.json());
+					writer.write('\n');
+				}
+				writer.flush();
+				gzip.finish();
+				file.getChannel().force(true);
+			}
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException("Cannot write archive segment [%s]".formatted(segment), exception);
+		}
+	}
+
+	/**
+	 * a pruned row.
+	 *
+	 * @param revision the revision of the row
+	 * @param timestamp the time the revision was committed in epoch milliseconds
+	 * @param json the row as rendered by {@code row_to_json}
+	 */
+	public record ArchivedRow(long revision, long timestamp, @NonNull String json) {
+
+	}
+
+}
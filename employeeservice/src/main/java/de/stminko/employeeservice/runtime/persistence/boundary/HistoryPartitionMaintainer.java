@@ -0,0 +1,322 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * maintains the revision range partitions of the audit trail and the history tables.
+ *
+ * <p>
+ * {@code history.audit_trail} is partitioned by its id, the history tables by their
+ * {@code rev} column, all of them using the same ranges. Each run creates the partitions
+ * needed to cover {@link HistoryPartitioningProperties#getPremadePartitions()} further
+ * partitions above the current revision, so inserts never miss a partition.
+ * </p>
+ *
+ * <p>
+ * The history is not expired by detaching partitions, this is up to the
+ * {@link HistoryPruner}. A partition still holding the open history row of an entity,
+ * i.e. one without {@code revend}, is never detached. That row is the latest state of the
+ * entity, Envers closes it on the next change and point-in-time queries find the entity
+ * through it. As long as entities remain unchanged, the oldest partitions keep such rows,
+ * so detaching is disabled unless
+ * {@link HistoryPartitioningProperties#getRetainedPartitions()} is set. Then the oldest
+ * partitions exceeding it are detached, history tables first, up to the first one still
+ * holding open rows. Detached partitions stay in the {@code history} schema as plain
+ * tables.
+ * </p>
+ *
+ * <p>
+ * Partitions are detached concurrently, outside of a transaction, so that the tables are
+ * not locked exclusively. A detach interrupted by a failure is finalized on the next run.
+ * Runs of several instances are serialized by an advisory lock. Tables that are not
+ * partitioned, e.g. when the schema is created by Hibernate, are left alone.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see HistoryPartitioningProperties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = HistoryPartitioningProperties.CONFIGURATION_NAMESPACE, name = "enabled",
+		havingValue = "true", matchIfMissing = true)
+public class HistoryPartitionMaintainer {
+
+	static final String AUDIT_TRAIL = "audit_trail";
+
+	static final List<String> HISTORY_TABLES = List.of("employee_history", "department_history");
+
+	private static final String SCHEMA = "history";
+
+	private static final long ADVISORY_LOCK_KEY = 4_711_013L;
+
+	private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\('?(-?\\d+)'?\\) TO \\('?(-?\\d+)'?\\)");
+
+	private static final String IS_PARTITIONED_QUERY = "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)";
+
+	private static final String PARTITIONS_QUERY = """
+			SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+			FROM pg_inherits i
+			JOIN pg_class c ON c.oid = i.inhrelid
+			WHERE i.inhparent = to_regclass(?)
+			""";
+
+	private static final String CURRENT_REVISION_QUERY = """
+			SELECT COALESCE(last_value, 0) + increment_by
+			FROM pg_sequences
+			WHERE schemaname = 'history' AND sequencename = 'audit_trail_sequence'
+			""";
+
+	private static final String PENDING_DETACH_QUERY = """
+			SELECT c.relname
+			FROM pg_inherits i
+			JOIN pg_class c ON c.oid = i.inhrelid
+			WHERE i.inhparent = to_regclass(?) AND i.inhdetachpending
+			""";
+
+	private static final String OPEN_ROWS_QUERY = "SELECT EXISTS (SELECT 1 FROM %s WHERE revend IS NULL)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final HistoryPartitioningProperties properties;
+
+	/**
+	 * Creates the upcoming partitions and detaches those exceeding the retention, if any.
+	 */
+	@Scheduled(fixedDelayString = "${" + HistoryPartitioningProperties.CONFIGURATION_NAMESPACE
+			+ ".maintenance-interval:PT1H}")
+	public void maintainPartitions() {
+		ReadYourWritesContext.runIsolated(this::maintain);
+	}
+
+	private void maintain() {
+		Long partitioned = this.jdbcTemplate.queryForObject(IS_PARTITIONED_QUERY, Long.class, qualify(AUDIT_TRAIL));
+		if ((partitioned == null) || (partitioned == 0L)) {
+			log.debug("maintainPartitions(): [{}] is not partitioned, nothing to do", qualify(AUDIT_TRAIL));
+			return;
+		}
+		this.transactionTemplate.executeWithoutResult((TransactionStatus status) -> {
+			this.jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", ADVISORY_LOCK_KEY);
+			Long currentRevision = this.jdbcTemplate.queryForObject(CURRENT_REVISION_QUERY, Long.class);
+			long revision = (currentRevision != null) ? currentRevision : 0L;
+			log.info("maintainPartitions( currentRevision= [{}] )", revision);
+			createUpcomingPartitions(AUDIT_TRAIL, revision);
+			HISTORY_TABLES.forEach((String table) -> createUpcomingPartitions(table, revision));
+		});
+		if (this.properties.getRetainedPartitions() > 0) {
+			this.jdbcTemplate.execute((ConnectionCallback<Void>) this::detachRetiredPartitions);
+		}
+	}
+
+	private void createUpcomingPartitions(String table, long currentRevision) {
+		long revisionsPerPartition = this.properties.getRevisionsPerPartition();
+		for (long lowerBound : upcomingLowerBounds(findPartitions(table), currentRevision, revisionsPerPartition,
+				this.properties.getPremadePartitions())) {
+			String partition = qualify(table + "_" + lowerBound);
+			log.info("Creating partition [{}] for revisions [{}] to [{}]", partition, lowerBound,
+					lowerBound + revisionsPerPartition);
+			this.jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + qualify(table)
+					+ " FOR VALUES FROM (" + lowerBound + ") TO (" + (lowerBound + revisionsPerPartition) + ")");
+		}
+	}
+
+	private Void detachRetiredPartitions(Connection connection) throws SQLException {
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(true);
+		JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+		session.queryForList("SELECT pg_advisory_lock(?)", ADVISORY_LOCK_KEY);
+		try {
+			finalizePendingDetaches(session);
+			Long currentRevision = session.queryForObject(CURRENT_REVISION_QUERY, Long.class);
+			List<RevisionPartition> retiredPartitions = retiredPartitions(findPartitions(session, AUDIT_TRAIL),
+					(currentRevision != null) ? currentRevision : 0L, this.properties.getRetainedPartitions());
+			for (RevisionPartition retired : detachablePartitions(retiredPartitions,
+					(RevisionPartition partition) -> holdsOpenRows(session, partition))) {
+				for (String table : HISTORY_TABLES) {
+					findPartitions(session, table).stream()
+						.filter((RevisionPartition partition) -> partition.lowerBound() == retired.lowerBound())
+						.forEach((RevisionPartition partition) -> detach(session, table, partition.name()));
+				}
+				detach(session, AUDIT_TRAIL, retired.name());
+			}
+		}
+		finally {
+			session.queryForList("SELECT pg_advisory_unlock(?)", ADVISORY_LOCK_KEY);
+			connection.setAutoCommit(autoCommit);
+		}
+		return null;
+	}
+
+	private static void finalizePendingDetaches(JdbcTemplate session) {
+		for (String table : HISTORY_TABLES) {
+			session.queryForList(PENDING_DETACH_QUERY, String.class, qualify(table))
+				.forEach((String partition) -> finalizeDetach(session, table, partition));
+		}
+		session.queryForList(PENDING_DETACH_QUERY, String.class, qualify(AUDIT_TRAIL))
+			.forEach((String partition) -> finalizeDetach(session, AUDIT_TRAIL, partition));
+	}
+
+	private static void finalizeDetach(JdbcTemplate session, String table, String partition) {
+		log.info("Finalizing the interrupted detach of partition [{}]", qualify(partition));
+		session.execute("ALTER TABLE " + qualify(table) + " DETACH PARTITION " + qualify(partition) + " FINALIZE");
+		dropAuditTrailReference(session, table, partition);
+	}
+
+	private static boolean holdsOpenRows(JdbcTemplate session, RevisionPartition retired) {
+		return HISTORY_TABLES.stream()
+			.flatMap((String table) -> findPartitions(session, table).stream())
+			.filter((RevisionPartition partition) -> partition.lowerBound() == retired.lowerBound())
+			.anyMatch((RevisionPartition partition) -> Boolean.TRUE
+				.equals(session.queryForObject(OPEN_ROWS_QUERY.formatted(qualify(partition.name())), Boolean.class)));
+	}
+
+	private static void detach(JdbcTemplate session, String table, String partition) {
+		log.info("Detaching partition [{}] from [{}]", qualify(partition), qualify(table));
+		session.execute("ALTER TABLE " + qualify(table) + " DETACH PARTITION " + qualify(partition) + " CONCURRENTLY");
+		dropAuditTrailReference(session, table, partition);
+	}
+
+	private static void dropAuditTrailReference(JdbcTemplate session, String table, String partition) {
+		if (!AUDIT_TRAIL.equals(table)) {
+			session.execute(
+					"ALTER TABLE " + qualify(partition) + " DROP CONSTRAINT IF EXISTS fk_" + table + "_to_audit_trail");
+		}
+	}
+
+	private List<RevisionPartition> findPartitions(String table) {
+		return findPartitions(this.jdbcTemplate, table);
+	}
+
+	private static List<RevisionPartition> findPartitions(JdbcTemplate jdbcTemplate, String table) {
+		return jdbcTemplate
+			.query(PARTITIONS_QUERY,
+					(ResultSet resultSet, int rowNum) -> RevisionPartition.parse(resultSet.getString(1),
+							resultSet.getString(2)),
+					qualify(table))
+			.stream()
+			.flatMap(Optional::stream)
+			.toList();
+	}
+
+	private static String qualify(String table) {
+		return SCHEMA + "." + table;
+	}
+
+	/**
+	 * Determines the lower bounds of the partitions to create.
+	 * @param partitions the existing partitions
+	 * @param currentRevision the highest revision that may be in use
+	 * @param revisionsPerPartition the number of revisions a new partition covers
+	 * @param premadePartitions the number of partitions to keep ready above the current
+	 * revision
+	 * @return the lower bounds of the partitions to create in ascending order
+	 */
+	static List<Long> upcomingLowerBounds(@NonNull List<RevisionPartition> partitions, long currentRevision,
+			long revisionsPerPartition, int premadePartitions) {
+		long upperBound = partitions.stream().mapToLong(RevisionPartition::upperBound).max().orElse(0L);
+		long coveredRevision = currentRevision + (premadePartitions * revisionsPerPartition);
+		List<Long> lowerBounds = new ArrayList<>();
+		while (upperBound <= coveredRevision) {
+			lowerBounds.add(upperBound);
+			upperBound += revisionsPerPartition;
+		}
+		return lowerBounds;
+	}
+
+	/**
+	 * Determines the partitions to detach.
+	 * @param partitions the existing partitions
+	 * @param currentRevision the highest revision that may be in use
+	 * @param retainedPartitions the number of partitions holding revisions to keep, all
+	 * are kept if it is not positive
+	 * @return the partitions to detach in ascending order
+	 */
+	static List<RevisionPartition> retiredPartitions(@NonNull List<RevisionPartition> partitions, long currentRevision,
+			int retainedPartitions) {
+		if (retainedPartitions <= 0) {
+			return List.of();
+		}
+		List<RevisionPartition> inUse = partitions.stream()
+			.filter((RevisionPartition partition) -> partition.lowerBound() <= currentRevision)
+			.sorted(Comparator.comparingLong(RevisionPartition::lowerBound))
+			.toList();
+		return inUse.subList(0, Math.max(0, inUse.size() - retainedPartitions));
+	}
+
+	/**
+	 * Determines the retired partitions that can be detached without losing the latest
+	 * state of an entity. Partitions following one that holds open rows are kept as well,
+	 * so no more than one partition holding them is scanned per run.
+	 * @param retiredPartitions the partitions exceeding the retention in ascending order
+	 * @param holdsOpenRows tells whether a history partition of the same range still
+	 * holds a row without {@code revend}
+	 * @return the partitions to detach in the order given
+	 */
+	static List<RevisionPartition> detachablePartitions(@NonNull List<RevisionPartition> retiredPartitions,
+			@NonNull Predicate<RevisionPartition> holdsOpenRows) {
+		List<RevisionPartition> detachable = new ArrayList<>();
+		for (RevisionPartition retired : retiredPartitions) {
+			if (holdsOpenRows.test(retired)) {
+				log.warn("Keeping partition [{}] and newer ones beyond the retention, it still holds the latest state"
+						+ " of entities", qualify(retired.name()));
+				break;
+			}
+			detachable.add(retired);
+		}
+		return detachable;
+	}
+
+	/**
+	 * a partition covering the revisions from its lower bound up to, but excluding, its
+	 * upper bound.
+	 *
+	 * @param name the name of the partition without schema
+	 * @param lowerBound the first revision of the partition
+	 * @param upperBound the first revision above the partition
+	 */
+	record RevisionPartition(String name, long lowerBound, long upperBound) {
+
+		/**
+		 * Reads a partition from its bound expression as rendered by {@code pg_get_expr}.
+		 * @param name the name of the partition without schema
+		 * @param boundExpression the bound expression, e.g.
+		 * {@code FOR VALUES FROM ('0') TO ('1000000')}
+		 * @return the partition or an empty {@link Optional} if it is not a range
+		 * partition
+		 */
+		static Optional<RevisionPartition> parse(String name, String boundExpression) {
+			Matcher matcher = RANGE_BOUND.matcher(String.valueOf(boundExpression));
+			if (!matcher.find()) {
+				return Optional.empty();
+			}
+			return Optional
+				.of(new RevisionPartition(name, Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2))));
+		}
+
+	}
+
+}
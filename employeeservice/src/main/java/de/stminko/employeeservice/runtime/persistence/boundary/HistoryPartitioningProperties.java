@@ -0,0 +1,57 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot configuration properties for "persistence.history-partitioning"
+ * configuration property namespace.
+ *
+ * @author Stéphan Minko
+ * @see HistoryPartitionMaintainer
+ */
+@Data
+@Configuration
+@ConfigurationProperties(HistoryPartitioningProperties.CONFIGURATION_NAMESPACE)
+public class HistoryPartitioningProperties {
+
+	/**
+	 * Configuration property namespace that this class is designed to handle.
+	 */
+	public static final String CONFIGURATION_NAMESPACE = "persistence.history-partitioning";
+
+	/**
+	 * Whether the partitions of the audit trail and the history tables are maintained.
+	 * Defaults to true.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Interval in which upcoming partitions are created and old ones detached. Defaults
+	 * to one hour.
+	 */
+	private Duration maintenanceInterval = Duration.ofHours(1);
+
+	/**
+	 * Number of revisions a newly created partition covers. Defaults to 1000000.
+	 */
+	private long revisionsPerPartition = 1_000_000L;
+
+	/**
+	 * Number of partitions kept ready above the current revision. Defaults to 2.
+	 */
+	private int premadePartitions = 2;
+
+	/**
+	 * Number of partitions holding revisions that stay attached, older ones are detached
+	 * once they no longer hold the latest state of an entity. Defaults to 0, which keeps
+	 * all partitions attached and leaves expiring the history to the
+	 * {@link HistoryPruner}.
+	 */
+	private int retainedPartitions;
+
+}
@@ -0,0 +1,352 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * archives and prunes the expired rows of the history tables and the audit trail.
+ *
+ * <p>
+ * Each run applies the {@link HistoryRetentionProperties.Policy} of every configured
+ * entity to its history table. Only superseded rows are pruned, oldest first, in batches
+ * of {@link HistoryRetentionProperties#getBatchSize()} rows, each of them in its own
+ * short transaction: the rows are locked with {@code SKIP LOCKED}, deleted, appended to
+ * the {@link HistoryArchive} and only committed once the archive is on disk. A batch
+ * waits at most {@link HistoryRetentionProperties#getLockTimeout()} for a lock and the
+ * run pauses between batches, so the live history tables are never blocked for long. The
+ * revisions of the pruned rows are pruned from the audit trail the same way, as soon as
+ * no history row refers to them any more.
+ * </p>
+ *
+ * <p>
+ * The progress is published as the {@value #PRUNED_ROWS_METRIC} and
+ * {@value #BATCHES_METRIC} counters tagged by table and the {@value #RUNS_METRIC} timer.
+ * Archived segments are re-imported by {@link #restore(String, Path)}.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see HistoryRetentionProperties
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = HistoryRetentionProperties.CONFIGURATION_NAMESPACE, name = "enabled",
+		havingValue = "true")
+public class HistoryPruner {
+
+	static final String PRUNED_ROWS_METRIC = "history.retention.pruned.rows";
+
+	static final String BATCHES_METRIC = "history.retention.batches";
+
+	static final String RUNS_METRIC = "history.retention.runs";
+
+	static final String HISTORY_TABLE_SUFFIX = "_history";
+
+	private static final String SCHEMA = "history";
+
+	private static final String PRUNE_HISTORY_STATEMENT = """
+			WITH batch AS (
+			SELECT h.id, h.rev
+			FROM history.%1$s h
+			WHERE h.revend IS NOT NULL
+			%2$s
+			ORDER BY h.revend_tstmp
+			LIMIT ?
+			FOR UPDATE SKIP LOCKED
+			)
+			DELETE FROM history.%1$s h
+			USING batch b, history.audit_trail a
+			WHERE h.id = b.id AND h.rev = b.rev AND a.id = h.rev
+			RETURNING h.rev, a.timestamp, row_to_json(h)::text
+			""";
+
+	private static final String AGE_CRITERION = "AND h.revend_tstmp < ?";
+
+	private static final String REVISIONS_CRITERION = """
+			AND EXISTS (SELECT 1 FROM history.%s n WHERE n.id = h.id AND n.rev > h.rev
+			ORDER BY n.rev OFFSET ? LIMIT 1)""";
+
+	private static final String PRUNE_AUDIT_TRAIL_STATEMENT = """
+			WITH batch AS (
+			SELECT a.id
+			FROM history.audit_trail a
+			WHERE a.id = ANY(?)
+			%s
+			FOR UPDATE SKIP LOCKED
+			)
+			DELETE FROM history.audit_trail a
+			USING batch b
+			WHERE a.id = b.id
+			RETURNING a.id, a.timestamp, row_to_json(a)::text
+			""";
+
+	private static final String RESTORE_STATEMENT = """
+			INSERT INTO history.%1$s
+			SELECT * FROM json_populate_recordset(NULL::history.%1$s, ?::json)
+			ON CONFLICT DO NOTHING
+			""";
+
+	private static final RowMapper<HistoryArchive.ArchivedRow> ARCHIVED_ROW_MAPPER = (ResultSet resultSet,
+			int rowNum) -> new HistoryArchive.ArchivedRow(resultSet.getLong(1), resultSet.getLong(2),
+					resultSet.getString(3));
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final HistoryRetentionProperties properties;
+
+	private final HistoryArchive archive;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Timer runs;
+
+	/**
+	 * Creates a new {@link HistoryPruner} archiving to the configured directory.
+	 * @param jdbcTemplate the {@link JdbcTemplate} the batches are run with
+	 * @param transactionTemplate the {@link TransactionTemplate} demarcating the batches
+	 * @param properties the {@link HistoryRetentionProperties}
+	 * @param meterRegistry the {@link MeterRegistry} the progress is published to
+	 */
+	public HistoryPruner(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			HistoryRetentionProperties properties, MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.properties = properties;
+		this.archive = new HistoryArchive(properties.getArchiveDirectory());
+		this.meterRegistry = meterRegistry;
+		this.runs = meterRegistry.timer(RUNS_METRIC);
+	}
+
+	/**
+	 * Archives and prunes the expired history rows and the revisions no longer referred
+	 * to.
+	 */
+	@Scheduled(fixedDelayString = "${" + HistoryRetentionProperties.CONFIGURATION_NAMESPACE + ".interval:PT1H}")
+	public void pruneHistory() {
+		this.runs.record(() -> ReadYourWritesContext.runIsolated(() -> {
+			Instant now = Instant.now();
+			Set<Long> prunedRevisions = new TreeSet<>();
+			this.properties.getPolicies().forEach((String entity, HistoryRetentionProperties.Policy policy) -> {
+				String table = entity + HISTORY_TABLE_SUFFIX;
+				if (!HistoryPartitionMaintainer.HISTORY_TABLES.contains(table)) {
+					log.warn("pruneHistory(): no history table for entity [{}], skipping its policy", entity);
+					return;
+				}
+				Optional<PruneCriteria> criteria = pruneCriteria(table, policy, now);
+				if (criteria.isEmpty()) {
+					log.warn("pruneHistory(): the policy of entity [{}] selects neither an age nor a number of"
+							+ " revisions, skipping it", entity);
+					return;
+				}
+				log.info("pruneHistory( table= [{}], maxAge= [{}], keptRevisions= [{}] )", table, policy.getMaxAge(),
+						policy.getKeptRevisions());
+				String statement = PRUNE_HISTORY_STATEMENT.formatted(table, criteria.get().condition());
+				prunedRevisions.addAll(pruneBatches(table, statement,
+						(int batchSize) -> Stream.concat(criteria.get().arguments().stream(), Stream.of(batchSize))
+							.toArray()));
+			});
+			pruneAuditTrail(prunedRevisions);
+		}));
+	}
+
+	/**
+	 * Re-imports an archived segment. Rows still present are skipped, so a segment may be
+	 * restored more than once. The segments of the audit trail need to be restored before
+	 * those of the history tables referring to them.
+	 * @param table the name of the table the segment was archived from, without schema
+	 * @param segment the path of the segment
+	 * @return the number of rows read from the segment
+	 * @throws IllegalArgumentException if the table is neither a history table nor the
+	 * audit trail
+	 */
+	public long restore(@NonNull String table, @NonNull Path segment) {
+		if (!HistoryPartitionMaintainer.AUDIT_TRAIL.equals(table)
+				&& !HistoryPartitionMaintainer.HISTORY_TABLES.contains(table)) {
+			throw new IllegalArgumentException("[%s] is not an archived table".formatted(table));
+		}
+		log.info("restore( table= [{}], segment= [{}] )", table, segment);
+		String statement = RESTORE_STATEMENT.formatted(table);
+		List<String> rows = new ArrayList<>();
+		long count = HistoryArchive.read(segment, (String row) -> {
+			rows.add(row);
+			if (rows.size() >= this.properties.getBatchSize()) {
+				insert(statement, rows);
+			}
+		});
+		insert(statement, rows);
+		return count;
+	}
+
+	private void insert(String statement, List<String> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		String json = rows.stream().collect(Collectors.joining(",", "[", "]"));
+		this.transactionTemplate
+			.executeWithoutResult((TransactionStatus status) -> this.jdbcTemplate.update(statement, json));
+		rows.clear();
+	}
+
+	private void pruneAuditTrail(Collection<Long> candidates) {
+		if (candidates.isEmpty()) {
+			return;
+		}
+		String statement = PRUNE_AUDIT_TRAIL_STATEMENT.formatted(HistoryPartitionMaintainer.HISTORY_TABLES.stream()
+			.map((String table) -> "AND NOT EXISTS (SELECT 1 FROM %s.%s h WHERE h.rev = a.id)".formatted(SCHEMA, table))
+			.collect(Collectors.joining("\n")));
+		List<Long> revisions = List.copyOf(candidates);
+		int batchSize = this.properties.getBatchSize();
+		for (int from = 0; from < revisions.size(); from += batchSize) {
+			Long[] batch = revisions.subList(from, Math.min(from + batchSize, revisions.size())).toArray(Long[]::new);
+			if (pruneBatch(HistoryPartitionMaintainer.AUDIT_TRAIL, statement, new Object[] { batch }) == null) {
+				return;
+			}
+			pause();
+		}
+	}
+
+	private Set<Long> pruneBatches(String table, String statement, BatchArguments arguments) {
+		Set<Long> prunedRevisions = new TreeSet<>();
+		int batchSize = this.properties.getBatchSize();
+		for (int batches = 0; batches < this.properties.getMaxBatchesPerRun(); batches++) {
+			List<HistoryArchive.ArchivedRow> rows = pruneBatch(table, statement, arguments.of(batchSize));
+			if (rows == null) {
+				break;
+			}
+			rows.forEach((HistoryArchive.ArchivedRow row) -> prunedRevisions.add(row.revision()));
+			if (rows.size() < batchSize) {
+				break;
+			}
+			pause();
+		}
+		return prunedRevisions;
+	}
+
+	private List<HistoryArchive.ArchivedRow> pruneBatch(String table, String statement, Object... arguments) {
+		try {
+			List<HistoryArchive.ArchivedRow> rows = this.transactionTemplate.execute((TransactionStatus status) -> {
+				this.jdbcTemplate.queryForList("SELECT set_config('lock_timeout', ?, true)",
+						this.properties.getLockTimeout().toMillis() + "ms");
+				List<HistoryArchive.ArchivedRow> pruned = this.jdbcTemplate.query(statement, ARCHIVED_ROW_MAPPER,
+						arguments);
+				if (!pruned.isEmpty()) {
+					this.archive.append(table, pruned);
+				}
+				return pruned;
+			});
+			if ((rows != null) && !rows.isEmpty()) {
+				log.debug("Pruned [{}] rows of [{}.{}]", rows.size(), SCHEMA, table);
+				Counter.builder(PRUNED_ROWS_METRIC)
+					.tag("table", table)
+					.register(this.meterRegistry)
+					.increment(rows.size());
+				Counter.builder(BATCHES_METRIC).tag("table", table).register(this.meterRegistry).increment();
+			}
+			return rows;
+		}
+		catch (ConcurrencyFailureException exception) {
+			log.warn("Pruning [{}.{}] gave way to a lock, continuing with the next run: {}", SCHEMA, table,
+					exception.getMessage());
+			return null;
+		}
+	}
+
+	private void pause() {
+		try {
+			Thread.sleep(this.properties.getBatchPause().toMillis());
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while pruning the history", exception);
+		}
+	}
+
+	/**
+	 * Determines the condition selecting the superseded history rows a policy lets
+	 * expire, made of the criteria the policy sets.
+	 * @param table the name of the history table, without schema
+	 * @param policy the retention policy
+	 * @param now the current time
+	 * @return the criteria or an empty {@link Optional} if the policy sets none
+	 */
+	static Optional<PruneCriteria> pruneCriteria(@NonNull String table,
+			@NonNull HistoryRetentionProperties.Policy policy, @NonNull Instant now) {
+		List<String> conditions = new ArrayList<>();
+		List<Object> arguments = new ArrayList<>();
+		if (policy.getMaxAge() != null) {
+			conditions.add(AGE_CRITERION);
+			arguments.add(expiryCutoff(policy.getMaxAge(), now));
+		}
+		if (policy.getKeptRevisions() != null) {
+			conditions.add(REVISIONS_CRITERION.formatted(table));
+			arguments.add(skippedNewerRevisions(policy.getKeptRevisions()));
+		}
+		return conditions.isEmpty() ? Optional.empty()
+				: Optional.of(new PruneCriteria(String.join("\n", conditions), List.copyOf(arguments)));
+	}
+
+	/**
+	 * Determines the time before which superseded history rows expire.
+	 * @param maxAge the time after which a superseded row expires
+	 * @param now the current time
+	 * @return the cutoff in epoch milliseconds
+	 */
+	static long expiryCutoff(@NonNull Duration maxAge, @NonNull Instant now) {
+		return now.minus(maxAge).toEpochMilli();
+	}
+
+	/**
+	 * Determines the number of newer revisions to skip before a history row may be
+	 * pruned, i.e. the number of kept revisions besides the one superseding the row.
+	 * @param keptRevisions the number of the latest revisions to keep
+	 * @return the number of newer revisions to skip, never negative
+	 */
+	static int skippedNewerRevisions(int keptRevisions) {
+		return Math.max(1, keptRevisions) - 1;
+	}
+
+	/**
+	 * the condition selecting the expired rows of a history table.
+	 *
+	 * @param condition the conditions of the selected criteria, each starting with
+	 * {@code AND}
+	 * @param arguments the arguments of the placeholders of the condition in their order
+	 */
+	record PruneCriteria(String condition, List<Object> arguments) {
+
+	}
+
+	@FunctionalInterface
+	private interface BatchArguments {
+
+		Object[] of(int batchSize);
+
+	}
+
+}
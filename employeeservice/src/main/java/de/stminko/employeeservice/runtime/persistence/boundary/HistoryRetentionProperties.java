@@ -0,0 +1,99 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot configuration properties for "persistence.history-retention" configuration
+ * property namespace.
+ *
+ * @author Stéphan Minko
+ * @see HistoryPruner
+ */
+@Data
+@Configuration
+@ConfigurationProperties(HistoryRetentionProperties.CONFIGURATION_NAMESPACE)
+public class HistoryRetentionProperties {
+
+	/**
+	 * Configuration property namespace that this class is designed to handle.
+	 */
+	public static final String CONFIGURATION_NAMESPACE = "persistence.history-retention";
+
+	/**
+	 * Whether expired history rows are archived and pruned. Defaults to false.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Interval in which expired history rows are pruned. Defaults to one hour.
+	 */
+	private Duration interval = Duration.ofHours(1);
+
+	/**
+	 * Maximum number of rows archived and deleted in a single transaction. Defaults to
+	 * 1000.
+	 */
+	private int batchSize = 1_000;
+
+	/**
+	 * Pause between two batches, giving way to the regular load. Defaults to 200
+	 * milliseconds.
+	 */
+	private Duration batchPause = Duration.ofMillis(200);
+
+	/**
+	 * Maximum number of batches per table and run, the rest is left to the following
+	 * runs. Defaults to 100.
+	 */
+	private int maxBatchesPerRun = 100;
+
+	/**
+	 * Time a batch waits for a lock before it gives up until the next run. Defaults to 2
+	 * seconds.
+	 */
+	private Duration lockTimeout = Duration.ofSeconds(2);
+
+	/**
+	 * Directory the pruned rows are archived to. Defaults to "history-archive".
+	 */
+	private Path archiveDirectory = Path.of("history-archive");
+
+	/**
+	 * Retention policies by entity name, e.g. "employee" or "department". The history of
+	 * an entity without a policy is kept forever.
+	 */
+	private Map<String, Policy> policies = new LinkedHashMap<>();
+
+	/**
+	 * retention policy of the history of an entity. The age and the number of revisions
+	 * are selected independently: a policy setting one of them prunes by that criterion
+	 * alone, a policy setting both prunes only the rows satisfying both and a policy
+	 * setting neither prunes nothing. Only superseded rows are pruned, so the current
+	 * state of an entity is never pruned.
+	 */
+	@Data
+	public static class Policy {
+
+		/**
+		 * Time after which a superseded history row expires. Defaults to none, which does
+		 * not prune by age.
+		 */
+		private Duration maxAge;
+
+		/**
+		 * Number of the latest revisions per entity that are kept, older ones expire.
+		 * Defaults to none, which does not prune by the number of revisions.
+		 */
+		private Integer keptRevisions;
+
+	}
+
+}
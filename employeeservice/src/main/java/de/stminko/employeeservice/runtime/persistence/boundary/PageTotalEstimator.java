@@ -0,0 +1,83 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManager;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * creates pages of unfiltered listings whose total is estimated from the PostgreSQL
+ * planner statistics ({@code pg_class.reltuples}) instead of being counted.
+ *
+ * <p>
+ * As long as the estimate stays below
+ * {@link CountEstimationProperties#getExactCountThreshold()} the exact query is used.
+ * Above it, only the content is read as a {@link Slice} and the page is returned as an
+ * {@link EstimatedPage}. The last page is always exact since its total follows from the
+ * offset and the number of elements read.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageTotalEstimator {
+
+	private static final String ESTIMATE_QUERY = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(:tableName)";
+
+	private final EntityManager entityManager;
+
+	private final CountEstimationProperties properties;
+
+	/**
+	 * Finds a page of an unfiltered listing, estimating its total if the table is large.
+	 * @param tableName the schema qualified name of the table backing the listing
+	 * @param pageable the paging information
+	 * @param exactQuery the query returning an exactly counted page
+	 * @param sliceQuery the query returning the same content without counting
+	 * @param <T> the type of the page content
+	 * @return either the exactly counted page or an {@link EstimatedPage}
+	 */
+	public <T> Page<T> findPage(@NonNull String tableName, @NonNull Pageable pageable,
+			@NonNull Function<Pageable, Page<T>> exactQuery, @NonNull Function<Pageable, Slice<T>> sliceQuery) {
+		if (!this.properties.isEnabled()) {
+			return exactQuery.apply(pageable);
+		}
+		long estimate = estimateRowCount(tableName);
+		log.debug("findPage( tableName= [{}], estimate= [{}] )", tableName, estimate);
+		if (estimate < this.properties.getExactCountThreshold()) {
+			return exactQuery.apply(pageable);
+		}
+		Slice<T> slice = sliceQuery.apply(pageable);
+		long offset = pageable.isPaged() ? pageable.getOffset() : 0L;
+		long seen = offset + slice.getNumberOfElements();
+		if (!slice.hasNext() && (slice.hasContent() || (offset == 0L))) {
+			return new PageImpl<>(slice.getContent(), pageable, seen);
+		}
+		return new EstimatedPage<>(slice.getContent(), pageable, Math.max(estimate, seen + (slice.hasNext() ? 1 : 0)));
+	}
+
+	/**
+	 * Reads the row count estimate of the given table from the planner statistics.
+	 * @param tableName the schema qualified name of the table
+	 * @return the estimated row count or {@code -1} if the table has never been analyzed
+	 */
+	long estimateRowCount(String tableName) {
+		List<?> estimates = this.entityManager.createNativeQuery(ESTIMATE_QUERY)
+			.setParameter("tableName", tableName)
+			.getResultList();
+		Object estimate = estimates.isEmpty() ? null : estimates.get(0);
+		return (estimate instanceof Number number) ? number.longValue() : -1L;
+	}
+
+}
@@ -0,0 +1,88 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalLong;
+
+import javax.sql.DataSource;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * a streaming replica of the primary database together with its last known state.
+ *
+ * <p>
+ * The state is refreshed by {@link #check(OptionalLong, DataSize)}. A replica is healthy
+ * if it is reachable, in recovery and has replayed the write-ahead log of the primary up
+ * to at most the given number of bytes behind the current position of the primary.
+ * Positions are compared as log sequence numbers (LSN) in bytes, no clock of either
+ * server is involved, so an idle primary does not render its replicas stale.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see ReadReplicaRoutingDataSource
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class ReadReplica {
+
+	private static final String REPLAY_QUERY = """
+			SELECT pg_is_in_recovery(), CAST(pg_last_wal_replay_lsn() - CAST('0/0' AS pg_lsn) AS BIGINT)
+			""";
+
+	@NonNull
+	private final String name;
+
+	@NonNull
+	private final DataSource dataSource;
+
+	private volatile boolean healthy;
+
+	private volatile long replayedPosition = -1L;
+
+	/**
+	 * Refreshes the health and the replayed position of this replica.
+	 * @param primaryPosition the current write-ahead log position of the primary, empty
+	 * if it is unknown
+	 * @param maxLag the lag above which the replica is considered unhealthy
+	 */
+	public void check(@NonNull OptionalLong primaryPosition, @NonNull DataSize maxLag) {
+		try (Connection connection = this.dataSource.getConnection();
+				Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery(REPLAY_QUERY)) {
+			resultSet.next();
+			boolean inRecovery = resultSet.getBoolean(1);
+			long position = resultSet.getLong(2);
+			boolean positionKnown = !resultSet.wasNull();
+			this.replayedPosition = positionKnown ? position : -1L;
+			long lagBytes = primaryPosition.orElse(position) - position;
+			this.healthy = inRecovery && positionKnown && (lagBytes <= maxLag.toBytes());
+			log.debug("check( replica= [{}], inRecovery= [{}], replayedPosition= [{}], lagBytes= [{}] )", this.name,
+					inRecovery, position, lagBytes);
+		}
+		catch (SQLException exception) {
+			if (this.healthy) {
+				log.warn("Read replica [{}] became unavailable: [{}]", this.name, exception.getMessage());
+			}
+			this.healthy = false;
+		}
+	}
+
+	/**
+	 * Tells whether this replica may serve a read.
+	 * @param requiredReplay the write-ahead log position the read must observe, if any
+	 * @return true if the replica is healthy and replayed at least the required position
+	 */
+	public boolean canServe(@NonNull OptionalLong requiredReplay) {
+		return this.healthy && (requiredReplay.isEmpty() || (this.replayedPosition >= requiredReplay.getAsLong()));
+	}
+
+}
@@ -0,0 +1,89 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * configuration class routing read-only transactions to read replicas.
+ *
+ * <p>
+ * Active if {@code persistence.read-replicas.enabled} is set. The primary is configured
+ * under {@code spring.datasource} as before, the replicas under
+ * {@code persistence.read-replicas.replicas}. The application data source is a
+ * {@link LazyConnectionDataSourceProxy} around a {@link ReadReplicaRoutingDataSource}, so
+ * transactions declared read-only, including those of the repository read methods, are
+ * served by the replicas while the write path stays on the primary.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see ReadReplicaProperties
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = ReadReplicaProperties.CONFIGURATION_NAMESPACE, name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+	/**
+	 * Provides the data source routing between the primary and its replicas.
+	 * @param dataSourceProperties the connection settings of the primary
+	 * @param properties the replica settings
+	 * @return the routing data source
+	 */
+	@Bean
+	public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+			ReadReplicaProperties properties) {
+		DataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		List<ReadReplica> replicas = new ArrayList<>();
+		for (int i = 0; i < properties.getReplicas().size(); i++) {
+			ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+			DataSource dataSource = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.driverClassName(dataSourceProperties.determineDriverClassName())
+				.url(replica.getUrl())
+				.username(StringUtils.defaultIfBlank(replica.getUsername(), dataSourceProperties.determineUsername()))
+				.password(StringUtils.defaultIfBlank(replica.getPassword(), dataSourceProperties.determinePassword()))
+				.build();
+			replicas.add(new ReadReplica("replica-" + i, dataSource));
+		}
+		log.info("Routing read-only transactions to [{}] read replicas", replicas.size());
+		return new ReadReplicaRoutingDataSource(primary, replicas, properties.getHealthCheckInterval(),
+				properties.getMaxLag());
+	}
+
+	/**
+	 * Provides the application data source, deferring the routing decision to the first
+	 * statement of a transaction.
+	 * @param routingDataSource the routing data source
+	 * @return the lazily connecting data source
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+	/**
+	 * Provides the filter handing out and evaluating consistency tokens.
+	 * @param properties the replica settings
+	 * @return the filter
+	 */
+	@Bean
+	public ReadYourWritesFilter readYourWritesFilter(ReadReplicaProperties properties) {
+		return new ReadYourWritesFilter(properties.getConsistencyTokenHeader());
+	}
+
+}
@@ -0,0 +1,83 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Spring Boot configuration properties for "persistence.read-replicas" configuration
+ * property namespace.
+ *
+ * @author Stéphan Minko
+ * @see ReadReplicaRoutingDataSource
+ */
+@Data
+@Configuration
+@ConfigurationProperties(ReadReplicaProperties.CONFIGURATION_NAMESPACE)
+public class ReadReplicaProperties {
+
+	/**
+	 * Configuration property namespace that this class is designed to handle.
+	 */
+	public static final String CONFIGURATION_NAMESPACE = "persistence.read-replicas";
+
+	/**
+	 * Whether read-only transactions may be routed to the configured replicas. Defaults
+	 * to false.
+	 */
+	private boolean enabled;
+
+	/**
+	 * The streaming replicas of the primary configured under {@code spring.datasource}.
+	 */
+	private List<Replica> replicas = new ArrayList<>();
+
+	/**
+	 * Interval in which the replicas are checked for availability and replication lag.
+	 * Defaults to 5 seconds.
+	 */
+	private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+	/**
+	 * Amount of write-ahead log a replica may lag behind the primary before it no longer
+	 * serves any reads. Defaults to 16 megabytes, a single WAL segment.
+	 */
+	private DataSize maxLag = DataSize.ofMegabytes(16);
+
+	/**
+	 * Request and response header carrying the write-ahead log position of the last write
+	 * of a client, so its following requests only read from replicas that already
+	 * replayed it.
+	 */
+	private String consistencyTokenHeader = "X-Consistency-Token";
+
+	/**
+	 * Connection settings of a single replica.
+	 */
+	@Data
+	public static class Replica {
+
+		/**
+		 * JDBC URL of the replica.
+		 */
+		private String url;
+
+		/**
+		 * Login username of the replica, defaults to the one of the primary.
+		 */
+		private String username;
+
+		/**
+		 * Login password of the replica, defaults to the one of the primary.
+		 */
+		private String password;
+
+	}
+
+}
@@ -0,0 +1,237 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * routes the connections of read-only transactions to healthy streaming replicas and
+ * everything else to the primary.
+ *
+ * <p>
+ * Read-only transactions are spread round-robin over the replicas that are healthy and
+ * have replayed the last write the current request has to observe, see
+ * {@link ReadYourWritesContext}. If no replica qualifies, the primary serves the read.
+ * Every other connection, including those acquired outside of a transaction, goes to the
+ * primary. A read-write transaction counts as a write only if it actually changed data,
+ * which its own connection tells right before the commit. Only then the current
+ * write-ahead log position of the primary is read on the same connection right after the
+ * commit, which pins the following reads of the request to the primary until a replica
+ * replayed that position. No further connection is checked out for that, and read-write
+ * transactions that merely read leave the routing of the request untouched. The replayed
+ * positions of the replicas are taken from the last health check. Since a replica only
+ * ever moves forward, a read is at worst served by the primary although a replica would
+ * already have qualified.
+ * </p>
+ *
+ * <p>
+ * The routing decision is taken when the connection is acquired, so this data source has
+ * to be wrapped into a {@link LazyConnectionDataSourceProxy}. Otherwise the connection
+ * would be fetched before the read-only flag of the transaction is known.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see ReadReplica
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+	static final String PRIMARY = "primary";
+
+	private static final String WAL_POSITION_QUERY = "SELECT CAST(pg_current_wal_lsn() - CAST('0/0' AS pg_lsn) AS BIGINT)";
+
+	private static final String CHANGED_DATA_QUERY = "SELECT pg_current_xact_id_if_assigned() IS NOT NULL";
+
+	private final DataSource primary;
+
+	private final List<ReadReplica> replicas;
+
+	private final Duration healthCheckInterval;
+
+	private final DataSize maxLag;
+
+	private final AtomicInteger nextReplica = new AtomicInteger();
+
+	private ScheduledExecutorService healthChecker;
+
+	/**
+	 * Creates a new ReadReplicaRoutingDataSource.
+	 * @param primary the data source of the primary
+	 * @param replicas the replicas of the primary
+	 * @param healthCheckInterval the interval in which the replicas are checked, no
+	 * checks are scheduled if it is zero
+	 * @param maxLag the amount of write-ahead log a replica may lag behind the primary
+	 * before it serves no reads
+	 */
+	public ReadReplicaRoutingDataSource(@NonNull DataSource primary, @NonNull List<ReadReplica> replicas,
+			@NonNull Duration healthCheckInterval, @NonNull DataSize maxLag) {
+		this.primary = primary;
+		this.replicas = List.copyOf(replicas);
+		this.healthCheckInterval = healthCheckInterval;
+		this.maxLag = maxLag;
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(PRIMARY, primary);
+		this.replicas
+			.forEach((ReadReplica replica) -> targetDataSources.put(replica.getName(), replica.getDataSource()));
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		super.afterPropertiesSet();
+		checkReplicas();
+		if (!this.healthCheckInterval.isZero() && !this.replicas.isEmpty()) {
+			this.healthChecker = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+				Thread thread = new Thread(runnable, "read-replica-health-check");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long intervalMillis = this.healthCheckInterval.toMillis();
+			this.healthChecker.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (this.healthChecker != null) {
+			this.healthChecker.shutdownNow();
+		}
+	}
+
+	/**
+	 * Refreshes the health and replication lag of all replicas.
+	 */
+	public void checkReplicas() {
+		if (this.replicas.isEmpty()) {
+			return;
+		}
+		OptionalLong primaryPosition;
+		try (Connection connection = this.primary.getConnection()) {
+			primaryPosition = OptionalLong.of(readWalPosition(connection));
+		}
+		catch (SQLException exception) {
+			log.debug("Cannot read the write-ahead log position of the primary: [{}]", exception.getMessage());
+			primaryPosition = OptionalLong.empty();
+		}
+		OptionalLong position = primaryPosition;
+		this.replicas.forEach((ReadReplica replica) -> replica.check(position, this.maxLag));
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return trackWrites(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return trackWrites(super.getConnection(username, password));
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return PRIMARY;
+		}
+		return selectReplica().map(ReadReplica::getName).orElse(PRIMARY);
+	}
+
+	Optional<ReadReplica> selectReplica() {
+		List<ReadReplica> candidates = this.replicas.stream()
+			.filter((ReadReplica replica) -> replica.canServe(ReadYourWritesContext.getRequiredReplay()))
+			.toList();
+		if (candidates.isEmpty()) {
+			log.debug("No read replica qualifies, reading from the primary");
+			return Optional.empty();
+		}
+		return Optional.of(candidates.get(Math.floorMod(this.nextReplica.getAndIncrement(), candidates.size())));
+	}
+
+	/**
+	 * Wraps the connection of a read-write transaction, so that its commit records a
+	 * write if the transaction changed data.
+	 * @param connection the connection to the primary
+	 * @return the given connection if it does not serve a read-write transaction
+	 */
+	private Connection trackWrites(Connection connection) {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return connection;
+		}
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, (Object proxy, Method method, Object[] arguments) -> {
+					if ("commit".equals(method.getName())) {
+						commitRecordingWrite(connection);
+						return null;
+					}
+					try {
+						return method.invoke(connection, arguments);
+					}
+					catch (InvocationTargetException exception) {
+						throw exception.getTargetException();
+					}
+				});
+	}
+
+	private static void commitRecordingWrite(Connection connection) throws SQLException {
+		boolean changedData;
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery(CHANGED_DATA_QUERY)) {
+			resultSet.next();
+			changedData = resultSet.getBoolean(1);
+		}
+		catch (SQLException exception) {
+			log.debug("Cannot tell whether the transaction changed data, assuming it did: [{}]",
+					exception.getMessage());
+			changedData = true;
+		}
+		connection.commit();
+		if (!changedData) {
+			return;
+		}
+		try {
+			ReadYourWritesContext.writeCommitted(readWalPosition(connection));
+		}
+		catch (SQLException exception) {
+			log.warn("Cannot read the write-ahead log position of the primary, reading from it for the"
+					+ " rest of the request: [{}]", exception.getMessage());
+			ReadYourWritesContext.requireReplayOf(Long.MAX_VALUE);
+		}
+	}
+
+	private static long readWalPosition(Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery(WAL_POSITION_QUERY)) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+	}
+
+}
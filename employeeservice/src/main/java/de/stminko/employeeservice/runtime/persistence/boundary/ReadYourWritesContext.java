@@ -0,0 +1,112 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+
+/**
+ * thread bound state giving the current request read-your-writes consistency when reads
+ * are routed to replicas.
+ *
+ * <p>
+ * The context holds the write-ahead log position up to which a replica must have replayed
+ * the changes of the primary to serve the reads of the current request. It is raised by
+ * the consistency token of the client and by every write committed within the request.
+ * </p>
+ *
+ * <p>
+ * The state of a request is removed by the {@link ReadYourWritesFilter}. Work started
+ * outside of a request, e.g. by a scheduler or on a worker thread, is run through
+ * {@link #runIsolated(Runnable)}, so that pooled threads do not carry it over to their
+ * next task.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see ReadReplicaRoutingDataSource
+ * @see ReadYourWritesFilter
+ */
+public final class ReadYourWritesContext {
+
+	private static final ThreadLocal<Long> REQUIRED_REPLAY = new ThreadLocal<>();
+
+	private static final ThreadLocal<LongConsumer> WRITE_LISTENER = new ThreadLocal<>();
+
+	private ReadYourWritesContext() {
+		throw new AssertionError("This is not meant to be instantiated");
+	}
+
+	/**
+	 * Requires the reads of the current thread to see all changes written up to the given
+	 * write-ahead log position. An earlier requirement is kept if it is further ahead.
+	 * @param walPosition the write-ahead log position in bytes the reads must observe
+	 */
+	public static void requireReplayOf(long walPosition) {
+		Long current = REQUIRED_REPLAY.get();
+		if ((current == null) || (current < walPosition)) {
+			REQUIRED_REPLAY.set(walPosition);
+		}
+	}
+
+	/**
+	 * Returns the write-ahead log position a replica must have replayed to serve the
+	 * current thread.
+	 * @return the required position or an empty {@link OptionalLong} if any healthy
+	 * replica will do
+	 */
+	public static OptionalLong getRequiredReplay() {
+		Long requiredReplay = REQUIRED_REPLAY.get();
+		return (requiredReplay != null) ? OptionalLong.of(requiredReplay) : OptionalLong.empty();
+	}
+
+	/**
+	 * Registers the listener notified about writes committed by the current thread.
+	 * @param listener the listener, e.g. to hand out a consistency token
+	 */
+	public static void onWriteCommitted(LongConsumer listener) {
+		WRITE_LISTENER.set(listener);
+	}
+
+	/**
+	 * Records a write committed by the current thread, pinning its following reads to the
+	 * primary until the replicas replayed it.
+	 * @param walPosition the write-ahead log position of the primary after the commit
+	 */
+	public static void writeCommitted(long walPosition) {
+		requireReplayOf(walPosition);
+		LongConsumer listener = WRITE_LISTENER.get();
+		if (listener != null) {
+			listener.accept(walPosition);
+		}
+	}
+
+	/**
+	 * Runs a task in a context of its own. The state bound to the current thread is
+	 * restored once the task completed, whether it succeeded or not.
+	 * @param task the task, e.g. a scheduled job
+	 */
+	public static void runIsolated(Runnable task) {
+		Long requiredReplay = REQUIRED_REPLAY.get();
+		LongConsumer listener = WRITE_LISTENER.get();
+		clear();
+		try {
+			task.run();
+		}
+		finally {
+			clear();
+			if (requiredReplay != null) {
+				REQUIRED_REPLAY.set(requiredReplay);
+			}
+			if (listener != null) {
+				WRITE_LISTENER.set(listener);
+			}
+		}
+	}
+
+	/**
+	 * Removes all state bound to the current thread.
+	 */
+	public static void clear() {
+		REQUIRED_REPLAY.remove();
+		WRITE_LISTENER.remove();
+	}
+
+}
@@ -0,0 +1,60 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * gives clients read-your-writes consistency across requests while reads are routed to
+ * replicas.
+ *
+ * <p>
+ * A request that commits a write answers with a consistency token, the write-ahead log
+ * position of the primary right after the commit in bytes, within the configured header.
+ * A client sending the token back has its reads served by the primary or by a replica
+ * that already replayed that commit. Writes committed within the request itself are
+ * observed as well, see {@link ReadYourWritesContext}.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see ReadReplicaRoutingDataSource
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	private final String consistencyTokenHeader;
+
+	@Override
+	protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+			@NonNull FilterChain filterChain) throws ServletException, IOException {
+		String consistencyToken = request.getHeader(this.consistencyTokenHeader);
+		if (StringUtils.isNumeric(consistencyToken)) {
+			ReadYourWritesContext.requireReplayOf(Long.parseLong(consistencyToken));
+		}
+		else if (consistencyToken != null) {
+			log.debug("Ignoring consistency token [{}]", consistencyToken);
+		}
+		ReadYourWritesContext.onWriteCommitted((long walPosition) -> {
+			if (!response.isCommitted()) {
+				response.setHeader(this.consistencyTokenHeader, String.valueOf(walPosition));
+			}
+		});
+		try {
+			filterChain.doFilter(request, response);
+		}
+		finally {
+			ReadYourWritesContext.clear();
+		}
+	}
+
+}
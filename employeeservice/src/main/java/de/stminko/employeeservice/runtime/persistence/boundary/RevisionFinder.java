@@ -0,0 +1,326 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import jakarta.persistence.EntityManager;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.RevisionNumber;
+import org.hibernate.envers.RevisionTimestamp;
+import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
+import org.hibernate.envers.query.criteria.AuditDisjunction;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.history.AnnotationRevisionMetadata;
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionMetadata;
+import org.springframework.data.history.RevisionSort;
+import org.springframework.stereotype.Component;
+
+/**
+ * runs the revision queries Spring Data's {@code RevisionRepository} does not offer
+ * directly against Envers and returns their results as Spring Data {@link Revision}s.
+ *
+ * <p>
+ * The audited entities carry modified flags, so Envers knows for every revision which
+ * properties it changed. Revisions filtered by changed properties are selected by these
+ * flags in the database instead of being diffed by the client. Point-in-time snapshots of
+ * whole entity sets are reconstructed with a single set-based query per page.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see CustomRevisionEntity
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevisionFinder {
+
+	/**
+	 * Key of the revision number within the scroll positions of a revision window.
+	 */
+	public static final String REVISION_KEY = "rev";
+
+	private static final String ID_PROPERTY = "id";
+
+	private static final int REVISION_CHUNK_SIZE = 500;
+
+	private static final String SETTLED_REVISION_QUERY = """
+			SELECT MAX(id)
+			FROM history.audit_trail
+			WHERE id > :afterRevision
+			AND COALESCE(xid_horizon, 0) <= CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)
+			""";
+
+	private final EntityManager entityManager;
+
+	/**
+	 * Finds the revisions of an entity that changed at least one of the given properties.
+	 * @param type the audited entity type
+	 * @param id the id of the entity
+	 * @param changedProperties the names of the properties of which at least one must
+	 * have changed, all revisions qualify if empty
+	 * @param pageable the paging information, the revisions are sorted by
+	 * {@link RevisionSort}
+	 * @param <T> the audited entity type
+	 * @return a page of the matching revisions
+	 */
+	public <T> Page<Revision<Long, T>> findRevisionsChanging(@NonNull Class<T> type, @NonNull Object id,
+			@NonNull Collection<String> changedProperties, @NonNull Pageable pageable) {
+		log.debug("findRevisionsChanging( type= [{}], id= [{}], changedProperties= [{}] )", type.getSimpleName(), id,
+				changedProperties);
+		AuditReader auditReader = AuditReaderFactory.get(this.entityManager);
+		Number total = (Number) revisionsChanging(auditReader, type, id, changedProperties)
+			.addProjection(AuditEntity.revisionNumber().count())
+			.getSingleResult();
+		AuditQuery query = revisionsChanging(auditReader, type, id, changedProperties)
+			.addOrder((RevisionSort.getRevisionDirection(pageable.getSort()) == Sort.Direction.DESC)
+					? AuditEntity.revisionNumber().desc() : AuditEntity.revisionNumber().asc());
+		if (pageable.isPaged()) {
+			query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+		}
+		return new PageImpl<>(toRevisions(query.getResultList()), pageable, total.longValue());
+	}
+
+	/**
+	 * Finds a window of the revisions of an entity seeking by revision number. The
+	 * revisions are neither counted nor skipped, so the cost of a window does not depend
+	 * on its position in the history.
+	 * @param type the audited entity type
+	 * @param id the id of the entity
+	 * @param changedProperties the names of the properties of which at least one must
+	 * have changed, all revisions qualify if empty
+	 * @param scroll the bounds, direction and size of the window
+	 * @param <T> the audited entity type
+	 * @return the window of the matching revisions
+	 */
+	public <T> Window<Revision<Long, T>> findRevisions(@NonNull Class<T> type, @NonNull Object id,
+			@NonNull Collection<String> changedProperties, @NonNull RevisionScroll scroll) {
+		log.debug("findRevisions( type= [{}], id= [{}], changedProperties= [{}], scroll= [{}] )", type.getSimpleName(),
+				id, changedProperties, scroll);
+		AuditQuery query = revisionsChanging(AuditReaderFactory.get(this.entityManager), type, id, changedProperties);
+		if (scroll.afterRevision() != null) {
+			query.add(AuditEntity.revisionNumber().gt(scroll.afterRevision()));
+		}
+		if (scroll.beforeRevision() != null) {
+			query.add(AuditEntity.revisionNumber().lt(scroll.beforeRevision()));
+		}
+		query.addOrder((scroll.direction() == Sort.Direction.DESC) ? AuditEntity.revisionNumber().desc()
+				: AuditEntity.revisionNumber().asc())
+			.setMaxResults(scroll.limit() + 1);
+		List<Revision<Long, T>> revisions = toRevisions(query.getResultList());
+		boolean hasNext = revisions.size() > scroll.limit();
+		List<Revision<Long, T>> content = hasNext ? revisions.subList(0, scroll.limit()) : revisions;
+		return Window.from(content, (int index) -> {
+			Map<String, Object> keys = Map.of(REVISION_KEY, content.get(index).getRequiredRevisionNumber());
+			return (scroll.direction() == Sort.Direction.DESC) ? ScrollPosition.backward(keys)
+					: ScrollPosition.forward(keys);
+		}, hasNext);
+	}
+
+	/**
+	 * Passes the revisions of an entity within a range to the given action in ascending
+	 * order, starting with the state at the start of the range. The revisions are read in
+	 * chunks seeking by revision number, so long ranges are never loaded at once.
+	 * @param type the audited entity type
+	 * @param id the id of the entity
+	 * @param fromRevision the revision number the range starts with, the latest revision
+	 * up to it is passed first
+	 * @param toRevision the revision number the range ends with, {@code null} for the
+	 * latest revision
+	 * @param action the action the revisions are passed to
+	 * @param <T> the audited entity type
+	 * @return the number of revisions passed to the action
+	 */
+	public <T> long forEachRevision(@NonNull Class<T> type, @NonNull Object id, long fromRevision, Long toRevision,
+			@NonNull Consumer<Revision<Long, T>> action) {
+		log.debug("forEachRevision( type= [{}], id= [{}], fromRevision= [{}], toRevision= [{}] )", type.getSimpleName(),
+				id, fromRevision, toRevision);
+		Window<Revision<Long, T>> revisions = findRevisions(type, id, Set.of(),
+				RevisionScroll.backward(fromRevision + 1, 1));
+		revisions.forEach(action);
+		long count = revisions.size();
+		Long beforeRevision = (toRevision != null) ? toRevision + 1 : null;
+		Long afterRevision = fromRevision;
+		do {
+			revisions = findRevisions(type, id, Set.of(),
+					RevisionScroll.forward(afterRevision, beforeRevision, REVISION_CHUNK_SIZE));
+			revisions.forEach(action);
+			count += revisions.size();
+			if (!revisions.isEmpty()) {
+				afterRevision = revisions.getContent().get(revisions.size() - 1).getRequiredRevisionNumber();
+			}
+		}
+		while (revisions.hasNext());
+		return count;
+	}
+
+	/**
+	 * Finds the highest revision number up to which no revision can still be in flight.
+	 * <p>
+	 * Revision numbers are drawn before their transactions commit, so a committed
+	 * revision may be visible while a lower one is not yet. Every revision records the
+	 * first transaction id that was unassigned after its number had been drawn, all lower
+	 * revision numbers belong to transactions below that horizon. A revision whose
+	 * horizon is not above the oldest transaction still running for the current snapshot
+	 * is therefore settled together with all revisions below it. Revisions without
+	 * horizon, i.e. written before it was recorded or in a schema created by Hibernate,
+	 * count as settled.
+	 * </p>
+	 * @param afterRevision the revision number to look beyond
+	 * @return the highest settled revision number, {@code afterRevision} if no later
+	 * revision is settled yet
+	 */
+	public long findSettledRevision(long afterRevision) {
+		Number settledRevision = (Number) this.entityManager.createNativeQuery(SETTLED_REVISION_QUERY)
+			.setParameter("afterRevision", afterRevision)
+			.getSingleResult();
+		log.debug("findSettledRevision( afterRevision= [{}] ): [{}]", afterRevision, settledRevision);
+		return (settledRevision != null) ? settledRevision.longValue() : afterRevision;
+	}
+
+	/**
+	 * Finds the revisions of all entities of a type following the given revision number,
+	 * including deletions, ordered by revision number and entity id.
+	 * @param type the audited entity type
+	 * @param afterRevision the revision number the revisions follow
+	 * @param throughRevision the revision number of the last revision to include,
+	 * {@code null} for no upper bound
+	 * @param limit the maximum number of revisions to return
+	 * @param <T> the audited entity type
+	 * @return the revisions in ascending order
+	 */
+	public <T> List<Revision<Long, T>> findRevisionsAfter(@NonNull Class<T> type, long afterRevision,
+			Long throughRevision, int limit) {
+		log.debug("findRevisionsAfter( type= [{}], afterRevision= [{}], throughRevision= [{}], limit= [{}] )",
+				type.getSimpleName(), afterRevision, throughRevision, limit);
+		AuditQuery query = AuditReaderFactory.get(this.entityManager)
+			.createQuery()
+			.forRevisionsOfEntity(type, false, true)
+			.add(AuditEntity.revisionNumber().gt(afterRevision));
+		if (throughRevision != null) {
+			query.add(AuditEntity.revisionNumber().le(throughRevision));
+		}
+		query.addOrder(AuditEntity.revisionNumber().asc())
+			.addOrder(AuditEntity.property(ID_PROPERTY).asc())
+			.setMaxResults(limit);
+		return toRevisions(query.getResultList());
+	}
+
+	/**
+	 * Finds the entities as they were at the given revision with a single query over the
+	 * history table. Entities deleted before or at the revision are not contained.
+	 *
+	 * <p>
+	 * With the validity audit strategy every history row knows the revision ending it, so
+	 * the matching rows are selected by
+	 * {@code rev <= ? AND (revend > ? OR revend IS NULL)} instead of a correlated
+	 * subquery per entity.
+	 * </p>
+	 * @param type the audited entity type
+	 * @param revision the revision number to reconstruct the entities at
+	 * @param relatedIds the ids the to-one relations of the entities must have had at the
+	 * revision, keyed by relation property, all entities qualify if empty
+	 * @param pageable the paging information, the entities are ordered by id
+	 * @param <T> the audited entity type
+	 * @return a page of the entities at the revision
+	 */
+	public <T> Page<T> findEntitiesAtRevision(@NonNull Class<T> type, @NonNull Number revision,
+			@NonNull Map<String, Object> relatedIds, @NonNull Pageable pageable) {
+		log.debug("findEntitiesAtRevision( type= [{}], revision= [{}], relatedIds= [{}] )", type.getSimpleName(),
+				revision, relatedIds);
+		AuditReader auditReader = AuditReaderFactory.get(this.entityManager);
+		Number total = (Number) entitiesAtRevision(auditReader, type, revision, relatedIds)
+			.addProjection(AuditEntity.id().count())
+			.getSingleResult();
+		AuditQuery query = entitiesAtRevision(auditReader, type, revision, relatedIds)
+			.addOrder(AuditEntity.property(ID_PROPERTY).asc());
+		if (pageable.isPaged()) {
+			query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+		}
+		List<T> entities = query.getResultList();
+		return new PageImpl<>(entities, pageable, total.longValue());
+	}
+
+	/**
+	 * Finds the number of the latest revision committed at or before the given instant.
+	 * @param instant the point in time
+	 * @return the revision number or an empty {@link Optional} if there has not been any
+	 * revision yet at the given instant
+	 */
+	public Optional<Long> findRevisionNumberAt(@NonNull Instant instant) {
+		log.debug("findRevisionNumberAt( instant= [{}] )", instant);
+		try {
+			return Optional.of(AuditReaderFactory.get(this.entityManager)
+				.getRevisionNumberForDate(Date.from(instant))
+				.longValue());
+		}
+		catch (RevisionDoesNotExistException exception) {
+			return Optional.empty();
+		}
+	}
+
+	private static AuditQuery entitiesAtRevision(AuditReader auditReader, Class<?> type, Number revision,
+			Map<String, Object> relatedIds) {
+		AuditQuery query = auditReader.createQuery().forEntitiesAtRevision(type, revision);
+		relatedIds
+			.forEach((String relation, Object relatedId) -> query.add(AuditEntity.relatedId(relation).eq(relatedId)));
+		return query;
+	}
+
+	private static AuditQuery revisionsChanging(AuditReader auditReader, Class<?> type, Object id,
+			Collection<String> changedProperties) {
+		AuditQuery query = auditReader.createQuery()
+			.forRevisionsOfEntity(type, false, true)
+			.add(AuditEntity.id().eq(id));
+		if (!changedProperties.isEmpty()) {
+			AuditDisjunction anyChanged = AuditEntity.disjunction();
+			changedProperties.forEach((String property) -> anyChanged.add(AuditEntity.property(property).hasChanged()));
+			query.add(anyChanged);
+		}
+		return query;
+	}
+
+	/**
+	 * Maps the rows of an Envers query for revisions of an entity, each holding the
+	 * entity, the revision entity and the revision type, to Spring Data revisions.
+	 * @param rows the rows as returned by Envers
+	 * @param <T> the audited entity type
+	 * @return the revisions in the order of the rows
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> List<Revision<Long, T>> toRevisions(List<?> rows) {
+		return rows.stream().map((Object row) -> {
+			Object[] columns = (Object[]) row;
+			RevisionMetadata<Long> metadata = new AnnotationRevisionMetadata<>(columns[1], RevisionNumber.class,
+					RevisionTimestamp.class, toRevisionType((org.hibernate.envers.RevisionType) columns[2]));
+			return Revision.of(metadata, (T) columns[0]);
+		}).toList();
+	}
+
+	private static RevisionMetadata.RevisionType toRevisionType(org.hibernate.envers.RevisionType revisionType) {
+		return switch (revisionType) {
+			case ADD -> RevisionMetadata.RevisionType.INSERT;
+			case MOD -> RevisionMetadata.RevisionType.UPDATE;
+			case DEL -> RevisionMetadata.RevisionType.DELETE;
+		};
+	}
+
+}
@@ -0,0 +1,45 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import lombok.NonNull;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * a seek through the revisions of an entity, bounded by revision numbers instead of an
+ * offset.
+ *
+ * @param afterRevision the revision the window starts after, {@code null} for no lower
+ * bound
+ * @param beforeRevision the revision the window ends before, {@code null} for no upper
+ * bound
+ * @param direction the order of the revisions, ascending when scrolling forward
+ * @param limit the maximum number of revisions of the window
+ * @author Stéphan Minko
+ * @see RevisionFinder
+ */
+public record RevisionScroll(Long afterRevision, Long beforeRevision, @NonNull Sort.Direction direction, int limit) {
+
+	/**
+	 * Scrolls forward through the revisions, oldest first.
+	 * @param afterRevision the revision the window starts after, {@code null} to start
+	 * with the first revision
+	 * @param beforeRevision the revision the scroll stops before, {@code null} for none
+	 * @param limit the maximum number of revisions of the window
+	 * @return the forward scroll
+	 */
+	public static RevisionScroll forward(Long afterRevision, Long beforeRevision, int limit) {
+		return new RevisionScroll(afterRevision, beforeRevision, Sort.Direction.ASC, limit);
+	}
+
+	/**
+	 * Scrolls backward through the revisions, newest first.
+	 * @param beforeRevision the revision the window starts before, {@code null} to start
+	 * with the latest revision
+	 * @param limit the maximum number of revisions of the window
+	 * @return the backward scroll
+	 */
+	public static RevisionScroll backward(Long beforeRevision, int limit) {
+		return new RevisionScroll(null, beforeRevision, Sort.Direction.DESC, limit);
+	}
+
+}
@@ -0,0 +1,120 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * configures the Hibernate second-level cache backed by Caffeine through JCache.
+ *
+ * <p>
+ * Every region listed in {@link SecondLevelCacheProperties#getRegions()} is created up
+ * front with its maximum size and time to live, a region the mapping refers to but which
+ * is not configured fails the startup. The update timestamps region, which tells
+ * Hibernate whether a cached query result is still valid, is neither bounded nor
+ * expiring. Hits, misses and evictions of all regions are published to the
+ * {@link MeterRegistry}.
+ * </p>
+ *
+ * <p>
+ * The cache of each instance is local, {@link SecondLevelCacheInvalidator} keeps the
+ * instances consistent.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see SecondLevelCacheProperties
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = SecondLevelCacheProperties.CONFIGURATION_NAMESPACE, name = "enabled",
+		havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfiguration {
+
+	private static final String CACHE_MANAGER_NAME = "employee-service-second-level-cache";
+
+	/**
+	 * Creates the JCache {@link CacheManager} holding the cache regions. Its name is
+	 * unique, so several application contexts in one JVM do not share their regions.
+	 * @param properties the {@link SecondLevelCacheProperties}
+	 * @return the {@link CacheManager}
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager secondLevelCacheManager(@NonNull SecondLevelCacheProperties properties) {
+		CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+			.getCacheManager(URI.create(CACHE_MANAGER_NAME + "-" + UUID.randomUUID()), getClass().getClassLoader());
+		properties.getRegions().forEach((String name, SecondLevelCacheProperties.Region region) -> {
+			log.info("Creating cache region [{}] of [{}] entries expiring after [{}]", name, region.getMaximumSize(),
+					region.getTimeToLive());
+			cacheManager.createCache(name, regionConfiguration(region));
+		});
+		CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+		timestamps.setStatisticsEnabled(true);
+		cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+		return cacheManager;
+	}
+
+	/**
+	 * Hands the {@link CacheManager} over to Hibernate and enables the entity and query
+	 * caches.
+	 * @param secondLevelCacheManager the {@link CacheManager} holding the cache regions
+	 * @return the {@link HibernatePropertiesCustomizer}
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(@NonNull CacheManager secondLevelCacheManager) {
+		return (Map<String, Object> hibernateProperties) -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+			hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY,
+					MissingCacheStrategy.FAIL.getExternalRepresentation());
+		};
+	}
+
+	/**
+	 * Publishes the statistics of the cache regions.
+	 * @param secondLevelCacheManager the {@link CacheManager} holding the cache regions
+	 * @return the {@link MeterBinder}
+	 */
+	@Bean
+	public MeterBinder secondLevelCacheMetrics(@NonNull CacheManager secondLevelCacheManager) {
+		return (MeterRegistry registry) -> secondLevelCacheManager.getCacheNames()
+			.forEach((String name) -> JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(name)));
+	}
+
+	/**
+	 * Creates the configuration of a bounded and expiring cache region.
+	 * @param region the sizing and expiry of the region
+	 * @return the configuration of the region with statistics enabled
+	 */
+	static CaffeineConfiguration<Object, Object> regionConfiguration(
+			@NonNull SecondLevelCacheProperties.Region region) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+		configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+		configuration.setStatisticsEnabled(true);
+		return configuration;
+	}
+
+}
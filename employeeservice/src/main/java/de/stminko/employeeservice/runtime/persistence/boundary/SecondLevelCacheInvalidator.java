@@ -0,0 +1,241 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * keeps the second-level caches of all instances of the service consistent.
+ *
+ * <p>
+ * Every committed insert, update or delete of a cached entity is broadcast on the
+ * {@link SecondLevelCacheProperties#getInvalidationExchangeName() invalidation exchange}.
+ * The other instances evict the entity from their entity region and mark its tables as
+ * updated, which invalidates their cached query results over those tables exactly as
+ * Hibernate does locally. Writes bypassing Hibernate, like native update statements,
+ * announce themselves by {@link #invalidateAfterCommit(Class, Object)}, or by
+ * {@link #invalidateAllAfterCommit(Class)} if they touch too many entities to name them.
+ * </p>
+ *
+ * <p>
+ * An invalidation that cannot be broadcast is logged and dropped, the time to live of the
+ * regions bounds how long the other instances serve the stale entry.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see SecondLevelCacheConfiguration
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = SecondLevelCacheProperties.CONFIGURATION_NAMESPACE, name = "enabled",
+		havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheInvalidator
+		implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+	private final String origin = UUID.randomUUID().toString();
+
+	private final SessionFactoryImplementor sessionFactory;
+
+	private final RabbitTemplate rabbitTemplate;
+
+	private final String exchangeName;
+
+	/**
+	 * Creates a new {@link SecondLevelCacheInvalidator}. Invalidations are sent without
+	 * retries, so an unavailable broker never holds up a committed request.
+	 * @param entityManagerFactory the {@link EntityManagerFactory} owning the cache
+	 * @param connectionFactory the {@link ConnectionFactory} of the broker
+	 * @param messageConverter the {@link MessageConverter} of the invalidations
+	 * @param properties the {@link SecondLevelCacheProperties}
+	 */
+	public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, ConnectionFactory connectionFactory,
+			MessageConverter messageConverter, SecondLevelCacheProperties properties) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		this.rabbitTemplate = new RabbitTemplate(connectionFactory);
+		this.rabbitTemplate.setMessageConverter(messageConverter);
+		this.exchangeName = properties.getInvalidationExchangeName();
+	}
+
+	@PostConstruct
+	void registerListeners() {
+		EventListenerRegistry registry = this.sessionFactory.getServiceRegistry()
+			.getService(EventListenerRegistry.class);
+		registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+		registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+		registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+	}
+
+	/**
+	 * Evicts an entity written without Hibernate from the cache of this and all other
+	 * instances once the current transaction has committed, or right away if there is
+	 * none.
+	 * @param entityClass the class of the entity
+	 * @param id the id of the entity
+	 */
+	public void invalidateAfterCommit(@NonNull Class<?> entityClass, @NonNull Object id) {
+		EntityPersister persister = this.sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+		if (!persister.hasCache()) {
+			return;
+		}
+		afterCommit(CacheInvalidation.of(this.origin, persister, id));
+	}
+
+	/**
+	 * Evicts all entities of a class from the cache of this and all other instances once
+	 * the current transaction has committed, or right away if there is none.
+	 * @param entityClass the class of the entities
+	 */
+	public void invalidateAllAfterCommit(@NonNull Class<?> entityClass) {
+		EntityPersister persister = this.sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+		if (!persister.hasCache()) {
+			return;
+		}
+		afterCommit(CacheInvalidation.of(this.origin, persister, null));
+	}
+
+	private void afterCommit(CacheInvalidation invalidation) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(invalidation);
+			broadcast(invalidation);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(invalidation);
+				broadcast(invalidation);
+			}
+		});
+	}
+
+	/**
+	 * Evicts the entity of an invalidation broadcast by another instance.
+	 * @param invalidation the invalidation
+	 */
+	@RabbitListener(bindings = @QueueBinding(value = @Queue(exclusive = "true", autoDelete = "true"),
+			exchange = @Exchange(
+					name = "${" + SecondLevelCacheProperties.CONFIGURATION_NAMESPACE
+							+ ".invalidation-exchange-name:employee-service.cache-invalidation}",
+					type = ExchangeTypes.FANOUT)))
+	public void onInvalidation(@NonNull CacheInvalidation invalidation) {
+		if (this.origin.equals(invalidation.origin())) {
+			return;
+		}
+		log.debug("onInvalidation( invalidation= [{}] )", invalidation);
+		evict(invalidation);
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		broadcast(CacheInvalidation.of(this.origin, event.getPersister(), event.getId()));
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		broadcast(CacheInvalidation.of(this.origin, event.getPersister(), event.getId()));
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		broadcast(CacheInvalidation.of(this.origin, event.getPersister(), event.getId()));
+	}
+
+	@Override
+	public void onPostInsertCommitFailed(PostInsertEvent event) {
+		// nothing was committed, so there is nothing to invalidate
+	}
+
+	@Override
+	public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+		// nothing was committed, so there is nothing to invalidate
+	}
+
+	@Override
+	public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+		// nothing was committed, so there is nothing to invalidate
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return persister.hasCache();
+	}
+
+	private void broadcast(CacheInvalidation invalidation) {
+		try {
+			this.rabbitTemplate.convertAndSend(this.exchangeName, "", invalidation);
+		}
+		catch (AmqpException exception) {
+			log.warn("Cannot broadcast the invalidation [{}]: {}", invalidation, exception.getMessage());
+		}
+	}
+
+	private void evict(CacheInvalidation invalidation) {
+		EntityPersister persister = this.sessionFactory.getMappingMetamodel()
+			.getEntityDescriptor(invalidation.entityName());
+		if (invalidation.id() == null) {
+			this.sessionFactory.getCache().evictEntityData(invalidation.entityName());
+		}
+		else {
+			this.sessionFactory.getCache()
+				.evictEntityData(invalidation.entityName(),
+						persister.getIdentifierMapping().getJavaType().fromString(invalidation.id()));
+		}
+		if (this.sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+			try (SessionImplementor session = this.sessionFactory.openSession()) {
+				this.sessionFactory.getCache()
+					.getTimestampsCache()
+					.invalidate(invalidation.spaces().toArray(String[]::new), session);
+			}
+		}
+	}
+
+	/**
+	 * an entity to evict from the cache.
+	 *
+	 * @param origin the instance the entity was written by
+	 * @param entityName the name of the entity
+	 * @param id the id of the entity in its string representation, {@code null} to evict
+	 * all entities of its class
+	 * @param spaces the tables of the entity
+	 */
+	public record CacheInvalidation(String origin, String entityName, String id, List<String> spaces) {
+
+		static CacheInvalidation of(String origin, EntityPersister persister, Object id) {
+			return new CacheInvalidation(origin, persister.getEntityName(), (id != null) ? String.valueOf(id) : null,
+					Arrays.stream(persister.getPropertySpaces()).map(Serializable::toString).toList());
+		}
+
+	}
+
+}
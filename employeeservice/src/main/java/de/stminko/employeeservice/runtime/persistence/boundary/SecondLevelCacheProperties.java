@@ -0,0 +1,65 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot configuration properties for "persistence.second-level-cache" configuration
+ * property namespace.
+ *
+ * @author Stéphan Minko
+ * @see SecondLevelCacheConfiguration
+ */
+@Data
+@Configuration
+@ConfigurationProperties(SecondLevelCacheProperties.CONFIGURATION_NAMESPACE)
+public class SecondLevelCacheProperties {
+
+	/**
+	 * Configuration property namespace that this class is designed to handle.
+	 */
+	public static final String CONFIGURATION_NAMESPACE = "persistence.second-level-cache";
+
+	/**
+	 * Whether the Hibernate second-level cache is enabled. Defaults to true.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Name of the fanout exchange the instances of the service broadcast their cache
+	 * invalidations on. Defaults to "employee-service.cache-invalidation".
+	 */
+	private String invalidationExchangeName = "employee-service.cache-invalidation";
+
+	/**
+	 * Sizing and expiry of the cache regions by region name. Every region the entities
+	 * and queries refer to needs to be configured.
+	 */
+	private Map<String, Region> regions = new LinkedHashMap<>();
+
+	/**
+	 * sizing and expiry of a cache region.
+	 */
+	@Data
+	public static class Region {
+
+		/**
+		 * Maximum number of entries of the region. Defaults to 10000.
+		 */
+		private long maximumSize = 10_000L;
+
+		/**
+		 * Time after which an entry expires once written. It bounds the staleness of an
+		 * entry whose invalidation got lost. Defaults to 10 minutes.
+		 */
+		private Duration timeToLive = Duration.ofMinutes(10);
+
+	}
+
+}
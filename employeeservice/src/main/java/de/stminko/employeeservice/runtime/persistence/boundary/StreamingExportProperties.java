@@ -0,0 +1,36 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot configuration properties for "persistence.streaming-export" configuration
+ * property namespace.
+ *
+ * @author Stéphan Minko
+ */
+@Data
+@Configuration
+@ConfigurationProperties(StreamingExportProperties.CONFIGURATION_NAMESPACE)
+public class StreamingExportProperties {
+
+	/**
+	 * Configuration property namespace that this class is designed to handle.
+	 */
+	public static final String CONFIGURATION_NAMESPACE = "persistence.streaming-export";
+
+	/**
+	 * Number of rows the JDBC driver fetches per round trip of the cursor, and so the
+	 * number of rows held in memory per reader. Defaults to 1000.
+	 */
+	private int fetchSize = 1_000;
+
+	/**
+	 * Maximum number of readers a single export may use in parallel, each of them holds a
+	 * connection while the export is running. Defaults to 4.
+	 */
+	private int maxParallelism = 4;
+
+}
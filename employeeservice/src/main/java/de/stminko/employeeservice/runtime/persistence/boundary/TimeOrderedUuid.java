@@ -0,0 +1,68 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * generator of time-ordered version 7 {@link UUID}s as specified by RFC 9562.
+ *
+ * <p>
+ * The 48 most significant bits hold the Unix epoch in milliseconds, followed by the
+ * version, a 12 bit counter and 62 random bits. Keys generated one after another
+ * therefore sort in creation order, so inserts hit the right edge of a B-tree index
+ * instead of random pages. The counter keeps the keys of a single instance strictly
+ * increasing within the same millisecond and if the clock moves backwards.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+public final class TimeOrderedUuid {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private static final int MAX_COUNTER = 0xFFF;
+
+	private static final long VERSION_7 = 0x7000L;
+
+	private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+	private static final long VARIANT_RFC_9562 = 0x8000000000000000L;
+
+	private static long lastTimestamp = -1L;
+
+	private static int counter;
+
+	private TimeOrderedUuid() {
+		throw new AssertionError("This is not meant to be instantiated");
+	}
+
+	/**
+	 * Generates the next version 7 UUID for the current time.
+	 * @return a UUID greater than any UUID previously generated by this class
+	 */
+	public static UUID next() {
+		return next(System.currentTimeMillis());
+	}
+
+	static UUID next(long epochMillis) {
+		long timestamp;
+		int sequence;
+		synchronized (TimeOrderedUuid.class) {
+			if (epochMillis > lastTimestamp) {
+				lastTimestamp = epochMillis;
+				// start in the lower half to leave room for keys of the same millisecond
+				counter = RANDOM.nextInt((MAX_COUNTER + 1) / 2);
+			}
+			else if (++counter > MAX_COUNTER) {
+				lastTimestamp++;
+				counter = 0;
+			}
+			timestamp = lastTimestamp;
+			sequence = counter;
+		}
+		long mostSignificantBits = (timestamp << 16) | VERSION_7 | sequence;
+		long leastSignificantBits = (RANDOM.nextLong() & VARIANT_MASK) | VARIANT_RFC_9562;
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+
+}
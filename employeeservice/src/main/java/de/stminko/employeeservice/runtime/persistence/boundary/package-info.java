@@ -8,7 +8,9 @@
  * 'CustomRevisionEntity' is tailored for audit purposes, enabling effective tracking of
  * entity revisions. 'DatasourceProxyBeanPostProcessor', implementing BeanPostProcessor,
  * enhances and customizes the behavior of data source beans, contributing to more
- * efficient and secure database interactions.
+ * efficient and secure database interactions. 'ReadReplicaRoutingDataSource' routes
+ * read-only transactions to streaming replicas while keeping the reads of a request
+ * consistent with its writes.
  * </p>
  *
  * <p>
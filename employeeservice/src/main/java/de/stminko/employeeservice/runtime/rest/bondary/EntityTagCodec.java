@@ -0,0 +1,69 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.util.Optional;
+
+import de.stminko.employeeservice.runtime.errorhandling.boundary.BadRequestException;
+import de.stminko.employeeservice.runtime.validation.constraints.boundary.MessageSourceHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * translates between the version of an entity and the entity tag used within the
+ * {@code ETag} and {@code If-Match} headers of conditional requests.
+ *
+ * <p>
+ * The entity tag of a version is the quoted version number, e.g. {@code "3"}. Weak tags
+ * ({@code W/"3"}) are accepted as well since the version is bumped on every change.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityTagCodec {
+
+	private static final String WEAK_PREFIX = "W/";
+
+	private static final String WILDCARD = "*";
+
+	private final MessageSourceHelper messageSourceHelper;
+
+	/**
+	 * Encodes the given version as entity tag.
+	 * @param version the version of the entity
+	 * @return the quoted version
+	 */
+	public String encode(long version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * Decodes the version the client expects from an {@code If-Match} header.
+	 * @param ifMatch the header value, may be null
+	 * @return the expected version or an empty {@link Optional} if the header is absent
+	 * or the wildcard {@code *}
+	 * @throws BadRequestException if the header does not denote a single version
+	 */
+	public Optional<Long> decodeIfMatch(String ifMatch) {
+		String entityTag = StringUtils.trim(ifMatch);
+		if (StringUtils.isEmpty(entityTag) || WILDCARD.equals(entityTag)) {
+			return Optional.empty();
+		}
+		String version = StringUtils.unwrap(StringUtils.removeStart(entityTag, WEAK_PREFIX), '"');
+		if (!StringUtils.isNumeric(version)) {
+			log.debug("Rejecting If-Match header [{}]", ifMatch);
+			throw new BadRequestException(this.messageSourceHelper.getMessage("errors.if-match.invalid", ifMatch));
+		}
+		try {
+			return Optional.of(Long.valueOf(version));
+		}
+		catch (NumberFormatException exception) {
+			throw new BadRequestException(this.messageSourceHelper.getMessage("errors.if-match.invalid", ifMatch));
+		}
+	}
+
+}
@@ -0,0 +1,198 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.stminko.employeeservice.runtime.errorhandling.boundary.BadRequestException;
+import de.stminko.employeeservice.runtime.validation.constraints.boundary.MessageSourceHelper;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * encodes and decodes the opaque {@code after} cursor used by the keyset (seek)
+ * pagination mode of the listing endpoints.
+ *
+ * <p>
+ * A cursor is the URL-safe Base64 representation of the keyset of the last element of a
+ * {@link Window}, i.e. the values of all requested sort properties plus the identifier.
+ * Decoding converts every value back to the type of the matching property of the domain
+ * class, so the resulting {@link KeysetScrollPosition} can be bound as a
+ * {@code WHERE (sort_key, id) > (?, ?)} predicate without any offset.
+ * </p>
+ *
+ * <p>
+ * Such a predicate never matches a row whose sort key is {@code NULL}, so scrolling is
+ * only allowed by properties mapped to {@code NOT NULL} columns. The identifier is always
+ * appended as the last key, which makes the order total.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see WindowSerializer
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeysetCursorCodec {
+
+	/**
+	 * Name of the request parameter carrying the cursor.
+	 */
+	public static final String AFTER_PARAMETER = "after";
+
+	private static final String ID_PROPERTY = "id";
+
+	private static final ObjectMapper CURSOR_MAPPER = JsonMapper.builder()
+		.addModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.build();
+
+	private final MessageSourceHelper messageSourceHelper;
+
+	/**
+	 * Decodes the given cursor into a forward {@link ScrollPosition}.
+	 * @param cursor the opaque cursor as received from the client, a blank cursor denotes
+	 * the first window
+	 * @param sort the sort order the cursor has to match
+	 * @param domainType the domain class whose properties are referenced by the cursor
+	 * @return the decoded {@link ScrollPosition}
+	 * @throws BadRequestException if the sort order references a nullable property, or if
+	 * the cursor is malformed or does not match the requested sort order
+	 */
+	public ScrollPosition decode(String cursor, @NonNull Sort sort, @NonNull Class<?> domainType) {
+		log.debug("decode( cursor= [{}], sort= [{}] )", cursor, sort);
+		sort.forEach((Sort.Order order) -> requireNotNullable(order.getProperty(), domainType));
+		if (StringUtils.isBlank(cursor)) {
+			return ScrollPosition.keyset();
+		}
+		Set<String> expectedProperties = keysetProperties(sort);
+		try {
+			byte[] json = Base64.getUrlDecoder().decode(cursor);
+			JsonNode keysetNode = CURSOR_MAPPER.readTree(json);
+			if ((keysetNode == null) || !keysetNode.isObject() || (keysetNode.size() != expectedProperties.size())) {
+				throw invalidCursor(cursor);
+			}
+			Map<String, Object> keys = new LinkedHashMap<>();
+			for (String property : expectedProperties) {
+				JsonNode valueNode = keysetNode.get(property);
+				if ((valueNode == null) || valueNode.isNull()) {
+					throw invalidCursor(cursor);
+				}
+				Class<?> propertyType = PropertyPath.from(property, domainType).getLeafProperty().getType();
+				keys.put(property, CURSOR_MAPPER.convertValue(valueNode, propertyType));
+			}
+			return ScrollPosition.forward(keys);
+		}
+		catch (IOException | IllegalArgumentException | PropertyReferenceException exception) {
+			log.debug("Rejecting cursor [{}]: [{}]", cursor, exception.getMessage());
+			throw invalidCursor(cursor);
+		}
+	}
+
+	/**
+	 * Encodes the position after the last element of the given {@link Window}.
+	 * @param window the window to create the follow-up cursor for
+	 * @return the cursor pointing behind the last element or an empty {@link Optional} if
+	 * there is no next window
+	 */
+	public Optional<String> encodeNext(@NonNull Window<?> window) {
+		if (!window.hasNext() || window.isEmpty()) {
+			return Optional.empty();
+		}
+		ScrollPosition position = window.positionAt(window.size() - 1);
+		if (!(position instanceof KeysetScrollPosition keysetPosition)) {
+			return Optional.empty();
+		}
+		ObjectNode keysetNode = CURSOR_MAPPER.createObjectNode();
+		keysetPosition.getKeys()
+			.forEach((String property, Object value) -> keysetNode.set(property, CURSOR_MAPPER.valueToTree(value)));
+		byte[] json = keysetNode.toString().getBytes(StandardCharsets.UTF_8);
+		return Optional.of(Base64.getUrlEncoder().withoutPadding().encodeToString(json));
+	}
+
+	/**
+	 * Creates the response headers for a {@link Window}, adding a {@code Link} header
+	 * with relation type {@code next} that points to the current request with the
+	 * follow-up cursor if there is a next window.
+	 * @param window the window returned to the client
+	 * @return the {@link HttpHeaders} to add to the response
+	 */
+	public HttpHeaders createNextLinkHeaders(@NonNull Window<?> window) {
+		HttpHeaders headers = new HttpHeaders();
+		encodeNext(window).ifPresent((String nextCursor) -> headers.add(HttpHeaders.LINK,
+				"<%s>; rel=\"next\"".formatted(ServletUriComponentsBuilder.fromCurrentRequest()
+					.replaceQueryParam(AFTER_PARAMETER, nextCursor)
+					.toUriString())));
+		return headers;
+	}
+
+	private Set<String> keysetProperties(Sort sort) {
+		Set<String> properties = new LinkedHashSet<>();
+		sort.forEach((Sort.Order order) -> properties.add(order.getProperty()));
+		properties.add(ID_PROPERTY);
+		return properties;
+	}
+
+	private void requireNotNullable(String property, Class<?> domainType) {
+		PropertyPath path;
+		try {
+			path = PropertyPath.from(property, domainType);
+		}
+		catch (PropertyReferenceException exception) {
+			// unknown properties are rejected by the query itself
+			return;
+		}
+		for (PropertyPath segment : path) {
+			Field field = ReflectionUtils.findField(segment.getOwningType().getType(), segment.getSegment());
+			if ((field == null) || !isNotNullable(field)) {
+				throw new BadRequestException(
+						this.messageSourceHelper.getMessage("errors.cursor.sort.nullable", property));
+			}
+		}
+	}
+
+	private static boolean isNotNullable(Field field) {
+		if (field.isAnnotationPresent(Id.class)) {
+			return true;
+		}
+		Column column = field.getAnnotation(Column.class);
+		if (column != null) {
+			return !column.nullable();
+		}
+		JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+		return (joinColumn != null) && !joinColumn.nullable();
+	}
+
+	private BadRequestException invalidCursor(String cursor) {
+		return new BadRequestException(this.messageSourceHelper.getMessage("errors.cursor.invalid", cursor));
+	}
+
+}
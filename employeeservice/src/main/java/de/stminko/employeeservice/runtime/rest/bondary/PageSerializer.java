@@ -7,6 +7,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import de.stminko.employeeservice.runtime.persistence.boundary.EstimatedPage;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
@@ -24,6 +25,11 @@ import org.springframework.stereotype.Component;
  * details.
  * </p>
  *
+ * <p>
+ * {@code totalExact} tells whether {@code totalElements} and {@code totalPages} were
+ * counted or are an {@link EstimatedPage estimate} taken from the planner statistics.
+ * </p>
+ *
  * @author Stéphan Minko
  */
 @Slf4j
@@ -56,6 +62,8 @@ public class PageSerializer extends StdSerializer<Page> {
 		jsonGen.writeNumber(page.getNumber());
 		jsonGen.writeFieldName("totalElements");
 		jsonGen.writeNumber(page.getTotalElements());
+		jsonGen.writeFieldName("totalExact");
+		jsonGen.writeBoolean(!(page instanceof EstimatedPage));
 		jsonGen.writeFieldName("last");
 		jsonGen.writeBoolean(page.isLast());
 		jsonGen.writeFieldName("totalPages");
@@ -6,6 +6,8 @@ import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilde
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.history.Revision;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
@@ -14,8 +16,9 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
  * Jackson Object Mapper used by Spring MVC to serialize and deserialize JSON data.
  *
  * <p>
- * It includes custom serializer configurations for certain types like {@link PageImpl}
- * and {@link Revision} to tailor the JSON output according to specific application needs.
+ * It includes custom serializer configurations for certain types like {@link PageImpl},
+ * {@link SliceImpl}, {@link Window} and {@link Revision} to tailor the JSON output
+ * according to specific application needs.
  * </p>
  *
  * @author Stéphan Minko
@@ -27,25 +30,30 @@ public class RestConfiguration {
 	/**
 	 * customizes the Jackson2ObjectMapperBuilder with application-specific serializers.
 	 * <p>
-	 * This method registers custom serializers for types like {@link PageImpl} and
-	 * {@link Revision} to control how these types are serialized to JSON. This
-	 * customization is essential for ensuring the JSON output conforms to the
-	 * application's data structure and front-end requirements.
+	 * This method registers custom serializers for types like {@link PageImpl},
+	 * {@link SliceImpl}, {@link Window} and {@link Revision} to control how these types
+	 * are serialized to JSON. This customization is essential for ensuring the JSON
+	 * output conforms to the application's data structure and front-end requirements.
 	 * </p>
 	 * @param pageSerializer the serializer to use for {@link PageImpl} objects.
+	 * @param sliceSerializer the serializer to use for {@link SliceImpl} objects.
 	 * @param revisionSerializer the serializer to use for {@link Revision} objects.
+	 * @param windowSerializer the serializer to use for {@link Window} objects.
 	 * @return a {@link Jackson2ObjectMapperBuilderCustomizer} that customizes the JSON
 	 * mapping.
 	 *
 	 */
 	@Bean
 	public Jackson2ObjectMapperBuilderCustomizer restSupportBuilderCustomizer(PageSerializer pageSerializer,
-			RevisionSerializer revisionSerializer) {
+			SliceSerializer sliceSerializer, RevisionSerializer revisionSerializer, WindowSerializer windowSerializer) {
 		return (Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) -> {
 			log.info(
-					"Registering Custom Serializers for: [{}], [{}] with Springs default Jackson2ObjectMapperBuilder ...",
-					PageImpl.class.getSimpleName(), Revision.class.getSimpleName());
+					"Registering Custom Serializers for: [{}], [{}], [{}], [{}] with Springs default Jackson2ObjectMapperBuilder ...",
+					PageImpl.class.getSimpleName(), SliceImpl.class.getSimpleName(), Window.class.getSimpleName(),
+					Revision.class.getSimpleName());
 			jackson2ObjectMapperBuilder.serializerByType(PageImpl.class, pageSerializer);
+			jackson2ObjectMapperBuilder.serializerByType(SliceImpl.class, sliceSerializer);
+			jackson2ObjectMapperBuilder.serializerByType(Window.class, windowSerializer);
 			jackson2ObjectMapperBuilder.serializerByType(Revision.class, revisionSerializer);
 		};
 	}
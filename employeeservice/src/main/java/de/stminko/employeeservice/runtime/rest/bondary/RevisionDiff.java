@@ -0,0 +1,180 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.NonNull;
+
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionMetadata;
+
+/**
+ * field-level changes of an entity over a range of its revisions, computed from the
+ * response records the revisions are mapped to.
+ *
+ * <p>
+ * Only the changed fields are written: {@code changes} holds the net change from the
+ * state at {@code from} to the state at {@code to}, {@code revisions} the changes of
+ * every single revision in between. Revisions not changing any field are omitted.
+ * </p>
+ *
+ * @param from the revision number of the state the changes start from, {@code null} if
+ * the entity did not exist yet
+ * @param to the revision number of the state the changes end with
+ * @param changes the net changes between both states
+ * @param revisions the changes per revision in ascending revision order
+ * @author Stéphan Minko
+ * @see Accumulator
+ */
+@JsonView(DataView.GET.class)
+public record RevisionDiff(
+		@Schema(description = "Revision number the changes start from, absent if the entity did not exist yet",
+				example = "4711") Long from,
+		@Schema(description = "Revision number the changes end with", example = "4713") Long to,
+		List<PropertyChange> changes, List<RevisionChanges> revisions) {
+
+	/**
+	 * Creates a new {@link Accumulator} the revisions of a range are passed to in
+	 * ascending order.
+	 * @param fromRevision the revision number the range starts with, a revision up to it
+	 * is taken as the state the changes start from
+	 * @param <T> the record type the revisions are mapped to
+	 * @return the new accumulator
+	 */
+	public static <T extends Record> Accumulator<T> accumulator(long fromRevision) {
+		return new Accumulator<>(fromRevision);
+	}
+
+	/**
+	 * Computes the changes between two states of an entity.
+	 * @param previous the previous state, {@code null} if the entity did not exist
+	 * @param current the current state
+	 * @param <T> the record type of the states
+	 * @return the changed fields in declaration order
+	 */
+	static <T extends Record> List<PropertyChange> changesBetween(T previous, @NonNull T current) {
+		List<PropertyChange> changes = new ArrayList<>();
+		for (RecordComponent component : current.getClass().getRecordComponents()) {
+			Object oldValue = (previous != null) ? valueOf(component, previous) : null;
+			Object newValue = valueOf(component, current);
+			if (!Objects.equals(oldValue, newValue)) {
+				changes.add(new PropertyChange(component.getName(), oldValue, newValue));
+			}
+		}
+		return changes;
+	}
+
+	private static Object valueOf(RecordComponent component, Record record) {
+		try {
+			return component.getAccessor().invoke(record);
+		}
+		catch (IllegalAccessException | InvocationTargetException exception) {
+			throw new IllegalStateException("Cannot read [%s] of [%s]".formatted(component.getName(), record),
+					exception);
+		}
+	}
+
+	/**
+	 * A changed field.
+	 *
+	 * @param property the name of the field
+	 * @param oldValue the value before the change
+	 * @param newValue the value after the change
+	 */
+	public record PropertyChange(
+			@Schema(description = "Name of the changed field", example = "emailAddress") String property,
+			@Schema(description = "Value before the change") Object oldValue,
+			@Schema(description = "Value after the change") Object newValue) {
+
+	}
+
+	/**
+	 * The changed fields of a single revision.
+	 *
+	 * @param revisionNumber the number of the revision
+	 * @param revisionType the type of the revision
+	 * @param revisionInstant the time the revision was committed
+	 * @param changes the fields changed by the revision
+	 */
+	public record RevisionChanges(@Schema(description = "Number of the revision", example = "4712") Long revisionNumber,
+			@Schema(description = "Type of the revision",
+					example = "UPDATE") RevisionMetadata.RevisionType revisionType,
+			@Schema(description = "Time the revision was committed") Instant revisionInstant,
+			List<PropertyChange> changes) {
+
+	}
+
+	/**
+	 * Accumulates the revisions of a range one by one, keeping only their changes, so
+	 * arbitrarily long ranges can be diffed without holding all revisions at once.
+	 *
+	 * @param <T> the record type the revisions are mapped to
+	 */
+	public static final class Accumulator<T extends Record> implements Consumer<Revision<Long, T>> {
+
+		private final List<RevisionChanges> revisions = new ArrayList<>();
+
+		private final long fromRevision;
+
+		private Revision<Long, T> first;
+
+		private Revision<Long, T> last;
+
+		private Accumulator(long fromRevision) {
+			this.fromRevision = fromRevision;
+		}
+
+		/**
+		 * Accepts the next revision of the range. A revision up to the start of the range
+		 * is the state the changes start from.
+		 * @param revision the next revision in ascending order
+		 */
+		@Override
+		public void accept(@NonNull Revision<Long, T> revision) {
+			if (revision.getRequiredRevisionNumber() <= this.fromRevision) {
+				this.first = revision;
+				this.last = revision;
+				return;
+			}
+			List<PropertyChange> changes = changesBetween((this.last != null) ? this.last.getEntity() : null,
+					revision.getEntity());
+			if (!changes.isEmpty()) {
+				this.revisions.add(new RevisionChanges(revision.getRequiredRevisionNumber(),
+						revision.getMetadata().getRevisionType(), revision.getRequiredRevisionInstant(), changes));
+			}
+			this.last = revision;
+		}
+
+		/**
+		 * Tells whether no revision has been accepted.
+		 * @return true if the range did not contain any revision
+		 */
+		public boolean isEmpty() {
+			return this.last == null;
+		}
+
+		/**
+		 * Creates the {@link RevisionDiff} of all revisions accepted so far.
+		 * @return the {@link RevisionDiff}
+		 * @throws IllegalStateException if no revision has been accepted
+		 */
+		public RevisionDiff toDiff() {
+			if (isEmpty()) {
+				throw new IllegalStateException("No revision has been accepted");
+			}
+			return new RevisionDiff((this.first != null) ? this.first.getRequiredRevisionNumber() : null,
+					this.last.getRequiredRevisionNumber(),
+					changesBetween((this.first != null) ? this.first.getEntity() : null, this.last.getEntity()),
+					List.copyOf(this.revisions));
+		}
+
+	}
+
+}
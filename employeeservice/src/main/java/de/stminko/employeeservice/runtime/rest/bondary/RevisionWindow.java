@@ -0,0 +1,87 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.NonNull;
+
+import org.springframework.data.domain.Window;
+import org.springframework.data.history.Revision;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * a window of the revisions of an entity, as returned by the revision number cursor mode
+ * of the revision history endpoints.
+ *
+ * <p>
+ * Unlike the {@link KeysetCursorCodec cursor} of the listing endpoints, the cursor is the
+ * plain revision number of the last revision of the window, which clients pass back as
+ * {@code afterRev} (scrolling forward) or {@code beforeRev} (scrolling backward) request
+ * parameter. No totals are written since the revisions are never counted.
+ * </p>
+ *
+ * @param size the number of revisions of this window
+ * @param hasNext whether there are more revisions behind this window
+ * @param next the revision number to continue with, {@code null} if there is no next
+ * window
+ * @param content the revisions of this window
+ * @param <T> the type of the revisioned entity
+ * @author Stéphan Minko
+ */
+@JsonView(DataView.GET.class)
+public record RevisionWindow<T>(@Schema(description = "Number of revisions of this window", example = "50") int size,
+		@Schema(description = "Whether there are more revisions behind this window") boolean hasNext,
+		@Schema(description = "Revision number to pass as afterRev or beforeRev to fetch the next window",
+				example = "4711") Long next,
+		List<Revision<Long, T>> content) {
+
+	/**
+	 * Name of the request parameter scrolling forward past the given revision number.
+	 */
+	public static final String AFTER_REVISION_PARAMETER = "afterRev";
+
+	/**
+	 * Name of the request parameter scrolling backward before the given revision number.
+	 */
+	public static final String BEFORE_REVISION_PARAMETER = "beforeRev";
+
+	/**
+	 * Creates a {@link RevisionWindow} from a {@link Window} of revisions, mapping the
+	 * revisioned entities.
+	 * @param window the window of revisions as found
+	 * @param mapper the mapping function applied to each revision
+	 * @param <S> the type of the found revisioned entity
+	 * @param <T> the type of the mapped revisioned entity
+	 * @return the {@link RevisionWindow}
+	 */
+	public static <S, T> RevisionWindow<T> of(@NonNull Window<Revision<Long, S>> window,
+			@NonNull Function<Revision<Long, S>, Revision<Long, T>> mapper) {
+		List<Revision<Long, T>> content = window.getContent().stream().map(mapper).toList();
+		Long next = (window.hasNext() && !content.isEmpty())
+				? content.get(content.size() - 1).getRequiredRevisionNumber() : null;
+		return new RevisionWindow<>(content.size(), next != null, next, content);
+	}
+
+	/**
+	 * Creates the response headers for this window, adding a {@code Link} header with
+	 * relation type {@code next} that points to the current request with the follow-up
+	 * revision number if there is a next window.
+	 * @param cursorParameter the request parameter carrying the revision number, either
+	 * {@link #AFTER_REVISION_PARAMETER} or {@link #BEFORE_REVISION_PARAMETER}
+	 * @return the {@link HttpHeaders} to add to the response
+	 */
+	public HttpHeaders createNextLinkHeaders(@NonNull String cursorParameter) {
+		HttpHeaders headers = new HttpHeaders();
+		if (this.next != null) {
+			headers.add(HttpHeaders.LINK,
+					"<%s>; rel=\"next\"".formatted(ServletUriComponentsBuilder.fromCurrentRequest()
+						.replaceQueryParam(cursorParameter, this.next)
+						.toUriString()));
+		}
+		return headers;
+	}
+
+}
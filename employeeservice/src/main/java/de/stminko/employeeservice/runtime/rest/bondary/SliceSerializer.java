@@ -0,0 +1,62 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * custom serializer for Spring Data's {@link Slice} interface, the result type of the
+ * count-free listing mode selected by {@code withTotal=false}.
+ *
+ * <p>
+ * Unlike the {@link PageSerializer}, neither {@code totalElements} nor {@code totalPages}
+ * are written since a slice query never counts. The envelope only tells whether a next
+ * page exists.
+ * </p>
+ *
+ * @author Stéphan Minko
+ */
+@Slf4j
+@Component
+public class SliceSerializer extends StdSerializer<Slice> {
+
+	/**
+	 * Default constructor for SliceSerializer.
+	 */
+	public SliceSerializer() {
+		super(Slice.class);
+	}
+
+	/**
+	 * Serializes a {@link Slice} object to JSON.
+	 * @param slice the slice object to serialize.
+	 * @param jsonGenerator the generator used to write the JSON content.
+	 * @param provider the serializer provider.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	@Override
+	public void serialize(Slice slice, JsonGenerator jsonGenerator, SerializerProvider provider) throws IOException {
+		final JsonGenerator jsonGen = provider.getGenerator();
+		final ObjectMapper mapper = (ObjectMapper) jsonGen.getCodec();
+		jsonGen.writeStartObject();
+		jsonGen.writeFieldName("size");
+		jsonGen.writeNumber(slice.getSize());
+		jsonGen.writeFieldName("number");
+		jsonGen.writeNumber(slice.getNumber());
+		jsonGen.writeFieldName("numberOfElements");
+		jsonGen.writeNumber(slice.getNumberOfElements());
+		jsonGen.writeFieldName("hasNext");
+		jsonGen.writeBoolean(slice.hasNext());
+		jsonGen.writeFieldName("content");
+		jsonGen.writeRawValue(mapper.writerWithView(provider.getActiveView()).writeValueAsString(slice.getContent()));
+		jsonGen.writeEndObject();
+	}
+
+}
@@ -0,0 +1,66 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+/**
+ * custom serializer for Spring Data's {@link Window} interface, the result type of the
+ * keyset (seek) pagination mode.
+ *
+ * <p>
+ * Unlike the {@link PageSerializer}, no totals are written since a keyset query never
+ * counts. Instead the opaque cursor pointing behind the last element is written as
+ * {@code next}, which clients pass back as {@code after} request parameter.
+ * </p>
+ *
+ * @author Stéphan Minko
+ * @see KeysetCursorCodec
+ */
+@Slf4j
+@Component
+public class WindowSerializer extends StdSerializer<Window> {
+
+	private final transient KeysetCursorCodec keysetCursorCodec;
+
+	/**
+	 * Creates a new WindowSerializer.
+	 * @param keysetCursorCodec the codec used to write the follow-up cursor
+	 */
+	public WindowSerializer(KeysetCursorCodec keysetCursorCodec) {
+		super(Window.class);
+		this.keysetCursorCodec = keysetCursorCodec;
+	}
+
+	/**
+	 * Serializes a {@link Window} object to JSON.
+	 * @param window the window object to serialize.
+	 * @param jsonGenerator the generator used to write the JSON content.
+	 * @param provider the serializer provider.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	@Override
+	public void serialize(Window window, JsonGenerator jsonGenerator, SerializerProvider provider) throws IOException {
+		final JsonGenerator jsonGen = provider.getGenerator();
+		final ObjectMapper mapper = (ObjectMapper) jsonGen.getCodec();
+		jsonGen.writeStartObject();
+		jsonGen.writeFieldName("size");
+		jsonGen.writeNumber(window.size());
+		jsonGen.writeFieldName("hasNext");
+		jsonGen.writeBoolean(window.hasNext());
+		jsonGen.writeFieldName("next");
+		String nextCursor = this.keysetCursorCodec.encodeNext(window).orElse(null);
+		jsonGen.writeString(nextCursor);
+		jsonGen.writeFieldName("content");
+		jsonGen.writeRawValue(mapper.writerWithView(provider.getActiveView()).writeValueAsString(window.getContent()));
+		jsonGen.writeEndObject();
+	}
+
+}
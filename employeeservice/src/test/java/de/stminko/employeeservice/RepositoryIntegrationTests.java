@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
@@ -70,6 +71,7 @@ public class RepositoryIntegrationTests extends AbstractIntegrationTestSuite {
 								case "java.time.ZonedDateTime" -> ZonedDateTime.now();
 								case "java.lang.Class<T>" -> domainClass;
 								case "java.lang.String" -> "1";
+								case "java.util.UUID" -> UUID.randomUUID();
 								case "java.lang.Boolean" -> true;
 								case "java.util.Date" -> new Date();
 								case "org.springframework.data.domain.Pageable" -> Pageable.unpaged();
@@ -0,0 +1,95 @@
+package de.stminko.employeeservice.changes.boundary;
+
+import de.stminko.employeeservice.AbstractIntegrationTestSuite;
+import de.stminko.employeeservice.department.boundary.DepartmentController;
+import de.stminko.employeeservice.department.boundary.dto.DepartmentRequest;
+import de.stminko.employeeservice.department.boundary.dto.DepartmentResponse;
+import de.stminko.employeeservice.employee.boundary.EmployeeController;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeRequest;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeResponse;
+import de.stminko.employeeservice.runtime.rest.bondary.DataView;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@AutoConfigureMockMvc
+class ChangeFeedControllerIntegrationTests extends AbstractIntegrationTestSuite {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@DisplayName("GET: 'https://.../changes?sinceRevision= returns upserts and tombstones in revision order")
+	void givenCreatedAndDeletedEmployee_whenFindChanges_thenReturnUpsertsAndTombstoneInRevisionOrder()
+			throws Exception {
+		// Arrange
+		DepartmentRequest departmentRequest = this.departmentRequestTestFactory.createDefault();
+		MvcResult departmentResult = this.mockMvc
+			.perform(MockMvcRequestBuilders.post(DepartmentController.BASE_URI)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(transformRequestToJSONByView(departmentRequest, DataView.POST.class)))
+			.andReturn();
+		DepartmentResponse departmentResponse = this.objectMapper
+			.readValue(departmentResult.getResponse().getContentAsString(), DepartmentResponse.class);
+		MvcResult revisionResult = this.mockMvc.perform(MockMvcRequestBuilders.get(
+				"%s/{departmentId}/revisions/latest".formatted(DepartmentController.BASE_URI),
+				departmentResponse.departmentId()))
+			.andReturn();
+		long departmentRevision = this.objectMapper.readTree(revisionResult.getResponse().getContentAsString())
+			.get("revisionNumber")
+			.asLong();
+		EmployeeRequest employeeRequest = this.employeeRequestTestFactory.builder()
+			.departmentName(departmentResponse.departmentName())
+			.create();
+		MvcResult employeeResult = this.mockMvc
+			.perform(MockMvcRequestBuilders.post(EmployeeController.BASE_URI)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(transformRequestToJSONByView(employeeRequest, DataView.POST.class)))
+			.andReturn();
+		EmployeeResponse employeeResponse = this.objectMapper
+			.readValue(employeeResult.getResponse().getContentAsString(), EmployeeResponse.class);
+		this.mockMvc.perform(MockMvcRequestBuilders.delete("%s/{employeeId}".formatted(EmployeeController.BASE_URI),
+				employeeResponse.employeeId()));
+		String sinceRevision = String.valueOf(departmentRevision - 1);
+
+		// Act / Assert
+		this.mockMvc
+			.perform(MockMvcRequestBuilders.get(ChangeFeedController.BASE_URI)
+				.param(ChangeFeedController.SINCE_REVISION_PARAMETER, sinceRevision)
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", Matchers.is(false)))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].entityType", Matchers.is("DEPARTMENT")))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].operation", Matchers.is("UPSERT")))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].entity.departmentName",
+					Matchers.is(departmentResponse.departmentName())))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.content[?(@.entityType == 'EMPLOYEE')].operation",
+					Matchers.contains("UPSERT", "DELETE")))
+			.andExpect(MockMvcResultMatchers.jsonPath(
+					"$.content[?(@.entityType == 'EMPLOYEE' && @.operation == 'UPSERT')].entity.emailAddress",
+					Matchers.contains(employeeRequest.emailAddress())))
+			.andExpect(MockMvcResultMatchers
+				.jsonPath("$.content[?(@.entityType == 'EMPLOYEE' && @.operation == 'DELETE')].entity")
+				.isEmpty());
+		this.mockMvc
+			.perform(MockMvcRequestBuilders.get(ChangeFeedController.BASE_URI)
+				.param(ChangeFeedController.SINCE_REVISION_PARAMETER, sinceRevision)
+				.param("size", "1")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LINK))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.size", Matchers.is(1)))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", Matchers.is(true)))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.next", Matchers.is((int) departmentRevision)));
+	}
+
+}
@@ -0,0 +1,102 @@
+package de.stminko.employeeservice.changes.control;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import de.stminko.employeeservice.AbstractIntegrationTestSuite;
+import de.stminko.employeeservice.department.control.DepartmentService;
+import de.stminko.employeeservice.department.entity.Department;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.history.Revision;
+
+@DisplayName("Integration tests for the change feed service")
+class ChangeFeedServiceIntegrationTests extends AbstractIntegrationTestSuite {
+
+	private static final String INSERT_REVISION = "INSERT INTO history.audit_trail (timestamp) VALUES (?) RETURNING id";
+
+	@Autowired
+	private ChangeFeedService changeFeedService;
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	@DisplayName("A revision committed while a lower one is in flight is held back until the lower one completes")
+	void givenLowerRevisionInFlight_whenFindChanges_thenHoldBackHigherRevision() throws SQLException {
+		// Arrange
+		Department settledDepartment = this.departmentService.create(this.departmentRequestTestFactory.createDefault());
+		long sinceRevision = this.departmentService.findLastChangeRevision(settledDepartment.getId())
+			.getRequiredRevisionNumber();
+		try (Connection inFlight = this.dataSource.getConnection()) {
+			inFlight.setAutoCommit(false);
+			long inFlightRevision = insertRevision(inFlight);
+			Department overtakingDepartment = this.departmentService
+				.create(this.departmentRequestTestFactory.createDefault());
+			long overtakingRevision = this.departmentService.findLastChangeRevision(overtakingDepartment.getId())
+				.getRequiredRevisionNumber();
+
+			// Act
+			ChangeFeed whileInFlight = this.changeFeedService.findChanges(sinceRevision, 100);
+			inFlight.commit();
+			ChangeFeed afterCommit = this.changeFeedService.findChanges(whileInFlight.next(), 100);
+
+			// Assert
+			Assertions.assertThat(overtakingRevision).isGreaterThan(inFlightRevision);
+			Assertions.assertThat(whileInFlight.revisions()).isEmpty();
+			Assertions.assertThat(whileInFlight.next()).isLessThan(inFlightRevision);
+			Assertions.assertThat(afterCommit.revisions())
+				.extracting(Revision::getRequiredRevisionNumber)
+				.containsExactly(overtakingRevision);
+			Assertions.assertThat(afterCommit.next()).isGreaterThanOrEqualTo(overtakingRevision);
+		}
+	}
+
+	@Test
+	@DisplayName("A revision rolled back does not hold back the revisions following it")
+	void givenLowerRevisionRolledBack_whenFindChanges_thenReturnHigherRevision() throws SQLException {
+		// Arrange
+		Department settledDepartment = this.departmentService.create(this.departmentRequestTestFactory.createDefault());
+		long sinceRevision = this.departmentService.findLastChangeRevision(settledDepartment.getId())
+			.getRequiredRevisionNumber();
+		long overtakingRevision;
+		try (Connection inFlight = this.dataSource.getConnection()) {
+			inFlight.setAutoCommit(false);
+			insertRevision(inFlight);
+			Department overtakingDepartment = this.departmentService
+				.create(this.departmentRequestTestFactory.createDefault());
+			overtakingRevision = this.departmentService.findLastChangeRevision(overtakingDepartment.getId())
+				.getRequiredRevisionNumber();
+			inFlight.rollback();
+		}
+
+		// Act
+		ChangeFeed changeFeed = this.changeFeedService.findChanges(sinceRevision, 100);
+
+		// Assert
+		Assertions.assertThat(changeFeed.revisions())
+			.extracting(Revision::getRequiredRevisionNumber)
+			.containsExactly(overtakingRevision);
+	}
+
+	private static long insertRevision(Connection connection) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_REVISION)) {
+			statement.setLong(1, System.currentTimeMillis());
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return resultSet.getLong(1);
+			}
+		}
+	}
+
+}
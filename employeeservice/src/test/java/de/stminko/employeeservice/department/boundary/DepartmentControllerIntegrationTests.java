@@ -242,6 +242,50 @@ class DepartmentControllerIntegrationTests extends AbstractIntegrationTestSuite
 				.andExpect(MockMvcResultMatchers.jsonPath("$.content[*].employeeId").exists());
 		}
 
+		@Test
+		@DisplayName("GET: 'https://.../departments/{departmentId}/employees?asOfRevision= returns the employees at the revision")
+		void givenDeletedEmployee_whenFindAllAssociatedEmployeesByDepIdAsOfRevision_thenReturnEmployeesAtRevision()
+				throws Exception {
+			// Arrange
+			DepartmentResponse departmentResponse = saveRandomDepartment();
+			List<EmployeeResponse> employeeResponseList = IntStream.range(0, 3)
+				.mapToObj((int value) -> saveRandomEmployee(departmentResponse.departmentName()))
+				.toList();
+			EmployeeResponse deletedEmployee = employeeResponseList.get(2);
+			MvcResult revisionResult = DepartmentControllerIntegrationTests.this.mockMvc
+				.perform(
+						MockMvcRequestBuilders
+							.get("%s/{employeeId}/revisions/latest".formatted(EmployeeController.BASE_URI),
+									deletedEmployee.employeeId())
+							.contentType(MediaType.APPLICATION_JSON))
+				.andReturn();
+			long revision = DepartmentControllerIntegrationTests.this.objectMapper
+				.readTree(revisionResult.getResponse().getContentAsString())
+				.get("revisionNumber")
+				.asLong();
+			DepartmentControllerIntegrationTests.this.mockMvc.perform(MockMvcRequestBuilders
+				.delete("%s/{employeeId}".formatted(EmployeeController.BASE_URI), deletedEmployee.employeeId()));
+			String uri = "%s/{departmentId}/employees".formatted(DepartmentController.BASE_URI);
+
+			// Act / Assert
+			DepartmentControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(uri, departmentResponse.departmentId())
+					.param(EmployeeController.AS_OF_REVISION_PARAMETER, String.valueOf(revision))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(3)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content[*].employeeId",
+						Matchers.hasItem(deletedEmployee.employeeId())))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content[*].departmentName",
+						Matchers.everyItem(Matchers.is(departmentResponse.departmentName()))));
+			DepartmentControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(uri, departmentResponse.departmentId())
+					.param(EmployeeController.AS_OF_REVISION_PARAMETER, String.valueOf(revision - 1))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(2)));
+		}
+
 		@Test
 		@DisplayName("GET: 'https://.../departments/{departmentId}/employees Finding returns 404 for unknown departmentId")
 		void givenUnknownId_whenFindAllAssociatedEmployeesByDepId_thenStatus404() throws Exception {
@@ -10,7 +10,6 @@ import de.stminko.employeeservice.department.entity.Department;
 import de.stminko.employeeservice.employee.boundary.dto.EmployeeRequest;
 import de.stminko.employeeservice.employee.control.EmployeeService;
 import de.stminko.employeeservice.employee.entity.Employee;
-import de.stminko.employeeservice.runtime.errorhandling.boundary.BadRequestException;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.DepartmentNotEmptyException;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.NotFoundException;
 import jakarta.validation.ConstraintViolationException;
@@ -22,6 +21,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -66,7 +66,7 @@ class DepartmentServiceIntegrationTests extends AbstractIntegrationTestSuite {
 
 		@Test
 		@DisplayName("Creating a departments with a already existing name fails")
-		void givenAlreadyExistingDepartmentName_whenCreate_thenThrowException() {
+		void givenAlreadyExistingDepartmentName_whenCreate_thenThrowDataIntegrityViolationException() {
 			// Arrange
 			String departmentName = RandomStringUtils.randomAlphabetic(23);
 			DepartmentRequest creationRequest = DepartmentServiceIntegrationTests.this.departmentRequestTestFactory
@@ -80,7 +80,7 @@ class DepartmentServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.departmentName(departmentName)
 				.create();
 			// Act / Assert
-			Assertions.assertThatExceptionOfType(BadRequestException.class)
+			Assertions.assertThatExceptionOfType(DataIntegrityViolationException.class)
 				.isThrownBy(() -> DepartmentServiceIntegrationTests.this.departmentService.create(creationRequest_2));
 		}
 
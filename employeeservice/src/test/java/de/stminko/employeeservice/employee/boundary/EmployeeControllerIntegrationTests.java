@@ -1,13 +1,17 @@
 package de.stminko.employeeservice.employee.boundary;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import de.stminko.employeeservice.AbstractIntegrationTestSuite;
 import de.stminko.employeeservice.department.boundary.DepartmentController;
@@ -128,7 +132,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 			EmployeeResponse employeeResponse = EmployeeControllerIntegrationTests.this.objectMapper
 				.readValue(contentAsString, EmployeeResponse.class);
 			Optional<Employee> optionalEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId());
+				.findById(UUID.fromString(employeeResponse.employeeId()));
 			Assertions.assertThat(optionalEmployee)
 				.hasValueSatisfying((Employee value) -> Assertions.assertThat(value).isNotNull());
 
@@ -171,7 +175,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 			EmployeeResponse employeeResponse = EmployeeControllerIntegrationTests.this.objectMapper
 				.readValue(contentAsString, EmployeeResponse.class);
 			Optional<Employee> optionalEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId());
+				.findById(UUID.fromString(employeeResponse.employeeId()));
 			Assertions.assertThat(optionalEmployee)
 				.hasValueSatisfying((Employee value) -> Assertions.assertThat(value).isNotNull());
 		}
@@ -261,6 +265,38 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 							.formatted(modifiedBirthday, UsableDateFormat.DEFAULT.getDateFormat()))));
 		}
 
+		@Test
+		@DisplayName("POST: 'hhtps://.../employees' returns BAD REQUEST if the specified email already exists in another case")
+		void givenAlreadyUsedEmailInOtherCase_whenCreateEmployee_thenStatus400() throws Exception {
+			// Arrange
+			DepartmentResponse departmentResponse = saveRandomDepartment();
+			EmployeeRequest firstEmployeeRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(departmentResponse.departmentName())
+				.create();
+			String uri = "%s".formatted(EmployeeController.BASE_URI);
+			EmployeeControllerIntegrationTests.this.mockMvc.perform(MockMvcRequestBuilders.post(uri)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(transformRequestToJSONByView(firstEmployeeRequest, DataView.POST.class)));
+
+			EmployeeRequest secondEmployeeRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(departmentResponse.departmentName())
+				.emailAddress(firstEmployeeRequest.emailAddress().toUpperCase(Locale.ROOT))
+				.create();
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.post(uri)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(transformRequestToJSONByView(secondEmployeeRequest, DataView.POST.class)))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.httpStatus", Matchers.is(HttpStatus.BAD_REQUEST.name())))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.errorMessage",
+						Matchers.containsString("The email address [%s] already exists!"
+							.formatted(firstEmployeeRequest.emailAddress().toLowerCase(Locale.ROOT)))));
+		}
+
 		@Test
 		@DisplayName("POST: 'hhtps://.../employees' returns BAD REQUEST if the specified email already exists ")
 		void givenAlreadyUsedEmail_whenCreateEmployee_thenStatus400() throws Exception {
@@ -385,6 +421,39 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 			Assertions.assertThat(employeeResponse.departmentName()).isEqualTo(persisted.departmentName());
 		}
 
+		@Test
+		@DisplayName("GET: 'https://.../employees/by-email/{emailAddress}' returns OK ignoring the case of the email address")
+		void givenEmployee_whenFindByEmailAddressInOtherCase_thenStatus200AndReturnEmployee() throws Exception {
+			// Arrange
+			EmployeeResponse persisted = saveRandomEmployees(1).get(0);
+			String uri = "%s/by-email/{emailAddress}".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(uri, persisted.emailAddress().toUpperCase(Locale.ROOT))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.employeeId", Matchers.is(persisted.employeeId())))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.emailAddress", Matchers.is(persisted.emailAddress())));
+		}
+
+		@Test
+		@DisplayName("GET: 'https://.../employees/by-email/{emailAddress}' returns NOT FOUND for unknown email address")
+		void givenUnknownEmailAddress_whenFindByEmailAddress_thenStatus404() throws Exception {
+			// Arrange
+			String unknownEmailAddress = "%s@unknown.de".formatted(UUID.randomUUID());
+			String uri = "%s/by-email/{emailAddress}".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(uri, unknownEmailAddress).contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isNotFound())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.errorMessage",
+						Matchers.containsString("The employee with the email address [%s] could not be found!"
+							.formatted(unknownEmailAddress))));
+		}
+
 		@Test
 		@DisplayName("GET: 'https://.../employees/{departmentId}' returns OK and valid employee response on multiple employees")
 		void givenEmployees_whenFindById_thenStatus200AndReturnValidEmployeeResponse() throws Exception {
@@ -430,6 +499,23 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.jsonPath("$.content[*].employeeId").exists());
 		}
 
+		@Test
+		@DisplayName("GET: 'https://.../employees?withTotal=false' returns OK and a slice without totals")
+		void givenEmployees_whenFindAllWithoutTotal_thenStatus200AndReturnSlice() throws Exception {
+			// Arrange
+			saveRandomEmployees(RandomUtils.nextInt(10, 20));
+			String uri = "%s?withTotal=false&size=5".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(uri).contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(5)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", Matchers.is(true)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.totalPages").doesNotExist());
+		}
+
 		@Test
 		@DisplayName("GET: 'https://.../employees/{departmentId}/revisions succeeds on existing employee")
 		void givenExistingEmployee_whenFindRevisions_thenStatusOkAndReturnPageOfRevisions() throws Exception {
@@ -501,6 +587,214 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 
 		}
 
+		@Test
+		@DisplayName("GET: 'https://.../employees/{employeeId}/revisions?changed=emailAddress returns only revisions changing the email address")
+		void givenChangedProperty_whenFindRevisions_thenStatusOkAndReturnOnlyRevisionsChangingIt() throws Exception {
+			// Arrange
+			DepartmentResponse departmentResponse = saveRandomDepartment();
+			EmployeeRequest createEmployeeRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(departmentResponse.departmentName())
+				.create();
+			MvcResult mvcResult = EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.post(EmployeeController.BASE_URI)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(transformRequestToJSONByView(createEmployeeRequest, DataView.POST.class)))
+				.andReturn();
+			EmployeeResponse persistedEmployeeResponse = EmployeeControllerIntegrationTests.this.objectMapper
+				.readValue(mvcResult.getResponse().getContentAsString(), EmployeeResponse.class);
+
+			String patchUri = "%s/{employeeId}".formatted(EmployeeController.BASE_URI);
+			EmployeeRequest firstNameRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(null)
+				.emailAddress(null)
+				.firstName(RandomStringUtils.randomAlphabetic(23))
+				.lastName(null)
+				.birthday(null)
+				.create();
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.patch(patchUri, persistedEmployeeResponse.employeeId())
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(transformRequestToJSONByView(firstNameRequest, DataView.PATCH.class)));
+			EmployeeRequest emailAddressRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(null)
+				.firstName(null)
+				.lastName(null)
+				.birthday(null)
+				.create();
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.patch(patchUri, persistedEmployeeResponse.employeeId())
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(transformRequestToJSONByView(emailAddressRequest, DataView.PATCH.class)));
+
+			String revisionUri = "%s/{employeeId}/revisions".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(revisionUri, persistedEmployeeResponse.employeeId())
+					.param("changed", "emailAddress")
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(2)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].metadata.revisionType", Matchers.is("INSERT")))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content[1].metadata.revisionType", Matchers.is("UPDATE")))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content[1].entity.emailAddress",
+						Matchers.is(emailAddressRequest.emailAddress())));
+		}
+
+		@Test
+		@DisplayName("GET: 'https://.../employees/{employeeId}/revisions?changed=version returns 400 for untracked property")
+		void givenUntrackedProperty_whenFindRevisions_thenStatus400() throws Exception {
+			// Arrange
+			String revisionUri = "%s/{employeeId}/revisions".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(revisionUri, UUID.randomUUID())
+					.param("changed", "version")
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest())
+				.andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
+		}
+
+		@Test
+		@DisplayName("GET: 'https://.../employees/{employeeId}/revisions?afterRev= scrolls forward by revision number")
+		void givenRevisionCursor_whenScrollRevisionsForward_thenStatusOkAndReturnWindowWithNextRevision()
+				throws Exception {
+			// Arrange
+			DepartmentResponse departmentResponse = saveRandomDepartment();
+			EmployeeRequest createEmployeeRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(departmentResponse.departmentName())
+				.create();
+			MvcResult mvcResult = EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.post(EmployeeController.BASE_URI)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(transformRequestToJSONByView(createEmployeeRequest, DataView.POST.class)))
+				.andReturn();
+			EmployeeResponse persistedEmployeeResponse = EmployeeControllerIntegrationTests.this.objectMapper
+				.readValue(mvcResult.getResponse().getContentAsString(), EmployeeResponse.class);
+			String patchUri = "%s/{employeeId}".formatted(EmployeeController.BASE_URI);
+			for (int i = 0; i < 2; i++) {
+				EmployeeRequest firstNameRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+					.builder()
+					.departmentName(null)
+					.emailAddress(null)
+					.firstName(RandomStringUtils.randomAlphabetic(23))
+					.lastName(null)
+					.birthday(null)
+					.create();
+				EmployeeControllerIntegrationTests.this.mockMvc
+					.perform(MockMvcRequestBuilders.patch(patchUri, persistedEmployeeResponse.employeeId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(transformRequestToJSONByView(firstNameRequest, DataView.PATCH.class)));
+			}
+			String revisionUri = "%s/{employeeId}/revisions".formatted(EmployeeController.BASE_URI);
+
+			// Act
+			MvcResult firstWindowResult = EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(revisionUri, persistedEmployeeResponse.employeeId())
+					.param("afterRev", "")
+					.param("size", "2")
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LINK))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.size", Matchers.is(2)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", Matchers.is(true)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].metadata.revisionType", Matchers.is("INSERT")))
+				.andReturn();
+			long nextRevision = EmployeeControllerIntegrationTests.this.objectMapper
+				.readTree(firstWindowResult.getResponse().getContentAsString())
+				.get("next")
+				.asLong();
+
+			// Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(revisionUri, persistedEmployeeResponse.employeeId())
+					.param("afterRev", String.valueOf(nextRevision))
+					.param("size", "2")
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.LINK))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.size", Matchers.is(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", Matchers.is(false)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.next", Matchers.nullValue()))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.content[0].revisionNumber",
+						Matchers.greaterThan((int) nextRevision)));
+		}
+
+		@Test
+		@DisplayName("GET: 'https://.../employees/{employeeId}/revisions/diff returns the changed fields between two revisions")
+		void givenUpdatedEmployee_whenDiffRevisions_thenStatusOkAndReturnChangedFields() throws Exception {
+			// Arrange
+			DepartmentResponse departmentResponse = saveRandomDepartment();
+			EmployeeRequest createEmployeeRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(departmentResponse.departmentName())
+				.create();
+			MvcResult mvcResult = EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.post(EmployeeController.BASE_URI)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(transformRequestToJSONByView(createEmployeeRequest, DataView.POST.class)))
+				.andReturn();
+			EmployeeResponse persistedEmployeeResponse = EmployeeControllerIntegrationTests.this.objectMapper
+				.readValue(mvcResult.getResponse().getContentAsString(), EmployeeResponse.class);
+			MvcResult latestRevisionResult = EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders
+					.get("%s/{employeeId}/revisions/latest".formatted(EmployeeController.BASE_URI),
+							persistedEmployeeResponse.employeeId()))
+				.andReturn();
+			long createdRevision = EmployeeControllerIntegrationTests.this.objectMapper
+				.readTree(latestRevisionResult.getResponse().getContentAsString())
+				.get("revisionNumber")
+				.asLong();
+			String patchUri = "%s/{employeeId}".formatted(EmployeeController.BASE_URI);
+			EmployeeRequest emailAddressRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(null)
+				.firstName(null)
+				.lastName(null)
+				.birthday(null)
+				.create();
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.patch(patchUri, persistedEmployeeResponse.employeeId())
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(transformRequestToJSONByView(emailAddressRequest, DataView.PATCH.class)));
+			String diffUri = "%s/{employeeId}/revisions/diff".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(diffUri, persistedEmployeeResponse.employeeId())
+					.param("from", String.valueOf(createdRevision))
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.from", Matchers.is((int) createdRevision)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.changes[?(@.property == 'emailAddress')].oldValue",
+						Matchers.contains(createEmployeeRequest.emailAddress())))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.changes[?(@.property == 'emailAddress')].newValue",
+						Matchers.contains(emailAddressRequest.emailAddress())))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.changes[?(@.property == 'firstName')]").isEmpty())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.revisions", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.revisions[0].revisionType", Matchers.is("UPDATE")));
+		}
+
+		@Test
+		@DisplayName("GET: 'https://.../employees/{employeeId}/revisions/diff returns 400 for a range ending before it starts")
+		void givenReversedRange_whenDiffRevisions_thenStatus400() throws Exception {
+			// Arrange
+			String diffUri = "%s/{employeeId}/revisions/diff".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(diffUri, UUID.randomUUID())
+					.param("from", "5")
+					.param("to", "4")
+					.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest());
+		}
+
 		@Test
 		@DisplayName("GET: 'https://.../employees/{departmentId}/revisions/latest returns 404 for unknown departmentId")
 		void givenUnknownId_whenFindLatestRevision_thenStatus404AndErrorMessage() throws Exception {
@@ -573,6 +867,78 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.jsonPath("$.metadata.revisionNumber").isNotEmpty());
 		}
 
+		@Test
+		@DisplayName("GET: 'https://.../employees/export' streams every employee as NDJSON line")
+		void givenEmployees_whenExportAsNdjson_thenStatus200AndStreamEveryEmployee() throws Exception {
+			// Arrange
+			List<EmployeeResponse> persisted = saveRandomEmployees(3);
+			String uri = "%s/export".formatted(EmployeeController.BASE_URI);
+
+			// Act
+			MvcResult mvcResult = EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(uri).accept("application/x-ndjson"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith("application/x-ndjson"))
+				.andReturn();
+
+			// Assert
+			List<EmployeeResponse> exported = new ArrayList<>();
+			for (String line : mvcResult.getResponse().getContentAsString().split("\n")) {
+				exported
+					.add(EmployeeControllerIntegrationTests.this.objectMapper.readValue(line, EmployeeResponse.class));
+			}
+			Assertions.assertThat(exported)
+				.extracting(EmployeeResponse::employeeId, EmployeeResponse::emailAddress,
+						EmployeeResponse::departmentName)
+				.containsAll(persisted.stream()
+					.map((EmployeeResponse employee) -> Assertions.tuple(employee.employeeId(), employee.emailAddress(),
+							employee.departmentName()))
+					.toList());
+		}
+
+		@Test
+		@DisplayName("GET: 'https://.../employees/export' streams gzip compressed CSV when read in parallel")
+		void givenEmployees_whenExportAsGzipCsvInParallel_thenStatus200AndStreamEveryEmployee() throws Exception {
+			// Arrange
+			List<EmployeeResponse> persisted = saveRandomEmployees(5);
+			String uri = "%s/export".formatted(EmployeeController.BASE_URI);
+
+			// Act
+			MvcResult mvcResult = EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(uri)
+					.param(EmployeeController.PARALLELISM_PARAMETER, "4")
+					.accept("text/csv")
+					.header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andReturn();
+
+			// Assert
+			String content;
+			try (GZIPInputStream input = new GZIPInputStream(
+					new ByteArrayInputStream(mvcResult.getResponse().getContentAsByteArray()))) {
+				content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			Assertions.assertThat(content)
+				.startsWith("employeeId,emailAddress,firstName,lastName,birthday,departmentName\n");
+			persisted.forEach((EmployeeResponse employee) -> Assertions.assertThat(content)
+				.contains(employee.employeeId() + "," + employee.emailAddress()));
+		}
+
+		@Test
+		@DisplayName("GET: 'https://.../employees/export' returns HTTP '406' if neither NDJSON nor CSV is accepted")
+		void givenJsonAccepted_whenExport_thenStatus406() throws Exception {
+			// Arrange
+			String uri = "%s/export".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.get(uri).accept(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isNotAcceptable())
+				.andExpect(
+						MockMvcResultMatchers.jsonPath("$.httpStatus", Matchers.is(HttpStatus.NOT_ACCEPTABLE.name())));
+		}
+
 	}
 
 	@Nested
@@ -685,7 +1051,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 
 			Employee updateEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId())
+				.findById(UUID.fromString(employeeResponse.employeeId()))
 				.orElseThrow();
 			Assertions
 				.assertThat(EmployeeControllerIntegrationTests.this.dateFormatter.format(updateEmployee.getBirthday()))
@@ -700,6 +1066,62 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.isEqualTo(updateEmployeeRequest.departmentName());
 		}
 
+		@Test
+		@DisplayName("PATCH: 'hhtps://.../employees/{departmentId} with a matching If-Match header returns NO CONTENT and writes a revision")
+		void givenMatchingIfMatch_whenPartialUpdateEmployee_thenStatus204AndNewRevision() throws Exception {
+			// Arrange
+			EmployeeResponse employeeResponse = saveRandomEmployees(1).get(0);
+			EmployeeRequest updateEmployeeRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(employeeResponse.departmentName())
+				.create();
+			String updateRequestAsJson = transformRequestToJSONByView(updateEmployeeRequest, DataView.PATCH.class);
+			String patchUri = "%s/{departmentId}".formatted(EmployeeController.BASE_URI);
+			Employee persisted = EmployeeControllerIntegrationTests.this.employeeRepository
+				.findById(UUID.fromString(employeeResponse.employeeId()))
+				.orElseThrow();
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.patch(patchUri, employeeResponse.employeeId())
+					.header(HttpHeaders.IF_MATCH, "\"%d\"".formatted(persisted.getVersion()))
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(updateRequestAsJson))
+				.andExpect(MockMvcResultMatchers.status().isNoContent());
+
+			Employee updateEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
+				.findById(UUID.fromString(employeeResponse.employeeId()))
+				.orElseThrow();
+			Assertions.assertThat(updateEmployee.getVersion()).isEqualTo(persisted.getVersion() + 1);
+			Assertions.assertThat(updateEmployee.getEmailAddress()).isEqualTo(updateEmployeeRequest.emailAddress());
+			Assertions
+				.assertThat(EmployeeControllerIntegrationTests.this.employeeRepository
+					.findRevisions(UUID.fromString(employeeResponse.employeeId()))
+					.getContent())
+				.hasSize(2);
+		}
+
+		@Test
+		@DisplayName("PATCH: 'hhtps://.../employees/{departmentId} with a stale If-Match header returns PRECONDITION FAILED")
+		void givenStaleIfMatch_whenPartialUpdateEmployee_thenStatus412() throws Exception {
+			// Arrange
+			EmployeeResponse employeeResponse = saveRandomEmployees(1).get(0);
+			EmployeeRequest updateEmployeeRequest = EmployeeControllerIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(employeeResponse.departmentName())
+				.create();
+			String updateRequestAsJson = transformRequestToJSONByView(updateEmployeeRequest, DataView.PATCH.class);
+			String patchUri = "%s/{departmentId}".formatted(EmployeeController.BASE_URI);
+
+			// Act / Assert
+			EmployeeControllerIntegrationTests.this.mockMvc
+				.perform(MockMvcRequestBuilders.patch(patchUri, employeeResponse.employeeId())
+					.header(HttpHeaders.IF_MATCH, "\"42\"")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(updateRequestAsJson))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+		}
+
 		@Test
 		@DisplayName("PATCH: 'hhtps://.../employees/{departmentId} returns NO CONTENT on only updating birthday")
 		void givenNewBirthDay_whenPartialUpdateEmployee_thenStatus204andUpdateOnlyBirthDay() throws Exception {
@@ -740,7 +1162,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 
 			Employee updateEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId())
+				.findById(UUID.fromString(employeeResponse.employeeId()))
 				.orElseThrow();
 			Assertions
 				.assertThat(EmployeeControllerIntegrationTests.this.dateFormatter.format(updateEmployee.getBirthday()))
@@ -792,7 +1214,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 
 			Employee updateEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId())
+				.findById(UUID.fromString(employeeResponse.employeeId()))
 				.orElseThrow();
 			Assertions
 				.assertThat(EmployeeControllerIntegrationTests.this.dateFormatter.format(updateEmployee.getBirthday()))
@@ -890,7 +1312,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 
 			Employee updateEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId())
+				.findById(UUID.fromString(employeeResponse.employeeId()))
 				.orElseThrow();
 			Assertions
 				.assertThat(EmployeeControllerIntegrationTests.this.dateFormatter.format(updateEmployee.getBirthday()))
@@ -942,7 +1364,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 
 			Employee updateEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId())
+				.findById(UUID.fromString(employeeResponse.employeeId()))
 				.orElseThrow();
 			Assertions
 				.assertThat(EmployeeControllerIntegrationTests.this.dateFormatter.format(updateEmployee.getBirthday()))
@@ -1042,7 +1464,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 
 			Employee updateEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId())
+				.findById(UUID.fromString(employeeResponse.employeeId()))
 				.orElseThrow();
 			Assertions
 				.assertThat(EmployeeControllerIntegrationTests.this.dateFormatter.format(updateEmployee.getBirthday()))
@@ -1096,7 +1518,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 
 			Employee updateEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId())
+				.findById(UUID.fromString(employeeResponse.employeeId()))
 				.orElseThrow();
 			Assertions
 				.assertThat(EmployeeControllerIntegrationTests.this.dateFormatter.format(updateEmployee.getBirthday()))
@@ -1430,7 +1852,7 @@ class EmployeeControllerIntegrationTests extends AbstractIntegrationTestSuite {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 
 			Optional<Employee> optionalEmployee = EmployeeControllerIntegrationTests.this.employeeRepository
-				.findById(employeeResponse.employeeId());
+				.findById(UUID.fromString(employeeResponse.employeeId()));
 			Assertions.assertThat(optionalEmployee).isEmpty();
 		}
 
@@ -1,5 +1,6 @@
 package de.stminko.employeeservice.employee.control;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import de.stminko.employeeservice.employee.boundary.dto.EmployeeMessage;
@@ -13,11 +14,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,6 +64,36 @@ class EmployeeEventPublisherTests {
 				(Employee value) -> this.publisher.employeeUpdated(value), EmployeeMessage.EventType.EMPLOYEE_UPDATED);
 	}
 
+	@DisplayName("Creating a batch of employees leads to a EmployeeMessage of type EMPLOYEE_CREATED per employee sent on one channel")
+	@Test
+	void givenEmployees_whenEmployeesCreated_thenSendCreatedEmployeeMessages() {
+		// Arrange
+		List<Employee> employees = this.employeeTestFactory.createManyDefault(3);
+		String exchangeName = RandomStringUtils.randomAlphabetic(23);
+		Mockito.doReturn(exchangeName).when(this.amqpConfig).getExchangeName();
+		String routingKey = RandomStringUtils.randomAlphabetic(23);
+		Mockito.doReturn(routingKey).when(this.amqpConfig).getRoutingKey();
+		RabbitOperations channelOperations = Mockito.mock(RabbitOperations.class);
+		Mockito
+			.doAnswer((InvocationOnMock invocation) -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0)
+				.doInRabbit(channelOperations))
+			.when(this.template)
+			.invoke(ArgumentMatchers.any());
+
+		// Act
+		this.publisher.employeesCreated(employees);
+
+		// Assert
+		ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+		Mockito.verify(channelOperations, Mockito.times(employees.size()))
+			.convertAndSend(ArgumentMatchers.eq(exchangeName), ArgumentMatchers.eq(routingKey), messages.capture());
+		Assertions.assertThat(messages.getAllValues())
+			.map((Object message) -> (EmployeeMessage) message)
+			.allMatch((EmployeeMessage message) -> message.getEventType() == EmployeeMessage.EventType.EMPLOYEE_CREATED)
+			.map(EmployeeMessage::getEmployee)
+			.containsExactlyElementsOf(employees);
+	}
+
 	private void givenEmployee_whenEmployeeProcessed_thenSendEmployeeMessage(Consumer<Employee> block,
 			EmployeeMessage.EventType expectedEventType) {
 		// Arrange
@@ -0,0 +1,61 @@
+package de.stminko.employeeservice.employee.control;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+
+class EmployeeExportServiceTests {
+
+	@Test
+	void givenHistogramBounds_whenRangesOfReaders_thenCutAtEvenlySpacedBounds() {
+		// Arrange
+		List<UUID> idBounds = IntStream.range(0, 9).mapToObj((int bound) -> new UUID(bound, 0L)).toList();
+
+		// Act
+		List<EmployeeExportService.IdRange> ranges = EmployeeExportService.rangesOfReaders(idBounds, 4);
+
+		// Assert
+		Assertions.assertThat(ranges)
+			.containsExactly(new EmployeeExportService.IdRange(null, idBounds.get(2)),
+					new EmployeeExportService.IdRange(idBounds.get(2), idBounds.get(4)),
+					new EmployeeExportService.IdRange(idBounds.get(4), idBounds.get(6)),
+					new EmployeeExportService.IdRange(idBounds.get(6), null));
+	}
+
+	@Test
+	void givenOpenRange_whenPredicate_thenOnlyRestrictBoundedSides() {
+		// Arrange
+		UUID bound = new UUID(1L, 0L);
+
+		// Act / Assert
+		Assertions.assertThat(EmployeeExportService.IdRange.ALL.predicate()).isEmpty();
+		Assertions.assertThat(new EmployeeExportService.IdRange(null, bound).predicate()).isEqualTo(" AND e.id < ?");
+		Assertions.assertThat(new EmployeeExportService.IdRange(bound, bound).predicate())
+			.isEqualTo(" AND e.id >= ? AND e.id < ?");
+	}
+
+	@Test
+	void givenCsvExport_whenCsvHeader_thenNameColumnsLikeImportFields() {
+		// Act
+		String header = new String(EmployeeExportService.csvHeader(), StandardCharsets.UTF_8);
+
+		// Assert
+		Assertions.assertThat(header).isEqualTo("employeeId,emailAddress,firstName,lastName,birthday,departmentName\n");
+	}
+
+	@Test
+	void givenAcceptedMediaTypes_whenNegotiate_thenReturnFirstAcceptedFormat() {
+		// Act / Assert
+		Assertions.assertThat(ExportFormat.negotiate(MediaType.parseMediaTypes("text/csv, application/x-ndjson")))
+			.contains(ExportFormat.CSV);
+		Assertions.assertThat(ExportFormat.negotiate(List.of(MediaType.ALL))).contains(ExportFormat.NDJSON);
+		Assertions.assertThat(ExportFormat.negotiate(List.of(MediaType.APPLICATION_JSON))).isEmpty();
+	}
+
+}
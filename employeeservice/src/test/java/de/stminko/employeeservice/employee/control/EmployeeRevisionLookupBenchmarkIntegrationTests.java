@@ -0,0 +1,203 @@
+package de.stminko.employeeservice.employee.control;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import de.stminko.employeeservice.AbstractIntegrationTestSuite;
+import de.stminko.employeeservice.employee.entity.Employee;
+import de.stminko.employeeservice.runtime.persistence.boundary.HistoryPartitionMaintainer;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.history.Revision;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares the latest and the point-in-time lookups of the employee history under the
+ * validity audit strategy with the {@code max(rev)} subqueries of the default audit
+ * strategy, both run on the same generated history. Since the history is large, the
+ * benchmark only runs if its number of history rows is given, e.g.
+ * {@code mvn test -Dtest=EmployeeRevisionLookupBenchmarkIntegrationTests -Dbenchmark.history-rows=5000000}.
+ */
+@Slf4j
+@DisplayName("Revision lookup benchmark of the employee history")
+@EnabledIfSystemProperty(named = EmployeeRevisionLookupBenchmarkIntegrationTests.HISTORY_ROWS_PROPERTY,
+		matches = "\\d+")
+class EmployeeRevisionLookupBenchmarkIntegrationTests extends AbstractIntegrationTestSuite {
+
+	static final String HISTORY_ROWS_PROPERTY = "benchmark.history-rows";
+
+	private static final int EMPLOYEES = 10_000;
+
+	private static final int ROWS_PER_CHUNK = 500_000;
+
+	private static final int WARMUP_LOOKUPS = 10;
+
+	private static final int MEASURED_LOOKUPS = 100;
+
+	private static final String GENERATE_HISTORY = """
+			WITH revision AS (
+				INSERT INTO history.audit_trail (timestamp)
+				SELECT ? FROM generate_series(1, ?)
+				RETURNING id)
+			INSERT INTO history.employee_history (id, rev, revtype, email_address, first_name, last_name)
+			SELECT CAST(md5(CAST(r.id % ? AS TEXT)) AS UUID), r.id, 1, 'benchmark-' || r.id || '@stminko.de',
+				'Benchmark', 'Employee'
+			FROM revision r
+			RETURNING rev
+			""";
+
+	private static final String CLOSE_SUPERSEDED_ROWS = """
+			UPDATE history.employee_history h
+			SET revend       = n.next_rev,
+				revend_tstmp = a.timestamp
+			FROM (SELECT id, rev, LEAD(rev) OVER (PARTITION BY id ORDER BY rev) AS next_rev
+				FROM history.employee_history
+				WHERE rev BETWEEN ? AND ?) n
+			JOIN history.audit_trail a ON a.id = n.next_rev
+			WHERE h.id = n.id AND h.rev = n.rev
+			""";
+
+	private static final String LATEST_BY_MAX_REV = """
+			SELECT h.rev FROM history.employee_history h
+			WHERE h.id = ? AND h.rev = (SELECT MAX(m.rev) FROM history.employee_history m WHERE m.id = h.id)
+			""";
+
+	private static final String LATEST_BY_REVEND = """
+			SELECT h.rev FROM history.employee_history h
+			WHERE h.id = ? AND h.revend IS NULL
+			""";
+
+	private static final String AT_REVISION_BY_MAX_REV = """
+			SELECT h.rev FROM history.employee_history h
+			WHERE h.id = ?
+				AND h.rev = (SELECT MAX(m.rev) FROM history.employee_history m WHERE m.id = h.id AND m.rev <= ?)
+			""";
+
+	private static final String AT_REVISION_BY_REVEND = """
+			SELECT h.rev FROM history.employee_history h
+			WHERE h.id = ? AND h.rev <= ? AND (h.revend > ? OR h.revend IS NULL)
+			""";
+
+	private static final String ALL_AT_REVISION_BY_MAX_REV = """
+			SELECT h.id, h.rev FROM history.employee_history h
+			WHERE h.revtype <> 2
+				AND h.rev = (SELECT MAX(m.rev) FROM history.employee_history m WHERE m.id = h.id AND m.rev <= ?)
+			ORDER BY h.id
+			LIMIT 20
+			""";
+
+	private static final String ALL_AT_REVISION_BY_REVEND = """
+			SELECT h.id, h.rev FROM history.employee_history h
+			WHERE h.revtype <> 2 AND h.rev <= ? AND (h.revend > ? OR h.revend IS NULL)
+			ORDER BY h.id
+			LIMIT 20
+			""";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private ObjectProvider<HistoryPartitionMaintainer> partitionMaintainer;
+
+	private long firstRevision = -1L;
+
+	private long lastRevision = -1L;
+
+	@AfterEach
+	void tearDown() {
+		if (this.firstRevision >= 0L) {
+			this.jdbcTemplate.update("DELETE FROM history.employee_history WHERE rev BETWEEN ? AND ?",
+					this.firstRevision, this.lastRevision);
+			this.jdbcTemplate.update("DELETE FROM history.audit_trail WHERE id BETWEEN ? AND ?", this.firstRevision,
+					this.lastRevision);
+		}
+	}
+
+	@Test
+	@DisplayName("Looking up the latest and earlier states of employees reports the costs of both strategies")
+	void givenLargeHistory_whenLookUpRevisions_thenReportCostsOfBothStrategies() {
+		// Arrange
+		generateHistory(Long.getLong(HISTORY_ROWS_PROPERTY));
+		UUID employeeId = UUID.fromString(this.jdbcTemplate.queryForObject("SELECT CAST(md5(?) AS UUID)", String.class,
+				String.valueOf(EMPLOYEES / 2)));
+		long revision = (this.firstRevision + this.lastRevision) / 2;
+
+		// Act
+		Lookup latestByMaxRev = lookUp(() -> this.jdbcTemplate.queryForList(LATEST_BY_MAX_REV, Long.class, employeeId));
+		Lookup latestByRevend = lookUp(() -> this.jdbcTemplate.queryForList(LATEST_BY_REVEND, Long.class, employeeId));
+		Lookup atRevisionByMaxRev = lookUp(
+				() -> this.jdbcTemplate.queryForList(AT_REVISION_BY_MAX_REV, Long.class, employeeId, revision));
+		Lookup atRevisionByRevend = lookUp(() -> this.jdbcTemplate.queryForList(AT_REVISION_BY_REVEND, Long.class,
+				employeeId, revision, revision));
+		Lookup allAtRevisionByMaxRev = lookUp(
+				() -> this.jdbcTemplate.queryForList(ALL_AT_REVISION_BY_MAX_REV, revision));
+		Lookup allAtRevisionByRevend = lookUp(
+				() -> this.jdbcTemplate.queryForList(ALL_AT_REVISION_BY_REVEND, revision, revision));
+		Lookup lastChangeRevision = lookUp(() -> this.employeeRepository.findLastChangeRevision(employeeId)
+			.flatMap((Revision<Long, Employee> lastChange) -> lastChange.getRevisionNumber())
+			.orElseThrow());
+
+		// Assert
+		log.info("History of [{}] rows, median per lookup in microseconds as max(rev) subquery / by revend:",
+				this.lastRevision - this.firstRevision + 1);
+		log.info("  latest state of an employee:        [{}] / [{}]", latestByMaxRev.medianMicros(),
+				latestByRevend.medianMicros());
+		log.info("  state of an employee at a revision: [{}] / [{}]", atRevisionByMaxRev.medianMicros(),
+				atRevisionByRevend.medianMicros());
+		log.info("  page of employees at a revision:    [{}] / [{}]", allAtRevisionByMaxRev.medianMicros(),
+				allAtRevisionByRevend.medianMicros());
+		log.info("  Envers findLastChangeRevision:      [{}]", lastChangeRevision.medianMicros());
+		Assertions.assertThat(latestByRevend.result()).isEqualTo(latestByMaxRev.result());
+		Assertions.assertThat(atRevisionByRevend.result()).isEqualTo(atRevisionByMaxRev.result());
+		Assertions.assertThat(allAtRevisionByRevend.result()).isEqualTo(allAtRevisionByMaxRev.result());
+		Assertions.assertThat(List.of(lastChangeRevision.result())).isEqualTo(latestByRevend.result());
+	}
+
+	private void generateHistory(long historyRows) {
+		long timestamp = System.currentTimeMillis();
+		for (long generated = 0L; generated < historyRows; generated += ROWS_PER_CHUNK) {
+			this.partitionMaintainer.ifAvailable(HistoryPartitionMaintainer::maintainPartitions);
+			List<Long> revisions = this.jdbcTemplate.queryForList(GENERATE_HISTORY, Long.class, timestamp,
+					Math.min(ROWS_PER_CHUNK, historyRows - generated), EMPLOYEES);
+			long chunkFirst = revisions.stream().mapToLong(Long::longValue).min().orElseThrow();
+			long chunkLast = revisions.stream().mapToLong(Long::longValue).max().orElseThrow();
+			this.firstRevision = (this.firstRevision < 0L) ? chunkFirst : Math.min(this.firstRevision, chunkFirst);
+			this.lastRevision = Math.max(this.lastRevision, chunkLast);
+		}
+		this.jdbcTemplate.update(CLOSE_SUPERSEDED_ROWS, this.firstRevision, this.lastRevision);
+		this.jdbcTemplate.execute("ANALYZE history.employee_history");
+		this.jdbcTemplate.execute("ANALYZE history.audit_trail");
+	}
+
+	private static Lookup lookUp(Supplier<?> lookup) {
+		Object result = null;
+		for (int index = 0; index < WARMUP_LOOKUPS; index++) {
+			result = lookup.get();
+		}
+		long[] nanos = new long[MEASURED_LOOKUPS];
+		for (int index = 0; index < MEASURED_LOOKUPS; index++) {
+			long start = System.nanoTime();
+			result = lookup.get();
+			nanos[index] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+		return new Lookup(nanos[MEASURED_LOOKUPS / 2] / 1_000L, result);
+	}
+
+	private record Lookup(long medianMicros, Object result) {
+
+	}
+
+}
@@ -1,9 +1,11 @@
 package de.stminko.employeeservice.employee.control;
 
+import java.sql.ResultSet;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
@@ -14,6 +16,7 @@ import de.stminko.employeeservice.department.boundary.dto.DepartmentRequest;
 import de.stminko.employeeservice.department.control.DepartmentService;
 import de.stminko.employeeservice.department.entity.Department;
 import de.stminko.employeeservice.employee.boundary.dto.EmployeeRequest;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeResponse;
 import de.stminko.employeeservice.employee.boundary.dto.UsableDateFormat;
 import de.stminko.employeeservice.employee.entity.Employee;
 import de.stminko.employeeservice.runtime.errorhandling.boundary.BadRequestException;
@@ -29,11 +32,13 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.history.Revision;
 import org.springframework.data.history.RevisionMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @DisplayName("Integration tests for the employee service")
 class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
@@ -44,6 +49,9 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 	@Autowired
 	private EmployeeService employeeService;
 
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	@Nested
 	@DisplayName("when new")
 	class WhenNew {
@@ -90,7 +98,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 
 		@Test
 		@DisplayName("Creating two employees with the same email fails")
-		void givenEmailAddressToUseForTwoEmployees_whenCreate_thenThrowBadRequestException() {
+		void givenEmailAddressToUseForTwoEmployees_whenCreate_thenThrowDataIntegrityViolationException() {
 			// Arrange
 			DepartmentRequest departmentRequest = EmployeeServiceIntegrationTests.this.departmentRequestTestFactory
 				.createDefault();
@@ -108,10 +116,118 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.create();
 
 			// Act / Assert
-			Assertions.assertThatExceptionOfType(BadRequestException.class)
+			Assertions.assertThatExceptionOfType(DataIntegrityViolationException.class)
 				.isThrownBy(() -> EmployeeServiceIntegrationTests.this.employeeService.create(secondEmployeeRequest));
 		}
 
+		@Test
+		@DisplayName("Creating a batch of valid employees creates all of them")
+		void givenValidRequests_whenCreateAll_thenCreateAll() {
+			// Arrange
+			DepartmentRequest departmentRequest = EmployeeServiceIntegrationTests.this.departmentRequestTestFactory
+				.createDefault();
+			EmployeeServiceIntegrationTests.this.departmentService.create(departmentRequest);
+			List<EmployeeRequest> employeeRequests = IntStream.range(0, 120)
+				.mapToObj((int index) -> EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+					.departmentName(departmentRequest.departmentName())
+					.create())
+				.toList();
+
+			// Act
+			List<EmployeeBatchItem> items = EmployeeServiceIntegrationTests.this.employeeService
+				.createAll(employeeRequests);
+
+			// Assert
+			Assertions.assertThat(items).hasSize(employeeRequests.size()).allMatch(EmployeeBatchItem::isCreated);
+			Assertions.assertThat(items)
+				.extracting(EmployeeBatchItem::index)
+				.containsExactlyElementsOf(IntStream.range(0, employeeRequests.size()).boxed().toList());
+			Assertions.assertThat(items.get(7).employee().getEmailAddress())
+				.isEqualTo(employeeRequests.get(7).emailAddress());
+			Mockito.verify(EmployeeServiceIntegrationTests.this.employeeEventPublisher)
+				.employeesCreated(
+						AssertionMatcher.assertArg((List<Employee> employees) -> Assertions.assertThat(employees)
+							.hasSize(employeeRequests.size())));
+		}
+
+		@Test
+		@DisplayName("Creating a batch rejects the invalid requests and creates the others")
+		void givenInvalidRequests_whenCreateAll_thenRejectOnlyInvalidRequests() {
+			// Arrange
+			DepartmentRequest departmentRequest = EmployeeServiceIntegrationTests.this.departmentRequestTestFactory
+				.createDefault();
+			EmployeeServiceIntegrationTests.this.departmentService.create(departmentRequest);
+			EmployeeRequest existingRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+				.departmentName(departmentRequest.departmentName())
+				.create();
+			EmployeeServiceIntegrationTests.this.employeeService.create(existingRequest);
+			EmployeeRequest validRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+				.departmentName(departmentRequest.departmentName())
+				.create();
+			EmployeeRequest takenEmailRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(departmentRequest.departmentName())
+				.emailAddress(existingRequest.emailAddress().toUpperCase())
+				.create();
+			EmployeeRequest duplicateEmailRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(departmentRequest.departmentName())
+				.emailAddress(validRequest.emailAddress())
+				.create();
+			EmployeeRequest unknownDepartmentRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory
+				.builder()
+				.departmentName(RandomStringUtils.randomAlphabetic(24))
+				.create();
+			EmployeeRequest invalidRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+				.departmentName(departmentRequest.departmentName())
+				.emailAddress("not an email address")
+				.create();
+
+			// Act
+			List<EmployeeBatchItem> items = EmployeeServiceIntegrationTests.this.employeeService.createAll(List
+				.of(validRequest, takenEmailRequest, duplicateEmailRequest, unknownDepartmentRequest, invalidRequest));
+
+			// Assert
+			Assertions.assertThat(items)
+				.extracting(EmployeeBatchItem::isCreated)
+				.containsExactly(true, false, false, false, false);
+			Assertions.assertThat(items.subList(1, items.size()))
+				.allSatisfy((EmployeeBatchItem item) -> Assertions.assertThat(item.errors()).hasSize(1));
+			Assertions
+				.assertThat(EmployeeServiceIntegrationTests.this.employeeService
+					.findResponseByEmailAddress(validRequest.emailAddress()))
+				.isNotNull();
+		}
+
+		@Test
+		@DisplayName("Creating a batch rejects missing requests only")
+		void givenMissingRequest_whenCreateAll_thenRejectOnlyMissingRequest() {
+			// Arrange
+			DepartmentRequest departmentRequest = EmployeeServiceIntegrationTests.this.departmentRequestTestFactory
+				.createDefault();
+			EmployeeServiceIntegrationTests.this.departmentService.create(departmentRequest);
+			EmployeeRequest validRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+				.departmentName(departmentRequest.departmentName())
+				.create();
+
+			// Act
+			List<EmployeeBatchItem> items = EmployeeServiceIntegrationTests.this.employeeService
+				.createAll(Arrays.asList(null, validRequest));
+
+			// Assert
+			Assertions.assertThat(items).extracting(EmployeeBatchItem::isCreated).containsExactly(false, true);
+			Assertions.assertThat(items.get(0).errors()).hasSize(1);
+			Assertions.assertThat(items.get(1).employee().getEmailAddress()).isEqualTo(validRequest.emailAddress());
+		}
+
+		@Test
+		@DisplayName("Creating an empty batch fails")
+		void givenNoRequests_whenCreateAll_thenThrowBadRequestException() {
+			// Act / Assert
+			Assertions.assertThatExceptionOfType(BadRequestException.class)
+				.isThrownBy(() -> EmployeeServiceIntegrationTests.this.employeeService.createAll(List.of()));
+		}
+
 	}
 
 	@Nested
@@ -135,7 +251,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 			for (EmployeeRequest employeeRequest : employeeRequests) {
 				EmployeeServiceIntegrationTests.this.employeeService.create(employeeRequest);
 			}
-			String unknownId = UUID.randomUUID().toString();
+			UUID unknownId = UUID.randomUUID();
 
 			// Act / Assert
 			Assertions.assertThatExceptionOfType(NotFoundException.class)
@@ -153,7 +269,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.departmentName(departmentRequest.departmentName())
 				.create();
 			Employee employee = EmployeeServiceIntegrationTests.this.employeeService.create(employeeRequest);
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 
 			// Act
@@ -166,6 +282,31 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 			Assertions.assertThat(foundEmployee.getDepartment().getId()).isEqualTo(employee.getDepartment().getId());
 		}
 
+		@Test
+		@DisplayName("Finding an employee response with a correct employee uuid returns the projected employee")
+		void givenEmployee_whenFindResponseById_thenReturnProjectedEmployee() {
+			// Arrange
+			DepartmentRequest departmentRequest = EmployeeServiceIntegrationTests.this.departmentRequestTestFactory
+				.createDefault();
+			EmployeeServiceIntegrationTests.this.departmentService.create(departmentRequest);
+			EmployeeRequest employeeRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+				.departmentName(departmentRequest.departmentName())
+				.create();
+			Employee employee = EmployeeServiceIntegrationTests.this.employeeService.create(employeeRequest);
+			UUID id = employee.getId();
+			assert id != null;
+
+			// Act
+			EmployeeResponse response = EmployeeServiceIntegrationTests.this.employeeService.findResponseById(id);
+
+			// Assert
+			Assertions.assertThat(response.employeeId()).isEqualTo(id);
+			Assertions.assertThat(response.emailAddress()).isEqualTo(employee.getEmailAddress());
+			Assertions.assertThat(response.firstName()).isEqualTo(employee.getFullName().getFirstName());
+			Assertions.assertThat(response.lastName()).isEqualTo(employee.getFullName().getLastName());
+			Assertions.assertThat(response.departmentName()).isEqualTo(departmentRequest.departmentName());
+		}
+
 		@Test
 		@DisplayName("Finding all employee returns all persisted employees")
 		void givenEmployees_whenFindAll_thenReturnAllEmployees() {
@@ -213,7 +354,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.lastName(null)
 				.birthday(null)
 				.create();
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 			EmployeeServiceIntegrationTests.this.employeeService.doPartialUpdate(id, updateRequest);
 			EmployeeServiceIntegrationTests.this.employeeService.deleteById(id);
@@ -256,7 +397,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.departmentName(updateRequest.departmentName())
 				.create();
 			EmployeeServiceIntegrationTests.this.departmentService.create(newDepartmentRequest);
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 
 			// Act
@@ -299,7 +440,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.lastName(lastLastName)
 				.birthday(null)
 				.create();
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 
 			// Act
@@ -338,7 +479,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.lastName(null)
 				.birthday(null)
 				.create();
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 
 			// Act
@@ -379,7 +520,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.lastName(null)
 				.birthday(newBirthDay)
 				.create();
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 
 			// Act
@@ -422,7 +563,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.lastName(expectedLastName)
 				.birthday(null)
 				.create();
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 
 			// Act
@@ -463,7 +604,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.lastName(null)
 				.birthday(null)
 				.create();
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 
 			// Act
@@ -494,7 +635,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 			// Act / Assert
 			Assertions.assertThatExceptionOfType(NotFoundException.class)
 				.isThrownBy(() -> EmployeeServiceIntegrationTests.this.employeeService
-					.doPartialUpdate(UUID.randomUUID().toString(), employeeRequest));
+					.doPartialUpdate(UUID.randomUUID(), employeeRequest));
 		}
 
 		@Test
@@ -543,8 +684,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 
 			// Act / Assert
 			Assertions.assertThatExceptionOfType(NotFoundException.class)
-				.isThrownBy(() -> EmployeeServiceIntegrationTests.this.employeeService
-					.deleteById(UUID.randomUUID().toString()));
+				.isThrownBy(() -> EmployeeServiceIntegrationTests.this.employeeService.deleteById(UUID.randomUUID()));
 		}
 
 		@Test
@@ -558,7 +698,7 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 				.departmentName(departmentRequest.departmentName())
 				.create();
 			Employee employee = EmployeeServiceIntegrationTests.this.employeeService.create(employeeRequest);
-			String id = employee.getId();
+			UUID id = employee.getId();
 			assert id != null;
 
 			// Act
@@ -575,4 +715,154 @@ class EmployeeServiceIntegrationTests extends AbstractIntegrationTestSuite {
 
 	}
 
+	@Nested
+	@DisplayName("when audit")
+	class WhenAudit {
+
+		private static final String HISTORY_ROWS = "SELECT rev, revend FROM history.employee_history WHERE id = ? ORDER BY rev";
+
+		private static final String OPEN_REVISION_TIMESTAMP = """
+				SELECT a.timestamp
+				FROM history.employee_history h
+				JOIN history.audit_trail a ON a.id = h.rev
+				WHERE h.id = ? AND h.revend IS NULL
+				""";
+
+		/**
+		 * The backfill of {@code 10-validity_audit_strategy.xml}.
+		 */
+		private static final String BACKFILL_REVEND = """
+				UPDATE history.employee_history h
+				SET revend       = n.next_rev,
+					revend_tstmp = a.timestamp
+				FROM (SELECT id, rev, LEAD(rev) OVER (PARTITION BY id ORDER BY rev) AS next_rev
+					FROM history.employee_history) n
+				JOIN history.audit_trail a ON a.id = n.next_rev
+				WHERE h.id = n.id AND h.rev = n.rev
+				""";
+
+		@Test
+		@DisplayName("A versioned update closes the open history row at its revision")
+		void givenEmployee_whenVersionedUpdate_thenCloseOpenHistoryRow() {
+			// Arrange
+			Employee employee = createEmployee();
+			UUID id = employee.getId();
+			assert id != null;
+
+			// Act
+			EmployeeServiceIntegrationTests.this.employeeService.doPartialUpdate(id, emailAddressUpdate(),
+					employee.getVersion());
+
+			// Assert
+			List<List<Long>> historyRows = findHistoryRows(id);
+			Assertions.assertThat(historyRows).hasSize(2);
+			Assertions.assertThat(historyRows.get(0).get(1)).isEqualTo(historyRows.get(1).get(0));
+			Assertions.assertThat(historyRows.get(1).get(1)).isNull();
+		}
+
+		@Test
+		@DisplayName("A versioned update stamps its revision with the time of the modification")
+		void givenEmployee_whenVersionedUpdate_thenStampRevisionWithModificationTime() {
+			// Arrange
+			Employee employee = createEmployee();
+			UUID id = employee.getId();
+			assert id != null;
+
+			// Act
+			Employee updated = EmployeeServiceIntegrationTests.this.employeeService.doPartialUpdate(id,
+					emailAddressUpdate(), employee.getVersion());
+
+			// Assert
+			Long revisionTimestamp = EmployeeServiceIntegrationTests.this.jdbcTemplate
+				.queryForObject(OPEN_REVISION_TIMESTAMP, Long.class, id);
+			Assertions.assertThat(revisionTimestamp).isEqualTo(updated.getLastModifiedAt().toInstant().toEpochMilli());
+		}
+
+		@Test
+		@DisplayName("A versioned update without changes writes no revision")
+		void givenUnchangedValues_whenVersionedUpdate_thenReturnEmployeeWithoutRevision() {
+			// Arrange
+			Employee employee = createEmployee();
+			UUID id = employee.getId();
+			assert id != null;
+			EmployeeRequest updateRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+				.emailAddress(employee.getEmailAddress())
+				.departmentName(employee.getDepartment().getDepartmentName())
+				.firstName(employee.getFullName().getFirstName())
+				.lastName(null)
+				.birthday(null)
+				.create();
+
+			// Act
+			Employee updated = EmployeeServiceIntegrationTests.this.employeeService.doPartialUpdate(id, updateRequest,
+					employee.getVersion());
+
+			// Assert
+			Assertions.assertThat(updated.getVersion()).isEqualTo(employee.getVersion());
+			Assertions.assertThat(updated.getEmailAddress()).isEqualTo(employee.getEmailAddress());
+			Assertions.assertThat(findHistoryRows(id)).hasSize(1);
+			Mockito.verify(EmployeeServiceIntegrationTests.this.employeeEventPublisher, Mockito.never())
+				.employeeUpdated(ArgumentMatchers.any());
+		}
+
+		@Test
+		@DisplayName("The employees at a revision are found through the backfilled end revisions")
+		void givenBackfilledHistory_whenFindAllAtRevision_thenReturnStateAtRevision() {
+			// Arrange
+			Employee employee = createEmployee();
+			UUID id = employee.getId();
+			assert id != null;
+			EmployeeRequest updateRequest = emailAddressUpdate();
+			EmployeeServiceIntegrationTests.this.employeeService.doPartialUpdate(id, updateRequest,
+					employee.getVersion());
+			EmployeeServiceIntegrationTests.this.jdbcTemplate
+				.update("UPDATE history.employee_history SET revend = NULL, revend_tstmp = NULL WHERE id = ?", id);
+			EmployeeServiceIntegrationTests.this.jdbcTemplate.update(BACKFILL_REVEND);
+			List<List<Long>> historyRows = findHistoryRows(id);
+
+			// Act
+			Page<Employee> atCreation = EmployeeServiceIntegrationTests.this.employeeService
+				.findAllAtRevision(historyRows.get(0).get(0), PageRequest.of(0, 10));
+			Page<Employee> atUpdate = EmployeeServiceIntegrationTests.this.employeeService
+				.findAllAtRevision(historyRows.get(1).get(0), PageRequest.of(0, 10));
+
+			// Assert
+			Assertions.assertThat(historyRows.get(0).get(1)).isEqualTo(historyRows.get(1).get(0));
+			Assertions.assertThat(historyRows.get(1).get(1)).isNull();
+			Assertions.assertThat(atCreation.getContent())
+				.extracting(Employee::getEmailAddress)
+				.containsExactly(employee.getEmailAddress());
+			Assertions.assertThat(atUpdate.getContent())
+				.extracting(Employee::getEmailAddress)
+				.containsExactly(updateRequest.emailAddress());
+		}
+
+		private Employee createEmployee() {
+			DepartmentRequest departmentRequest = EmployeeServiceIntegrationTests.this.departmentRequestTestFactory
+				.createDefault();
+			EmployeeServiceIntegrationTests.this.departmentService.create(departmentRequest);
+			EmployeeRequest employeeRequest = EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+				.departmentName(departmentRequest.departmentName())
+				.create();
+			return EmployeeServiceIntegrationTests.this.employeeService.create(employeeRequest);
+		}
+
+		private EmployeeRequest emailAddressUpdate() {
+			return EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder()
+				.emailAddress(
+						EmployeeServiceIntegrationTests.this.employeeRequestTestFactory.builder().generateRandomEmail())
+				.departmentName(null)
+				.firstName(null)
+				.lastName(null)
+				.birthday(null)
+				.create();
+		}
+
+		private List<List<Long>> findHistoryRows(UUID id) {
+			return EmployeeServiceIntegrationTests.this.jdbcTemplate.query(HISTORY_ROWS, (ResultSet resultSet,
+					int rowNumber) -> Arrays.asList(resultSet.getLong(1), resultSet.getObject(2, Long.class)), id);
+		}
+
+	}
+
 }
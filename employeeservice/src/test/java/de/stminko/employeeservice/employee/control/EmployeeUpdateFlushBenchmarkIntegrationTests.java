@@ -0,0 +1,98 @@
+package de.stminko.employeeservice.employee.control;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import com.sun.management.ThreadMXBean;
+import de.stminko.employeeservice.AbstractIntegrationTestSuite;
+import de.stminko.employeeservice.department.control.DepartmentRepository;
+import de.stminko.employeeservice.department.entity.Department;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeRequest;
+import de.stminko.employeeservice.employee.entity.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.assertj.core.api.Assertions;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures the CPU time and the allocations of {@link EmployeeService#doPartialUpdate}
+ * while the persistence context holds many managed employees, so the flush of the update
+ * dominates. Compare a run against the enhanced entities with a run after
+ * {@code mvn clean test -Dhibernate.enhance.skip -Dtest=EmployeeUpdateFlushBenchmarkIntegrationTests}.
+ */
+@Slf4j
+@DisplayName("Flush benchmark of the employee update")
+class EmployeeUpdateFlushBenchmarkIntegrationTests extends AbstractIntegrationTestSuite {
+
+	private static final int MANAGED_EMPLOYEES = 2_000;
+
+	private static final int WARMUP_UPDATES = 20;
+
+	private static final int MEASURED_UPDATES = 100;
+
+	private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void tearDown() {
+		this.databaseCleaner.cleanDatabases();
+	}
+
+	@Test
+	@DisplayName("Updating an employee among many managed employees reports the flush costs")
+	void givenManyManagedEmployees_whenDoPartialUpdate_thenReportFlushCosts() {
+		// Arrange
+		Department department = this.departmentRepository.save(this.departmentTestFactory.builder().id(null).create());
+		List<Employee> employees = this.employeeRepository.saveAll(IntStream.range(0, MANAGED_EMPLOYEES)
+			.mapToObj((int index) -> this.employeeTestFactory.builder().department(department).create())
+			.toList());
+		UUID employeeId = employees.get(0).getId();
+
+		// Act
+		long[] costs = this.transactionTemplate.execute((TransactionStatus status) -> {
+			Assertions.assertThat(this.employeeRepository.findAll(PageRequest.of(0, MANAGED_EMPLOYEES)))
+				.hasSize(MANAGED_EMPLOYEES);
+			IntStream.range(0, WARMUP_UPDATES).forEach((int index) -> update(employeeId));
+			long cpuTime = this.threadMXBean.getCurrentThreadCpuTime();
+			long allocatedBytes = this.threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+			IntStream.range(0, MEASURED_UPDATES).forEach((int index) -> update(employeeId));
+			return new long[] { (this.threadMXBean.getCurrentThreadCpuTime() - cpuTime) / MEASURED_UPDATES,
+					(this.threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBytes)
+							/ MEASURED_UPDATES };
+		});
+
+		// Assert
+		boolean enhanced = SelfDirtinessTracker.class.isAssignableFrom(Employee.class);
+		log.info("Update among [{}] managed employees, enhanced= [{}]: [{}] ns CPU and [{}] bytes allocated per update",
+				MANAGED_EMPLOYEES, enhanced, costs[0], costs[1]);
+		Assertions.assertThat(costs[0]).isPositive();
+		Assertions.assertThat(costs[1]).isPositive();
+	}
+
+	private void update(UUID employeeId) {
+		this.employeeService.doPartialUpdate(employeeId,
+				new EmployeeRequest(null, RandomStringUtils.randomAlphabetic(12), null, null, null));
+	}
+
+}
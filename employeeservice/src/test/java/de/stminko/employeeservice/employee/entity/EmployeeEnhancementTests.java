@@ -0,0 +1,39 @@
+package de.stminko.employeeservice.employee.entity;
+
+import de.stminko.employeeservice.department.entity.Department;
+import org.assertj.core.api.Assertions;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.Test;
+
+class EmployeeEnhancementTests {
+
+	@Test
+	void givenBuild_whenInspectEntities_thenEnhancedForDirtyTrackingAndLazyLoading() {
+		// Act / Assert
+		Assertions.assertThat(SelfDirtinessTracker.class).isAssignableFrom(Employee.class);
+		Assertions.assertThat(SelfDirtinessTracker.class).isAssignableFrom(Department.class);
+		Assertions.assertThat(PersistentAttributeInterceptable.class).isAssignableFrom(Employee.class);
+		Assertions.assertThat(PersistentAttributeInterceptable.class).isAssignableFrom(Department.class);
+	}
+
+	@Test
+	void givenDepartment_whenHashAndCompare_thenUseDepartmentIdOnly() {
+		// Arrange
+		Department department = new Department();
+		department.setId(4711L);
+		department.setDepartmentName("Human Resources");
+		Employee employee = new Employee();
+		employee.setDepartment(department);
+		Employee other = new Employee();
+		Department sameDepartment = new Department();
+		sameDepartment.setId(4711L);
+		sameDepartment.setDepartmentName("Renamed");
+		other.setDepartment(sameDepartment);
+
+		// Act / Assert
+		Assertions.assertThat(employee).isEqualTo(other).hasSameHashCodeAs(other);
+		Assertions.assertThat(employee.toString()).doesNotContain("Human Resources");
+	}
+
+}
@@ -0,0 +1,54 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EmployeeImportTests {
+
+	private static final ZonedDateTime STARTED_AT = ZonedDateTime.parse("2024-01-01T10:00:00Z");
+
+	@Test
+	void givenSucceededImport_whenUnchangedRows_thenReturnStagedRowsNeitherCreatedNorUpdatedNorRejected() {
+		// Arrange
+		EmployeeImport employeeImport = employeeImport(ImportStatus.SUCCEEDED, STARTED_AT.plusSeconds(4));
+
+		// Act / Assert
+		Assertions.assertThat(employeeImport.unchangedRows()).isEqualTo(100L);
+	}
+
+	@Test
+	void givenRunningImport_whenUnchangedRows_thenReturnZero() {
+		// Arrange
+		EmployeeImport employeeImport = employeeImport(ImportStatus.MERGING, null);
+
+		// Act / Assert
+		Assertions.assertThat(employeeImport.unchangedRows()).isZero();
+	}
+
+	@Test
+	void givenFinishedImport_whenRowsPerSecond_thenDivideStagedRowsByDuration() {
+		// Arrange
+		EmployeeImport employeeImport = employeeImport(ImportStatus.SUCCEEDED, STARTED_AT.plusSeconds(4));
+
+		// Act / Assert
+		Assertions.assertThat(employeeImport.rowsPerSecond(STARTED_AT.plusHours(1).toInstant())).isEqualTo(2_500.0);
+	}
+
+	@Test
+	void givenRunningImport_whenRowsPerSecond_thenDivideStagedRowsByElapsedTime() {
+		// Arrange
+		EmployeeImport employeeImport = employeeImport(ImportStatus.STAGING, null);
+
+		// Act / Assert
+		Assertions.assertThat(employeeImport.rowsPerSecond(STARTED_AT.plusSeconds(10).toInstant())).isEqualTo(1_000.0);
+	}
+
+	private static EmployeeImport employeeImport(ImportStatus status, ZonedDateTime finishedAt) {
+		return new EmployeeImport(UUID.randomUUID(), ImportFormat.CSV, status, 10_000L, 8_000L, 1_500L, 400L, 42L, null,
+				STARTED_AT.minusMinutes(1), "System", STARTED_AT, finishedAt);
+	}
+
+}
@@ -0,0 +1,72 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ImportRowParserTests {
+
+	@Test
+	void givenCsvHeaderInAnyOrder_whenParse_thenMapValuesByColumnName() throws IOException {
+		// Arrange
+		ImportRowParser parser = ImportRowParser.csv("departmentName, emailAddress,lastName,firstName,birthday");
+
+		// Act
+		ImportRowParser.ImportRow row = parser
+			.parse("Sales,jane.doe@example.com,\"Doe, \"\"JD\"\"\",  Jane ,1990-01-31");
+
+		// Assert
+		Assertions.assertThat(row)
+			.isEqualTo(new ImportRowParser.ImportRow("jane.doe@example.com", "Jane", "Doe, \"JD\"", "1990-01-31",
+					"Sales"));
+	}
+
+	@Test
+	void givenCsvWithUnknownColumnAndBlankValue_whenParse_thenIgnoreColumnAndReturnNull() throws IOException {
+		// Arrange
+		ImportRowParser parser = ImportRowParser.csv("emailAddress,nickname,firstName,departmentName");
+
+		// Act
+		ImportRowParser.ImportRow row = parser.parse("jane.doe@example.com,JD, ,Sales");
+
+		// Assert
+		Assertions.assertThat(row)
+			.isEqualTo(new ImportRowParser.ImportRow("jane.doe@example.com", null, null, null, "Sales"));
+	}
+
+	@Test
+	void givenNdjsonLine_whenParse_thenReturnRow() throws IOException {
+		// Arrange
+		ImportRowParser parser = ImportRowParser.ndjson(new ObjectMapper());
+
+		// Act
+		ImportRowParser.ImportRow row = parser.parse("""
+				{"emailAddress":"jane.doe@example.com","firstName":"Jane","lastName":"Doe","unknown":1,\
+				"departmentName":"Sales"}""");
+
+		// Assert
+		Assertions.assertThat(row)
+			.isEqualTo(new ImportRowParser.ImportRow("jane.doe@example.com", "Jane", "Doe", null, "Sales"));
+	}
+
+	@Test
+	void givenMalformedNdjsonLine_whenParse_thenThrowIOException() {
+		// Arrange
+		ImportRowParser parser = ImportRowParser.ndjson(new ObjectMapper());
+
+		// Act / Assert
+		Assertions.assertThatThrownBy(() -> parser.parse("{\"emailAddress\":")).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void givenValuesWithQuotesAndNull_whenCopyRecord_thenQuoteValuesAndLeaveNullEmpty() {
+		// Act
+		String copyRecord = ImportService.copyRecord(7L, "Doe, \"JD\"", null, "Sales");
+
+		// Assert
+		Assertions.assertThat(copyRecord).isEqualTo("\"7\",\"Doe, \"\"JD\"\"\",,\"Sales\"\n");
+	}
+
+}
@@ -0,0 +1,115 @@
+package de.stminko.employeeservice.imports.control;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import de.stminko.employeeservice.AbstractIntegrationTestSuite;
+import de.stminko.employeeservice.department.boundary.dto.DepartmentRequest;
+import de.stminko.employeeservice.department.control.DepartmentService;
+import de.stminko.employeeservice.employee.boundary.dto.EmployeeRequest;
+import de.stminko.employeeservice.employee.control.EmployeeService;
+import de.stminko.employeeservice.employee.entity.Employee;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("Integration tests for the employee import")
+class ImportServiceIntegrationTests extends AbstractIntegrationTestSuite {
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private ImportService importService;
+
+	@Test
+	@DisplayName("Importing a CSV file creates and updates employees and rejects invalid rows")
+	void givenCsvFile_whenSubmit_thenCreateAndUpdateEmployeesAndRejectInvalidRows() throws InterruptedException {
+		// Arrange
+		DepartmentRequest departmentRequest = this.departmentRequestTestFactory.createDefault();
+		this.departmentService.create(departmentRequest);
+		String departmentName = departmentRequest.departmentName();
+		EmployeeRequest employeeRequest = this.employeeRequestTestFactory.builder()
+			.departmentName(departmentName)
+			.create();
+		Employee existingEmployee = this.employeeService.create(employeeRequest);
+		String newEmailAddress = UUID.randomUUID() + "@example.com";
+		String file = """
+				emailAddress,firstName,lastName,birthday,departmentName
+				%1$s,Updated,,,%2$s
+				%3$s,Jane,Doe,1990-01-31,%2$s
+				%3$s,John,Doe,1990-01-31,%2$s
+				unknown@example.com,Jane,Doe,1990-01-31,unknown
+				invalid@example.com,Jane,Doe,1990-02-31,%2$s
+				"unterminated
+				""".formatted(existingEmployee.getEmailAddress().toUpperCase(), departmentName, newEmailAddress);
+
+		// Act
+		EmployeeImport submitted = this.importService.submit(ImportFormat.CSV,
+				new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)));
+		EmployeeImport finished = awaitFinished(submitted.id());
+
+		// Assert
+		Assertions.assertThat(submitted.status()).isNotNull();
+		Assertions.assertThat(finished.status()).isEqualTo(ImportStatus.SUCCEEDED);
+		Assertions.assertThat(finished.stagedRows()).isEqualTo(6L);
+		Assertions.assertThat(finished.createdRows()).isEqualTo(1L);
+		Assertions.assertThat(finished.updatedRows()).isEqualTo(1L);
+		Assertions.assertThat(finished.rejectedRows()).isEqualTo(4L);
+		Assertions.assertThat(finished.revision()).isNotNull();
+		Assertions.assertThat(this.importService.findErrors(finished.id(), PageRequest.of(0, 10)))
+			.extracting(ImportError::lineNumber)
+			.containsExactly(4L, 5L, 6L, 7L);
+		Employee updatedEmployee = this.employeeService.findById(existingEmployee.getId());
+		Assertions.assertThat(updatedEmployee.getFullName().getFirstName()).isEqualTo("Updated");
+		Assertions.assertThat(updatedEmployee.getFullName().getLastName())
+			.isEqualTo(existingEmployee.getFullName().getLastName());
+		Assertions.assertThat(updatedEmployee.getBirthday()).isEqualTo(existingEmployee.getBirthday());
+		Assertions.assertThat(this.employeeService.findResponseByEmailAddress(newEmailAddress).firstName())
+			.isEqualTo("Jane");
+	}
+
+	@Test
+	@DisplayName("Importing an NDJSON file twice leaves the employees unchanged the second time")
+	void givenImportedNdjsonFile_whenSubmitAgain_thenLeaveEmployeesUnchanged() throws InterruptedException {
+		// Arrange
+		DepartmentRequest departmentRequest = this.departmentRequestTestFactory.createDefault();
+		this.departmentService.create(departmentRequest);
+		String file = """
+				{"emailAddress":"%s","firstName":"Jane","lastName":"Doe","departmentName":"%s"}
+				""".formatted(UUID.randomUUID() + "@example.com", departmentRequest.departmentName());
+		awaitFinished(this.importService
+			.submit(ImportFormat.NDJSON, new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)))
+			.id());
+
+		// Act
+		EmployeeImport finished = awaitFinished(this.importService
+			.submit(ImportFormat.NDJSON, new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)))
+			.id());
+
+		// Assert
+		Assertions.assertThat(finished.status()).isEqualTo(ImportStatus.SUCCEEDED);
+		Assertions.assertThat(finished.unchangedRows()).isEqualTo(1L);
+		Assertions.assertThat(finished.revision()).isNull();
+	}
+
+	private EmployeeImport awaitFinished(UUID id) throws InterruptedException {
+		Instant deadline = Instant.now().plus(Duration.ofSeconds(30));
+		EmployeeImport employeeImport = this.importService.findById(id);
+		while (!employeeImport.status().isFinished() && Instant.now().isBefore(deadline)) {
+			Thread.sleep(100L);
+			employeeImport = this.importService.findById(id);
+		}
+		return employeeImport;
+	}
+
+}
@@ -0,0 +1,69 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import de.stminko.employeeservice.runtime.persistence.boundary.HistoryArchive.ArchivedRow;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HistoryArchiveTests {
+
+	private static final String TABLE = "employee_history";
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void givenRowsOfTwoMonths_whenAppend_thenWriteOneSegmentPerMonth() {
+		// Arrange
+		HistoryArchive archive = new HistoryArchive(this.directory);
+		ArchivedRow january = row(1L, "2024-01-31T23:59:59Z");
+		ArchivedRow february = row(2L, "2024-02-01T00:00:00Z");
+
+		// Act
+		List<Path> segments = archive.append(TABLE, List.of(february, january));
+
+		// Assert
+		Path januarySegment = archive.segmentOf(TABLE, YearMonth.of(2024, 1));
+		Path februarySegment = archive.segmentOf(TABLE, YearMonth.of(2024, 2));
+		Assertions.assertThat(segments).containsExactly(januarySegment, februarySegment);
+		Assertions.assertThat(januarySegment).hasFileName("employee_history-2024-01.ndjson.gz");
+		Assertions.assertThat(read(januarySegment)).containsExactly(january.json());
+		Assertions.assertThat(read(februarySegment)).containsExactly(february.json());
+	}
+
+	@Test
+	void givenExistingSegment_whenAppend_thenReadAllRowsInAppendOrder() {
+		// Arrange
+		HistoryArchive archive = new HistoryArchive(this.directory);
+		ArchivedRow first = row(1L, "2024-03-01T10:00:00Z");
+		ArchivedRow second = row(2L, "2024-03-02T10:00:00Z");
+		ArchivedRow third = row(3L, "2024-03-03T10:00:00Z");
+		archive.append(TABLE, List.of(first, second));
+
+		// Act
+		archive.append(TABLE, List.of(third));
+
+		// Assert
+		Assertions.assertThat(read(archive.segmentOf(TABLE, YearMonth.of(2024, 3))))
+			.containsExactly(first.json(), second.json(), third.json());
+	}
+
+	private static List<String> read(Path segment) {
+		List<String> rows = new ArrayList<>();
+		HistoryArchive.read(segment, rows::add);
+		return rows;
+	}
+
+	private static ArchivedRow row(long revision, String instant) {
+		long timestamp = Instant.parse(instant).toEpochMilli();
+		return new ArchivedRow(revision, timestamp,
+				"{\"id\":\"4711\",\"rev\":%d,\"revtype\":1,\"revend\":null}".formatted(revision));
+	}
+
+}
@@ -0,0 +1,104 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import de.stminko.employeeservice.runtime.persistence.boundary.HistoryPartitionMaintainer.RevisionPartition;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HistoryPartitionMaintainerTests {
+
+	private static final long PARTITION_SIZE = 1_000L;
+
+	@Test
+	void givenRangeBound_whenParse_thenReturnPartition() {
+		// Arrange
+		String boundExpression = "FOR VALUES FROM ('1000') TO ('2000')";
+
+		// Act
+		Optional<RevisionPartition> partition = RevisionPartition.parse("audit_trail_1000", boundExpression);
+
+		// Assert
+		Assertions.assertThat(partition).contains(new RevisionPartition("audit_trail_1000", 1_000L, 2_000L));
+	}
+
+	@Test
+	void givenDefaultBound_whenParse_thenReturnEmpty() {
+		// Act
+		Optional<RevisionPartition> partition = RevisionPartition.parse("audit_trail_default", "DEFAULT");
+
+		// Assert
+		Assertions.assertThat(partition).isEmpty();
+	}
+
+	@Test
+	void givenCurrentRevisionApproachingLastPartition_whenUpcomingLowerBounds_thenReturnMissingPartitions() {
+		// Arrange
+		List<RevisionPartition> partitions = List.of(partition(0L), partition(1_000L));
+
+		// Act
+		List<Long> lowerBounds = HistoryPartitionMaintainer.upcomingLowerBounds(partitions, 1_500L, PARTITION_SIZE, 2);
+
+		// Assert
+		Assertions.assertThat(lowerBounds).containsExactly(2_000L, 3_000L);
+	}
+
+	@Test
+	void givenEnoughPremadePartitions_whenUpcomingLowerBounds_thenReturnNothing() {
+		// Arrange
+		List<RevisionPartition> partitions = List.of(partition(0L), partition(1_000L), partition(2_000L));
+
+		// Act
+		List<Long> lowerBounds = HistoryPartitionMaintainer.upcomingLowerBounds(partitions, 500L, PARTITION_SIZE, 2);
+
+		// Assert
+		Assertions.assertThat(lowerBounds).isEmpty();
+	}
+
+	@Test
+	void givenRetention_whenRetiredPartitions_thenReturnOldestPartitionsInUse() {
+		// Arrange
+		List<RevisionPartition> partitions = List.of(partition(3_000L), partition(0L), partition(2_000L),
+				partition(1_000L), partition(4_000L));
+
+		// Act
+		List<RevisionPartition> retired = HistoryPartitionMaintainer.retiredPartitions(partitions, 2_500L, 2);
+
+		// Assert
+		Assertions.assertThat(retired).containsExactly(partition(0L));
+	}
+
+	@Test
+	void givenNoRetention_whenRetiredPartitions_thenReturnNothing() {
+		// Arrange
+		List<RevisionPartition> partitions = List.of(partition(0L), partition(1_000L), partition(2_000L));
+
+		// Act
+		List<RevisionPartition> retired = HistoryPartitionMaintainer.retiredPartitions(partitions, 2_500L, 0);
+
+		// Assert
+		Assertions.assertThat(retired).isEmpty();
+	}
+
+	@Test
+	void givenRetiredPartitionHoldingOpenRows_whenDetachablePartitions_thenKeepItAndNewerOnes() {
+		// Arrange
+		List<RevisionPartition> retired = List.of(partition(0L), partition(1_000L), partition(2_000L));
+		List<RevisionPartition> scanned = new ArrayList<>();
+
+		// Act
+		List<RevisionPartition> detachable = HistoryPartitionMaintainer.detachablePartitions(retired,
+				(RevisionPartition partition) -> scanned.add(partition) && (partition.lowerBound() == 1_000L));
+
+		// Assert
+		Assertions.assertThat(detachable).containsExactly(partition(0L));
+		Assertions.assertThat(scanned).containsExactly(partition(0L), partition(1_000L));
+	}
+
+	private static RevisionPartition partition(long lowerBound) {
+		return new RevisionPartition("audit_trail_" + lowerBound, lowerBound, lowerBound + PARTITION_SIZE);
+	}
+
+}
@@ -0,0 +1,107 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HistoryPrunerTests {
+
+	private static final String TABLE = "employee_history";
+
+	private static final Instant NOW = Instant.parse("2024-06-15T12:00:00Z");
+
+	@Test
+	void givenMaxAge_whenExpiryCutoff_thenReturnNowMinusMaxAge() {
+		// Act
+		long cutoff = HistoryPruner.expiryCutoff(Duration.ofDays(30), NOW);
+
+		// Assert
+		Assertions.assertThat(cutoff).isEqualTo(Instant.parse("2024-05-16T12:00:00Z").toEpochMilli());
+	}
+
+	@Test
+	void givenOnlyMaxAge_whenPruneCriteria_thenSelectRowsByAgeAlone() {
+		// Arrange
+		HistoryRetentionProperties.Policy policy = new HistoryRetentionProperties.Policy();
+		policy.setMaxAge(Duration.ofDays(30));
+
+		// Act
+		Optional<HistoryPruner.PruneCriteria> criteria = HistoryPruner.pruneCriteria(TABLE, policy, NOW);
+
+		// Assert
+		Assertions.assertThat(criteria).hasValueSatisfying((HistoryPruner.PruneCriteria actual) -> {
+			Assertions.assertThat(actual.condition()).contains("revend_tstmp < ?").doesNotContain("OFFSET");
+			Assertions.assertThat(actual.arguments())
+				.containsExactly(Instant.parse("2024-05-16T12:00:00Z").toEpochMilli());
+		});
+	}
+
+	@Test
+	void givenOnlyKeptRevisions_whenPruneCriteria_thenSelectRowsByNumberOfRevisionsAlone() {
+		// Arrange
+		HistoryRetentionProperties.Policy policy = new HistoryRetentionProperties.Policy();
+		policy.setKeptRevisions(10);
+
+		// Act
+		Optional<HistoryPruner.PruneCriteria> criteria = HistoryPruner.pruneCriteria(TABLE, policy, NOW);
+
+		// Assert
+		Assertions.assertThat(criteria).hasValueSatisfying((HistoryPruner.PruneCriteria actual) -> {
+			Assertions.assertThat(actual.condition())
+				.contains("FROM history." + TABLE + " n")
+				.contains("OFFSET ?")
+				.doesNotContain("revend_tstmp");
+			Assertions.assertThat(actual.arguments()).containsExactly(9);
+		});
+	}
+
+	@Test
+	void givenMaxAgeAndKeptRevisions_whenPruneCriteria_thenSelectRowsSatisfyingBoth() {
+		// Arrange
+		HistoryRetentionProperties.Policy policy = new HistoryRetentionProperties.Policy();
+		policy.setMaxAge(Duration.ofDays(30));
+		policy.setKeptRevisions(10);
+
+		// Act
+		Optional<HistoryPruner.PruneCriteria> criteria = HistoryPruner.pruneCriteria(TABLE, policy, NOW);
+
+		// Assert
+		Assertions.assertThat(criteria).hasValueSatisfying((HistoryPruner.PruneCriteria actual) -> {
+			Assertions.assertThat(actual.condition()).contains("AND h.revend_tstmp < ?").contains("OFFSET ?");
+			Assertions.assertThat(actual.arguments())
+				.containsExactly(Instant.parse("2024-05-16T12:00:00Z").toEpochMilli(), 9);
+		});
+	}
+
+	@Test
+	void givenNoCriterion_whenPruneCriteria_thenReturnEmpty() {
+		// Act
+		Optional<HistoryPruner.PruneCriteria> criteria = HistoryPruner.pruneCriteria(TABLE,
+				new HistoryRetentionProperties.Policy(), NOW);
+
+		// Assert
+		Assertions.assertThat(criteria).isEmpty();
+	}
+
+	@Test
+	void givenKeptRevisions_whenSkippedNewerRevisions_thenSkipAllButSupersedingRevision() {
+		// Act
+		int skipped = HistoryPruner.skippedNewerRevisions(10);
+
+		// Assert
+		Assertions.assertThat(skipped).isEqualTo(9);
+	}
+
+	@Test
+	void givenNonPositiveKeptRevisions_whenSkippedNewerRevisions_thenStillKeepCurrentState() {
+		// Act
+		int skipped = HistoryPruner.skippedNewerRevisions(0);
+
+		// Assert
+		Assertions.assertThat(skipped).isZero();
+	}
+
+}
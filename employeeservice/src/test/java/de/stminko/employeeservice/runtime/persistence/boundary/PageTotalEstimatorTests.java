@@ -0,0 +1,126 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class PageTotalEstimatorTests {
+
+	private static final String TABLE_NAME = "data.employee";
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private Query query;
+
+	private final CountEstimationProperties properties = new CountEstimationProperties();
+
+	private PageTotalEstimator estimator;
+
+	@BeforeEach
+	void setUp() {
+		this.properties.setExactCountThreshold(1_000L);
+		this.estimator = new PageTotalEstimator(this.entityManager, this.properties);
+	}
+
+	@Test
+	void givenSmallTable_whenFindPage_thenReturnExactPage() {
+		// Arrange
+		givenEstimate(10L);
+		Pageable pageable = PageRequest.of(0, 2);
+		Page<String> exactPage = new PageImpl<>(List.of("a", "b"), pageable, 10L);
+
+		// Act
+		Page<String> page = this.estimator.findPage(TABLE_NAME, pageable, (Pageable value) -> exactPage,
+				failingSliceQuery());
+
+		// Assert
+		Assertions.assertThat(page).isSameAs(exactPage);
+	}
+
+	@Test
+	void givenLargeTable_whenFindPage_thenReturnEstimatedPageWithoutCounting() {
+		// Arrange
+		givenEstimate(50_000L);
+		Pageable pageable = PageRequest.of(1, 2);
+
+		// Act
+		Page<String> page = this.estimator.findPage(TABLE_NAME, pageable, failingExactQuery(),
+				(Pageable value) -> new SliceImpl<>(List.of("c", "d"), value, true));
+
+		// Assert
+		Assertions.assertThat(page).isInstanceOf(EstimatedPage.class);
+		Assertions.assertThat(page.getTotalElements()).isEqualTo(50_000L);
+		Assertions.assertThat(page.getContent()).containsExactly("c", "d");
+		Assertions.assertThat(page.map(String::toUpperCase)).isInstanceOf(EstimatedPage.class);
+	}
+
+	@Test
+	void givenLargeTableAndLastPage_whenFindPage_thenReturnExactTotal() {
+		// Arrange
+		givenEstimate(50_000L);
+		Pageable pageable = PageRequest.of(3, 2);
+
+		// Act
+		Page<String> page = this.estimator.findPage(TABLE_NAME, pageable, failingExactQuery(),
+				(Pageable value) -> new SliceImpl<>(List.of("g"), value, false));
+
+		// Assert
+		Assertions.assertThat(page).isNotInstanceOf(EstimatedPage.class);
+		Assertions.assertThat(page.getTotalElements()).isEqualTo(7L);
+	}
+
+	@Test
+	void givenDisabledEstimation_whenFindPage_thenReturnExactPage() {
+		// Arrange
+		this.properties.setEnabled(false);
+		Pageable pageable = PageRequest.of(0, 2);
+		Page<String> exactPage = new PageImpl<>(List.of("a", "b"), pageable, 50_000L);
+
+		// Act
+		Page<String> page = this.estimator.findPage(TABLE_NAME, pageable, (Pageable value) -> exactPage,
+				failingSliceQuery());
+
+		// Assert
+		Assertions.assertThat(page).isSameAs(exactPage);
+		Mockito.verifyNoInteractions(this.entityManager);
+	}
+
+	private void givenEstimate(long estimate) {
+		Mockito.when(this.entityManager.createNativeQuery(ArgumentMatchers.anyString())).thenReturn(this.query);
+		Mockito.when(this.query.setParameter("tableName", TABLE_NAME)).thenReturn(this.query);
+		Mockito.when(this.query.getResultList()).thenReturn(List.of(estimate));
+	}
+
+	private static Function<Pageable, Page<String>> failingExactQuery() {
+		return (Pageable value) -> {
+			throw new AssertionError("exact query must not be executed");
+		};
+	}
+
+	private static Function<Pageable, Slice<String>> failingSliceQuery() {
+		return (Pageable value) -> {
+			throw new AssertionError("slice query must not be executed");
+		};
+	}
+
+}
@@ -0,0 +1,211 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+class ReadReplicaRoutingDataSourceTests {
+
+	private static final long PRIMARY_POSITION = 50_000_000L;
+
+	private static final DataSize MAX_LAG = DataSize.ofMegabytes(16);
+
+	@AfterEach
+	void tearDown() {
+		ReadYourWritesContext.clear();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	void givenReadOnlyTransaction_whenDetermineCurrentLookupKey_thenAlternateBetweenReplicas() throws SQLException {
+		// Arrange
+		ReadReplicaRoutingDataSource routingDataSource = routingDataSource(replica("replica-0", PRIMARY_POSITION),
+				replica("replica-1", PRIMARY_POSITION));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// Act
+		Object first = routingDataSource.determineCurrentLookupKey();
+		Object second = routingDataSource.determineCurrentLookupKey();
+
+		// Assert
+		Assertions.assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica-0", "replica-1");
+	}
+
+	@Test
+	void givenReadWriteTransaction_whenDetermineCurrentLookupKey_thenReturnPrimary() throws SQLException {
+		// Arrange
+		ReadReplicaRoutingDataSource routingDataSource = routingDataSource(replica("replica-0", PRIMARY_POSITION));
+
+		// Act
+		Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+		// Assert
+		Assertions.assertThat(lookupKey).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void givenUnreachableReplica_whenDetermineCurrentLookupKey_thenReturnPrimary() throws SQLException {
+		// Arrange
+		DataSource dataSource = Mockito.mock(DataSource.class);
+		Mockito.when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+		ReadReplicaRoutingDataSource routingDataSource = routingDataSource(new ReadReplica("replica-0", dataSource));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// Act
+		Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+		// Assert
+		Assertions.assertThat(lookupKey).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void givenReplicaLaggingTooMuch_whenDetermineCurrentLookupKey_thenReturnPrimary() throws SQLException {
+		// Arrange
+		ReadReplicaRoutingDataSource routingDataSource = routingDataSource(
+				replica("replica-0", PRIMARY_POSITION - MAX_LAG.toBytes() - 1));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// Act
+		Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+		// Assert
+		Assertions.assertThat(lookupKey).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void givenWriteNotYetReplayed_whenDetermineCurrentLookupKey_thenReturnPrimary() throws SQLException {
+		// Arrange
+		ReadReplicaRoutingDataSource routingDataSource = routingDataSource(replica("replica-0", PRIMARY_POSITION - 1));
+		ReadYourWritesContext.requireReplayOf(PRIMARY_POSITION);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// Act
+		Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+		// Assert
+		Assertions.assertThat(lookupKey).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void givenWriteAlreadyReplayed_whenDetermineCurrentLookupKey_thenReturnReplica() throws SQLException {
+		// Arrange
+		ReadReplicaRoutingDataSource routingDataSource = routingDataSource(replica("replica-0", PRIMARY_POSITION));
+		ReadYourWritesContext.requireReplayOf(PRIMARY_POSITION);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// Act
+		Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+		// Assert
+		Assertions.assertThat(lookupKey).isEqualTo("replica-0");
+	}
+
+	@Test
+	void givenTransactionChangingData_whenCommit_thenRequireReplayOfPrimaryPositionReadOnSameConnection()
+			throws SQLException {
+		// Arrange
+		ResultSet resultSet = resultSet(PRIMARY_POSITION);
+		Mockito.when(resultSet.getBoolean(1)).thenReturn(true);
+		Connection primaryConnection = connection(resultSet);
+		DataSource primary = dataSource(primaryConnection);
+		ReadReplicaRoutingDataSource routingDataSource = routingDataSource(primary,
+				replica("replica-0", PRIMARY_POSITION - 1));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		Connection connection = routingDataSource.getConnection();
+		Mockito.clearInvocations(primary);
+
+		// Act
+		connection.commit();
+
+		// Assert
+		Assertions.assertThat(ReadYourWritesContext.getRequiredReplay()).hasValue(PRIMARY_POSITION);
+		Mockito.verify(primaryConnection).commit();
+		Mockito.verify(primary, Mockito.never()).getConnection();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		Assertions.assertThat(routingDataSource.determineCurrentLookupKey())
+			.isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void givenTransactionOnlyReading_whenCommit_thenLeaveRoutingUntouched() throws SQLException {
+		// Arrange
+		ResultSet resultSet = resultSet(PRIMARY_POSITION);
+		Mockito.when(resultSet.getBoolean(1)).thenReturn(false);
+		Connection primaryConnection = connection(resultSet);
+		ReadReplicaRoutingDataSource routingDataSource = routingDataSource(dataSource(primaryConnection),
+				replica("replica-0", PRIMARY_POSITION - 1));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		Connection connection = routingDataSource.getConnection();
+		Statement statement = primaryConnection.createStatement();
+		Mockito.clearInvocations(statement);
+
+		// Act
+		connection.commit();
+
+		// Assert
+		Assertions.assertThat(ReadYourWritesContext.getRequiredReplay()).isEmpty();
+		Mockito.verify(primaryConnection).commit();
+		Mockito.verify(statement, Mockito.never()).executeQuery(ArgumentMatchers.contains("pg_current_wal_lsn"));
+	}
+
+	private static ReadReplicaRoutingDataSource routingDataSource(ReadReplica... replicas) throws SQLException {
+		return routingDataSource(dataSource(resultSet(PRIMARY_POSITION)), replicas);
+	}
+
+	private static ReadReplicaRoutingDataSource routingDataSource(DataSource primary, ReadReplica... replicas) {
+		ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replicas),
+				Duration.ZERO, MAX_LAG);
+		routingDataSource.afterPropertiesSet();
+		return routingDataSource;
+	}
+
+	private static ReadReplica replica(String name, long replayedPosition) throws SQLException {
+		ResultSet resultSet = resultSet(replayedPosition);
+		Mockito.when(resultSet.getBoolean(1)).thenReturn(true);
+		return new ReadReplica(name, dataSource(resultSet));
+	}
+
+	private static ResultSet resultSet(long position) throws SQLException {
+		ResultSet resultSet = Mockito.mock(ResultSet.class);
+		Mockito.when(resultSet.next()).thenReturn(true);
+		Mockito.lenient().when(resultSet.getLong(ArgumentMatchers.anyInt())).thenReturn(position);
+		return resultSet;
+	}
+
+	private static DataSource dataSource(ResultSet resultSet) throws SQLException {
+		return dataSource(connection(resultSet));
+	}
+
+	private static DataSource dataSource(Connection connection) throws SQLException {
+		DataSource dataSource = Mockito.mock(DataSource.class);
+		Mockito.when(dataSource.getConnection()).thenReturn(connection);
+		return dataSource;
+	}
+
+	private static Connection connection(ResultSet resultSet) throws SQLException {
+		Statement statement = Mockito.mock(Statement.class);
+		Mockito.when(statement.executeQuery(ArgumentMatchers.anyString())).thenReturn(resultSet);
+		Connection connection = Mockito.mock(Connection.class);
+		Mockito.when(connection.createStatement()).thenReturn(statement);
+		return connection;
+	}
+
+}
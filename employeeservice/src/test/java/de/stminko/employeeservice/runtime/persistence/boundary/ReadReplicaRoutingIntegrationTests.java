@@ -0,0 +1,161 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.stminko.employeeservice.AbstractIntegrationTestSuite;
+import de.stminko.employeeservice.department.control.DepartmentRepository;
+import de.stminko.employeeservice.department.control.DepartmentService;
+import de.stminko.employeeservice.department.entity.Department;
+import de.stminko.employeeservice.employee.control.EmployeeRepository;
+import de.stminko.employeeservice.employee.control.EmployeeService;
+import de.stminko.employeeservice.employee.entity.Employee;
+import de.stminko.employeeservice.runtime.errorhandling.boundary.NotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs against the primary and the replica of the {@code docker-compose.yml}.
+ */
+@DisplayName("Routing of read-only transactions to the streaming replica")
+@ActiveProfiles(value = "local-replica", inheritProfiles = false)
+class ReadReplicaRoutingIntegrationTests extends AbstractIntegrationTestSuite {
+
+	private static final String READ_DEPARTMENT = """
+			SELECT pg_is_in_recovery(), EXISTS (SELECT 1 FROM data.department WHERE id = ?)
+			""";
+
+	private static final long REPLAY_TIMEOUT_MILLIS = 10_000L;
+
+	@Autowired
+	private ReadReplicaRoutingDataSource routingDataSource;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		ReadYourWritesContext.clear();
+	}
+
+	@Test
+	@DisplayName("A read following a write observes the write even if the replica did not replay it yet")
+	void givenCommittedWrite_whenReadOnlyTransaction_thenObserveWrite() {
+		// Arrange
+		AtomicLong consistencyToken = new AtomicLong(-1L);
+		ReadYourWritesContext.onWriteCommitted(consistencyToken::set);
+		Department department = this.departmentRepository.save(this.departmentTestFactory.builder().id(null).create());
+
+		// Act
+		List<Boolean> read = readDepartment(department.getId());
+
+		// Assert
+		Assertions.assertThat(consistencyToken.get()).isPositive();
+		Assertions.assertThat(ReadYourWritesContext.getRequiredReplay()).hasValue(consistencyToken.get());
+		Assertions.assertThat(read.get(1)).isTrue();
+	}
+
+	@Test
+	@DisplayName("A read following a write is served by the replica once it replayed the write")
+	void givenReplayedWrite_whenReadOnlyTransaction_thenReadFromReplica() throws InterruptedException {
+		// Arrange
+		Department department = this.departmentRepository.save(this.departmentTestFactory.builder().id(null).create());
+		long deadline = System.currentTimeMillis() + REPLAY_TIMEOUT_MILLIS;
+		do {
+			Thread.sleep(100L);
+			this.routingDataSource.checkReplicas();
+		}
+		while (this.routingDataSource.selectReplica().isEmpty() && (System.currentTimeMillis() < deadline));
+
+		// Act
+		List<Boolean> read = readDepartment(department.getId());
+
+		// Assert
+		Assertions.assertThat(read).containsExactly(true, true);
+	}
+
+	@Test
+	@DisplayName("The finders of the services read from the replica")
+	void givenReplayPausedOnReplica_whenFind_thenMissRowsOnlyWrittenToPrimary() throws InterruptedException {
+		// Arrange
+		ReadReplica replica = awaitReplica();
+		JdbcTemplate replicaTemplate = new JdbcTemplate(replica.getDataSource());
+		replicaTemplate.queryForList("SELECT pg_wal_replay_pause()");
+		try {
+			Department department = this.departmentRepository
+				.save(this.departmentTestFactory.builder().id(null).create());
+			Employee employee = this.employeeRepository
+				.save(this.employeeTestFactory.builder().department(department).create());
+			ReadYourWritesContext.clear();
+			String departmentName = department.getDepartmentName();
+
+			// Act & Assert
+			Assertions.assertThatThrownBy(() -> this.departmentService.findById(department.getId()))
+				.isInstanceOf(NotFoundException.class);
+			Assertions.assertThatThrownBy(() -> this.departmentService.findByDepartmentName(departmentName))
+				.isInstanceOf(NotFoundException.class);
+			Assertions
+				.assertThatThrownBy(() -> this.departmentService.findByDepartmentNameOrElseThrow(departmentName,
+						NotFoundException.class))
+				.isInstanceOf(NotFoundException.class);
+			Assertions.assertThat(this.departmentService.findAllByDepartmentNames(Set.of(departmentName))).isEmpty();
+			Assertions.assertThat(this.departmentService.findAll(Pageable.unpaged()))
+				.extracting(Department::getId)
+				.doesNotContain(department.getId());
+			Assertions.assertThatThrownBy(() -> this.employeeService.findById(employee.getId()))
+				.isInstanceOf(NotFoundException.class);
+			Assertions.assertThat(this.employeeService.findAll(Pageable.unpaged()))
+				.extracting(Employee::getId)
+				.doesNotContain(employee.getId());
+		}
+		finally {
+			replicaTemplate.queryForList("SELECT pg_wal_replay_resume()");
+		}
+	}
+
+	private ReadReplica awaitReplica() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + REPLAY_TIMEOUT_MILLIS;
+		this.routingDataSource.checkReplicas();
+		while (this.routingDataSource.selectReplica().isEmpty() && (System.currentTimeMillis() < deadline)) {
+			Thread.sleep(100L);
+			this.routingDataSource.checkReplicas();
+		}
+		return this.routingDataSource.selectReplica().orElseThrow();
+	}
+
+	private List<Boolean> readDepartment(Long departmentId) {
+		TransactionTemplate readOnlyTemplate = new TransactionTemplate(this.transactionManager);
+		readOnlyTemplate.setReadOnly(true);
+		return readOnlyTemplate.execute((TransactionStatus status) -> this.jdbcTemplate.queryForObject(READ_DEPARTMENT,
+				(ResultSet resultSet, int rowNumber) -> List.of(resultSet.getBoolean(1), resultSet.getBoolean(2)),
+				departmentId));
+	}
+
+}
@@ -0,0 +1,56 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ReadYourWritesContextTests {
+
+	@AfterEach
+	void tearDown() {
+		ReadYourWritesContext.clear();
+	}
+
+	@Test
+	void givenWriteCommittedByTask_whenRunIsolated_thenLeaveNoStateBehind() {
+		// Arrange
+		AtomicLong observedReplay = new AtomicLong(-1L);
+
+		// Act
+		ReadYourWritesContext.runIsolated(() -> {
+			ReadYourWritesContext.writeCommitted(42L);
+			observedReplay.set(ReadYourWritesContext.getRequiredReplay().orElse(-1L));
+		});
+
+		// Assert
+		Assertions.assertThat(observedReplay).hasValue(42L);
+		Assertions.assertThat(ReadYourWritesContext.getRequiredReplay()).isEmpty();
+	}
+
+	@Test
+	void givenStateOfCaller_whenRunIsolatedFails_thenRestoreStateOfCaller() {
+		// Arrange
+		AtomicLong notifiedPosition = new AtomicLong(-1L);
+		ReadYourWritesContext.requireReplayOf(7L);
+		ReadYourWritesContext.onWriteCommitted(notifiedPosition::set);
+		AtomicLong observedReplay = new AtomicLong();
+
+		// Act
+		Assertions.assertThatIllegalStateException().isThrownBy(() -> ReadYourWritesContext.runIsolated(() -> {
+			observedReplay.set(ReadYourWritesContext.getRequiredReplay().orElse(-1L));
+			ReadYourWritesContext.writeCommitted(42L);
+			throw new IllegalStateException("Failed");
+		}));
+
+		// Assert
+		Assertions.assertThat(observedReplay).hasValue(-1L);
+		Assertions.assertThat(notifiedPosition).hasValue(-1L);
+		Assertions.assertThat(ReadYourWritesContext.getRequiredReplay()).isEqualTo(OptionalLong.of(7L));
+		ReadYourWritesContext.writeCommitted(9L);
+		Assertions.assertThat(notifiedPosition).hasValue(9L);
+	}
+
+}
@@ -0,0 +1,44 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.envers.RevisionType;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionMetadata;
+
+class RevisionFinderTests {
+
+	@Test
+	void givenEnversRows_whenToRevisions_thenReturnRevisionsWithMetadata() {
+		// Arrange
+		List<Object[]> rows = List.of(new Object[] { "created", revisionEntity(51L, 1_000L), RevisionType.ADD },
+				new Object[] { "updated", revisionEntity(52L, 2_000L), RevisionType.MOD },
+				new Object[] { "deleted", revisionEntity(101L, 3_000L), RevisionType.DEL });
+
+		// Act
+		List<Revision<Long, String>> revisions = RevisionFinder.toRevisions(rows);
+
+		// Assert
+		Assertions.assertThat(revisions)
+			.extracting(Revision::getEntity)
+			.containsExactly("created", "updated", "deleted");
+		Assertions.assertThat(revisions)
+			.extracting((Revision<Long, String> revision) -> revision.getMetadata().getRevisionType())
+			.containsExactly(RevisionMetadata.RevisionType.INSERT, RevisionMetadata.RevisionType.UPDATE,
+					RevisionMetadata.RevisionType.DELETE);
+		Assertions.assertThat(revisions.get(2).getRequiredRevisionNumber()).isEqualTo(101L);
+		Assertions.assertThat(revisions.get(2).getRequiredRevisionInstant()).isEqualTo(Instant.ofEpochMilli(3_000L));
+	}
+
+	private static CustomRevisionEntity revisionEntity(long id, long timestamp) {
+		CustomRevisionEntity revisionEntity = new CustomRevisionEntity();
+		revisionEntity.setId(id);
+		revisionEntity.setTimestamp(timestamp);
+		return revisionEntity;
+	}
+
+}
@@ -0,0 +1,29 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SecondLevelCacheConfigurationTests {
+
+	@Test
+	void givenRegion_whenRegionConfiguration_thenBoundSizeAndExpireAfterWrite() {
+		// Arrange
+		SecondLevelCacheProperties.Region region = new SecondLevelCacheProperties.Region();
+		region.setMaximumSize(500L);
+		region.setTimeToLive(Duration.ofMinutes(5));
+
+		// Act
+		CaffeineConfiguration<Object, Object> configuration = SecondLevelCacheConfiguration.regionConfiguration(region);
+
+		// Assert
+		Assertions.assertThat(configuration.getMaximumSize()).isEqualTo(OptionalLong.of(500L));
+		Assertions.assertThat(configuration.getExpireAfterWrite())
+			.isEqualTo(OptionalLong.of(Duration.ofMinutes(5).toNanos()));
+		Assertions.assertThat(configuration.isStatisticsEnabled()).isTrue();
+	}
+
+}
@@ -0,0 +1,61 @@
+package de.stminko.employeeservice.runtime.persistence.boundary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidTests {
+
+	@Test
+	void givenTimestamp_whenNext_thenReturnVersion7UuidCarryingTimestamp() {
+		// Arrange
+		long epochMillis = System.currentTimeMillis() + 3_600_000L;
+
+		// Act
+		UUID uuid = TimeOrderedUuid.next(epochMillis);
+
+		// Assert
+		Assertions.assertThat(uuid.version()).isEqualTo(7);
+		Assertions.assertThat(uuid.variant()).isEqualTo(2);
+		Assertions.assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(epochMillis);
+	}
+
+	@Test
+	void givenManyUuidsOfSameMillisecond_whenNext_thenReturnStrictlyIncreasingUuids() {
+		// Arrange
+		long epochMillis = System.currentTimeMillis() + 120_000L;
+		List<UUID> uuids = new ArrayList<>();
+
+		// Act
+		for (int i = 0; i < 10_000; i++) {
+			uuids.add(TimeOrderedUuid.next(epochMillis));
+		}
+
+		// Assert
+		Assertions.assertThat(uuids).doesNotHaveDuplicates();
+		Assertions.assertThat(uuids).isSortedAccordingTo(TimeOrderedUuidTests::compareUnsigned);
+	}
+
+	@Test
+	void givenClockMovingBackwards_whenNext_thenReturnIncreasingUuids() {
+		// Arrange
+		long epochMillis = System.currentTimeMillis() + 180_000L;
+		UUID first = TimeOrderedUuid.next(epochMillis);
+
+		// Act
+		UUID second = TimeOrderedUuid.next(epochMillis - 1_000L);
+
+		// Assert
+		Assertions.assertThat(compareUnsigned(first, second)).isNegative();
+	}
+
+	private static int compareUnsigned(UUID left, UUID right) {
+		int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+		return (result != 0) ? result
+				: Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+	}
+
+}
@@ -0,0 +1,68 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import de.stminko.employeeservice.runtime.errorhandling.boundary.BadRequestException;
+import de.stminko.employeeservice.runtime.validation.constraints.boundary.MessageSourceHelper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EntityTagCodecTests {
+
+	@Mock
+	private MessageSourceHelper messageSourceHelper;
+
+	private EntityTagCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		this.codec = new EntityTagCodec(this.messageSourceHelper);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = { " ", "*" })
+	void givenAbsentOrWildcardHeader_whenDecodeIfMatch_thenReturnEmpty(String ifMatch) {
+		// Act & Assert
+		Assertions.assertThat(this.codec.decodeIfMatch(ifMatch)).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\"3\"", "W/\"3\"", " \"3\" " })
+	void givenEntityTag_whenDecodeIfMatch_thenReturnVersion(String ifMatch) {
+		// Act & Assert
+		Assertions.assertThat(this.codec.decodeIfMatch(ifMatch)).contains(3L);
+	}
+
+	@Test
+	void givenVersion_whenEncodeAndDecode_thenReturnSameVersion() {
+		// Act
+		String entityTag = this.codec.encode(7L);
+
+		// Assert
+		Assertions.assertThat(entityTag).isEqualTo("\"7\"");
+		Assertions.assertThat(this.codec.decodeIfMatch(entityTag)).contains(7L);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\"abc\"", "\"-1\"", "\"1\", \"2\"", "\"99999999999999999999\"" })
+	void givenInvalidEntityTag_whenDecodeIfMatch_thenThrowBadRequestException(String ifMatch) {
+		// Arrange
+		Mockito
+			.when(this.messageSourceHelper.getMessage(ArgumentMatchers.eq("errors.if-match.invalid"),
+					ArgumentMatchers.<Object>any()))
+			.thenReturn("invalid");
+
+		// Act & Assert
+		Assertions.assertThatThrownBy(() -> this.codec.decodeIfMatch(ifMatch)).isInstanceOf(BadRequestException.class);
+	}
+
+}
@@ -0,0 +1,149 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.stminko.employeeservice.department.entity.Department;
+import de.stminko.employeeservice.employee.entity.Employee;
+import de.stminko.employeeservice.runtime.errorhandling.boundary.BadRequestException;
+import de.stminko.employeeservice.runtime.validation.constraints.boundary.MessageSourceHelper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetCursorCodecTests {
+
+	@Mock
+	private MessageSourceHelper messageSourceHelper;
+
+	private KeysetCursorCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		this.codec = new KeysetCursorCodec(this.messageSourceHelper);
+	}
+
+	@Test
+	void givenBlankCursor_whenDecode_thenReturnInitialKeysetPosition() {
+		// Act
+		ScrollPosition position = this.codec.decode("", Sort.by("departmentName"), Department.class);
+
+		// Assert
+		Assertions.assertThat(position).isInstanceOf(KeysetScrollPosition.class);
+		Assertions.assertThat(position.isInitial()).isTrue();
+	}
+
+	@Test
+	void givenWindowWithNext_whenEncodeAndDecode_thenReturnKeysetOfLastElement() {
+		// Arrange
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("departmentName", "Sales");
+		keys.put("id", 42L);
+		Window<String> window = Window.from(List.of("first", "last"),
+				(int index) -> ScrollPosition.forward((index == 0) ? Map.of("departmentName", "HR", "id", 1L) : keys),
+				true);
+
+		// Act
+		String cursor = this.codec.encodeNext(window).orElseThrow();
+		ScrollPosition position = this.codec.decode(cursor, Sort.by("departmentName"), Department.class);
+
+		// Assert
+		Assertions.assertThat(position).isInstanceOf(KeysetScrollPosition.class);
+		KeysetScrollPosition keysetPosition = (KeysetScrollPosition) position;
+		Assertions.assertThat(keysetPosition.getKeys()).containsExactlyEntriesOf(keys);
+		Assertions.assertThat(keysetPosition.scrollsForward()).isTrue();
+	}
+
+	@Test
+	void givenLastWindow_whenEncodeNext_thenReturnEmpty() {
+		// Arrange
+		Window<String> window = Window.from(List.of("last"), (int index) -> ScrollPosition.forward(Map.of("id", 1L)),
+				false);
+
+		// Act & Assert
+		Assertions.assertThat(this.codec.encodeNext(window)).isEmpty();
+	}
+
+	@Test
+	void givenCursorOfOtherSortOrder_whenDecode_thenThrowBadRequestException() {
+		// Arrange
+		Window<String> window = Window.from(List.of("last"),
+				(int index) -> ScrollPosition.forward(Map.of("departmentName", "Sales", "id", 42L)), true);
+		String cursor = this.codec.encodeNext(window).orElseThrow();
+		Mockito
+			.when(this.messageSourceHelper.getMessage(ArgumentMatchers.eq("errors.cursor.invalid"),
+					ArgumentMatchers.<Object>any()))
+			.thenReturn("invalid");
+
+		// Act & Assert
+		Assertions.assertThatThrownBy(() -> this.codec.decode(cursor, Sort.unsorted(), Department.class))
+			.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void givenMalformedCursor_whenDecode_thenThrowBadRequestException() {
+		// Arrange
+		Mockito
+			.when(this.messageSourceHelper.getMessage(ArgumentMatchers.eq("errors.cursor.invalid"),
+					ArgumentMatchers.<Object>any()))
+			.thenReturn("invalid");
+
+		// Act & Assert
+		Assertions.assertThatThrownBy(() -> this.codec.decode("not-a-cursor!", Sort.unsorted(), Department.class))
+			.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void givenSortByNullableProperty_whenDecode_thenThrowBadRequestException() {
+		// Arrange
+		Mockito
+			.when(this.messageSourceHelper.getMessage(ArgumentMatchers.eq("errors.cursor.sort.nullable"),
+					ArgumentMatchers.<Object>any()))
+			.thenReturn("nullable");
+
+		// Act & Assert
+		Assertions.assertThatThrownBy(() -> this.codec.decode("", Sort.by("birthday"), Employee.class))
+			.isInstanceOf(BadRequestException.class)
+			.hasMessage("nullable");
+		Assertions.assertThatThrownBy(() -> this.codec.decode("", Sort.by("fullName.lastName"), Employee.class))
+			.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void givenCursorWithNullSortKey_whenDecode_thenThrowBadRequestException() {
+		// Arrange
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("emailAddress", null);
+		keys.put("id", "3f0c0a4e-6a57-4d3b-9a0e-6f3b5d1c2a10");
+		Window<String> window = Window.from(List.of("last"), (int index) -> ScrollPosition.forward(keys), true);
+		String cursor = this.codec.encodeNext(window).orElseThrow();
+		Mockito.when(this.messageSourceHelper.getMessage(ArgumentMatchers.anyString(), ArgumentMatchers.<Object>any()))
+			.thenReturn("invalid");
+
+		// Act & Assert
+		Assertions.assertThatThrownBy(() -> this.codec.decode(cursor, Sort.by("emailAddress"), Employee.class))
+			.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void givenSortByIdentifier_whenDecode_thenReturnInitialKeysetPosition() {
+		// Act
+		ScrollPosition position = this.codec.decode("", Sort.by("id"), Employee.class);
+
+		// Assert
+		Assertions.assertThat(position.isInitial()).isTrue();
+	}
+
+}
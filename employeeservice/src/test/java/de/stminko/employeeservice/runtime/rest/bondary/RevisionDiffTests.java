@@ -0,0 +1,85 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.time.Instant;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.envers.RevisionNumber;
+import org.hibernate.envers.RevisionTimestamp;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.history.AnnotationRevisionMetadata;
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionMetadata;
+
+class RevisionDiffTests {
+
+	@Test
+	void givenRevisionsAfterStart_whenToDiff_thenReturnNetAndPerRevisionChanges() {
+		// Arrange
+		RevisionDiff.Accumulator<SampleResponse> accumulator = RevisionDiff.accumulator(5L);
+
+		// Act
+		accumulator.accept(revision(3L, RevisionMetadata.RevisionType.INSERT, new SampleResponse("a", "x")));
+		accumulator.accept(revision(6L, RevisionMetadata.RevisionType.UPDATE, new SampleResponse("b", "x")));
+		accumulator.accept(revision(7L, RevisionMetadata.RevisionType.UPDATE, new SampleResponse("b", "x")));
+		accumulator.accept(revision(9L, RevisionMetadata.RevisionType.UPDATE, new SampleResponse("b", "y")));
+		RevisionDiff diff = accumulator.toDiff();
+
+		// Assert
+		Assertions.assertThat(diff.from()).isEqualTo(3L);
+		Assertions.assertThat(diff.to()).isEqualTo(9L);
+		Assertions.assertThat(diff.changes())
+			.containsExactly(new RevisionDiff.PropertyChange("name", "a", "b"),
+					new RevisionDiff.PropertyChange("email", "x", "y"));
+		Assertions.assertThat(diff.revisions())
+			.extracting(RevisionDiff.RevisionChanges::revisionNumber)
+			.containsExactly(6L, 9L);
+		Assertions.assertThat(diff.revisions().get(1).changes())
+			.containsExactly(new RevisionDiff.PropertyChange("email", "x", "y"));
+	}
+
+	@Test
+	void givenEntityCreatedWithinRange_whenToDiff_thenChangesStartFromNothing() {
+		// Arrange
+		RevisionDiff.Accumulator<SampleResponse> accumulator = RevisionDiff.accumulator(1L);
+
+		// Act
+		accumulator.accept(revision(2L, RevisionMetadata.RevisionType.INSERT, new SampleResponse("a", null)));
+		RevisionDiff diff = accumulator.toDiff();
+
+		// Assert
+		Assertions.assertThat(diff.from()).isNull();
+		Assertions.assertThat(diff.changes()).containsExactly(new RevisionDiff.PropertyChange("name", null, "a"));
+		Assertions.assertThat(diff.revisions()).hasSize(1);
+	}
+
+	@Test
+	void givenNoRevision_whenToDiff_thenThrowIllegalStateException() {
+		// Arrange
+		RevisionDiff.Accumulator<SampleResponse> accumulator = RevisionDiff.accumulator(1L);
+
+		// Act / Assert
+		Assertions.assertThat(accumulator.isEmpty()).isTrue();
+		Assertions.assertThatThrownBy(accumulator::toDiff).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static Revision<Long, SampleResponse> revision(long revisionNumber,
+			RevisionMetadata.RevisionType revisionType, SampleResponse entity) {
+		RevisionMetadata<Long> metadata = new AnnotationRevisionMetadata<>(new SampleRevision(revisionNumber),
+				RevisionNumber.class, RevisionTimestamp.class, revisionType);
+		return Revision.of(metadata, entity);
+	}
+
+	private record SampleResponse(String name, String email) {
+
+	}
+
+	private record SampleRevision(@RevisionNumber long id, @RevisionTimestamp Instant timestamp) {
+
+		SampleRevision(long id) {
+			this(id, Instant.ofEpochMilli(id));
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+package de.stminko.employeeservice.runtime.rest.bondary;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.envers.RevisionNumber;
+import org.hibernate.envers.RevisionTimestamp;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.history.AnnotationRevisionMetadata;
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionMetadata;
+
+class RevisionWindowTests {
+
+	@Test
+	void givenWindowWithNext_whenOf_thenNextIsLastRevisionNumber() {
+		// Arrange
+		Window<Revision<Long, String>> window = window(true, revision(3L, "a"), revision(7L, "b"));
+
+		// Act
+		RevisionWindow<Integer> revisionWindow = RevisionWindow.of(window, (Revision<Long, String> revision) -> Revision
+			.of(revision.getMetadata(), revision.getEntity().length()));
+
+		// Assert
+		Assertions.assertThat(revisionWindow.size()).isEqualTo(2);
+		Assertions.assertThat(revisionWindow.hasNext()).isTrue();
+		Assertions.assertThat(revisionWindow.next()).isEqualTo(7L);
+		Assertions.assertThat(revisionWindow.content()).extracting(Revision::getEntity).containsExactly(1, 1);
+	}
+
+	@Test
+	void givenLastWindow_whenOf_thenNoNext() {
+		// Arrange
+		Window<Revision<Long, String>> window = window(false, revision(3L, "a"));
+
+		// Act
+		RevisionWindow<String> revisionWindow = RevisionWindow.of(window,
+				(Revision<Long, String> revision) -> revision);
+
+		// Assert
+		Assertions.assertThat(revisionWindow.hasNext()).isFalse();
+		Assertions.assertThat(revisionWindow.next()).isNull();
+		Assertions.assertThat(revisionWindow.createNextLinkHeaders(RevisionWindow.AFTER_REVISION_PARAMETER)).isEmpty();
+	}
+
+	@SafeVarargs
+	private static Window<Revision<Long, String>> window(boolean hasNext, Revision<Long, String>... revisions) {
+		List<Revision<Long, String>> content = List.of(revisions);
+		return Window.from(content,
+				(int index) -> ScrollPosition.forward(Map.of("rev", content.get(index).getRequiredRevisionNumber())),
+				hasNext);
+	}
+
+	private static Revision<Long, String> revision(long revisionNumber, String entity) {
+		RevisionMetadata<Long> metadata = new AnnotationRevisionMetadata<>(new SampleRevision(revisionNumber),
+				RevisionNumber.class, RevisionTimestamp.class);
+		return Revision.of(metadata, entity);
+	}
+
+	private record SampleRevision(@RevisionNumber long id, @RevisionTimestamp Instant timestamp) {
+
+		SampleRevision(long id) {
+			this(id, Instant.ofEpochMilli(id));
+		}
+
+	}
+
+}